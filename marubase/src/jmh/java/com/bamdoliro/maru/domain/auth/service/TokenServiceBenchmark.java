@@ -0,0 +1,93 @@
+package com.bamdoliro.maru.domain.auth.service;
+
+import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.domain.user.domain.type.Authority;
+import com.bamdoliro.maru.domain.user.service.UserFacade;
+import com.bamdoliro.maru.infrastructure.cache.TokenClaimsCache;
+import com.bamdoliro.maru.infrastructure.cache.UserCache;
+import com.bamdoliro.maru.shared.config.properties.JwtProperties;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 인증된 요청 한 번에 드는 토큰 검증과 유저 조회 비용을 캐시 전후로 비교한다.
+// 유저 조회는 DB 없이 바로 돌려주므로, 실제로는 캐시가 없을 때 DB 왕복 시간이 더 붙는다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+    private static final String SECRET_KEY = "a".repeat(64);
+
+    private JwtProperties jwtProperties;
+    private UserFacade userFacade;
+    private TokenService tokenService;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setAccessExpirationTime(3600000L);
+        jwtProperties.setSecretKey(SECRET_KEY);
+
+        User user = User.builder()
+                .phoneNumber("01012345678")
+                .name("김밤돌")
+                .password("비밀번호")
+                .authority(Authority.USER)
+                .build();
+        userFacade = new UserFacade(null) {
+            @Override
+            public User getUser(String phoneNumber) {
+                return user;
+            }
+        };
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        tokenService = new TokenService(
+                jwtProperties,
+                null,
+                userFacade,
+                new TokenClaimsCache(10000, meterRegistry),
+                new UserCache(10000, Duration.ofSeconds(30), null, meterRegistry)
+        );
+        accessToken = tokenService.generateAccessToken(user.getPhoneNumber());
+    }
+
+    @Benchmark
+    public User resolveWithCache() {
+        return tokenService.getUser(accessToken);
+    }
+
+    // 캐시를 넣기 전 TokenService 가 요청마다 하던 일을 그대로 따라 한다.
+    @Benchmark
+    public User resolveWithoutCache() throws Exception {
+        String headerJson = new String(Base64.getDecoder().decode(accessToken.split("\\.")[0]));
+        Map<String, Object> headerMap = new ObjectMapper().readValue(headerJson, new TypeReference<>() {});
+        if (!"HS256".equals(headerMap.get("alg"))) {
+            throw new IllegalStateException();
+        }
+
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(accessToken)
+                .getBody();
+
+        return userFacade.getUser(claims.get("uuid", String.class));
+    }
+}
@@ -0,0 +1,125 @@
+package com.bamdoliro.maru.domain.form.service;
+
+import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.domain.form.domain.type.AchievementLevel;
+import com.bamdoliro.maru.domain.form.domain.type.Certificate;
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.domain.form.domain.type.GraduationType;
+import com.bamdoliro.maru.domain.form.domain.value.Attendance;
+import com.bamdoliro.maru.domain.form.domain.value.CertificateList;
+import com.bamdoliro.maru.domain.form.domain.value.Education;
+import com.bamdoliro.maru.domain.form.domain.value.Grade;
+import com.bamdoliro.maru.domain.form.domain.value.GradeSummary;
+import com.bamdoliro.maru.domain.form.domain.value.Score;
+import com.bamdoliro.maru.domain.form.domain.value.Subject;
+import com.bamdoliro.maru.domain.form.domain.value.SubjectList;
+import com.bamdoliro.maru.domain.form.domain.value.SubjectMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.bamdoliro.maru.domain.form.constant.FormConstant.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CalculateFormScoreBenchmark {
+
+    private static final int FORM_COUNT = 10_000;
+    private static final String[] SUBJECT_NAMES = {"국어", "수학", "사회", "과학", "영어", "체육", "음악", "미술"};
+    private static final int[][] SEMESTERS = {{1, 1}, {1, 2}, {2, 1}, {2, 2}, {3, 1}};
+
+    private final CalculateFormScoreService calculateFormScoreService = new CalculateFormScoreService();
+    private List<Form> formList;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        AchievementLevel[] levels = AchievementLevel.values();
+        formList = new ArrayList<>(FORM_COUNT);
+
+        for (int i = 0; i < FORM_COUNT; i++) {
+            List<Subject> subjectList = new ArrayList<>();
+            for (int[] semester : SEMESTERS) {
+                for (String subjectName : SUBJECT_NAMES) {
+                    subjectList.add(new Subject(semester[0], semester[1], subjectName, levels[random.nextInt(levels.length)]));
+                }
+            }
+
+            Grade grade = new Grade(
+                    new SubjectList(subjectList),
+                    new Attendance(random.nextInt(3), random.nextInt(3), random.nextInt(3), random.nextInt(3)),
+                    new Attendance(random.nextInt(3), random.nextInt(3), random.nextInt(3), random.nextInt(3)),
+                    new Attendance(random.nextInt(3), random.nextInt(3), random.nextInt(3), random.nextInt(3)),
+                    random.nextInt(15),
+                    random.nextInt(15),
+                    random.nextInt(15),
+                    new CertificateList(List.of(Certificate.CRAFTSMAN_COMPUTER))
+            );
+
+            formList.add(Form.builder()
+                    .education(new Education(GraduationType.EXPECTED, "2021", null, null))
+                    .grade(grade)
+                    .type(i % 3 == 0 ? FormType.MEISTER_TALENT : FormType.REGULAR)
+                    .build());
+        }
+    }
+
+    // 변경 전처럼 SubjectMap을 매번 만들어서 점수를 계산한다.
+    @Benchmark
+    @OperationsPerInvocation(FORM_COUNT)
+    public void legacySubjectMap(Blackhole blackhole) {
+        for (Form form : formList) {
+            blackhole.consume(legacyScore(form));
+        }
+    }
+
+    // 캐시 없이 GradeSummary를 새로 만들어서 학기별 평균을 읽는다. 원서를 처음 계산할 때의 비용이다.
+    @Benchmark
+    @OperationsPerInvocation(FORM_COUNT)
+    public void buildGradeSummary(Blackhole blackhole) {
+        for (Form form : formList) {
+            GradeSummary summary = new GradeSummary(form.getGrade());
+            blackhole.consume(summary.getAverageScoreOf(2, 1) + summary.getAverageScoreOf(2, 2) + summary.getAverageScoreOf(3, 1));
+            blackhole.consume(summary.getConvertedAbsenceCount() + summary.getTotalVolunteerTime() + summary.getCertificateScore());
+        }
+    }
+
+    // 원서에 저장된 GradeSummary를 재사용하는 현재 계산 경로다.
+    @Benchmark
+    @OperationsPerInvocation(FORM_COUNT)
+    public void calculateFormScoreService(Blackhole blackhole) {
+        for (Form form : formList) {
+            calculateFormScoreService.execute(form);
+            blackhole.consume(form.getScore());
+        }
+    }
+
+    private Score legacyScore(Form form) {
+        Grade grade = form.getGrade();
+        SubjectMap subjectMap = grade.getSubjectList().getSubjectMap();
+        double subjectScore = form.getType().isRegular()
+                ? REGULAR_TYPE_DEFAULT_SCORE + 4.8 * (subjectMap.getScoreOf(2, 1) + subjectMap.getScoreOf(2, 2)) + 7.2 * 2 * subjectMap.getScoreOf(3, 1)
+                : SPECIAL_TYPE_DEFAULT_SCORE + 2.88 * (subjectMap.getScoreOf(2, 1) + subjectMap.getScoreOf(2, 2)) + 4.32 * 2 * subjectMap.getScoreOf(3, 1);
+
+        Attendance attendance = grade.getTotalAttendance();
+        int absenceCount = attendance.getAbsenceCount() + ((attendance.getLatenessCount() + attendance.getEarlyLeaveCount() + attendance.getClassAbsenceCount()) / 3);
+        int attendanceScore = absenceCount > MAX_ABSENCE_COUNT ? MIN_ATTENDANCE_SCORE : MAX_ATTENDANCE_SCORE - absenceCount;
+
+        int volunteerTime = grade.getTotalVolunteerTime();
+        int volunteerScore = volunteerTime < MIN_VOLUNTEER_TIME ? MIN_VOLUNTEER_SCORE
+                : volunteerTime > MAX_VOLUNTEER_TIME ? MAX_VOLUNTEER_SCORE
+                : Math.toIntExact(Math.round(MAX_VOLUNTEER_SCORE - ((MAX_VOLUNTEER_TIME - volunteerTime) * 0.5)));
+
+        int bonusScore = Math.min(grade.getCertificateListValue().stream().mapToInt(Certificate::getScore).sum(), MAX_BONUS_SCORE);
+
+        return new Score(subjectScore, grade.getSubjectList().getSubjectMap().getScoreOf(3, 1), attendanceScore, volunteerScore, bonusScore);
+    }
+}
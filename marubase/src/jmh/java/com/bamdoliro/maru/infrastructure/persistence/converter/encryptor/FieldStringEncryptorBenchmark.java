@@ -0,0 +1,70 @@
+package com.bamdoliro.maru.infrastructure.persistence.converter.encryptor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.jasypt.encryption.StringEncryptor;
+import org.jasypt.encryption.pbe.PooledPBEStringEncryptor;
+import org.jasypt.salt.StringFixedSaltGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class FieldStringEncryptorBenchmark {
+
+    private static final int BULK_SIZE = 1000;
+
+    @Param({"1", "4"})
+    private int poolSize;
+
+    @Param({"0", "10000"})
+    private int decryptCacheSize;
+
+    private StringEncryptor encryptor;
+    private String row;
+    private List<String> rowList;
+
+    @Setup
+    public void setUp() {
+        PooledPBEStringEncryptor pbeEncryptor = new PooledPBEStringEncryptor();
+        pbeEncryptor.setProvider(new BouncyCastleProvider());
+        pbeEncryptor.setPassword("password");
+        pbeEncryptor.setAlgorithm("PBEWithSHA256And256BitAES-CBC-BC");
+        pbeEncryptor.setKeyObtentionIterations(1000);
+        pbeEncryptor.setPoolSize(poolSize);
+        pbeEncryptor.setSaltGenerator(new StringFixedSaltGenerator("saltsaltsaltsalt"));
+
+        encryptor = new FieldStringEncryptor(pbeEncryptor, decryptCacheSize, new SimpleMeterRegistry());
+        row = encryptor.encrypt("01012345678");
+        rowList = IntStream.range(0, BULK_SIZE)
+                .mapToObj(i -> encryptor.encrypt(String.valueOf(1001 + i)))
+                .toList();
+    }
+
+    @Benchmark
+    public String decryptSingleRow() {
+        return encryptor.decrypt(row);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_SIZE)
+    public void decryptBulkLoad(Blackhole blackhole) {
+        for (String encrypted : rowList) {
+            blackhole.consume(encryptor.decrypt(encrypted));
+        }
+    }
+
+    @Benchmark
+    public String encryptSingleRow() {
+        return encryptor.encrypt("01012345678");
+    }
+}
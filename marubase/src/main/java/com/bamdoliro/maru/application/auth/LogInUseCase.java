@@ -6,9 +6,11 @@ import com.bamdoliro.maru.domain.user.domain.value.Password;
 import com.bamdoliro.maru.domain.user.exception.PasswordMismatchException;
 import com.bamdoliro.maru.domain.user.exception.UserNotFoundException;
 import com.bamdoliro.maru.domain.auth.exception.WrongLoginException;
+import com.bamdoliro.maru.domain.user.service.PasswordHashingService;
 import com.bamdoliro.maru.domain.user.service.UserFacade;
 import com.bamdoliro.maru.presentation.auth.dto.request.LogInRequest;
 import com.bamdoliro.maru.presentation.auth.dto.response.TokenResponse;
+import com.bamdoliro.maru.shared.annotation.RateLimit;
 import com.bamdoliro.maru.shared.annotation.UseCase;
 import lombok.RequiredArgsConstructor;
 
@@ -18,7 +20,10 @@ public class LogInUseCase {
 
     private final TokenService tokenService;
     private final UserFacade userFacade;
+    private final PasswordHashingService passwordHashingService;
 
+    @RateLimit(name = "log-in-phone-number", key = "#request.phoneNumber", capacity = 10, period = 600)
+    @RateLimit(name = "log-in-ip", key = "#clientIp", capacity = 30, period = 60)
     public TokenResponse execute(LogInRequest request) {
         User user;
         try {
@@ -35,7 +40,7 @@ public class LogInUseCase {
     }
 
     private void validatePassword(String actual, Password expected) {
-        if (!expected.match(actual)) {
+        if (!passwordHashingService.execute(() -> expected.match(actual))) {
             throw new PasswordMismatchException();
         }
     }
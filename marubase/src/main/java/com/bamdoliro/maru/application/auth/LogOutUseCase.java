@@ -1,6 +1,7 @@
 package com.bamdoliro.maru.application.auth;
 
 import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.infrastructure.cache.UserCache;
 import com.bamdoliro.maru.infrastructure.persistence.auth.TokenRepository;
 import com.bamdoliro.maru.shared.annotation.UseCase;
 import lombok.RequiredArgsConstructor;
@@ -10,8 +11,10 @@ import lombok.RequiredArgsConstructor;
 public class LogOutUseCase {
 
     private final TokenRepository tokenRepository;
+    private final UserCache userCache;
 
     public void execute(User user) {
         tokenRepository.deleteById(user.getPhoneNumber());
+        userCache.evict(user.getPhoneNumber());
     }
 }
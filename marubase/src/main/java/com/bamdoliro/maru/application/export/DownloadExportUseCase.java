@@ -0,0 +1,58 @@
+package com.bamdoliro.maru.application.export;
+
+import com.bamdoliro.maru.domain.export.domain.ExportJob;
+import com.bamdoliro.maru.domain.export.exception.ExportJobNotCompletedException;
+import com.bamdoliro.maru.domain.export.exception.ExportJobNotFoundException;
+import com.bamdoliro.maru.domain.export.exception.InvalidDownloadTokenException;
+import com.bamdoliro.maru.infrastructure.export.ExportFileStorage;
+import com.bamdoliro.maru.infrastructure.persistence.export.ExportJobRepository;
+import com.bamdoliro.maru.presentation.export.dto.response.ExportFileResponse;
+import com.bamdoliro.maru.shared.annotation.UseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Slf4j
+@RequiredArgsConstructor
+@UseCase
+public class DownloadExportUseCase {
+
+    private final ExportJobRepository exportJobRepository;
+    private final ExportFileStorage exportFileStorage;
+
+    public ExportFileResponse execute(String jobId, String token) {
+        ExportJob job = exportJobRepository.findById(jobId)
+                .orElseThrow(ExportJobNotFoundException::new);
+
+        if (!job.isCompleted() && !job.isDownloaded()) {
+            throw new ExportJobNotCompletedException();
+        }
+
+        if (!job.canDownloadWith(token)) {
+            throw new InvalidDownloadTokenException();
+        }
+
+        // 파일을 열지 못했는데 링크만 써 버리는 일이 없도록, 파일을 연 다음에 링크를 선점한다.
+        InputStream inputStream = exportFileStorage.open(job.getId());
+        if (!exportJobRepository.claimDownload(job.getId())) {
+            close(inputStream);
+            throw new InvalidDownloadTokenException();
+        }
+
+        job.download();
+        exportJobRepository.save(job);
+
+        return new ExportFileResponse(job.getType(), new InputStreamResource(inputStream));
+    }
+
+    private void close(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            log.warn("내보내기 파일 스트림을 닫지 못했습니다.", e);
+        }
+    }
+}
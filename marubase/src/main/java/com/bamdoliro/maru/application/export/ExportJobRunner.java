@@ -0,0 +1,100 @@
+package com.bamdoliro.maru.application.export;
+
+import com.bamdoliro.maru.application.fair.ExportAttendeeListUseCase;
+import com.bamdoliro.maru.application.form.DownloadSecondRoundScoreFormatUseCase;
+import com.bamdoliro.maru.application.form.ExportFinalPassedFormUseCase;
+import com.bamdoliro.maru.application.form.ExportFirstRoundResultUseCase;
+import com.bamdoliro.maru.application.form.ExportResultUseCase;
+import com.bamdoliro.maru.application.form.ExportSecondRoundResultUseCase;
+import com.bamdoliro.maru.application.form.GenerateAllAdmissionTicketUseCase;
+import com.bamdoliro.maru.domain.export.domain.ExportJob;
+import com.bamdoliro.maru.domain.export.exception.ExportJobNotFoundException;
+import com.bamdoliro.maru.domain.export.exception.error.ExportErrorProperty;
+import com.bamdoliro.maru.infrastructure.export.ExportFileStorage;
+import com.bamdoliro.maru.infrastructure.persistence.export.ExportJobRepository;
+import com.bamdoliro.maru.shared.error.MaruException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ExportJobRunner {
+
+    private final ExportJobRepository exportJobRepository;
+    private final ExportFileStorage exportFileStorage;
+    private final GenerateAllAdmissionTicketUseCase generateAllAdmissionTicketUseCase;
+    private final DownloadSecondRoundScoreFormatUseCase downloadSecondRoundScoreFormatUseCase;
+    private final ExportFinalPassedFormUseCase exportFinalPassedFormUseCase;
+    private final ExportFirstRoundResultUseCase exportFirstRoundResultUseCase;
+    private final ExportSecondRoundResultUseCase exportSecondRoundResultUseCase;
+    private final ExportResultUseCase exportResultUseCase;
+    private final ExportAttendeeListUseCase exportAttendeeListUseCase;
+    private final MeterRegistry meterRegistry;
+
+    @Async("exportJobExecutor")
+    public void run(String jobId) {
+        ExportJob job = exportJobRepository.findById(jobId)
+                .orElseThrow(ExportJobNotFoundException::new);
+        job.run();
+        exportJobRepository.save(job);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+        try {
+            long fileSize = exportFileStorage.save(job.getId(), outputStream -> export(job, outputStream));
+            job.complete(fileSize);
+        } catch (RuntimeException e) {
+            log.error("내보내기 작업 실패: {}", jobId, e);
+            job.fail(getFailureMessage(e));
+            result = "failure";
+        }
+
+        sample.stop(Timer.builder("maru.export")
+                .tag("type", job.getType().name())
+                .tag("result", result)
+                .register(meterRegistry));
+        exportJobRepository.save(job);
+    }
+
+    // 예상하지 못한 예외의 메시지에는 내부 정보가 담길 수 있어서, 관리자에게는 정해진 메시지만 보여준다.
+    private String getFailureMessage(RuntimeException e) {
+        if (e instanceof MaruException) {
+            return e.getMessage();
+        }
+
+        return ExportErrorProperty.FAILED_TO_EXPORT.getMessage();
+    }
+
+    private void export(ExportJob job, OutputStream outputStream) {
+        try {
+            switch (job.getType()) {
+                case ADMISSION_TICKET -> generateAllAdmissionTicketUseCase.execute(outputStream);
+                case SECOND_ROUND_SCORE_FORMAT -> copy(downloadSecondRoundScoreFormatUseCase.execute(), outputStream);
+                case FINAL_PASSED -> exportFinalPassedFormUseCase.execute(outputStream);
+                case FIRST_ROUND_RESULT -> exportFirstRoundResultUseCase.execute(outputStream);
+                case SECOND_ROUND_RESULT -> exportSecondRoundResultUseCase.execute(outputStream);
+                case RESULT -> exportResultUseCase.execute(outputStream);
+                case FAIR_ATTENDEE_LIST -> exportAttendeeListUseCase.execute(job.getFairId(), outputStream);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void copy(Resource resource, OutputStream outputStream) throws IOException {
+        try (InputStream inputStream = resource.getInputStream()) {
+            inputStream.transferTo(outputStream);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.bamdoliro.maru.application.export;
+
+import com.bamdoliro.maru.domain.export.exception.ExportJobNotFoundException;
+import com.bamdoliro.maru.infrastructure.persistence.export.ExportJobRepository;
+import com.bamdoliro.maru.presentation.export.dto.response.ExportJobResponse;
+import com.bamdoliro.maru.shared.annotation.UseCase;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@UseCase
+public class QueryExportJobUseCase {
+
+    private final ExportJobRepository exportJobRepository;
+
+    public ExportJobResponse execute(String jobId) {
+        return exportJobRepository.findById(jobId)
+                .map(ExportJobResponse::new)
+                .orElseThrow(ExportJobNotFoundException::new);
+    }
+}
@@ -0,0 +1,36 @@
+package com.bamdoliro.maru.application.export;
+
+import com.bamdoliro.maru.domain.export.domain.ExportJob;
+import com.bamdoliro.maru.domain.export.exception.FairIdRequiredException;
+import com.bamdoliro.maru.domain.export.exception.TooManyExportJobsException;
+import com.bamdoliro.maru.infrastructure.persistence.export.ExportJobRepository;
+import com.bamdoliro.maru.presentation.export.dto.request.StartExportRequest;
+import com.bamdoliro.maru.presentation.export.dto.response.ExportJobResponse;
+import com.bamdoliro.maru.shared.annotation.UseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
+
+@RequiredArgsConstructor
+@UseCase
+public class StartExportUseCase {
+
+    private final ExportJobRepository exportJobRepository;
+    private final ExportJobRunner exportJobRunner;
+
+    public ExportJobResponse execute(StartExportRequest request) {
+        if (request.getType().requiresFair() && request.getFairId() == null) {
+            throw new FairIdRequiredException();
+        }
+
+        ExportJob job = exportJobRepository.save(new ExportJob(request.getType(), request.getFairId()));
+
+        try {
+            exportJobRunner.run(job.getId());
+        } catch (TaskRejectedException e) {
+            exportJobRepository.delete(job);
+            throw new TooManyExportJobsException();
+        }
+
+        return new ExportJobResponse(job);
+    }
+}
@@ -8,6 +8,7 @@ import com.bamdoliro.maru.domain.fair.exception.NotApplicationPeriodException;
 import com.bamdoliro.maru.infrastructure.message.SendMessageService;
 import com.bamdoliro.maru.infrastructure.persistence.fair.AttendeeRepository;
 import com.bamdoliro.maru.presentation.fair.dto.request.AttendAdmissionFairRequest;
+import com.bamdoliro.maru.shared.annotation.RateLimit;
 import com.bamdoliro.maru.shared.annotation.UseCase;
 import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +23,8 @@ public class AttendAdmissionFairUseCase {
     private final AttendeeRepository attendeeRepository;
     private final SendMessageService sendMessageService;
 
+    @RateLimit(name = "attend-fair-phone-number", key = "#request.phoneNumber", capacity = 3, period = 600)
+    @RateLimit(name = "attend-fair-ip", key = "#clientIp", capacity = 10, period = 600)
     @Transactional
     public void execute(Long fairId, AttendAdmissionFairRequest request) {
         Fair fair = fairFacade.getFair(fairId);
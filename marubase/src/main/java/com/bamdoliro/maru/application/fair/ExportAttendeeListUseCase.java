@@ -2,66 +2,51 @@ package com.bamdoliro.maru.application.fair;
 
 import com.bamdoliro.maru.domain.fair.domain.Attendee;
 import com.bamdoliro.maru.domain.fair.domain.Fair;
-import com.bamdoliro.maru.infrastructure.xlsx.XlsxService;
+import com.bamdoliro.maru.infrastructure.csv.CsvGenerator;
+import com.bamdoliro.maru.infrastructure.persistence.fair.AttendeeRepository;
+import com.bamdoliro.maru.infrastructure.report.ReportColumn;
+import com.bamdoliro.maru.infrastructure.xlsx.XlsxGenerator;
 import com.bamdoliro.maru.shared.annotation.UseCase;
 import lombok.RequiredArgsConstructor;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.CellStyle;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.springframework.core.io.Resource;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
-
-import static com.bamdoliro.maru.infrastructure.xlsx.constant.XlsxConstant.FIRST_ROW_INDEX_WITH_TITLE;
+import java.util.List;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @UseCase
 public class ExportAttendeeListUseCase {
 
+    private static final List<ReportColumn<Attendee>> COLUMN_LIST = List.of(
+            new ReportColumn<>("이름", "default", Attendee::getName),
+            new ReportColumn<>("전화번호", "default", Attendee::getPhoneNumber),
+            new ReportColumn<>("참석 인원", "default", Attendee::getHeadcount),
+            new ReportColumn<>("학교", "default", Attendee::getSchoolName),
+            new ReportColumn<>("유형", "default", Attendee::getType),
+            new ReportColumn<>("사전질문", "default", Attendee::getQuestion)
+    );
+
     private final FairFacade fairFacade;
-    private final XlsxService xlsxService;
+    private final AttendeeRepository attendeeRepository;
+    private final XlsxGenerator xlsxGenerator;
+    private final CsvGenerator csvGenerator;
 
-    public Resource execute(Long fairId) throws IOException {
+    public void execute(Long fairId, OutputStream outputStream) throws IOException {
         Fair fair = fairFacade.getFairDetail(fairId);
-        Workbook workbook = xlsxService.openTemplate("입학설명회참가자명단");
-        Sheet sheet = workbook.getSheetAt(0);
-        CellStyle cellStyle = xlsxService.createDefaultCellStyle(workbook);
-
         String title = fair.getStart().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + " 입학설명회 신청자 명단";
-        xlsxService.writeTitle(sheet, title);
-
-        for (int index = 0; index < fair.getAttendeeList().size(); index++) {
-            Attendee attendee = fair.getAttendeeList().get(index);
-            Row row = sheet.createRow(index + FIRST_ROW_INDEX_WITH_TITLE);
-
-            Cell nameCell = row.createCell(0);
-            nameCell.setCellValue(attendee.getName());
-            nameCell.setCellStyle(cellStyle);
 
-            Cell phoneNumberCell = row.createCell(1);
-            phoneNumberCell.setCellValue(attendee.getPhoneNumber());
-            phoneNumberCell.setCellStyle(cellStyle);
-
-            Cell headcountCell = row.createCell(2);
-            headcountCell.setCellValue(attendee.getHeadcount());
-            headcountCell.setCellStyle(cellStyle);
-
-            Cell schoolCell = row.createCell(3);
-            schoolCell.setCellValue(attendee.getSchoolName());
-            schoolCell.setCellStyle(cellStyle);
+        xlsxGenerator.execute("입학설명회참가자명단", title, fair.getAttendeeList(), COLUMN_LIST, outputStream);
+    }
 
-            Cell typeCell = row.createCell(4);
-            typeCell.setCellValue(attendee.getType());
-            typeCell.setCellStyle(cellStyle);
+    @Transactional(readOnly = true)
+    public void executeCsv(Long fairId, OutputStream outputStream) throws IOException {
+        Fair fair = fairFacade.getFair(fairId);
 
-            Cell questionCell = row.createCell(5);
-            questionCell.setCellValue(attendee.getQuestion());
-            questionCell.setCellStyle(cellStyle);
+        try (Stream<Attendee> attendeeStream = attendeeRepository.streamByFairOrderById(fair)) {
+            csvGenerator.execute(attendeeStream, COLUMN_LIST, outputStream);
         }
-
-        return xlsxService.convertToByteArrayResource(workbook);
     }
 }
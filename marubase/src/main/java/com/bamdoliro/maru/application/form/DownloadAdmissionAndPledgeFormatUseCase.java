@@ -10,8 +10,6 @@ import com.bamdoliro.maru.infrastructure.thymeleaf.ProcessTemplateService;
 import com.bamdoliro.maru.infrastructure.thymeleaf.Templates;
 import com.bamdoliro.maru.shared.annotation.UseCase;
 import com.itextpdf.kernel.pdf.PdfDocument;
-import com.itextpdf.kernel.pdf.PdfWriter;
-import com.itextpdf.kernel.utils.PdfMerger;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.ByteArrayResource;
 
@@ -43,17 +41,15 @@ public class DownloadAdmissionAndPledgeFormatUseCase {
 
 
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        PdfDocument mergedDocument = new PdfDocument(new PdfWriter(outputStream));
-        PdfMerger pdfMerger = new PdfMerger(mergedDocument);
+        PdfDocument mergedDocument = mergePdfService.createMergedDocument(outputStream);
 
         templates
                 .stream()
                 .map((t) -> processTemplateService.execute(t, formMap))
                 .map(generatePdfService::execute)
-                .forEach((s) -> mergePdfService.execute(pdfMerger, s));
+                .forEach((s) -> mergePdfService.execute(mergedDocument, s));
 
         mergedDocument.close();
-        pdfMerger.close();
 
         return new ByteArrayResource(outputStream.toByteArray());
     }
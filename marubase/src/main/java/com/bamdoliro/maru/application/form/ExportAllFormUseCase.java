@@ -0,0 +1,127 @@
+package com.bamdoliro.maru.application.form;
+
+import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.domain.form.domain.type.FormStatus;
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.infrastructure.pdf.IdentificationPictureProvider;
+import com.bamdoliro.maru.infrastructure.pdf.exception.FailedToExportPdfException;
+import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
+import com.bamdoliro.maru.shared.annotation.UseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+@RequiredArgsConstructor
+@UseCase
+public class ExportAllFormUseCase {
+
+    private static final int CHUNK_SIZE = 100;
+
+    private final FormRepository formRepository;
+    private final ExportFormUseCase exportFormUseCase;
+    private final IdentificationPictureProvider identificationPictureProvider;
+    private final ThreadPoolTaskExecutor formArchiveExecutor;
+    private final MeterRegistry meterRegistry;
+    private final EntityManager entityManager;
+
+    // 원서는 여러 스레드에서 만들고, 먼저 만들어진 순서대로 압축 파일에 쓴다.
+    // 메모리에 올라가는 pdf 수를 제한하려고 정해진 개수만큼만 동시에 만든다.
+    public void execute(FormStatus status, FormType.Category category, OutputStream outputStream) {
+        List<Long> idList = formRepository.findIdListByStatusAndCategory(status, category);
+        CompletionService<FormPdf> completionService = new ExecutorCompletionService<>(formArchiveExecutor);
+        int maxInFlight = formArchiveExecutor.getMaxPoolSize() * 2;
+        int inFlight = 0;
+
+        try {
+            ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+            for (int from = 0; from < idList.size(); from += CHUNK_SIZE) {
+                List<Form> formList = formRepository.findByFormIdListWithUserAndGrade(
+                        idList.subList(from, Math.min(from + CHUNK_SIZE, idList.size()))
+                );
+                identificationPictureProvider.prefetch(formList.stream()
+                        .map(form -> form.getUser().getUuid())
+                        .toList());
+
+                for (Form form : formList) {
+                    if (inFlight == maxInFlight) {
+                        write(zipOutputStream, take(completionService));
+                        inFlight--;
+                    }
+
+                    completionService.submit(() -> render(form));
+                    inFlight++;
+                }
+
+                // open-in-view 세션에 원서가 계속 쌓이지 않도록 넘겨준 묶음은 영속성 컨텍스트에서 떼어 낸다.
+                // 원서와 지원자는 미리 모두 불러왔기 때문에 떼어 낸 뒤에도 pdf를 만들 수 있다.
+                entityManager.clear();
+            }
+
+            for (; inFlight > 0; inFlight--) {
+                write(zipOutputStream, take(completionService));
+            }
+            zipOutputStream.finish();
+        } catch (IOException e) {
+            throw new FailedToExportPdfException();
+        }
+    }
+
+    private FormPdf render(Form form) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Timer.builder("maru.form-archive")
+                .tag("stage", "pdf")
+                .register(meterRegistry)
+                .record(() -> exportFormUseCase.execute(form, outputStream));
+
+        return new FormPdf(createFileName(form), outputStream.toByteArray());
+    }
+
+    private String createFileName(Form form) {
+        String number = form.getExaminationNumber() != null
+                ? String.valueOf(form.getExaminationNumber())
+                : "id-" + form.getId();
+        return number + "_" + form.getApplicant().getName() + ".pdf";
+    }
+
+    private FormPdf take(CompletionService<FormPdf> completionService) {
+        try {
+            return completionService.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FailedToExportPdfException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new FailedToExportPdfException();
+        }
+    }
+
+    private void write(ZipOutputStream zipOutputStream, FormPdf pdf) throws IOException {
+        zipOutputStream.putNextEntry(new ZipEntry(pdf.getFileName()));
+        zipOutputStream.write(pdf.getContent());
+        zipOutputStream.closeEntry();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class FormPdf {
+
+        private final String fileName;
+        private final byte[] content;
+    }
+}
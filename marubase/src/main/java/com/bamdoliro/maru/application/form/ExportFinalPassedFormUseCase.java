@@ -2,84 +2,70 @@ package com.bamdoliro.maru.application.form;
 
 import com.bamdoliro.maru.domain.form.domain.Form;
 import com.bamdoliro.maru.domain.form.domain.type.FormStatus;
+import com.bamdoliro.maru.domain.form.domain.value.FormExportRow;
+import com.bamdoliro.maru.domain.form.service.FormExportRowService;
 import com.bamdoliro.maru.domain.form.service.FormFacade;
+import com.bamdoliro.maru.infrastructure.csv.CsvGenerator;
+import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
+import com.bamdoliro.maru.infrastructure.report.ReportColumn;
 import com.bamdoliro.maru.infrastructure.xlsx.XlsxGenerator;
 import com.bamdoliro.maru.shared.annotation.UseCase;
-import com.bamdoliro.maru.shared.util.MathUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
-import java.time.format.DateTimeFormatter;
+import java.io.OutputStream;
 import java.util.List;
-import java.util.function.Function;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @UseCase
 public class ExportFinalPassedFormUseCase {
 
+    private static final List<ReportColumn<FormExportRow>> COLUMN_LIST = List.of(
+            new ReportColumn<>("접수번호", "default", FormExportRow::getId),
+            new ReportColumn<>("수험번호", "default", FormExportRow::getExaminationNumber),
+            new ReportColumn<>("지원 전형", "default", FormExportRow::getOriginalType),
+            new ReportColumn<>("최종 전형", "default", FormExportRow::getType),
+            new ReportColumn<>("전형 결과", "default", FormExportRow::getStatus),
+            new ReportColumn<>("이름", "default", FormExportRow::getName),
+            new ReportColumn<>("전화번호", "default", FormExportRow::getPhoneNumber),
+            new ReportColumn<>("성별", "default", FormExportRow::getGender),
+            new ReportColumn<>("생년월일", "default", FormExportRow::getFormattedBirthday),
+            new ReportColumn<>("출신 지역", "default", FormExportRow::getLocation),
+            new ReportColumn<>("졸업 구분", "default", FormExportRow::getGraduationType),
+            new ReportColumn<>("출신 학교", "default", FormExportRow::getSchoolName),
+            new ReportColumn<>("학교 코드", "default", row -> Integer.parseInt(row.getSchoolCode())),
+            new ReportColumn<>("보호자 이름", "default", FormExportRow::getParentName),
+            new ReportColumn<>("보호자 전화번호", "default", FormExportRow::getParentPhoneNumber),
+            new ReportColumn<>("보호자 주소", "default", FormExportRow::getParentAddress),
+            new ReportColumn<>("보호자 관계", "default", FormExportRow::getParentRelation),
+            new ReportColumn<>("교과성적", "right", FormExportRow::getSubjectGradeScore),
+            new ReportColumn<>("출결상황", "right", FormExportRow::getAttendanceScore),
+            new ReportColumn<>("봉사활동", "right", FormExportRow::getVolunteerScore),
+            new ReportColumn<>("가산점", "right", FormExportRow::getBonusScore),
+            new ReportColumn<>("심층 면접", "right", FormExportRow::getDepthInterviewScore),
+            new ReportColumn<>("NCS", "right", FormExportRow::getNcsScore),
+            new ReportColumn<>("코딩 테스트", "right", FormExportRow::getCodingTestScore),
+            new ReportColumn<>("총점", "right", FormExportRow::getTotalScore)
+    );
+
+    private final FormRepository formRepository;
     private final FormFacade formFacade;
+    private final FormExportRowService formExportRowService;
     private final XlsxGenerator xlsxGenerator;
+    private final CsvGenerator csvGenerator;
 
-    public Resource execute() throws IOException {
+    public void execute(OutputStream outputStream) throws IOException {
         List<Form> formList = formFacade.getSortedFormList(FormStatus.ENTERED);
 
-        List<Function<Form, Object>> columnList = List.of(
-                Form::getId,
-                Form::getExaminationNumber,
-                form -> form.getOriginalType().getDescription(),
-                form -> form.getType().getDescription(),
-                form -> form.getStatus().getDescription(),
-                form -> form.getApplicant().getName(),
-                form -> form.getApplicant().getPhoneNumber().toString(),
-                form -> form.getApplicant().getGender().getDescription(),
-                form -> form.getApplicant().getBirthday().format(DateTimeFormatter.BASIC_ISO_DATE),
-                form -> form.getEducation().getSchool().getLocation(),
-                form -> form.getEducation().getGraduationTypeToString(),
-                form -> form.getEducation().getSchool().getName(),
-                form -> Integer.parseInt(form.getEducation().getSchool().getCode()),
-                form -> form.getParent().getName(),
-                form -> form.getParent().getPhoneNumber().toString(),
-                form -> form.getParent().getAddress().toString(),
-                form -> form.getParent().getRelation(),
-                form -> MathUtil.roundTo(form.getScore().getSubjectGradeScore(), 3),
-                form -> form.getScore().getAttendanceScore(),
-                form -> form.getScore().getVolunteerScore(),
-                form -> form.getScore().getBonusScore(),
-                form -> form.getScore().getDepthInterviewScore(),
-                form -> form.getScore().getNcsScore(),
-                form -> form.getScore().getCodingTestScore(),
-                form -> MathUtil.roundTo(form.getScore().getTotalScore(), 3)
-        );
-
-        List<String> styleList = List.of(
-                "default",
-                "default",
-                "default",
-                "default",
-                "default",
-                "default",
-                "default",
-                "default",
-                "default",
-                "default",
-                "default",
-                "default",
-                "default",
-                "default",
-                "default",
-                "default",
-                "default",
-                "right",
-                "right",
-                "right",
-                "right",
-                "right",
-                "right",
-                "right",
-                "right"
-        );
+        xlsxGenerator.execute("최종합격자", formExportRowService.execute(formList), COLUMN_LIST, outputStream);
+    }
 
-        return xlsxGenerator.execute("최종합격자", formList, columnList, styleList);
+    @Transactional(readOnly = true)
+    public void executeCsv(OutputStream outputStream) throws IOException {
+        try (Stream<Form> formStream = formRepository.streamByStatus(FormStatus.ENTERED)) {
+            csvGenerator.execute(formStream.map(FormExportRow::new), COLUMN_LIST, outputStream);
+        }
     }
 }
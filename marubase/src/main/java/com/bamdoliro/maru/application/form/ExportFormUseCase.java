@@ -6,24 +6,23 @@ import com.bamdoliro.maru.domain.form.domain.value.Subject;
 import com.bamdoliro.maru.domain.form.domain.value.SubjectMap;
 import com.bamdoliro.maru.domain.form.service.FormFacade;
 import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.infrastructure.pdf.CachedPdf;
 import com.bamdoliro.maru.infrastructure.pdf.GeneratePdfService;
+import com.bamdoliro.maru.infrastructure.pdf.IdentificationPictureProvider;
 import com.bamdoliro.maru.infrastructure.pdf.MergePdfService;
-import com.bamdoliro.maru.infrastructure.s3.FileService;
-import com.bamdoliro.maru.infrastructure.s3.constants.FolderConstant;
+import com.bamdoliro.maru.infrastructure.pdf.PdfCacheService;
 import com.bamdoliro.maru.infrastructure.thymeleaf.ProcessTemplateService;
 import com.bamdoliro.maru.infrastructure.thymeleaf.Templates;
 import com.bamdoliro.maru.shared.annotation.UseCase;
 import com.bamdoliro.maru.shared.service.ScheduleService;
 import com.itextpdf.kernel.pdf.PdfDocument;
-import com.itextpdf.kernel.pdf.PdfWriter;
-import com.itextpdf.kernel.utils.PdfMerger;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ByteArrayResource;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -35,36 +34,72 @@ public class ExportFormUseCase {
     private final ProcessTemplateService processTemplateService;
     private final GeneratePdfService generatePdfService;
     private final MergePdfService mergePdfService;
-    private final FileService fileService;
+    private final IdentificationPictureProvider identificationPictureProvider;
     private final ScheduleService scheduleService;
+    private final PdfCacheService pdfCacheService;
 
-    public ByteArrayResource execute(User user) {
-        Form form = formFacade.getForm(user);
+    public CachedPdf execute(User user) {
+        return execute(formFacade.getForm(user), user);
+    }
 
-        SubjectMap subjectMap = form.getGrade().getSubjectList().getSubjectMap();
-        Map<String, Object> formMap = Map.of(
-                "form", form,
-                "grade21", subjectMap.getSubjectListOf(2, 1),
-                "grade22", subjectMap.getSubjectListOf(2, 2),
-                "grade31", subjectMap.getSubjectListOf(3, 1),
-                "subjectList", getSubjectList(form),
-                "year", scheduleService.getAdmissionYear(),
-                "identificationPictureUri", fileService.getDownloadPresignedUrl(FolderConstant.IDENTIFICATION_PICTURE, user.getUuid().toString())
-        );
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        PdfDocument mergedDocument = new PdfDocument(new PdfWriter(outputStream));
-        PdfMerger pdfMerger = new PdfMerger(mergedDocument);
+    public CachedPdf execute(Form form) {
+        return execute(form, form.getUser());
+    }
+
+    // 전체 원서를 묶어 내보낼 때는 원서마다 한 번만 만들기 때문에 캐시에 남기지 않고 바로 쓴다.
+    public void execute(Form form, OutputStream outputStream) {
+        User user = form.getUser();
+        List<String> templateList = getRequiredTemplates(form);
+
+        String identificationPictureVersion = identificationPictureProvider.getVersion(user.getUuid());
+        export(form, user, templateList, identificationPictureVersion, outputStream);
+    }
+
+    private CachedPdf execute(Form form, User user) {
+        List<String> templateList = getRequiredTemplates(form);
 
-        getRequiredTemplates(form)
+        String identificationPictureVersion = identificationPictureProvider.getVersion(user.getUuid());
+        Consumer<OutputStream> renderer = outputStream -> export(form, user, templateList, identificationPictureVersion, outputStream);
+        if (identificationPictureProvider.isUploading(identificationPictureVersion)) {
+            return pdfCacheService.render(renderer);
+        }
+
+        return pdfCacheService.get(createCacheKey(form, templateList, identificationPictureVersion), renderer);
+    }
+
+    private void export(Form form, User user, List<String> templateList, String identificationPictureVersion, OutputStream outputStream) {
+        SubjectMap subjectMap = form.getGrade().getSubjectList().getSubjectMap();
+        Map<String, Object> formMap = new HashMap<>();
+        formMap.put("form", form);
+        formMap.put("grade21", subjectMap.getSubjectListOf(2, 1));
+        formMap.put("grade22", subjectMap.getSubjectListOf(2, 2));
+        formMap.put("grade31", subjectMap.getSubjectListOf(3, 1));
+        formMap.put("subjectList", getSubjectList(form));
+        formMap.put("year", scheduleService.getAdmissionYear());
+        formMap.put("identificationPictureUri", identificationPictureProvider.getUri(user.getUuid(), identificationPictureVersion));
+
+        List<String> htmlList = templateList
                 .stream()
                 .map((t) -> processTemplateService.execute(t, formMap))
+                .toList();
+
+        PdfDocument mergedDocument = mergePdfService.createMergedDocument(outputStream);
+        htmlList.stream()
                 .map(generatePdfService::execute)
-                .forEach((s) -> mergePdfService.execute(pdfMerger, s));
+                .forEach((s) -> mergePdfService.execute(mergedDocument, s));
 
         mergedDocument.close();
-        pdfMerger.close();
+    }
 
-        return new ByteArrayResource(outputStream.toByteArray());
+    private String createCacheKey(Form form, List<String> templateList, String identificationPictureVersion) {
+        return String.join(":",
+                "form",
+                String.valueOf(form.getId()),
+                String.valueOf(form.getUpdatedAt()),
+                form.getStatus().name(),
+                String.join(",", templateList),
+                String.valueOf(identificationPictureVersion)
+        );
     }
 
     private List<SubjectVO> getSubjectList(Form form) {
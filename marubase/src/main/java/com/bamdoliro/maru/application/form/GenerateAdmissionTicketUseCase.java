@@ -4,19 +4,21 @@ import com.bamdoliro.maru.domain.form.domain.Form;
 import com.bamdoliro.maru.domain.form.exception.InvalidFormStatusException;
 import com.bamdoliro.maru.domain.form.service.FormFacade;
 import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.infrastructure.pdf.CachedPdf;
 import com.bamdoliro.maru.infrastructure.pdf.GeneratePdfService;
-import com.bamdoliro.maru.infrastructure.s3.FileService;
-import com.bamdoliro.maru.infrastructure.s3.constants.FolderConstant;
+import com.bamdoliro.maru.infrastructure.pdf.IdentificationPictureProvider;
+import com.bamdoliro.maru.infrastructure.pdf.PdfCacheService;
 import com.bamdoliro.maru.infrastructure.thymeleaf.ProcessTemplateService;
 import com.bamdoliro.maru.infrastructure.thymeleaf.Templates;
 import com.bamdoliro.maru.shared.annotation.UseCase;
 import com.bamdoliro.maru.shared.config.properties.ScheduleProperties;
 import com.bamdoliro.maru.shared.service.ScheduleService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.ByteArrayResource;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 @UseCase
@@ -25,31 +27,50 @@ public class GenerateAdmissionTicketUseCase {
     private final FormFacade formFacade;
     private final ProcessTemplateService processTemplateService;
     private final GeneratePdfService generatePdfService;
-    private final FileService fileService;
+    private final IdentificationPictureProvider identificationPictureProvider;
     private final ScheduleService scheduleService;
     private final ScheduleProperties scheduleProperties;
+    private final PdfCacheService pdfCacheService;
 
-    public ByteArrayResource execute(User user) {
+    public CachedPdf execute(User user) {
         Form form = formFacade.getForm(user);
         validateFormStatus(form);
 
-        Map<String, Object> formMap = Map.ofEntries(
-                Map.entry("form", form),
-                Map.entry("year", scheduleService.getAdmissionYear()),
-                Map.entry("codingTest", ScheduleService.toLocaleString(scheduleProperties.getCodingTest())),
-                Map.entry("ncs", ScheduleService.toLocaleString(scheduleProperties.getNcs())),
-                Map.entry("depthInterview", ScheduleService.toLocaleString(scheduleProperties.getDepthInterview())),
-                Map.entry("physicalExamination", ScheduleService.toLocaleString(scheduleProperties.getPhysicalExamination())),
-                Map.entry("announcementOfSecondPass", ScheduleService.toLocaleString(scheduleProperties.getAnnouncementOfSecondPass())),
-                Map.entry("meisterTalentEntranceTime", ScheduleService.toLocaleString(scheduleProperties.getMeisterTalentEntranceTime())),
-                Map.entry("meisterTalentExclusionEntranceTime", ScheduleService.toLocaleString(scheduleProperties.getMeisterTalentExclusionEntranceTime())),
-                Map.entry("entranceRegistrationTime", ScheduleService.toLocaleString(scheduleProperties.getEntranceRegistrationPeriodStart(), scheduleProperties.getEntranceRegistrationPeriodEnd())),
-                Map.entry("identificationPictureUri", fileService.getDownloadPresignedUrl(FolderConstant.IDENTIFICATION_PICTURE, user.getUuid().toString()))
-                );
-        String html = processTemplateService.execute(Templates.ADMISSION_TICKET, formMap);
-        ByteArrayOutputStream outputStream = generatePdfService.execute(html);
-
-        return new ByteArrayResource(outputStream.toByteArray());
+        String identificationPictureVersion = identificationPictureProvider.getVersion(user.getUuid());
+        Consumer<OutputStream> renderer = outputStream -> generatePdfService.execute(createHtml(form, user, identificationPictureVersion), outputStream);
+        if (identificationPictureProvider.isUploading(identificationPictureVersion)) {
+            return pdfCacheService.render(renderer);
+        }
+
+        return pdfCacheService.get(createCacheKey(form, identificationPictureVersion), renderer);
+    }
+
+    private String createHtml(Form form, User user, String identificationPictureVersion) {
+        Map<String, Object> formMap = new HashMap<>();
+        formMap.put("form", form);
+        formMap.put("year", scheduleService.getAdmissionYear());
+        formMap.put("codingTest", ScheduleService.toLocaleString(scheduleProperties.getCodingTest()));
+        formMap.put("ncs", ScheduleService.toLocaleString(scheduleProperties.getNcs()));
+        formMap.put("depthInterview", ScheduleService.toLocaleString(scheduleProperties.getDepthInterview()));
+        formMap.put("physicalExamination", ScheduleService.toLocaleString(scheduleProperties.getPhysicalExamination()));
+        formMap.put("announcementOfSecondPass", ScheduleService.toLocaleString(scheduleProperties.getAnnouncementOfSecondPass()));
+        formMap.put("meisterTalentEntranceTime", ScheduleService.toLocaleString(scheduleProperties.getMeisterTalentEntranceTime()));
+        formMap.put("meisterTalentExclusionEntranceTime", ScheduleService.toLocaleString(scheduleProperties.getMeisterTalentExclusionEntranceTime()));
+        formMap.put("entranceRegistrationTime", ScheduleService.toLocaleString(scheduleProperties.getEntranceRegistrationPeriodStart(), scheduleProperties.getEntranceRegistrationPeriodEnd()));
+        formMap.put("identificationPictureUri", identificationPictureProvider.getUri(user.getUuid(), identificationPictureVersion));
+
+        return processTemplateService.execute(Templates.ADMISSION_TICKET, formMap);
+    }
+
+    private String createCacheKey(Form form, String identificationPictureVersion) {
+        return String.join(":",
+                Templates.ADMISSION_TICKET,
+                String.valueOf(form.getId()),
+                String.valueOf(form.getUpdatedAt()),
+                form.getStatus().name(),
+                String.valueOf(form.getExaminationNumber()),
+                String.valueOf(identificationPictureVersion)
+        );
     }
 
     private void validateFormStatus(Form form) {
@@ -3,55 +3,148 @@ package com.bamdoliro.maru.application.form;
 import com.bamdoliro.maru.domain.form.domain.Form;
 import com.bamdoliro.maru.domain.form.domain.type.FormStatus;
 import com.bamdoliro.maru.infrastructure.pdf.GeneratePdfService;
+import com.bamdoliro.maru.infrastructure.pdf.IdentificationPictureProvider;
 import com.bamdoliro.maru.infrastructure.pdf.MergePdfService;
+import com.bamdoliro.maru.infrastructure.pdf.exception.FailedToExportPdfException;
 import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
-import com.bamdoliro.maru.infrastructure.s3.FileService;
-import com.bamdoliro.maru.infrastructure.s3.constants.FolderConstant;
 import com.bamdoliro.maru.infrastructure.thymeleaf.ProcessTemplateService;
 import com.bamdoliro.maru.infrastructure.thymeleaf.Templates;
 import com.bamdoliro.maru.shared.annotation.UseCase;
 import com.bamdoliro.maru.shared.config.properties.ScheduleProperties;
 import com.bamdoliro.maru.shared.service.ScheduleService;
-import com.itextpdf.kernel.pdf.PdfDocument;
-import com.itextpdf.kernel.pdf.PdfWriter;
-import com.itextpdf.kernel.utils.PdfMerger;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.IElement;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.ByteArrayResource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+@Slf4j
 @RequiredArgsConstructor
 @UseCase
 public class GenerateAllAdmissionTicketUseCase {
 
+    private static final Comparator<Form> EXAMINATION_NUMBER_ORDER = Comparator.comparing(
+            Form::getExaminationNumber,
+            Comparator.nullsLast(Comparator.naturalOrder())
+    );
+    private static final float ADMISSION_TICKET_MARGIN = 0;
+
     private final FormRepository formRepository;
     private final ProcessTemplateService processTemplateService;
     private final GeneratePdfService generatePdfService;
     private final MergePdfService mergePdfService;
-    private final FileService fileService;
+    private final IdentificationPictureProvider identificationPictureProvider;
     private final ScheduleService scheduleService;
     private final ScheduleProperties scheduleProperties;
+    private final ThreadPoolTaskExecutor admissionTicketExecutor;
+    private final MeterRegistry meterRegistry;
+
+    public void execute(OutputStream outputStream) {
+        // 수험표 묶음은 크기가 커서 임시 파일에 먼저 만들고, 다 만들어진 다음에 응답으로 내보낸다.
+        // 중간에 실패해도 응답을 쓰기 전이라 에러 응답을 정상적으로 보낼 수 있다.
+        Path tempFile = createTempFile();
+        try {
+            try (OutputStream fileOutputStream = Files.newOutputStream(tempFile)) {
+                generateAdmissionTickets(fileOutputStream);
+            }
+            Files.copy(tempFile, outputStream);
+        } catch (IOException e) {
+            throw new FailedToExportPdfException();
+        } finally {
+            deleteTempFile(tempFile);
+        }
+    }
+
+    private void generateAdmissionTickets(OutputStream outputStream) {
+        List<Form> formList = formRepository.findByStatusWithUser(FormStatus.FIRST_PASSED)
+                .stream()
+                .sorted(EXAMINATION_NUMBER_ORDER)
+                .toList();
+        Map<String, Object> scheduleMap = createScheduleMap();
+        Map<UUID, String> identificationPictureVersionMap = identificationPictureProvider.getVersionMap(formList.stream()
+                .map(form -> form.getUser().getUuid())
+                .toList());
+
+        Document mergedDocument = mergePdfService.createMergedDocument(
+                outputStream,
+                generatePdfService.createFontProvider(),
+                ADMISSION_TICKET_MARGIN
+        );
+
+        // 수험표는 여러 스레드에서 요소로 바꾸고, 배치하는 건 수험번호 순서대로 한 스레드에서 한다.
+        // 메모리에 올라가는 수험표 수를 제한하려고 앞에서부터 정해진 개수만큼만 미리 만든다.
+        // 사진도 전부 한 번에 받으면 쓰기 전에 캐시에서 밀려나서, 만들고 있는 수험표보다 한 묶음 앞까지만 받아둔다.
+        int maxInFlight = admissionTicketExecutor.getMaxPoolSize() * 2;
+        int prefetchWindow = maxInFlight * 2;
+        Deque<CompletableFuture<List<IElement>>> inFlight = new ArrayDeque<>();
+        int submitted = 0;
+        int prefetched = 0;
+        Timer mergeTimer = timer("merge");
+
+        try {
+            while (submitted < formList.size() || !inFlight.isEmpty()) {
+                for (; prefetched < Math.min(formList.size(), submitted + prefetchWindow); prefetched++) {
+                    UUID uuid = formList.get(prefetched).getUser().getUuid();
+                    identificationPictureProvider.prefetch(uuid, identificationPictureVersionMap.get(uuid));
+                }
 
-    public ByteArrayResource execute() {
-        List<Form> formList = formRepository.findByStatus(FormStatus.FIRST_PASSED);
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        PdfDocument mergedDocument = new PdfDocument(new PdfWriter(outputStream));
-        PdfMerger pdfMerger = new PdfMerger(mergedDocument);
+                while (submitted < formList.size() && inFlight.size() < maxInFlight) {
+                    Form form = formList.get(submitted++);
+                    String identificationPictureVersion = identificationPictureVersionMap.get(form.getUser().getUuid());
+                    inFlight.add(CompletableFuture.supplyAsync(
+                            () -> generateAdmissionTicket(form, identificationPictureVersion, scheduleMap),
+                            admissionTicketExecutor
+                    ));
+                }
 
-        formList.forEach(form -> mergePdfService.execute(pdfMerger, generateAdmissionTicket(form)));
+                List<IElement> admissionTicket = inFlight.poll().join();
+                mergeTimer.record(() -> mergePdfService.execute(mergedDocument, admissionTicket));
+            }
+        } catch (CompletionException e) {
+            inFlight.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
 
         mergedDocument.close();
-        pdfMerger.close();
+    }
 
-        return new ByteArrayResource(outputStream.toByteArray());
+    private Path createTempFile() {
+        try {
+            return Files.createTempFile("admission-tickets-", ".pdf");
+        } catch (IOException e) {
+            throw new FailedToExportPdfException();
+        }
     }
 
-    private ByteArrayOutputStream generateAdmissionTicket(Form form) {
+    private void deleteTempFile(Path tempFile) {
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("수험표 임시 파일을 삭제하지 못했습니다. path: {}", tempFile, e);
+        }
+    }
 
-        Map<String, Object> formMap = Map.ofEntries(
-                Map.entry("form", form),
+    private Map<String, Object> createScheduleMap() {
+        return Map.ofEntries(
                 Map.entry("year", scheduleService.getAdmissionYear()),
                 Map.entry("codingTest", ScheduleService.toLocaleString(scheduleProperties.getCodingTest())),
                 Map.entry("ncs", ScheduleService.toLocaleString(scheduleProperties.getNcs())),
@@ -60,11 +153,26 @@ public class GenerateAllAdmissionTicketUseCase {
                 Map.entry("announcementOfSecondPass", ScheduleService.toLocaleString(scheduleProperties.getAnnouncementOfSecondPass())),
                 Map.entry("meisterTalentEntranceTime", ScheduleService.toLocaleString(scheduleProperties.getMeisterTalentEntranceTime())),
                 Map.entry("meisterTalentExclusionEntranceTime", ScheduleService.toLocaleString(scheduleProperties.getMeisterTalentExclusionEntranceTime())),
-                Map.entry("entranceRegistrationTime", ScheduleService.toLocaleString(scheduleProperties.getEntranceRegistrationPeriodStart(), scheduleProperties.getEntranceRegistrationPeriodEnd())),
-                Map.entry("identificationPictureUri", fileService.getDownloadPresignedUrl(FolderConstant.IDENTIFICATION_PICTURE, form.getUser().getUuid().toString()))
+                Map.entry("entranceRegistrationTime", ScheduleService.toLocaleString(scheduleProperties.getEntranceRegistrationPeriodStart(), scheduleProperties.getEntranceRegistrationPeriodEnd()))
+        );
+    }
+
+    private List<IElement> generateAdmissionTicket(Form form, String identificationPictureVersion, Map<String, Object> scheduleMap) {
+        String identificationPictureUri = timer("picture").record(
+                () -> identificationPictureProvider.getUri(form.getUser().getUuid(), identificationPictureVersion)
         );
-        String html = processTemplateService.execute(Templates.ADMISSION_TICKET, formMap);
 
-        return generatePdfService.execute(html);
+        Map<String, Object> formMap = new HashMap<>(scheduleMap);
+        formMap.put("form", form);
+        formMap.put("identificationPictureUri", identificationPictureUri);
+        String html = timer("template").record(() -> processTemplateService.execute(Templates.ADMISSION_TICKET, formMap));
+
+        return timer("pdf").record(() -> generatePdfService.convertToElements(html));
+    }
+
+    private Timer timer(String stage) {
+        return Timer.builder("maru.admission-ticket")
+                .tag("stage", stage)
+                .register(meterRegistry);
     }
 }
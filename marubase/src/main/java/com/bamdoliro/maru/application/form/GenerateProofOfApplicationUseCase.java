@@ -4,19 +4,21 @@ import com.bamdoliro.maru.domain.form.domain.Form;
 import com.bamdoliro.maru.domain.form.exception.InvalidFormStatusException;
 import com.bamdoliro.maru.domain.form.service.FormFacade;
 import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.infrastructure.pdf.CachedPdf;
 import com.bamdoliro.maru.infrastructure.pdf.GeneratePdfService;
-import com.bamdoliro.maru.infrastructure.s3.FileService;
-import com.bamdoliro.maru.infrastructure.s3.constants.FolderConstant;
+import com.bamdoliro.maru.infrastructure.pdf.IdentificationPictureProvider;
+import com.bamdoliro.maru.infrastructure.pdf.PdfCacheService;
 import com.bamdoliro.maru.infrastructure.thymeleaf.ProcessTemplateService;
 import com.bamdoliro.maru.infrastructure.thymeleaf.Templates;
 import com.bamdoliro.maru.shared.annotation.UseCase;
 import com.bamdoliro.maru.shared.config.properties.ScheduleProperties;
 import com.bamdoliro.maru.shared.service.ScheduleService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.ByteArrayResource;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 @UseCase
@@ -25,24 +27,42 @@ public class GenerateProofOfApplicationUseCase {
     private final FormFacade formFacade;
     private final ProcessTemplateService processTemplateService;
     private final GeneratePdfService generatePdfService;
-    private final FileService fileService;
+    private final IdentificationPictureProvider identificationPictureProvider;
     private final ScheduleService scheduleService;
     private final ScheduleProperties scheduleProperties;
+    private final PdfCacheService pdfCacheService;
 
-    public ByteArrayResource execute(User user) {
+    public CachedPdf execute(User user) {
         Form form = formFacade.getForm(user);
         validateFormStatus(form);
 
-        Map<String, Object> formMap = Map.of(
-                "form", form,
-                "year", scheduleService.getAdmissionYear(),
-                "announcement_of_first_pass", ScheduleService.toLocaleString(scheduleProperties.getAnnouncementOfFirstPass()),
-                "identificationPictureUri", fileService.getDownloadPresignedUrl(FolderConstant.IDENTIFICATION_PICTURE, user.getUuid().toString())
-        );
-        String html = processTemplateService.execute(Templates.PROOF_OF_APPLICATION, formMap);
-        ByteArrayOutputStream outputStream = generatePdfService.execute(html);
+        String identificationPictureVersion = identificationPictureProvider.getVersion(user.getUuid());
+        Consumer<OutputStream> renderer = outputStream -> generatePdfService.execute(createHtml(form, user, identificationPictureVersion), outputStream);
+        if (identificationPictureProvider.isUploading(identificationPictureVersion)) {
+            return pdfCacheService.render(renderer);
+        }
+
+        return pdfCacheService.get(createCacheKey(form, identificationPictureVersion), renderer);
+    }
 
-        return new ByteArrayResource(outputStream.toByteArray());
+    private String createHtml(Form form, User user, String identificationPictureVersion) {
+        Map<String, Object> formMap = new HashMap<>();
+        formMap.put("form", form);
+        formMap.put("year", scheduleService.getAdmissionYear());
+        formMap.put("announcement_of_first_pass", ScheduleService.toLocaleString(scheduleProperties.getAnnouncementOfFirstPass()));
+        formMap.put("identificationPictureUri", identificationPictureProvider.getUri(user.getUuid(), identificationPictureVersion));
+
+        return processTemplateService.execute(Templates.PROOF_OF_APPLICATION, formMap);
+    }
+
+    private String createCacheKey(Form form, String identificationPictureVersion) {
+        return String.join(":",
+                Templates.PROOF_OF_APPLICATION,
+                String.valueOf(form.getId()),
+                String.valueOf(form.getUpdatedAt()),
+                form.getStatus().name(),
+                String.valueOf(identificationPictureVersion)
+        );
     }
 
     private void validateFormStatus(Form form) {
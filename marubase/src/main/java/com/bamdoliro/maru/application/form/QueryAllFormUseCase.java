@@ -1,6 +1,6 @@
 package com.bamdoliro.maru.application.form;
 
-import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.domain.form.domain.type.FormSortType;
 import com.bamdoliro.maru.domain.form.domain.type.FormStatus;
 import com.bamdoliro.maru.domain.form.domain.type.FormType;
 import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
@@ -8,10 +8,7 @@ import com.bamdoliro.maru.presentation.form.dto.response.FormSimpleResponse;
 import com.bamdoliro.maru.shared.annotation.UseCase;
 import lombok.RequiredArgsConstructor;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @UseCase
@@ -19,25 +16,10 @@ public class QueryAllFormUseCase {
 
     private final FormRepository formRepository;
 
-    public List<FormSimpleResponse> execute(FormStatus status, FormType.Category category, String sort) {
-        List<Form> formList = new java.util.ArrayList<>(formRepository.findByStatus(status).stream()
-                .filter(form -> Objects.isNull(category) || form.getType().categoryEquals(category))
-                .toList());
-
-        if (sort != null) {
-            switch (sort) {
-                case "total-score-asc" ->
-                        formList.sort(Comparator.comparing(form -> form.getScore().getTotalScore(), Comparator.nullsLast(Comparator.naturalOrder())));
-                case "total-score-desc" ->
-                        formList.sort(Comparator.comparing(form -> form.getScore().getTotalScore(), Comparator.nullsLast(Comparator.reverseOrder())));
-                case "form-id" -> formList.sort(Comparator.comparing(Form::getId));
-            }
-        } else {
-            formList.sort(Comparator.comparing(Form::getExaminationNumber));
-        }
-
-        return formList.stream()
+    public List<FormSimpleResponse> execute(FormStatus status, FormType.Category category, String sort, Long cursor, Integer size) {
+        return formRepository.findFormSimpleList(status, category, FormSortType.of(sort), cursor, size)
+                .stream()
                 .map(FormSimpleResponse::new)
-                .collect(Collectors.toList());
+                .toList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,22 @@
+package com.bamdoliro.maru.application.form;
+
+import com.bamdoliro.maru.domain.form.domain.ReScoringJob;
+import com.bamdoliro.maru.domain.form.exception.ReScoringJobNotFoundException;
+import com.bamdoliro.maru.infrastructure.persistence.form.ReScoringJobRepository;
+import com.bamdoliro.maru.presentation.form.dto.response.ReScoringJobResponse;
+import com.bamdoliro.maru.shared.annotation.UseCase;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@UseCase
+public class QueryReScoringJobUseCase {
+
+    private final ReScoringJobRepository reScoringJobRepository;
+
+    public ReScoringJobResponse execute(String jobId) {
+        ReScoringJob job = reScoringJobRepository.findById(jobId)
+                .orElseThrow(ReScoringJobNotFoundException::new);
+
+        return new ReScoringJobResponse(job, reScoringJobRepository.findChangeList(job.getId()));
+    }
+}
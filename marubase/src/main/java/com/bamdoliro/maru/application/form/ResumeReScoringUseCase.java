@@ -0,0 +1,43 @@
+package com.bamdoliro.maru.application.form;
+
+import com.bamdoliro.maru.domain.form.domain.ReScoringJob;
+import com.bamdoliro.maru.domain.form.exception.ReScoringJobAlreadyCompletedException;
+import com.bamdoliro.maru.domain.form.exception.ReScoringJobAlreadyRunningException;
+import com.bamdoliro.maru.domain.form.exception.ReScoringJobNotFoundException;
+import com.bamdoliro.maru.domain.form.service.ReScoringJobRunner;
+import com.bamdoliro.maru.infrastructure.persistence.form.ReScoringJobRepository;
+import com.bamdoliro.maru.presentation.form.dto.response.ReScoringJobResponse;
+import com.bamdoliro.maru.shared.annotation.UseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
+
+@RequiredArgsConstructor
+@UseCase
+public class ResumeReScoringUseCase {
+
+    private final ReScoringJobRepository reScoringJobRepository;
+    private final ReScoringJobRunner reScoringJobRunner;
+
+    public ReScoringJobResponse execute(String jobId) {
+        ReScoringJob job = reScoringJobRepository.findById(jobId)
+                .orElseThrow(ReScoringJobNotFoundException::new);
+
+        if (job.isCompleted()) {
+            throw new ReScoringJobAlreadyCompletedException();
+        }
+
+        // 다른 서버에서 아직 실행 중인 작업을 한 번 더 실행하지 않도록 먼저 선점한다.
+        if (!reScoringJobRepository.claim(job.getId())) {
+            throw new ReScoringJobAlreadyRunningException();
+        }
+
+        try {
+            reScoringJobRunner.run(job.getId());
+        } catch (TaskRejectedException e) {
+            reScoringJobRepository.releaseClaim(job.getId());
+            throw new ReScoringJobAlreadyRunningException();
+        }
+
+        return new ReScoringJobResponse(job, reScoringJobRepository.findChangeList(job.getId()));
+    }
+}
@@ -6,26 +6,35 @@ import com.bamdoliro.maru.domain.form.domain.type.FormType;
 import com.bamdoliro.maru.domain.form.exception.MissingTotalScoreException;
 import com.bamdoliro.maru.domain.form.service.CalculateFormScoreService;
 import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
+import com.bamdoliro.maru.infrastructure.persistence.form.vo.FormSelectionVo;
 import com.bamdoliro.maru.shared.annotation.UseCase;
 import com.bamdoliro.maru.shared.constants.FixedNumber;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @UseCase
 public class SelectSecondPassUseCase {
 
+    private static final Comparator<FormSelectionVo> TOTAL_SCORE_ORDER = Comparator.comparing(FormSelectionVo::getSecondRoundRankKey);
+
     private final FormRepository formRepository;
     private final CalculateFormScoreService calculateFormScoreService;
-    private final AtomicInteger otherRegionCount = new AtomicInteger((int) Math.ceil(FixedNumber.TOTAL * FixedNumber.OTHER_REGION_RATE));
 
     @Transactional
     public void execute() {
-        validate();
+        List<FormSelectionVo> firstPassedFormList = formRepository.findFormSelectionList(FormStatus.FIRST_PASSED);
+        validate(firstPassedFormList);
+        firstPassedFormList = firstPassedFormList.stream()
+                .sorted(TOTAL_SCORE_ORDER)
+                .toList();
 
         int regularCount = FixedNumber.REGULAR;
         int meisterTalentCount = FixedNumber.MEISTER_TALENT;
@@ -33,11 +42,11 @@ public class SelectSecondPassUseCase {
         int nationalVeteransEducationCount = FixedNumber.NATIONAL_VETERANS_EDUCATION;
         int specialAdmissionCount = FixedNumber.SPECIAL_ADMISSION;
 
-        List<Form> specialFormList = formRepository.findFirstPassedSpecialForm();
-        List<Form> meisterTalentFormList = classifyFormsByType(specialFormList, FormType::isMeister);
-        List<Form> socialIntegrationFormList = classifyFormsByType(specialFormList, FormType::isSocial);
-        List<Form> equalOpportunityFormList = classifyFormsByType(specialFormList, FormType::isEqualOpportunity);
-        List<Form> societyDiversityFormList = classifyFormsByType(specialFormList, FormType::isSocietyDiversity);
+        List<FormSelectionVo> specialFormList = classifyFormsByType(firstPassedFormList, FormType::isSpecial);
+        List<FormSelectionVo> meisterTalentFormList = classifyFormsByType(specialFormList, FormType::isMeister);
+        List<FormSelectionVo> socialIntegrationFormList = classifyFormsByType(specialFormList, FormType::isSocial);
+        List<FormSelectionVo> equalOpportunityFormList = classifyFormsByType(specialFormList, FormType::isEqualOpportunity);
+        List<FormSelectionVo> societyDiversityFormList = classifyFormsByType(specialFormList, FormType::isSocietyDiversity);
 
         if (meisterTalentFormList.size() < FixedNumber.MEISTER_TALENT) {
             int gap = FixedNumber.MEISTER_TALENT - meisterTalentFormList.size();
@@ -54,39 +63,55 @@ public class SelectSecondPassUseCase {
         int equalOpportunityCount = (int) Math.round(socialIntegrationCount * 0.5);
         int societyDiversityCount = equalOpportunityCount;
 
-        processForms(equalOpportunityFormList, equalOpportunityCount, this::changeToRegularAndCalculateScoreAgain);
-        processForms(societyDiversityFormList, societyDiversityCount, this::changeToRegularAndCalculateScoreAgain);
-        processForms(meisterTalentFormList, meisterTalentCount, this::changeToRegularAndCalculateScoreAgain);
+        AtomicInteger otherRegionCount = new AtomicInteger((int) Math.ceil(FixedNumber.TOTAL * FixedNumber.OTHER_REGION_RATE));
+        List<Long> passedIdList = new ArrayList<>();
+        List<Long> failedIdList = new ArrayList<>();
+        List<Long> changedToRegularIdList = new ArrayList<>();
 
-        formRepository.flush();
-        List<Form> regularFormList = formRepository.findFirstPassedRegularForm();
+        processForms(equalOpportunityFormList, equalOpportunityCount, otherRegionCount, passedIdList, changedToRegularIdList::add);
+        processForms(societyDiversityFormList, societyDiversityCount, otherRegionCount, passedIdList, changedToRegularIdList::add);
+        processForms(meisterTalentFormList, meisterTalentCount, otherRegionCount, passedIdList, changedToRegularIdList::add);
 
-        processForms(regularFormList, regularCount, Form::fail);
+        // 일반전형으로 전환되는 원서만 성적을 다시 계산해야 하기 때문에 엔티티로 조회한다.
+        List<Form> changedToRegularFormList = formRepository.findByFormIdListWithGrade(changedToRegularIdList);
+        changedToRegularFormList.forEach(this::changeToRegularAndCalculateScoreAgain);
 
-        formRepository.flush();
-        List<Form> supernumeraryFormList = formRepository.findFirstPassedSupernumeraryForm();
-        List<Form> nationalVeteransEducationFormList = classifyFormsByType(supernumeraryFormList, FormType::isNationalVeteransEducation);
-        List<Form> specialAdmissionFormList = classifyFormsByType(supernumeraryFormList, FormType::isSpecialAdmission);
+        List<FormSelectionVo> regularFormList = Stream.concat(
+                        firstPassedFormList.stream().filter(FormSelectionVo::isRegular),
+                        changedToRegularFormList.stream().map(FormSelectionVo::new)
+                )
+                .sorted(TOTAL_SCORE_ORDER)
+                .toList();
+
+        processForms(regularFormList, regularCount, otherRegionCount, passedIdList, failedIdList::add);
 
-        processForms(nationalVeteransEducationFormList, nationalVeteransEducationCount, Form::fail);
-        processForms(specialAdmissionFormList, specialAdmissionCount, Form::fail);
+        List<FormSelectionVo> supernumeraryFormList = classifyFormsByType(firstPassedFormList, FormType::isSupernumerary);
+        List<FormSelectionVo> nationalVeteransEducationFormList = classifyFormsByType(supernumeraryFormList, FormType::isNationalVeteransEducation);
+        List<FormSelectionVo> specialAdmissionFormList = classifyFormsByType(supernumeraryFormList, FormType::isSpecialAdmission);
+
+        processForms(nationalVeteransEducationFormList, nationalVeteransEducationCount, otherRegionCount, passedIdList, failedIdList::add);
+        processForms(specialAdmissionFormList, specialAdmissionCount, otherRegionCount, passedIdList, failedIdList::add);
+
+        formRepository.flush();
+        formRepository.updateStatusByFormIdList(FormStatus.PASSED, passedIdList);
+        formRepository.updateStatusByFormIdList(FormStatus.FAILED, failedIdList);
     }
 
-    private void processForms(List<Form> formList, int count, Consumer<Form> action) {
-        for (Form form : formList) {
+    private void processForms(List<FormSelectionVo> formList, int count, AtomicInteger otherRegionCount, List<Long> passedIdList, Consumer<Long> action) {
+        for (FormSelectionVo form : formList) {
             if (count > 0) {
-                if (form.getEducation().getSchool().isBusan()) {
-                    form.pass();
+                if (form.isBusan()) {
+                    passedIdList.add(form.getId());
                     count--;
                 } else if (otherRegionCount.intValue() > 0) {
-                    form.pass();
+                    passedIdList.add(form.getId());
                     otherRegionCount.getAndDecrement();
                     count--;
                 } else {
-                    action.accept(form);
+                    action.accept(form.getId());
                 }
             } else {
-                action.accept(form);
+                action.accept(form.getId());
             }
         }
     }
@@ -95,18 +120,20 @@ public class SelectSecondPassUseCase {
         form.changeToRegularSecondRound(calculateFormScoreService);
     }
 
-    private void validate() {
-        List<Form> firstPassedFormList = formRepository.findByStatus(FormStatus.FIRST_PASSED);
-        firstPassedFormList.stream()
-                .filter(form -> form.getScore().getTotalScore() == null)
-                .forEach(form -> {
-                    throw new MissingTotalScoreException();
-                });
+    private void validate(List<FormSelectionVo> firstPassedFormList) {
+        if (firstPassedFormList.stream().anyMatch(form -> form.getScaledTotalScore() == null)) {
+            throw new MissingTotalScoreException();
+        }
     }
 
-    private List<Form> classifyFormsByType(List<Form> formList, FormTypeFilter filter) {
+    private List<FormSelectionVo> classifyFormsByType(List<FormSelectionVo> formList, FormTypeFilter filter) {
         return formList.stream()
                 .filter(form -> filter.execute(form.getType()))
                 .toList();
     }
 }
+
+@FunctionalInterface
+interface FormTypeFilter {
+    boolean execute(FormType type);
+}
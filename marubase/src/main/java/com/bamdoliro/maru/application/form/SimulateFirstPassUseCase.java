@@ -0,0 +1,25 @@
+package com.bamdoliro.maru.application.form;
+
+import com.bamdoliro.maru.domain.form.domain.value.FirstRoundSelection;
+import com.bamdoliro.maru.domain.form.domain.value.FirstRoundSnapshot;
+import com.bamdoliro.maru.domain.form.service.FirstRoundSnapshotService;
+import com.bamdoliro.maru.domain.form.service.SelectFirstRoundService;
+import com.bamdoliro.maru.presentation.form.dto.request.SimulateFirstPassRequest;
+import com.bamdoliro.maru.presentation.form.dto.response.FirstPassSimulationResponse;
+import com.bamdoliro.maru.shared.annotation.UseCase;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@UseCase
+public class SimulateFirstPassUseCase {
+
+    private final FirstRoundSnapshotService firstRoundSnapshotService;
+    private final SelectFirstRoundService selectFirstRoundService;
+
+    public FirstPassSimulationResponse execute(SimulateFirstPassRequest request) {
+        FirstRoundSnapshot snapshot = firstRoundSnapshotService.getSnapshot(request.isRefresh());
+        FirstRoundSelection selection = selectFirstRoundService.execute(snapshot.getCandidateList(), request.toQuota());
+
+        return new FirstPassSimulationResponse(snapshot, selection);
+    }
+}
@@ -0,0 +1,40 @@
+package com.bamdoliro.maru.application.form;
+
+import com.bamdoliro.maru.domain.form.domain.ReScoringJob;
+import com.bamdoliro.maru.domain.form.exception.ReScoringJobAlreadyRunningException;
+import com.bamdoliro.maru.domain.form.service.ReScoringJobRunner;
+import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
+import com.bamdoliro.maru.infrastructure.persistence.form.ReScoringJobRepository;
+import com.bamdoliro.maru.presentation.form.dto.response.ReScoringJobResponse;
+import com.bamdoliro.maru.shared.annotation.UseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@UseCase
+public class StartReScoringUseCase {
+
+    private final FormRepository formRepository;
+    private final ReScoringJobRepository reScoringJobRepository;
+    private final ReScoringJobRunner reScoringJobRunner;
+
+    public ReScoringJobResponse execute() {
+        ReScoringJob job = new ReScoringJob(formRepository.count());
+        if (!reScoringJobRepository.claim(job.getId())) {
+            throw new ReScoringJobAlreadyRunningException();
+        }
+        reScoringJobRepository.save(job);
+
+        try {
+            reScoringJobRunner.run(job.getId());
+        } catch (TaskRejectedException e) {
+            reScoringJobRepository.releaseClaim(job.getId());
+            reScoringJobRepository.delete(job);
+            throw new ReScoringJobAlreadyRunningException();
+        }
+
+        return new ReScoringJobResponse(job, List.of());
+    }
+}
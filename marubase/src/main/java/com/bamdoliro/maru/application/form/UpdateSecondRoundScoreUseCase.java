@@ -1,273 +1,218 @@
 package com.bamdoliro.maru.application.form;
 
-import com.bamdoliro.maru.domain.form.domain.Form;
-import com.bamdoliro.maru.domain.form.domain.type.FormStatus;
 import com.bamdoliro.maru.domain.form.domain.type.FormType;
-import com.bamdoliro.maru.domain.form.exception.InvalidFileException;
+import com.bamdoliro.maru.domain.form.domain.value.SecondRoundScore;
 import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
-import com.bamdoliro.maru.infrastructure.xlsx.XlsxService;
+import com.bamdoliro.maru.infrastructure.persistence.form.FormScoreBatchRepository;
+import com.bamdoliro.maru.infrastructure.persistence.form.vo.SecondRoundScoreTargetVo;
+import com.bamdoliro.maru.infrastructure.xlsx.XlsxReader;
+import com.bamdoliro.maru.infrastructure.xlsx.dto.XlsxRow;
+import com.bamdoliro.maru.presentation.form.dto.response.SecondRoundScoreErrorResponse;
+import com.bamdoliro.maru.presentation.form.dto.response.UpdateSecondRoundScoreResponse;
 import com.bamdoliro.maru.shared.annotation.UseCase;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.springframework.core.io.Resource;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 @RequiredArgsConstructor
 @UseCase
 public class UpdateSecondRoundScoreUseCase {
 
-    private final FormRepository formRepository;
-    private final XlsxService xlsxService;
+    private static final int FIRST_ROW_INDEX = 1;
+    private static final int BATCH_SIZE = 100;
 
-    private CellStyle errorCellStyle;
+    // 수험번호 | 이름 | 전형 구분 | 심층면접 | NCS | 코딩테스트 | 응시 여부
+    private static final List<String> COLUMN_NAME_LIST = List.of("수험번호", "이름", "전형 구분", "심층면접", "NCS", "코딩테스트", "응시 여부");
+    private static final int EXAMINATION_NUMBER = 0;
+    private static final int DEPTH_INTERVIEW = 3;
+    private static final int NCS = 4;
+    private static final int CODING_TEST = 5;
+    private static final int IS_SHOW = 6;
 
-    @Transactional
-    public Resource execute(MultipartFile xlsx) throws IOException {
-        Workbook workbook = new XSSFWorkbook(xlsx.getInputStream());
-        Sheet sheet = workbook.getSheetAt(0);
+    private final FormRepository formRepository;
+    private final FormScoreBatchRepository formScoreBatchRepository;
+    private final XlsxReader xlsxReader;
 
-        errorCellStyle = xlsxService.createDefaultCellStyle(workbook);
-        errorCellStyle.setFillForegroundColor(IndexedColors.YELLOW.getIndex());
-        errorCellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+    public UpdateSecondRoundScoreResponse execute(MultipartFile xlsx) throws IOException {
+        Map<Long, SecondRoundScoreTargetVo> targetMap = formRepository.findSecondRoundScoreTargetList()
+                .stream()
+                .collect(Collectors.toMap(SecondRoundScoreTargetVo::getExaminationNumber, Function.identity()));
+        SecondRoundScoreImport scoreImport = new SecondRoundScoreImport(targetMap);
 
-        List<Form> formList = formRepository.findByStatus(FormStatus.FIRST_PASSED);
-        formList.sort(Comparator.comparing(Form::getExaminationNumber));
-        List<SecondScoreVo> secondScoreVoList = getSecondScoreVoList(sheet);
-        if (secondScoreVoList == null) {
-            return xlsxService.convertToByteArrayResource(workbook);
+        try (InputStream inputStream = xlsx.getInputStream()) {
+            xlsxReader.read(inputStream, FIRST_ROW_INDEX, scoreImport::add);
         }
-        validateList(formList, secondScoreVoList);
+        scoreImport.flush();
+
+        return scoreImport.toResponse();
+    }
 
-        for (int index = 0; index < formList.size(); index++) {
-            Form form = formList.get(index);
-            SecondScoreVo secondScoreVo = secondScoreVoList.get(index);
-            validate(form, secondScoreVo);
+    // 행을 수험번호로 찾아서 검증하고, 올바른 행만 모아 두었다가 일정 개수마다 한 번에 반영한다.
+    // 시트에 없는 지원자는 건드리지 않으므로 일부 행만 다시 올려도 된다.
+    private class SecondRoundScoreImport {
 
-            updateFormOrNoShow(form, secondScoreVo);
+        private final Map<Long, SecondRoundScoreTargetVo> targetMap;
+        private final Set<Long> examinationNumberSet = new HashSet<>();
+        private final List<SecondRoundScore> scoreList = new ArrayList<>(BATCH_SIZE);
+        private final List<SecondRoundScoreErrorResponse> errorList = new ArrayList<>();
+        private int updatedCount = 0;
+        private int noShowCount = 0;
+
+        private SecondRoundScoreImport(Map<Long, SecondRoundScoreTargetVo> targetMap) {
+            this.targetMap = targetMap;
         }
-        workbook.close();
 
-        return null;
-    }
+        private void add(XlsxRow row) {
+            Long examinationNumber = parseExaminationNumber(row);
+            if (Objects.isNull(examinationNumber)) {
+                return;
+            }
 
-    private List<SecondScoreVo> getSecondScoreVoList(Sheet sheet) {
-        List<SecondScoreVo> voList = IntStream.range(1, sheet.getPhysicalNumberOfRows())
-                .mapToObj(sheet::getRow)
-                .map(this::getSecondScoreFrom)
-                .collect(Collectors.toList());
+            SecondRoundScore score = toScore(row, examinationNumber, targetMap.get(examinationNumber));
+            if (Objects.isNull(score)) {
+                return;
+            }
 
-        if (voList.contains(null)) {
-            return null;
+            if (score.isShow()) {
+                updatedCount++;
+            } else {
+                noShowCount++;
+            }
+            scoreList.add(score);
+            if (scoreList.size() >= BATCH_SIZE) {
+                flush();
+            }
         }
 
-        voList.sort(Comparator.comparingLong(SecondScoreVo::getExaminationNumber));
+        private Long parseExaminationNumber(XlsxRow row) {
+            String value = row.get(EXAMINATION_NUMBER);
+            if (Objects.isNull(value)) {
+                addError(row, null, EXAMINATION_NUMBER, "값 없음");
+                return null;
+            }
 
-        return voList;
-    }
+            Long examinationNumber;
+            try {
+                double number = Double.parseDouble(value);
+                if (number != Math.rint(number)) {
+                    throw new NumberFormatException();
+                }
+                examinationNumber = (long) number;
+            } catch (NumberFormatException e) {
+                addError(row, null, EXAMINATION_NUMBER, "타입 불일치");
+                return null;
+            }
 
-    private SecondScoreVo getSecondScoreFrom(Row row) {
-        List<Cell> invalidCellTypeList = validateCellType(row);
-        boolean isValidScore = validateScore(row, invalidCellTypeList);
-
-        if (invalidCellTypeList.isEmpty() && isValidScore) {
-            boolean isShow = row.getCell(6).getBooleanCellValue();
-            FormType.Category type = getFormType(row.getCell(2).getStringCellValue());
-
-            return new SecondScoreVo(
-                    (long) row.getCell(0).getNumericCellValue(),
-                    type,
-                    isShow ? row.getCell(3).getNumericCellValue() : null,
-                    isShow ? row.getCell(4).getNumericCellValue() : null,
-                    isShow && type == FormType.Category.MEISTER_TALENT ? row.getCell(5).getNumericCellValue() : null,
-                    isShow
-            );
-        } else {
-            return null;
-        }
-    }
+            if (!targetMap.containsKey(examinationNumber)) {
+                addError(row, examinationNumber, EXAMINATION_NUMBER, "2차전형 대상 아님");
+                return null;
+            }
+            if (!examinationNumberSet.add(examinationNumber)) {
+                addError(row, examinationNumber, EXAMINATION_NUMBER, "수험번호 중복");
+                return null;
+            }
 
-    private List<Cell> validateCellType(Row row) {
-        // 수험번호 | 이름 | 전형 구분 | 심층면접 | NCS | 코딩테스트 | 응시 여부
-        List<Cell> cellList = new ArrayList<>();
-
-        Cell examinationNumberCell = row.getCell(0);
-        Cell nameCell = row.getCell(1);
-        Cell typeCell = row.getCell(2);
-        Cell depthInterviewScoreCell = row.getCell(3);
-        Cell ncsScoreCell = row.getCell(4);
-        Cell codingTestScoreCell = row.getCell(5);
-        Cell isShowCell = row.getCell(6);
-        boolean isShow = false;
-
-        if (examinationNumberCell.getCellType() != CellType.NUMERIC) {
-            setErrorCell(examinationNumberCell, "타입 불일치");
-            cellList.add(examinationNumberCell);
-        }
-        if (nameCell.getCellType() != CellType.STRING) {
-            setErrorCell(nameCell, "타입 불일치");
-            cellList.add(nameCell);
-        }
-        if (typeCell.getCellType() != CellType.STRING) {
-            setErrorCell(typeCell, "타입 불일치");
-            cellList.add(typeCell);
+            return examinationNumber;
         }
-        if (isShowCell.getCellType() != CellType.FORMULA) {
-            setErrorCell(isShowCell, "타입 불일치");
-            cellList.add(isShowCell);
-        } else {
-            isShow = isShowCell.getBooleanCellValue();
+
+        private SecondRoundScore toScore(XlsxRow row, Long examinationNumber, SecondRoundScoreTargetVo target) {
+            Boolean isShow = parseIsShow(row, examinationNumber);
+            if (Objects.isNull(isShow)) {
+                return null;
+            }
+            if (!isShow) {
+                return SecondRoundScore.noShow(target.getId());
+            }
+
+            // 전형은 시트에 적힌 값이 아니라 원서에 저장된 값을 기준으로 검증한다.
+            FormType type = target.getType();
+            int errorCount = errorList.size();
+            Double depthInterviewScore = parseScore(row, examinationNumber, DEPTH_INTERVIEW, type.isSocial() ? 200 : 120);
+            Double ncsScore = parseScore(row, examinationNumber, NCS, 40);
+            Double codingTestScore = null;
+            if (type.isMeister()) {
+                codingTestScore = parseScore(row, examinationNumber, CODING_TEST, 80);
+            } else if (!row.isBlank(CODING_TEST)) {
+                addError(row, examinationNumber, CODING_TEST, "타입 불일치");
+            }
+
+            if (errorList.size() > errorCount) {
+                return null;
+            }
+
+            return SecondRoundScore.of(target.getId(), target.getScaledFirstRoundScore(), depthInterviewScore, ncsScore, codingTestScore);
         }
 
-        if (isShow) {
-            if (depthInterviewScoreCell != null && depthInterviewScoreCell.getCellType() != CellType.NUMERIC) {
-                setErrorCell(depthInterviewScoreCell, "타입 불일치");
-                cellList.add(depthInterviewScoreCell);
+        // 양식의 응시 여부 수식 값을 쓰고, 수식이 없으면 점수가 하나라도 있을 때 응시한 것으로 본다.
+        private Boolean parseIsShow(XlsxRow row, Long examinationNumber) {
+            String value = row.get(IS_SHOW);
+            if (Objects.isNull(value)) {
+                return !row.isBlank(DEPTH_INTERVIEW) || !row.isBlank(NCS) || !row.isBlank(CODING_TEST);
             }
-            if (ncsScoreCell != null && ncsScoreCell.getCellType() != CellType.NUMERIC) {
-                setErrorCell(ncsScoreCell, "타입 불일치");
-                cellList.add(ncsScoreCell);
+            if ("TRUE".equalsIgnoreCase(value)) {
+                return true;
             }
-            if (
-                    ("마이스터인재전형".equals(typeCell.getStringCellValue()) &&
-                            (codingTestScoreCell.getCellType() != CellType.NUMERIC)) ||
-                    (!"마이스터인재전형".equals(typeCell.getStringCellValue()) &&
-                            codingTestScoreCell != null && codingTestScoreCell.getCellType() != CellType.BLANK))
-            {
-                setErrorCell(codingTestScoreCell, "타입 불일치");
-                cellList.add(codingTestScoreCell);
+            if ("FALSE".equalsIgnoreCase(value)) {
+                return false;
             }
+
+            addError(row, examinationNumber, IS_SHOW, "타입 불일치");
+            return null;
         }
 
-        return cellList;
-    }
+        private Double parseScore(XlsxRow row, Long examinationNumber, int columnIndex, double maxScore) {
+            String value = row.get(columnIndex);
+            if (Objects.isNull(value)) {
+                addError(row, examinationNumber, columnIndex, "값 없음");
+                return null;
+            }
 
-    private boolean validateScore(Row row, List<Cell> invalidCellTypeList) {
-        // 수험번호 | 이름 | 전형 구분 | 심층면접 | NCS | 코딩테스트 | 응시 여부
-        boolean isValid = true;
-
-        Cell typeCell = row.getCell(2);
-        Cell depthInterviewScoreCell = row.getCell(3);
-        Cell ncsScoreCell = row.getCell(4);
-        Cell codingTestScoreCell = row.getCell(5);
-        boolean isShow = row.getCell(6).getCellType() == CellType.FORMULA && row.getCell(6).getBooleanCellValue();
-
-        if (isShow) {
-            String type = typeCell.getStringCellValue();
-            double depthInterviewScore = !invalidCellTypeList.contains(depthInterviewScoreCell) ? depthInterviewScoreCell.getNumericCellValue() : 0;
-            double ncsScore = !invalidCellTypeList.contains(ncsScoreCell) ? ncsScoreCell.getNumericCellValue() : 0;
-            double codingTestScore = codingTestScoreCell != null && !invalidCellTypeList.contains(codingTestScoreCell)
-                    ? codingTestScoreCell.getNumericCellValue()
-                    : 0;
-
-            switch (type) {
-                case "마이스터인재전형" -> {
-                    if (!invalidCellTypeList.contains(depthInterviewScoreCell) && !(0 <= depthInterviewScore && depthInterviewScore <= 120)) {
-                        setErrorCell(depthInterviewScoreCell, "범위 초과");
-                        isValid = false;
-                    }
-                    if (!invalidCellTypeList.contains(ncsScoreCell) && !(0 <= ncsScore && ncsScore <= 40)) {
-                        setErrorCell(ncsScoreCell, "범위 초과");
-                        isValid = false;
-                    }
-                    if (codingTestScoreCell != null && !invalidCellTypeList.contains(codingTestScoreCell)
-                            && !(0 <= codingTestScore && codingTestScore <= 80)) {
-                        setErrorCell(codingTestScoreCell, "범위 초과");
-                        isValid = false;
-                    }
-                }
-                case "사회통합전형" -> {
-                    if (!invalidCellTypeList.contains(depthInterviewScoreCell) && !(0 <= depthInterviewScore && depthInterviewScore <= 200)) {
-                        setErrorCell(depthInterviewScoreCell, "범위 초과");
-                        isValid = false;
-                    }
-                    if (!invalidCellTypeList.contains(ncsScoreCell) && !(0 <= ncsScore && ncsScore <= 40)) {
-                        setErrorCell(ncsScoreCell, "범위 초과");
-                        isValid = false;
-                    }
-                }
-                default -> {
-                    if (!invalidCellTypeList.contains(depthInterviewScoreCell) && !(0 <= depthInterviewScore && depthInterviewScore <= 120)) {
-                        setErrorCell(depthInterviewScoreCell, "범위 초과");
-                        isValid = false;
-                    }
-                    if (!invalidCellTypeList.contains(ncsScoreCell) && !(0 <= ncsScore && ncsScore <= 40)) {
-                        setErrorCell(ncsScoreCell, "범위 초과");
-                        isValid = false;
-                    }
-                }
+            double score;
+            try {
+                score = Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                addError(row, examinationNumber, columnIndex, "타입 불일치");
+                return null;
             }
-        }
 
-        return isValid;
-    }
+            if (!(0 <= score && score <= maxScore)) {
+                addError(row, examinationNumber, columnIndex, "범위 초과");
+                return null;
+            }
 
-    private FormType.Category getFormType(String description) {
-        try {
-            return FormType.Category.valueOfDescription(description);
-        } catch (IllegalArgumentException e) {
-            throw new InvalidFileException("지원 전형이 올바르지 않습니다.");
+            return score;
         }
-    }
 
-    private static void validateList(List<Form> formList, List<SecondScoreVo> secondScoreVoList) {
-        if (formList.size() != secondScoreVoList.size()) {
-            throw new InvalidFileException("학생 수가 맞지 않습니다.");
+        private void addError(XlsxRow row, Long examinationNumber, int columnIndex, String message) {
+            errorList.add(new SecondRoundScoreErrorResponse(
+                    row.getRowNum() + 1,
+                    examinationNumber,
+                    COLUMN_NAME_LIST.get(columnIndex),
+                    message
+            ));
         }
-    }
 
-    private void validate(Form form, SecondScoreVo secondScoreVo) {
-        if (!form.getExaminationNumber().equals(secondScoreVo.getExaminationNumber())) {
-            throw new InvalidFileException("수험번호가 올바르지 않습니다.");
-        }
-    }
+        private void flush() {
+            if (scoreList.isEmpty()) {
+                return;
+            }
 
-    private void updateFormOrNoShow(Form form, SecondScoreVo secondScoreVo) {
-        if (secondScoreVo.isShow()) {
-            updateFormSecondRoundScore(form, secondScoreVo);
-        } else {
-            form.noShow();
+            formScoreBatchRepository.updateSecondRoundScoreList(scoreList);
+            scoreList.clear();
         }
-    }
 
-    private void updateFormSecondRoundScore(Form form, SecondScoreVo secondScoreVo) {
-        if (secondScoreVo.getType().equals(FormType.Category.MEISTER_TALENT)) {
-            form.getScore().updateSecondRoundMeisterScore(
-                    secondScoreVo.getDepthInterviewScore(),
-                    secondScoreVo.getNcsScore(),
-                    secondScoreVo.getCodingTestScore()
-            );
-        } else {
-            form.getScore().updateSecondRoundScore(
-                    secondScoreVo.getDepthInterviewScore(),
-                    secondScoreVo.getNcsScore()
-            );
+        private UpdateSecondRoundScoreResponse toResponse() {
+            return new UpdateSecondRoundScoreResponse(updatedCount, noShowCount, errorList);
         }
     }
-
-    private void setErrorCell(Cell errorCell, String message) {
-        errorCell.setCellStyle(errorCellStyle);
-        errorCell.setCellValue(message);
-    }
 }
-
-@Getter
-@AllArgsConstructor
-class SecondScoreVo {
-    private Long examinationNumber;
-    private FormType.Category type;
-    private Double depthInterviewScore;
-    private Double ncsScore;
-    private Double codingTestScore;
-    private boolean isShow;
-}
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.bamdoliro.maru.application.form;
 import com.bamdoliro.maru.domain.form.domain.Form;
 import com.bamdoliro.maru.domain.form.exception.InvalidFormStatusException;
 import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.infrastructure.pdf.IdentificationPictureProvider;
 import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
 import com.bamdoliro.maru.infrastructure.s3.FileService;
 import com.bamdoliro.maru.infrastructure.s3.constants.FolderConstant;
@@ -23,15 +24,19 @@ public class UploadIdentificationPictureUseCase {
 
     private final FileService fileService;
     private final FormRepository formRepository;
+    private final IdentificationPictureProvider identificationPictureProvider;
 
     @ValidateApplicationFormPeriod
     public UrlResponse execute(User user, FileMetadata fileMetadata) {
         Optional<Form> form = formRepository.findByUser(user);
         form.ifPresent(this::validateFormStatus);
 
-        return fileService.getPresignedUrl(FolderConstant.IDENTIFICATION_PICTURE, user.getUuid().toString(), fileMetadata, metadata ->
+        UrlResponse response = fileService.getPresignedUrl(FolderConstant.IDENTIFICATION_PICTURE, user.getUuid().toString(), fileMetadata, metadata ->
                 DefaultFileValidator.validate(metadata, Set.of(MediaType.IMAGE_PNG, MediaType.IMAGE_JPEG), 2)
         );
+        identificationPictureProvider.invalidate(user.getUuid());
+
+        return response;
     }
 
     private void validateFormStatus(Form form) {
@@ -0,0 +1,29 @@
+package com.bamdoliro.maru.application.message;
+
+import com.bamdoliro.maru.domain.message.domain.BulkMessage;
+import com.bamdoliro.maru.domain.message.domain.type.OutboxMessageStatus;
+import com.bamdoliro.maru.domain.message.exception.BulkMessageNotFoundException;
+import com.bamdoliro.maru.infrastructure.persistence.message.BulkMessageRepository;
+import com.bamdoliro.maru.infrastructure.persistence.message.OutboxMessageRepository;
+import com.bamdoliro.maru.presentation.message.dto.response.BulkMessageResponse;
+import com.bamdoliro.maru.shared.annotation.UseCase;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@UseCase
+public class QueryBulkMessageUseCase {
+
+    private final BulkMessageRepository bulkMessageRepository;
+    private final OutboxMessageRepository outboxMessageRepository;
+
+    public BulkMessageResponse execute(Long bulkMessageId) {
+        BulkMessage bulkMessage = bulkMessageRepository.findById(bulkMessageId)
+                .orElseThrow(BulkMessageNotFoundException::new);
+
+        return new BulkMessageResponse(
+                bulkMessage,
+                outboxMessageRepository.countByBulkMessageIdAndStatus(bulkMessageId, OutboxMessageStatus.SENT),
+                outboxMessageRepository.countByBulkMessageIdAndStatus(bulkMessageId, OutboxMessageStatus.FAILED)
+        );
+    }
+}
@@ -2,14 +2,16 @@ package com.bamdoliro.maru.application.message;
 
 import com.bamdoliro.maru.domain.form.domain.Form;
 import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.domain.message.domain.BulkMessage;
+import com.bamdoliro.maru.domain.message.service.MessageOutboxService;
 import com.bamdoliro.maru.domain.user.domain.User;
 import com.bamdoliro.maru.domain.user.domain.type.Authority;
-import com.bamdoliro.maru.infrastructure.message.SendMessageService;
 import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
 import com.bamdoliro.maru.infrastructure.persistence.user.UserRepository;
 import com.bamdoliro.maru.presentation.message.dto.request.SendMessageByStatusRequest;
 import com.bamdoliro.maru.presentation.message.dto.request.SendMessageByTypeRequest;
 import com.bamdoliro.maru.presentation.message.dto.request.SendMessageToAllUserRequest;
+import com.bamdoliro.maru.presentation.message.dto.response.BulkMessageResponse;
 import com.bamdoliro.maru.shared.annotation.UseCase;
 import lombok.RequiredArgsConstructor;
 
@@ -20,30 +22,36 @@ import java.util.List;
 public class SendMessageUseCase {
 
     private final FormRepository formRepository;
-    private final SendMessageService sendMessageService;
+    private final MessageOutboxService messageOutboxService;
     private final UserRepository userRepository;
 
-    public void execute(SendMessageByStatusRequest request) {
+    public BulkMessageResponse execute(SendMessageByStatusRequest request) {
         List<Form> formList = formRepository.findByStatus(request.getStatus());
         List<String> phoneNumberList = phoneNumberListConvert(formList);
 
-        sendMessageService.execute(phoneNumberList, request.getText(), request.getTitle());
+        return enqueue(phoneNumberList, request.getText(), request.getTitle());
     }
 
-    public void execute(SendMessageByTypeRequest request) {
+    public BulkMessageResponse execute(SendMessageByTypeRequest request) {
         List<Form> formList = formListFilter(request.getFormType(), request.getIsChangeToRegular());
         List<String> phoneNumberList = phoneNumberListConvert(formList);
 
-        sendMessageService.execute(phoneNumberList, request.getText(), request.getTitle());
+        return enqueue(phoneNumberList, request.getText(), request.getTitle());
     }
 
-    public void execute(SendMessageToAllUserRequest request) {
+    public BulkMessageResponse execute(SendMessageToAllUserRequest request) {
         List<String> phoneNumberList = userRepository.findAll()
                 .stream()
                 .filter(user -> user.getAuthority() == Authority.USER)
                 .map(User::getPhoneNumber)
                 .toList();
-        sendMessageService.execute(phoneNumberList, request.getText(), request.getTitle());
+        return enqueue(phoneNumberList, request.getText(), request.getTitle());
+    }
+
+    // 발송은 MessageDispatcher 가 나중에 하므로, 저장만 하고 바로 응답한다.
+    private BulkMessageResponse enqueue(List<String> phoneNumberList, String text, String title) {
+        BulkMessage bulkMessage = messageOutboxService.enqueue(phoneNumberList, text, title);
+        return new BulkMessageResponse(bulkMessage, 0L, 0L);
     }
 
     private List<Form> formListFilter(FormType formType, Boolean isChangedToRegular) {
@@ -5,6 +5,7 @@ import com.bamdoliro.maru.domain.form.domain.Form;
 import com.bamdoliro.maru.domain.user.domain.User;
 import com.bamdoliro.maru.domain.user.domain.value.Password;
 import com.bamdoliro.maru.domain.user.exception.PasswordMismatchException;
+import com.bamdoliro.maru.infrastructure.cache.UserCache;
 import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
 import com.bamdoliro.maru.infrastructure.persistence.user.UserRepository;
 import com.bamdoliro.maru.presentation.user.dto.request.DeleteUserRequest;
@@ -21,6 +22,7 @@ public class DeleteUserUseCase {
     private final FormRepository formRepository;
     private final LogOutUseCase logOutUseCase;
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
     @Transactional
     public void execute(User user, DeleteUserRequest request) {
@@ -29,6 +31,7 @@ public class DeleteUserUseCase {
         form.ifPresent(formRepository::delete);
         logOutUseCase.execute(user);
         userRepository.delete(user);
+        userCache.evict(user.getPhoneNumber());
     }
 
     private void validatePassword(String actual, Password expected) {
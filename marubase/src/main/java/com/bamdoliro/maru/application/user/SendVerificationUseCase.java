@@ -3,21 +3,27 @@ package com.bamdoliro.maru.application.user;
 import com.bamdoliro.maru.domain.user.domain.SignUpVerification;
 import com.bamdoliro.maru.domain.user.domain.UpdatePasswordVerification;
 import com.bamdoliro.maru.domain.user.domain.type.VerificationType;
-import com.bamdoliro.maru.infrastructure.message.SendMessageService;
+import com.bamdoliro.maru.infrastructure.message.VerificationMessageDispatcher;
+import com.bamdoliro.maru.infrastructure.message.exception.TooManyMessagesException;
 import com.bamdoliro.maru.infrastructure.persistence.user.SignUpVerificationRepository;
 import com.bamdoliro.maru.infrastructure.persistence.user.UpdatePasswordVerificationRepository;
 import com.bamdoliro.maru.presentation.user.dto.request.SendVerificationRequest;
+import com.bamdoliro.maru.shared.annotation.RateLimit;
 import com.bamdoliro.maru.shared.annotation.UseCase;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
 
 @RequiredArgsConstructor
 @UseCase
 public class SendVerificationUseCase {
 
-    private final SendMessageService sendMessageService;
+    private final VerificationMessageDispatcher verificationMessageDispatcher;
     private final SignUpVerificationRepository signUpVerificationRepository;
     private final UpdatePasswordVerificationRepository updatePasswordVerificationRepository;
 
+    // 인증번호를 먼저 저장하고, 문자는 응답을 기다리지 않고 보낸다.
+    @RateLimit(name = "verification-phone-number", key = "#request.phoneNumber", capacity = 3, period = 300)
+    @RateLimit(name = "verification-ip", key = "#clientIp", capacity = 20, period = 600)
     public void execute(SendVerificationRequest request) {
 
         if (request.getType() == VerificationType.SIGNUP) {
@@ -27,12 +33,8 @@ public class SendVerificationUseCase {
                     signUpVerification.getCode()
             );
 
-            sendMessageService.execute(
-                    request.getPhoneNumber(),
-                    text
-            );
-
             signUpVerificationRepository.save(signUpVerification);
+            dispatch(request.getPhoneNumber(), text);
         } else {
             UpdatePasswordVerification updatePasswordVerification = new UpdatePasswordVerification(request.getPhoneNumber());
             String text = String.format(
@@ -40,12 +42,16 @@ public class SendVerificationUseCase {
                     updatePasswordVerification.getCode()
             );
 
-            sendMessageService.execute(
-                    request.getPhoneNumber(),
-                    text
-            );
-
             updatePasswordVerificationRepository.save(updatePasswordVerification);
+            dispatch(request.getPhoneNumber(), text);
+        }
+    }
+
+    private void dispatch(String phoneNumber, String text) {
+        try {
+            verificationMessageDispatcher.dispatch(phoneNumber, text);
+        } catch (TaskRejectedException e) {
+            throw new TooManyMessagesException();
         }
     }
 }
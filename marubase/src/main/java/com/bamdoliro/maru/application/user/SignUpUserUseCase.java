@@ -5,12 +5,12 @@ import com.bamdoliro.maru.domain.user.domain.User;
 import com.bamdoliro.maru.domain.user.domain.type.Authority;
 import com.bamdoliro.maru.domain.user.exception.UserAlreadyExistsException;
 import com.bamdoliro.maru.domain.user.exception.VerifyingHasFailedException;
+import com.bamdoliro.maru.domain.user.service.PasswordHashingService;
 import com.bamdoliro.maru.infrastructure.persistence.user.SignUpVerificationRepository;
 import com.bamdoliro.maru.infrastructure.persistence.user.UserRepository;
 import com.bamdoliro.maru.presentation.user.dto.request.SignUpUserRequest;
 import com.bamdoliro.maru.shared.annotation.UseCase;
 import lombok.RequiredArgsConstructor;
-import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @UseCase
@@ -18,22 +18,30 @@ public class SignUpUserUseCase {
 
     private final SignUpVerificationRepository signUpVerificationRepository;
     private final UserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
 
-    @Transactional
+    // 비밀번호 해시를 기다리는 동안 DB 커넥션을 잡고 있지 않도록, DB 를 조회하기 전에 해시부터 끝낸다.
+    // 저장은 save 한 번이라 트랜잭션을 따로 열지 않고, 중복 가입은 전화번호 유니크 제약이 한 번 더 막는다.
     public void execute(SignUpUserRequest request) {
-        validate(request);
-
-        userRepository.save(
-                User.builder()
-                        .phoneNumber(request.getPhoneNumber())
-                        .name(request.getName())
-                        .password(request.getPassword())
-                        .authority(Authority.USER)
-                        .build()
+        SignUpVerification signUpVerification = getVerifiedVerification(request);
+
+        User user = passwordHashingService.execute(() -> User.builder()
+                .phoneNumber(request.getPhoneNumber())
+                .name(request.getName())
+                .password(request.getPassword())
+                .authority(Authority.USER)
+                .build()
         );
+
+        if (userRepository.existsByPhoneNumber(request.getPhoneNumber())) {
+            throw new UserAlreadyExistsException();
+        }
+
+        userRepository.save(user);
+        signUpVerificationRepository.delete(signUpVerification);
     }
 
-    private void validate(SignUpUserRequest request) {
+    private SignUpVerification getVerifiedVerification(SignUpUserRequest request) {
         SignUpVerification signUpVerification = signUpVerificationRepository.findById(request.getPhoneNumber())
                 .orElseThrow(VerifyingHasFailedException::new);
 
@@ -41,10 +49,6 @@ public class SignUpUserUseCase {
             throw new VerifyingHasFailedException();
         }
 
-        if (userRepository.existsByPhoneNumber(request.getPhoneNumber())) {
-            throw new UserAlreadyExistsException();
-        }
-
-        signUpVerificationRepository.delete(signUpVerification);
+        return signUpVerification;
     }
 }
@@ -4,6 +4,7 @@ import com.bamdoliro.maru.domain.user.domain.UpdatePasswordVerification;
 import com.bamdoliro.maru.domain.user.domain.User;
 import com.bamdoliro.maru.domain.user.exception.VerifyingHasFailedException;
 import com.bamdoliro.maru.domain.user.service.UserFacade;
+import com.bamdoliro.maru.infrastructure.cache.UserCache;
 import com.bamdoliro.maru.infrastructure.persistence.user.UpdatePasswordVerificationRepository;
 import com.bamdoliro.maru.presentation.user.dto.request.UpdatePasswordRequest;
 import com.bamdoliro.maru.shared.annotation.UseCase;
@@ -16,6 +17,7 @@ public class UpdatePasswordUseCase {
 
     private final UpdatePasswordVerificationRepository updatePasswordVerificationRepository;
     private final UserFacade userFacade;
+    private final UserCache userCache;
 
     @Transactional
     public void execute(UpdatePasswordRequest request) {
@@ -23,6 +25,7 @@ public class UpdatePasswordUseCase {
 
         User user = userFacade.getUser(request.getPhoneNumber());
         user.updatePassword(request.getPassword());
+        userCache.evict(user.getPhoneNumber());
     }
 
     private void validate(UpdatePasswordRequest request) {
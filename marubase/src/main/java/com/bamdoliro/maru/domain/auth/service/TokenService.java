@@ -6,13 +6,14 @@ import com.bamdoliro.maru.domain.auth.exception.ExpiredTokenException;
 import com.bamdoliro.maru.domain.auth.exception.InvalidTokenException;
 import com.bamdoliro.maru.domain.user.domain.User;
 import com.bamdoliro.maru.domain.user.service.UserFacade;
+import com.bamdoliro.maru.infrastructure.cache.TokenClaimsCache;
+import com.bamdoliro.maru.infrastructure.cache.UserCache;
 import com.bamdoliro.maru.infrastructure.persistence.auth.TokenRepository;
 import com.bamdoliro.maru.shared.config.properties.JwtProperties;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -21,9 +22,7 @@ import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
-import java.util.Base64;
 import java.util.Date;
-import java.util.Map;
 
 @RequiredArgsConstructor
 @Service
@@ -32,6 +31,12 @@ public class TokenService {
     private final JwtProperties jwtProperties;
     private final TokenRepository tokenRepository;
     private final UserFacade userFacade;
+    private final TokenClaimsCache tokenClaimsCache;
+    private final UserCache userCache;
+
+    // 서명 키와 파서는 요청마다 만들지 않고 처음 쓸 때 한 번만 만든다.
+    private volatile Key signingKey;
+    private volatile JwtParser jwtParser;
 
     public String generateAccessToken(String uuid) {
         return generateToken(uuid, TokenType.ACCESS_TOKEN, jwtProperties.getAccessExpirationTime());
@@ -58,12 +63,12 @@ public class TokenService {
                 .setClaims(claims)
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + time))
-                .signWith(getSigningKey(jwtProperties.getSecretKey()), SignatureAlgorithm.HS256)
+                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public User getUser(String token) {
-        return userFacade.getUser(getUuid(token));
+        return userCache.get(getUuid(token), userFacade::getUser);
     }
 
     public String getUuid(String uuid) {
@@ -75,14 +80,15 @@ public class TokenService {
     }
 
     private Claims extractAllClaims(String token) {
+        return tokenClaimsCache.get(token, this::verify);
+    }
+
+    private Claims verify(String token) {
         try {
-            validateSignatureAlgorithm(token);
+            Jws<Claims> jws = getJwtParser().parseClaimsJws(token);
+            validateSignatureAlgorithm(jws.getHeader().getAlgorithm());
 
-            return Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey(jwtProperties.getSecretKey()))
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return jws.getBody();
         } catch (ExpiredJwtException e) {
             throw new ExpiredTokenException();
         } catch (Exception e) {
@@ -90,21 +96,27 @@ public class TokenService {
         }
     }
 
-    private void validateSignatureAlgorithm(String token) throws JsonProcessingException {
-        String[] tokenParts = token.split("\\.");
-        String headerJson = new String(Base64.getDecoder().decode(tokenParts[0]));
-
-        ObjectMapper objectMapper = new ObjectMapper();
-        Map<String, Object> headerMap = objectMapper.readValue(headerJson, new TypeReference<>() {});
-        String algorithm = (String) headerMap.get("alg");
-
-        if (!algorithm.equals(SignatureAlgorithm.HS256.getValue())) {
+    private void validateSignatureAlgorithm(String algorithm) {
+        if (!SignatureAlgorithm.HS256.getValue().equals(algorithm)) {
             throw new InvalidTokenException();
         }
     }
 
-    private Key getSigningKey(String secretKey) {
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private Key getSigningKey() {
+        if (signingKey == null) {
+            signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8));
+        }
+
+        return signingKey;
+    }
+
+    private JwtParser getJwtParser() {
+        if (jwtParser == null) {
+            jwtParser = Jwts.parserBuilder()
+                    .setSigningKey(getSigningKey())
+                    .build();
+        }
+
+        return jwtParser;
     }
 }
@@ -0,0 +1,89 @@
+package com.bamdoliro.maru.domain.export.domain;
+
+import com.bamdoliro.maru.domain.export.domain.type.ExportJobStatus;
+import com.bamdoliro.maru.domain.export.domain.type.ExportType;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@RedisHash(value = "exportJob", timeToLive = ExportJob.TIME_TO_LIVE)
+public class ExportJob {
+
+    public static final long TIME_TO_LIVE = 60 * 60 * 24;
+    public static final Duration RETENTION = Duration.ofSeconds(TIME_TO_LIVE);
+
+    @Id
+    private String id;
+
+    private ExportType type;
+
+    private Long fairId;
+
+    private ExportJobStatus status;
+
+    private Long fileSize;
+
+    private String downloadToken;
+
+    private String failureMessage;
+
+    private LocalDateTime requestedAt;
+
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public ExportJob(ExportType type, Long fairId) {
+        this.id = UUID.randomUUID().toString();
+        this.type = type;
+        this.fairId = fairId;
+        this.status = ExportJobStatus.PENDING;
+        this.requestedAt = LocalDateTime.now();
+        this.updatedAt = this.requestedAt;
+    }
+
+    public void run() {
+        this.status = ExportJobStatus.RUNNING;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete(Long fileSize) {
+        this.status = ExportJobStatus.COMPLETED;
+        this.fileSize = fileSize;
+        this.downloadToken = UUID.randomUUID().toString();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void fail(String failureMessage) {
+        this.status = ExportJobStatus.FAILED;
+        this.failureMessage = failureMessage;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 다운로드 링크는 한 번만 쓸 수 있다.
+    public void download() {
+        this.status = ExportJobStatus.DOWNLOADED;
+        this.downloadToken = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isCompleted() {
+        return status == ExportJobStatus.COMPLETED;
+    }
+
+    public boolean isDownloaded() {
+        return status == ExportJobStatus.DOWNLOADED;
+    }
+
+    public boolean canDownloadWith(String token) {
+        return isCompleted() && downloadToken != null && downloadToken.equals(token);
+    }
+}
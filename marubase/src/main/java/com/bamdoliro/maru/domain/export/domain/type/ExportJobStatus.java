@@ -0,0 +1,17 @@
+package com.bamdoliro.maru.domain.export.domain.type;
+
+import com.bamdoliro.maru.shared.property.EnumProperty;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportJobStatus implements EnumProperty {
+    PENDING("대기 중"),
+    RUNNING("진행 중"),
+    COMPLETED("완료"),
+    DOWNLOADED("다운로드 완료"),
+    FAILED("실패");
+
+    private final String description;
+}
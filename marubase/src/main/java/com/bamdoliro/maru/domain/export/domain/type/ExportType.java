@@ -0,0 +1,42 @@
+package com.bamdoliro.maru.domain.export.domain.type;
+
+import com.bamdoliro.maru.shared.property.EnumProperty;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportType implements EnumProperty {
+    ADMISSION_TICKET("전체 수험표", Format.PDF),
+    SECOND_ROUND_SCORE_FORMAT("2차 전형 점수 입력 양식", Format.XLSX),
+    FINAL_PASSED("최종 합격자 명단", Format.XLSX),
+    FIRST_ROUND_RESULT("1차 전형 결과", Format.XLSX),
+    SECOND_ROUND_RESULT("2차 전형 결과", Format.XLSX),
+    RESULT("전체 전형 결과", Format.XLSX),
+    FAIR_ATTENDEE_LIST("입학설명회 참가자 명단", Format.XLSX);
+
+    private final String description;
+    private final Format format;
+
+    public boolean requiresFair() {
+        return this == FAIR_ATTENDEE_LIST;
+    }
+
+    public String getFileName() {
+        return description + format.extension;
+    }
+
+    public MediaType getMediaType() {
+        return MediaType.parseMediaType(format.mediaType);
+    }
+
+    @RequiredArgsConstructor
+    public enum Format {
+        PDF(".pdf", MediaType.APPLICATION_PDF_VALUE),
+        XLSX(".xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+        private final String extension;
+        private final String mediaType;
+    }
+}
@@ -0,0 +1,10 @@
+package com.bamdoliro.maru.domain.export.exception;
+
+import com.bamdoliro.maru.domain.export.exception.error.ExportErrorProperty;
+import com.bamdoliro.maru.shared.error.MaruException;
+
+public class ExportFileNotFoundException extends MaruException {
+    public ExportFileNotFoundException() {
+        super(ExportErrorProperty.EXPORT_FILE_NOT_FOUND);
+    }
+}
@@ -0,0 +1,10 @@
+package com.bamdoliro.maru.domain.export.exception;
+
+import com.bamdoliro.maru.domain.export.exception.error.ExportErrorProperty;
+import com.bamdoliro.maru.shared.error.MaruException;
+
+public class ExportJobNotCompletedException extends MaruException {
+    public ExportJobNotCompletedException() {
+        super(ExportErrorProperty.EXPORT_JOB_NOT_COMPLETED);
+    }
+}
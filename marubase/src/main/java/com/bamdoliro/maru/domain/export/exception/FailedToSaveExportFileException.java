@@ -0,0 +1,10 @@
+package com.bamdoliro.maru.domain.export.exception;
+
+import com.bamdoliro.maru.domain.export.exception.error.ExportErrorProperty;
+import com.bamdoliro.maru.shared.error.MaruException;
+
+public class FailedToSaveExportFileException extends MaruException {
+    public FailedToSaveExportFileException() {
+        super(ExportErrorProperty.FAILED_TO_SAVE_EXPORT_FILE);
+    }
+}
@@ -0,0 +1,10 @@
+package com.bamdoliro.maru.domain.export.exception;
+
+import com.bamdoliro.maru.domain.export.exception.error.ExportErrorProperty;
+import com.bamdoliro.maru.shared.error.MaruException;
+
+public class FairIdRequiredException extends MaruException {
+    public FairIdRequiredException() {
+        super(ExportErrorProperty.FAIR_ID_REQUIRED);
+    }
+}
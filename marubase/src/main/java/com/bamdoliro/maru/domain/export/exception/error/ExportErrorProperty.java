@@ -0,0 +1,24 @@
+package com.bamdoliro.maru.domain.export.exception.error;
+
+import com.bamdoliro.maru.shared.error.ErrorProperty;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportErrorProperty implements ErrorProperty {
+
+    EXPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "내보내기 작업을 찾을 수 없습니다."),
+    EXPORT_JOB_NOT_COMPLETED(HttpStatus.CONFLICT, "아직 완료되지 않은 내보내기 작업입니다."),
+    INVALID_DOWNLOAD_TOKEN(HttpStatus.NOT_FOUND, "만료되었거나 이미 사용한 다운로드 링크입니다."),
+    FAIR_ID_REQUIRED(HttpStatus.BAD_REQUEST, "입학설명회 id가 필요합니다."),
+    TOO_MANY_EXPORT_JOBS(HttpStatus.SERVICE_UNAVAILABLE, "대기 중인 내보내기 작업이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    FAILED_TO_SAVE_EXPORT_FILE(HttpStatus.INTERNAL_SERVER_ERROR, "내보내기 파일을 저장하지 못했습니다."),
+    EXPORT_FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "내보내기 파일을 찾을 수 없습니다."),
+    FAILED_TO_EXPORT(HttpStatus.INTERNAL_SERVER_ERROR, "내보내기 파일을 만들지 못했습니다.")
+    ;
+
+    private final HttpStatus status;
+    private final String message;
+}
@@ -0,0 +1,28 @@
+package com.bamdoliro.maru.domain.form.domain;
+
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "tbl_examination_number_sequence")
+@Entity
+public class ExaminationNumberSequence {
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    @Id
+    private FormType.Category category;
+
+    @Column(nullable = false)
+    private Long lastNumber;
+
+    public Long next() {
+        return ++lastNumber;
+    }
+}
@@ -154,7 +154,7 @@ public class Form extends BaseTimeEntity {
     }
 
     public boolean isReceived() {
-        return isFirstPassed() != null || status.equals(FormStatus.RECEIVED);
+        return status.isReceived();
     }
 
     public boolean isNoShow() {
@@ -170,11 +170,7 @@ public class Form extends BaseTimeEntity {
     }
 
     public Boolean isFirstPassed() {
-        if (isFirstPassedNow() || isPassed() != null || isNoShow()) {
-            return true;
-        }
-
-        return isFirstFailedNow() ? false : null;
+        return status.isFirstPassed();
     }
 
     public boolean isFirstFailedNow() {
@@ -186,11 +182,7 @@ public class Form extends BaseTimeEntity {
     }
 
     public Boolean isPassed() {
-        if (isPassedNow() || isEntered()) {
-            return true;
-        }
-
-        return isFailedNow() || isNoShow() ? false : null;
+        return status.isPassed();
     }
 
 
@@ -0,0 +1,96 @@
+package com.bamdoliro.maru.domain.form.domain;
+
+import com.bamdoliro.maru.domain.form.domain.type.ReScoringJobStatus;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@RedisHash(value = "formReScoringJob", timeToLive = ReScoringJob.TIME_TO_LIVE)
+public class ReScoringJob {
+
+    public static final long TIME_TO_LIVE = 60 * 60 * 24 * 7;
+    private static final int MAX_FAILED_FORM_ID_LIST_SIZE = 100;
+
+    @Id
+    private String id;
+
+    private ReScoringJobStatus status;
+
+    private Long totalCount;
+
+    private Long processedCount;
+
+    private Long lastFormId;
+
+    private Long changedCount;
+
+    private Long failedCount;
+
+    private List<Long> failedFormIdList;
+
+    private String failureMessage;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public ReScoringJob(Long totalCount) {
+        this.id = UUID.randomUUID().toString();
+        this.status = ReScoringJobStatus.RUNNING;
+        this.totalCount = totalCount;
+        this.processedCount = 0L;
+        this.changedCount = 0L;
+        this.failedCount = 0L;
+        this.failedFormIdList = new ArrayList<>();
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = this.startedAt;
+    }
+
+    public void run() {
+        this.status = ReScoringJobStatus.RUNNING;
+        this.failureMessage = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 실패한 원서 id 는 관리자가 확인할 만큼만 남기고, 전체 건수는 failedCount 로 센다.
+    public void proceed(int count, Long lastFormId, int changedCount, List<Long> failedFormIdList) {
+        this.processedCount += count;
+        this.lastFormId = lastFormId;
+        this.changedCount += changedCount;
+        if (this.failedCount == null) {
+            this.failedCount = 0L;
+            this.failedFormIdList = new ArrayList<>();
+        }
+        this.failedCount += failedFormIdList.size();
+        failedFormIdList.stream()
+                .limit(Math.max(0, MAX_FAILED_FORM_ID_LIST_SIZE - this.failedFormIdList.size()))
+                .forEach(this.failedFormIdList::add);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = ReScoringJobStatus.COMPLETED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void fail(String failureMessage) {
+        this.status = ReScoringJobStatus.FAILED;
+        this.failureMessage = failureMessage;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isCompleted() {
+        return status == ReScoringJobStatus.COMPLETED;
+    }
+}
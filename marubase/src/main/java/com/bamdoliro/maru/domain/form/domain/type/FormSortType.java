@@ -0,0 +1,32 @@
+package com.bamdoliro.maru.domain.form.domain.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Objects;
+
+@Getter
+@RequiredArgsConstructor
+public enum FormSortType {
+
+    TOTAL_SCORE_ASC("total-score-asc"),
+    TOTAL_SCORE_DESC("total-score-desc"),
+    FORM_ID("form-id"),
+    EXAMINATION_NUMBER(null);
+
+    private final String value;
+
+    public static FormSortType of(String value) {
+        if (Objects.isNull(value)) {
+            return EXAMINATION_NUMBER;
+        }
+
+        for (FormSortType sortType : values()) {
+            if (value.equals(sortType.getValue())) {
+                return sortType;
+            }
+        }
+
+        return EXAMINATION_NUMBER;
+    }
+}
@@ -20,4 +20,24 @@ public enum FormStatus implements EnumProperty {
     ENTERED("입학");
 
     private final String description;
+
+    public boolean isReceived() {
+        return isFirstPassed() != null || this == RECEIVED;
+    }
+
+    public Boolean isFirstPassed() {
+        if (this == FIRST_PASSED || isPassed() != null || this == NO_SHOW) {
+            return true;
+        }
+
+        return this == FIRST_FAILED ? false : null;
+    }
+
+    public Boolean isPassed() {
+        if (this == PASSED || this == ENTERED) {
+            return true;
+        }
+
+        return this == FAILED || this == NO_SHOW ? false : null;
+    }
 }
@@ -0,0 +1,15 @@
+package com.bamdoliro.maru.domain.form.domain.type;
+
+import com.bamdoliro.maru.shared.property.EnumProperty;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ReScoringJobStatus implements EnumProperty {
+    RUNNING("진행 중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String description;
+}
@@ -0,0 +1,19 @@
+package com.bamdoliro.maru.domain.form.domain.value;
+
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CategorySelection {
+
+    private final FormType.Category category;
+    private final int applicantCount;
+    private final int quota;
+    private final List<Long> passedIdList;
+    private final Double cutOffScore;
+    private final int tieCount;
+}
@@ -0,0 +1,29 @@
+package com.bamdoliro.maru.domain.form.domain.value;
+
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.infrastructure.persistence.form.vo.FormSelectionVo;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FirstRoundCandidate {
+
+    private final Long id;
+    private final FormType type;
+    private final boolean busan;
+    private final long scaledFirstRoundScore;
+    private final Long scaledRegularFirstRoundScore;
+
+    public FirstRoundCandidate(FormSelectionVo vo, Long scaledRegularFirstRoundScore) {
+        this(vo.getId(), vo.getType(), vo.isBusan(), vo.getScaledFirstRoundScore(), scaledRegularFirstRoundScore);
+    }
+
+    public boolean isRegular() {
+        return type.isRegular();
+    }
+
+    public FirstRoundCandidate toRegular() {
+        return new FirstRoundCandidate(id, FormType.REGULAR, busan, scaledRegularFirstRoundScore, scaledRegularFirstRoundScore);
+    }
+}
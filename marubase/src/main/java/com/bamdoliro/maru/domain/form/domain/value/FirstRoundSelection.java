@@ -0,0 +1,16 @@
+package com.bamdoliro.maru.domain.form.domain.value;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class FirstRoundSelection {
+
+    private final List<Long> passedIdList;
+    private final List<Long> failedIdList;
+    private final List<Long> changedToRegularIdList;
+    private final List<CategorySelection> categorySelectionList;
+}
@@ -0,0 +1,19 @@
+package com.bamdoliro.maru.domain.form.domain.value;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class FirstRoundSnapshot {
+
+    private final List<FirstRoundCandidate> candidateList;
+    private final LocalDateTime createdAt;
+
+    public boolean isCreatedBefore(LocalDateTime time) {
+        return createdAt.isBefore(time);
+    }
+}
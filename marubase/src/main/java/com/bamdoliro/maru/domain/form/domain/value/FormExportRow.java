@@ -0,0 +1,100 @@
+package com.bamdoliro.maru.domain.form.domain.value;
+
+import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.shared.util.MathUtil;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+// 엑셀로 내보낼 때 셀마다 다시 계산하지 않도록 원서의 파생 값을 한 번만 계산해 둔다.
+// 성적은 함께 조회한 경우에만 넘겨받아서, 지연 로딩된 과목 목록을 건드리지 않는다.
+@Getter
+public class FormExportRow {
+
+    private static final int SCORE_PLACE = 3;
+
+    private final Long id;
+    private final Long examinationNumber;
+    private final String originalType;
+    private final String type;
+    private final String status;
+    private final String name;
+    private final String phoneNumber;
+    private final String gender;
+    private final LocalDate birthday;
+    private final String formattedBirthday;
+    private final String location;
+    private final String graduationType;
+    private final String schoolName;
+    private final String schoolCode;
+    private final String parentName;
+    private final String parentPhoneNumber;
+    private final String parentAddress;
+    private final String parentRelation;
+    private final GradeSummary gradeSummary;
+    private final Double subjectGradeScore;
+    private final Integer attendanceScore;
+    private final Integer volunteerScore;
+    private final Integer bonusScore;
+    private final Double depthInterviewScore;
+    private final Double ncsScore;
+    private final Double codingTestScore;
+    private final Double firstRoundScore;
+    private final Double totalScore;
+    private final Double resultScore;
+
+    public FormExportRow(Form form) {
+        this(form, null);
+    }
+
+    public FormExportRow(Form form, GradeSummary gradeSummary) {
+        Applicant applicant = form.getApplicant();
+        School school = form.getEducation().getSchool();
+        Parent parent = form.getParent();
+        Score score = form.getScore();
+
+        this.id = form.getId();
+        this.examinationNumber = form.getExaminationNumber();
+        this.originalType = form.getOriginalType().getDescription();
+        this.type = form.getType().getDescription();
+        this.status = form.getStatus().getDescription();
+        this.name = applicant.getName();
+        this.phoneNumber = applicant.getPhoneNumber().toString();
+        this.gender = applicant.getGender().getDescription();
+        this.birthday = applicant.getBirthday();
+        this.formattedBirthday = birthday.format(DateTimeFormatter.BASIC_ISO_DATE);
+        this.location = school.getLocation();
+        this.graduationType = form.getEducation().getGraduationTypeToString();
+        this.schoolName = school.getName();
+        this.schoolCode = school.getCode();
+        this.parentName = parent.getName();
+        this.parentPhoneNumber = parent.getPhoneNumber().toString();
+        this.parentAddress = parent.getAddress().toString();
+        this.parentRelation = parent.getRelation();
+        this.gradeSummary = gradeSummary;
+        this.subjectGradeScore = round(score.getSubjectGradeScore());
+        this.attendanceScore = score.getAttendanceScore();
+        this.volunteerScore = score.getVolunteerScore();
+        this.bonusScore = score.getBonusScore();
+        this.depthInterviewScore = score.getDepthInterviewScore();
+        this.ncsScore = score.getNcsScore();
+        this.codingTestScore = score.getCodingTestScore();
+        this.firstRoundScore = round(score.getFirstRoundScore());
+        this.totalScore = round(score.getTotalScore());
+        this.resultScore = form.tookSecondRound() ? totalScore : firstRoundScore;
+    }
+
+    public Integer getSubjectCountOf(int grade, int semester) {
+        return Objects.isNull(gradeSummary) ? null : gradeSummary.getCountOf(grade, semester);
+    }
+
+    public Integer getSubjectScoreSumOf(int grade, int semester) {
+        return Objects.isNull(gradeSummary) ? null : gradeSummary.getScoreSumOf(grade, semester);
+    }
+
+    private static Double round(Double value) {
+        return Objects.isNull(value) ? null : MathUtil.roundTo(value, SCORE_PLACE);
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.AttributeOverrides;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.Embedded;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -59,6 +60,9 @@ public class Grade {
     @Embedded
     private CertificateList certificateList;
 
+    @Transient
+    private GradeSummary gradeSummary;
+
     public Grade(SubjectList subjectList, Attendance attendance1, Attendance attendance2, Attendance attendance3, Integer volunteerTime1, Integer volunteerTime2, Integer volunteerTime3, CertificateList certificateList) {
         this.subjectList = subjectList;
         this.attendance1 = attendance1;
@@ -106,4 +110,12 @@ public class Grade {
     public List<Certificate> getCertificateListValue() {
         return certificateList.getValue();
     }
+
+    public GradeSummary getGradeSummary() {
+        if (gradeSummary == null) {
+            gradeSummary = new GradeSummary(this);
+        }
+
+        return gradeSummary;
+    }
 }
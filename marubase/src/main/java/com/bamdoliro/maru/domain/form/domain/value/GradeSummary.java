@@ -0,0 +1,122 @@
+package com.bamdoliro.maru.domain.form.domain.value;
+
+import com.bamdoliro.maru.domain.form.domain.type.Certificate;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Objects;
+
+// 점수 계산에 필요한 성적 합계를 원서마다 한 번만 계산해 둔다.
+// 학기별 성적은 grade * 3 + semester 위치에 저장하고, 검정고시 성적은 0학년 0학기에 들어간다.
+@Getter
+public class GradeSummary {
+
+    private static final int SEMESTER_SLOT_SIZE = 12;
+
+    @Getter(AccessLevel.NONE)
+    private final int[] scoreSums = new int[SEMESTER_SLOT_SIZE];
+    @Getter(AccessLevel.NONE)
+    private final int[] counts = new int[SEMESTER_SLOT_SIZE];
+    private int totalScore;
+    private int totalCount;
+    private int absenceCount;
+    private int latenessCount;
+    private int earlyLeaveCount;
+    private int classAbsenceCount;
+    private boolean hasVolunteerTime;
+    private int totalVolunteerTime;
+    private int certificateScore;
+
+    public GradeSummary(Grade grade) {
+        this(grade.getSubjectList() == null ? null : grade.getSubjectListValue());
+        addAttendance(grade.getAttendance1());
+        addAttendance(grade.getAttendance2());
+        addAttendance(grade.getAttendance3());
+        addVolunteerTime(grade.getVolunteerTime1(), grade.getVolunteerTime2(), grade.getVolunteerTime3());
+        addCertificateList(grade.getCertificateList() == null ? null : grade.getCertificateListValue());
+    }
+
+    private GradeSummary(List<Subject> subjectList) {
+        addSubjectList(subjectList);
+    }
+
+    // 내보내기처럼 과목 성적만 필요한 경우에는 자격증 목록을 불러오지 않도록 과목만으로 요약한다.
+    public static GradeSummary ofSubjectList(List<Subject> subjectList) {
+        return new GradeSummary(subjectList);
+    }
+
+    public double getAverageScoreOf(int grade, int semester) {
+        int slot = slotOf(grade, semester);
+        // 성적이 없는 학기의 평균은 0으로 나누게 되므로 NaN을 넘기지 않고 바로 실패한다.
+        if (counts[slot] == 0) {
+            throw new IllegalStateException(String.format("%d학년 %d학기 성적이 없습니다.", grade, semester));
+        }
+
+        return (double) scoreSums[slot] / (double) counts[slot];
+    }
+
+    public int getScoreSumOf(int grade, int semester) {
+        return scoreSums[slotOf(grade, semester)];
+    }
+
+    public int getCountOf(int grade, int semester) {
+        return counts[slotOf(grade, semester)];
+    }
+
+    public double getAverageScore() {
+        return (double) totalScore / (double) totalCount;
+    }
+
+    public int getConvertedAbsenceCount() {
+        return absenceCount + ((latenessCount + earlyLeaveCount + classAbsenceCount) / 3);
+    }
+
+    private void addSubjectList(List<Subject> subjectList) {
+        if (Objects.isNull(subjectList)) {
+            return;
+        }
+
+        for (Subject subject : subjectList) {
+            int slot = slotOf(subject.getGrade(), subject.getSemester());
+            int score = subject.getScore();
+            int count = subject.getCount();
+            scoreSums[slot] += score;
+            counts[slot] += count;
+            totalScore += score;
+            totalCount += count;
+        }
+    }
+
+    private void addAttendance(Attendance attendance) {
+        if (Objects.isNull(attendance) || Objects.isNull(attendance.getAbsenceCount())) {
+            return;
+        }
+
+        absenceCount += attendance.getAbsenceCount();
+        latenessCount += attendance.getLatenessCount();
+        earlyLeaveCount += attendance.getEarlyLeaveCount();
+        classAbsenceCount += attendance.getClassAbsenceCount();
+    }
+
+    private void addVolunteerTime(Integer volunteerTime1, Integer volunteerTime2, Integer volunteerTime3) {
+        hasVolunteerTime = volunteerTime1 != null && volunteerTime2 != null && volunteerTime3 != null;
+        if (hasVolunteerTime) {
+            totalVolunteerTime = volunteerTime1 + volunteerTime2 + volunteerTime3;
+        }
+    }
+
+    private void addCertificateList(List<Certificate> certificateList) {
+        if (Objects.isNull(certificateList)) {
+            return;
+        }
+
+        for (Certificate certificate : certificateList) {
+            certificateScore += certificate.getScore();
+        }
+    }
+
+    private static int slotOf(Integer grade, Integer semester) {
+        return (grade == null ? 0 : grade) * 3 + (semester == null ? 0 : semester);
+    }
+}
@@ -0,0 +1,14 @@
+package com.bamdoliro.maru.domain.form.domain.value;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ReScoringResult {
+
+    private List<ScoreChange> changeList;
+    private List<Long> failedFormIdList;
+}
@@ -0,0 +1,39 @@
+package com.bamdoliro.maru.domain.form.domain.value;
+
+import lombok.experimental.UtilityClass;
+
+// 점수를 1/1000 단위 long으로 다뤄서 동점 비교와 합산을 오차 없이 정수로 처리한다.
+@UtilityClass
+public class ScaledScore {
+
+    public static final long SCALE = 1_000L;
+
+    public static long of(double score) {
+        return Math.round(score * SCALE);
+    }
+
+    public static long of(int score) {
+        return score * SCALE;
+    }
+
+    public static double toDouble(long scaledScore) {
+        return (double) scaledScore / SCALE;
+    }
+
+    public static Double toDouble(Long scaledScore) {
+        return scaledScore == null ? null : toDouble(scaledScore.longValue());
+    }
+
+    // 내림차순 정렬에서 값이 없는 점수가 항상 뒤로 가도록 가장 작은 값으로 바꾼다.
+    public static long orLowest(Double score) {
+        return score == null ? Long.MIN_VALUE : of(score);
+    }
+
+    public static long orLowest(Integer score) {
+        return score == null ? Long.MIN_VALUE : of(score);
+    }
+
+    public static long orLowest(Long scaledScore) {
+        return scaledScore == null ? Long.MIN_VALUE : scaledScore;
+    }
+}
@@ -1,6 +1,5 @@
 package com.bamdoliro.maru.domain.form.domain.value;
 
-import com.bamdoliro.maru.shared.util.MathUtil;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import lombok.AccessLevel;
@@ -44,48 +43,61 @@ public class Score {
     @Column(nullable = true)
     private Double totalScore;
 
+    @Column(nullable = false)
+    private Long scaledFirstRoundScore;
+
+    @Column(nullable = true)
+    private Long scaledTotalScore;
+
     public Score(Double subjectGradeScore, Double thirdGradeFirstSemesterSubjectGradeScore, Integer attendanceScore, Integer volunteerScore, Integer bonusScore) {
-        this.subjectGradeScore = MathUtil.roundTo(subjectGradeScore, 3);
-        this.thirdGradeFirstSemesterSubjectGradeScore = MathUtil.roundTo(thirdGradeFirstSemesterSubjectGradeScore, 3);
-        this.attendanceScore = attendanceScore;
-        this.volunteerScore = volunteerScore;
-        this.bonusScore = bonusScore;
-        this.firstRoundScore = MathUtil.roundTo(subjectGradeScore + attendanceScore + volunteerScore + bonusScore, 3);
+        this(subjectGradeScore, attendanceScore, volunteerScore, bonusScore);
+        this.thirdGradeFirstSemesterSubjectGradeScore = ScaledScore.toDouble(ScaledScore.of(thirdGradeFirstSemesterSubjectGradeScore));
     }
 
     public Score(Double subjectGradeScore, Integer attendanceScore, Integer volunteerScore, Integer bonusScore) {
-        this.subjectGradeScore = MathUtil.roundTo(subjectGradeScore, 3);
         this.attendanceScore = attendanceScore;
         this.volunteerScore = volunteerScore;
         this.bonusScore = bonusScore;
-        this.firstRoundScore = MathUtil.roundTo(subjectGradeScore + attendanceScore + volunteerScore + bonusScore, 3);
+        updateSubjectScore(subjectGradeScore);
     }
 
     public void updateSubjectScore(Double subjectGradeScore) {
-        this.subjectGradeScore = subjectGradeScore;
-        this.firstRoundScore = subjectGradeScore + attendanceScore + volunteerScore + bonusScore;
+        long scaledSubjectGradeScore = ScaledScore.of(subjectGradeScore);
+        this.subjectGradeScore = ScaledScore.toDouble(scaledSubjectGradeScore);
+        updateFirstRoundScore(scaledSubjectGradeScore + ScaledScore.of(attendanceScore + volunteerScore + bonusScore));
     }
 
     public void updateSecondRoundMeisterScore(Double depthInterviewScore, Double ncsScore, Double codingTestScore) {
         this.depthInterviewScore = depthInterviewScore;
         this.ncsScore = ncsScore;
         this.codingTestScore = codingTestScore;
-        this.totalScore = firstRoundScore + depthInterviewScore + codingTestScore + ncsScore;
+        updateTotalScore(ScaledScore.of(depthInterviewScore) + ScaledScore.of(codingTestScore) + ScaledScore.of(ncsScore));
     }
 
     public void updateSecondRoundScore(Double depthInterviewScore, Double ncsScore) {
         this.depthInterviewScore = depthInterviewScore;
         this.ncsScore = ncsScore;
-        this.totalScore = firstRoundScore + depthInterviewScore + ncsScore;
+        updateTotalScore(ScaledScore.of(depthInterviewScore) + ScaledScore.of(ncsScore));
     }
 
     public void updateSecondRoundMeisterScoreToRegular() {
         this.codingTestScore = null;
-        this.totalScore = firstRoundScore + depthInterviewScore + ncsScore;
+        updateTotalScore(ScaledScore.of(depthInterviewScore) + ScaledScore.of(ncsScore));
     }
 
     public void updateSecondRoundSocialScoreToRegular(Double depthInterviewScore) {
         this.depthInterviewScore = depthInterviewScore;
-        this.totalScore = firstRoundScore + depthInterviewScore + ncsScore;
+        updateTotalScore(ScaledScore.of(depthInterviewScore) + ScaledScore.of(ncsScore));
+    }
+
+    // 기존 실수 컬럼은 조회용으로 함께 채우고, 비교와 합산은 정수 컬럼을 기준으로 한다.
+    private void updateFirstRoundScore(long scaledFirstRoundScore) {
+        this.scaledFirstRoundScore = scaledFirstRoundScore;
+        this.firstRoundScore = ScaledScore.toDouble(scaledFirstRoundScore);
+    }
+
+    private void updateTotalScore(long scaledSecondRoundScore) {
+        this.scaledTotalScore = scaledFirstRoundScore + scaledSecondRoundScore;
+        this.totalScore = ScaledScore.toDouble(scaledTotalScore);
     }
 }
@@ -0,0 +1,18 @@
+package com.bamdoliro.maru.domain.form.domain.value;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ScoreChange {
+
+    private Long formId;
+    private Long examinationNumber;
+    private Double beforeScore;
+    private Double afterScore;
+    private Double difference;
+}
@@ -0,0 +1,38 @@
+package com.bamdoliro.maru.domain.form.domain.value;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 2차 전형 순위 비교 키. 최종 점수부터 봉사 점수까지 높은 순, 모두 같으면 원서 id 순이다.
+@Getter
+@AllArgsConstructor
+public class SecondRoundRankKey implements Comparable<SecondRoundRankKey> {
+
+    private final long totalScore;
+    private final long subjectGradeScore;
+    private final long depthInterviewScore;
+    private final long ncsScore;
+    private final long thirdGradeFirstSemesterSubjectGradeScore;
+    private final long attendanceScore;
+    private final long volunteerScore;
+    private final long id;
+
+    @Override
+    public int compareTo(SecondRoundRankKey other) {
+        int result = Long.compare(other.totalScore, totalScore);
+        if (result != 0) return result;
+        result = Long.compare(other.subjectGradeScore, subjectGradeScore);
+        if (result != 0) return result;
+        result = Long.compare(other.depthInterviewScore, depthInterviewScore);
+        if (result != 0) return result;
+        result = Long.compare(other.ncsScore, ncsScore);
+        if (result != 0) return result;
+        result = Long.compare(other.thirdGradeFirstSemesterSubjectGradeScore, thirdGradeFirstSemesterSubjectGradeScore);
+        if (result != 0) return result;
+        result = Long.compare(other.attendanceScore, attendanceScore);
+        if (result != 0) return result;
+        result = Long.compare(other.volunteerScore, volunteerScore);
+        if (result != 0) return result;
+        return Long.compare(id, other.id);
+    }
+}
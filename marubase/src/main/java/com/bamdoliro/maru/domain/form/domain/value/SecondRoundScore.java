@@ -0,0 +1,49 @@
+package com.bamdoliro.maru.domain.form.domain.value;
+
+import com.bamdoliro.maru.domain.form.domain.type.FormStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Objects;
+
+// 엑셀 한 행에서 읽은 2차전형 점수로, 원서를 불러오지 않고 바로 반영할 수 있도록 총점까지 계산해 둔다.
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SecondRoundScore {
+
+    private final Long formId;
+    private final FormStatus status;
+    private final Double depthInterviewScore;
+    private final Double ncsScore;
+    private final Double codingTestScore;
+    private final Long scaledTotalScore;
+
+    public static SecondRoundScore of(Long formId, Long scaledFirstRoundScore, Double depthInterviewScore, Double ncsScore, Double codingTestScore) {
+        long scaledSecondRoundScore = ScaledScore.of(depthInterviewScore) + ScaledScore.of(ncsScore);
+        if (Objects.nonNull(codingTestScore)) {
+            scaledSecondRoundScore += ScaledScore.of(codingTestScore);
+        }
+
+        return new SecondRoundScore(
+                formId,
+                FormStatus.FIRST_PASSED,
+                depthInterviewScore,
+                ncsScore,
+                codingTestScore,
+                scaledFirstRoundScore + scaledSecondRoundScore
+        );
+    }
+
+    public static SecondRoundScore noShow(Long formId) {
+        return new SecondRoundScore(formId, FormStatus.NO_SHOW, null, null, null, null);
+    }
+
+    public boolean isShow() {
+        return status == FormStatus.FIRST_PASSED;
+    }
+
+    public Double getTotalScore() {
+        return ScaledScore.toDouble(scaledTotalScore);
+    }
+}
@@ -0,0 +1,38 @@
+package com.bamdoliro.maru.domain.form.domain.value;
+
+import com.bamdoliro.maru.shared.constants.FixedNumber;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SelectionQuota {
+
+    private final int regular;
+    private final int meisterTalent;
+    private final int socialIntegration;
+    private final int nationalVeteransEducation;
+    private final int specialAdmission;
+    private final double multiple;
+    private final double otherRegionRate;
+
+    public static SelectionQuota defaultQuota() {
+        return new SelectionQuota(
+                FixedNumber.REGULAR,
+                FixedNumber.MEISTER_TALENT,
+                FixedNumber.SOCIAL_INTEGRATION,
+                FixedNumber.NATIONAL_VETERANS_EDUCATION,
+                FixedNumber.SPECIAL_ADMISSION,
+                FixedNumber.MULTIPLE,
+                FixedNumber.OTHER_REGION_RATE
+        );
+    }
+
+    public int getTotal() {
+        return regular + meisterTalent + socialIntegration;
+    }
+
+    public int calculateMultiple(int count) {
+        return (int) Math.ceil(count * multiple);
+    }
+}
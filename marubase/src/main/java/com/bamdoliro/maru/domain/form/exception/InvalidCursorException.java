@@ -0,0 +1,11 @@
+package com.bamdoliro.maru.domain.form.exception;
+
+import com.bamdoliro.maru.domain.form.exception.error.FormErrorProperty;
+import com.bamdoliro.maru.shared.error.MaruException;
+
+public class InvalidCursorException extends MaruException {
+
+    public InvalidCursorException() {
+        super(FormErrorProperty.INVALID_CURSOR);
+    }
+}
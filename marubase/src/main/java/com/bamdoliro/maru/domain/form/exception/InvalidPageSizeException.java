@@ -0,0 +1,11 @@
+package com.bamdoliro.maru.domain.form.exception;
+
+import com.bamdoliro.maru.domain.form.exception.error.FormErrorProperty;
+import com.bamdoliro.maru.shared.error.MaruException;
+
+public class InvalidPageSizeException extends MaruException {
+
+    public InvalidPageSizeException() {
+        super(FormErrorProperty.INVALID_PAGE_SIZE);
+    }
+}
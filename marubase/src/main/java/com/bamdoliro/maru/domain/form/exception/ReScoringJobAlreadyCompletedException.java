@@ -0,0 +1,10 @@
+package com.bamdoliro.maru.domain.form.exception;
+
+import com.bamdoliro.maru.domain.form.exception.error.FormErrorProperty;
+import com.bamdoliro.maru.shared.error.MaruException;
+
+public class ReScoringJobAlreadyCompletedException extends MaruException {
+    public ReScoringJobAlreadyCompletedException() {
+        super(FormErrorProperty.RE_SCORING_JOB_ALREADY_COMPLETED);
+    }
+}
@@ -0,0 +1,10 @@
+package com.bamdoliro.maru.domain.form.exception;
+
+import com.bamdoliro.maru.domain.form.exception.error.FormErrorProperty;
+import com.bamdoliro.maru.shared.error.MaruException;
+
+public class ReScoringJobNotFoundException extends MaruException {
+    public ReScoringJobNotFoundException() {
+        super(FormErrorProperty.RE_SCORING_JOB_NOT_FOUND);
+    }
+}
@@ -17,7 +17,13 @@ public enum FormErrorProperty implements ErrorProperty {
     INVALID_FILE(HttpStatus.BAD_REQUEST, "잘못된 파일입니다: %s"),
     MISSING_TOTAL_SCORE(HttpStatus.CONFLICT, "최종 점수가 입력되지 않은 원서가 존재합니다."),
     OUT_OF_APPLICATION_FORM_PERIOD(HttpStatus.FORBIDDEN, "지금은 원서 접수 기간이 아닙니다."),
-    OUT_OF_ADMISSION_AND_PLEDGE_PERIOD(HttpStatus.FORBIDDEN, "지금은 입학 등록원 및 서약서 제출 기간이 아닙니다.")
+    OUT_OF_ADMISSION_AND_PLEDGE_PERIOD(HttpStatus.FORBIDDEN, "지금은 입학 등록원 및 서약서 제출 기간이 아닙니다."),
+    RE_SCORING_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "재채점 작업을 찾을 수 없습니다."),
+    RE_SCORING_JOB_ALREADY_RUNNING(HttpStatus.CONFLICT, "이미 진행 중인 재채점 작업이 있습니다."),
+    RE_SCORING_JOB_ALREADY_COMPLETED(HttpStatus.CONFLICT, "이미 완료된 재채점 작업입니다."),
+    FAILED_TO_RE_SCORE(HttpStatus.INTERNAL_SERVER_ERROR, "재채점을 실패했습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "존재하지 않는 원서를 커서로 사용할 수 없습니다."),
+    INVALID_PAGE_SIZE(HttpStatus.BAD_REQUEST, "페이지 크기는 1 이상이어야 합니다.")
     ;
 
     private final HttpStatus status;
@@ -1,32 +1,74 @@
 package com.bamdoliro.maru.domain.form.service;
 
+import com.bamdoliro.maru.domain.form.domain.ExaminationNumberSequence;
 import com.bamdoliro.maru.domain.form.domain.Form;
 import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.infrastructure.persistence.form.ExaminationNumberSequenceRepository;
 import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @RequiredArgsConstructor
 @Service
 public class AssignExaminationNumberService {
 
+    private static final List<FormType.Category> CATEGORIES = List.of(
+            FormType.Category.REGULAR,
+            FormType.Category.MEISTER_TALENT,
+            FormType.Category.SOCIAL_INTEGRATION,
+            FormType.Category.SUPERNUMERARY
+    );
+
     private final FormRepository formRepository;
+    private final ExaminationNumberSequenceRepository examinationNumberSequenceRepository;
 
+    @Transactional
     public void execute(Form form) {
-        Long examinationNumber = getNextExaminationNumber(form.getType());
-        form.assignExaminationNumber(examinationNumber);
+        ExaminationNumberSequence sequence = getSequence(form.getType().getCategory());
+        form.assignExaminationNumber(sequence.next());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializeSequence() {
+        CATEGORIES.stream()
+                .filter(category -> !examinationNumberSequenceRepository.existsById(category))
+                .forEach(this::insertSequence);
+    }
+
+    private ExaminationNumberSequence getSequence(FormType.Category category) {
+        return examinationNumberSequenceRepository.findWithLockByCategory(category)
+                .orElseGet(() -> {
+                    insertSequence(category);
+                    return examinationNumberSequenceRepository.findWithLockByCategory(category)
+                            .orElseThrow();
+                });
+    }
+
+    // 다른 인스턴스가 먼저 넣었다면 그 시퀀스를 그대로 쓴다.
+    private void insertSequence(FormType.Category category) {
+        try {
+            examinationNumberSequenceRepository.insertIfNotExists(category.name(), getLastExaminationNumber(category));
+        } catch (DataIntegrityViolationException ignored) {
+        }
     }
 
-    private Long getNextExaminationNumber(FormType type) {
-        Long startNumber = getStartNumber(type);
+    private Long getLastExaminationNumber(FormType.Category category) {
+        Long startNumber = getStartNumber(category);
         return formRepository.findAllExaminationNumber().stream()
                 .filter(num -> num >= startNumber && num <= startNumber + 1000)
                 .max(Long::compareTo)
-                .orElse(startNumber) + 1;
+                .orElse(startNumber);
     }
 
-    private Long getStartNumber(FormType type) {
-        return switch (type.getCategory()) {
+    private Long getStartNumber(FormType.Category category) {
+        return switch (category) {
             case REGULAR -> 1000L;
             case MEISTER_TALENT -> 2000L;
             case SOCIAL_INTEGRATION -> 3000L;
@@ -1,15 +1,11 @@
 package com.bamdoliro.maru.domain.form.service;
 
 import com.bamdoliro.maru.domain.form.domain.Form;
-import com.bamdoliro.maru.domain.form.domain.type.Certificate;
-import com.bamdoliro.maru.domain.form.domain.value.Attendance;
 import com.bamdoliro.maru.domain.form.domain.value.Score;
-import com.bamdoliro.maru.domain.form.domain.value.SubjectMap;
+import com.bamdoliro.maru.domain.form.domain.value.GradeSummary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.Objects;
-
 import static com.bamdoliro.maru.domain.form.constant.FormConstant.DEFAULT_ATTENDANCE_SCORE;
 import static com.bamdoliro.maru.domain.form.constant.FormConstant.DEFAULT_VOLUNTEER_SCORE;
 import static com.bamdoliro.maru.domain.form.constant.FormConstant.MAX_ABSENCE_COUNT;
@@ -28,10 +24,11 @@ import static com.bamdoliro.maru.domain.form.constant.FormConstant.SPECIAL_TYPE_
 public class CalculateFormScoreService {
 
     public void execute(Form form) {
-        Double subjectGradeScore = calculateSubjectGradeScore(form);
-        Integer attendanceScore = calculateAttendanceScore(form);
-        Integer volunteerScore = calculateVolunteerScore(form);
-        Integer bonusScore = calculateBonusScore(form);
+        GradeSummary summary = form.getGrade().getGradeSummary();
+        Double subjectGradeScore = calculateSubjectGradeScore(form, summary);
+        Integer attendanceScore = calculateAttendanceScore(form, summary);
+        Integer volunteerScore = calculateVolunteerScore(form, summary);
+        Integer bonusScore = calculateBonusScore(summary);
 
         if (form.getEducation().isQualificationExamination()) {
             form.updateScore(new Score(
@@ -41,7 +38,7 @@ public class CalculateFormScoreService {
                     bonusScore
             ));
         } else {
-            Double thirdGradeFirstSemesterSubjectGradeScore = form.getGrade().getSubjectList().getSubjectMap().getScoreOf(3, 1);
+            Double thirdGradeFirstSemesterSubjectGradeScore = summary.getAverageScoreOf(3, 1);
             form.updateScore(new Score(
                     subjectGradeScore,
                     thirdGradeFirstSemesterSubjectGradeScore,
@@ -52,25 +49,49 @@ public class CalculateFormScoreService {
         }
     }
 
+    // 1차 점수를 다시 계산하고, 이미 입력된 2차 점수는 그대로 유지한 채 최종 점수를 다시 합산한다.
+    public void reCalculate(Form form) {
+        Score previousScore = form.getScore();
+        execute(form);
+
+        if (previousScore == null || previousScore.getDepthInterviewScore() == null || previousScore.getNcsScore() == null) {
+            return;
+        }
+
+        if (previousScore.getCodingTestScore() != null) {
+            form.getScore().updateSecondRoundMeisterScore(previousScore.getDepthInterviewScore(), previousScore.getNcsScore(), previousScore.getCodingTestScore());
+        } else {
+            form.getScore().updateSecondRoundScore(previousScore.getDepthInterviewScore(), previousScore.getNcsScore());
+        }
+    }
+
     public Double calculateSubjectGradeScore(Form form) {
+        return calculateSubjectGradeScore(form, form.getGrade().getGradeSummary());
+    }
+
+    private Double calculateSubjectGradeScore(Form form, GradeSummary summary) {
         if (form.getType().isRegular() || form.getType().isSupernumerary()) {
-            return calculateRegularScore(form);
+            return calculateRegularScore(form, summary);
         } else if (form.getType().isSpecial()) {
-            return calculateSpecialScore(form);
+            return calculateSpecialScore(form, summary);
         }
 
         return null;
     }
 
-    private Double calculateRegularScore(Form form) {
+    public Double calculateFirstRoundScoreAsRegular(Form form) {
+        Score score = form.getScore();
+        return calculateRegularScore(form, form.getGrade().getGradeSummary()) + score.getAttendanceScore() + score.getVolunteerScore() + score.getBonusScore();
+    }
+
+    private Double calculateRegularScore(Form form, GradeSummary summary) {
         double score;
 
         if (form.getEducation().isQualificationExamination()) {
-            score = 12 * 2 * form.getGrade().getSubjectList().getAverageScore();
+            score = 12 * 2 * summary.getAverageScore();
         } else {
-            SubjectMap subjectMap = form.getGrade().getSubjectList().getSubjectMap();
-            score = 4.8 * (subjectMap.getScoreOf(2, 1) + subjectMap.getScoreOf(2, 2)) +
-                    7.2 * 2 * subjectMap.getScoreOf(3, 1);
+            score = 4.8 * (summary.getAverageScoreOf(2, 1) + summary.getAverageScoreOf(2, 2)) +
+                    7.2 * 2 * summary.getAverageScoreOf(3, 1);
         }
 
         return REGULAR_TYPE_DEFAULT_SCORE + score;
@@ -80,45 +101,34 @@ public class CalculateFormScoreService {
         return (form.getScore().getDepthInterviewScore() / 200) * 120;
     }
 
-    private Double calculateSpecialScore(Form form) {
+    private Double calculateSpecialScore(Form form, GradeSummary summary) {
         double score;
 
         if (form.getEducation().isQualificationExamination()) {
-            score = 7.2 * 2 * form.getGrade().getSubjectList().getAverageScore();
+            score = 7.2 * 2 * summary.getAverageScore();
         } else {
-            SubjectMap subjectMap = form.getGrade().getSubjectList().getSubjectMap();
-            score = 2.88 * (subjectMap.getScoreOf(2, 1) + subjectMap.getScoreOf(2, 2)) +
-                    4.32 * 2 * subjectMap.getScoreOf(3, 1);
+            score = 2.88 * (summary.getAverageScoreOf(2, 1) + summary.getAverageScoreOf(2, 2)) +
+                    4.32 * 2 * summary.getAverageScoreOf(3, 1);
         }
 
         return SPECIAL_TYPE_DEFAULT_SCORE + score;
     }
 
-    private Integer calculateAttendanceScore(Form form) {
+    private Integer calculateAttendanceScore(Form form, GradeSummary summary) {
         if (form.getEducation().isQualificationExamination()) {
             return DEFAULT_ATTENDANCE_SCORE;
         }
 
-        Attendance totalAttendance = form.getGrade().getTotalAttendance();
-        int convertedAbsenceCount = getConvertedAbsenceCount(totalAttendance);
+        int convertedAbsenceCount = summary.getConvertedAbsenceCount();
         return convertedAbsenceCount > MAX_ABSENCE_COUNT ? MIN_ATTENDANCE_SCORE : MAX_ATTENDANCE_SCORE - convertedAbsenceCount;
     }
 
-    private Integer getConvertedAbsenceCount(Attendance attendance) {
-        return attendance.getAbsenceCount() + ((attendance.getLatenessCount() + attendance.getEarlyLeaveCount() + attendance.getClassAbsenceCount()) / 3);
-    }
-
-    private Integer calculateVolunteerScore(Form form) {
-        if (
-                form.getEducation().isQualificationExamination() ||
-                        form.getGrade().getVolunteerTime1() == null ||
-                        form.getGrade().getVolunteerTime2() == null ||
-                        form.getGrade().getVolunteerTime3() == null
-        ) {
+    private Integer calculateVolunteerScore(Form form, GradeSummary summary) {
+        if (form.getEducation().isQualificationExamination() || !summary.isHasVolunteerTime()) {
             return DEFAULT_VOLUNTEER_SCORE;
         }
 
-        int totalVolunteerTime = form.getGrade().getTotalVolunteerTime();
+        int totalVolunteerTime = summary.getTotalVolunteerTime();
 
         if (totalVolunteerTime < MIN_VOLUNTEER_TIME) {
             return MIN_VOLUNTEER_SCORE;
@@ -131,15 +141,7 @@ public class CalculateFormScoreService {
         return Math.toIntExact(Math.round(MAX_VOLUNTEER_SCORE - ((MAX_VOLUNTEER_TIME - totalVolunteerTime) * 0.5)));
     }
 
-    private Integer calculateBonusScore(Form form) {
-        if (Objects.isNull(form.getGrade().getCertificateListValue())) {
-            return 0;
-        }
-
-        int bonusScore = form.getGrade().getCertificateListValue().stream()
-                .mapToInt(Certificate::getScore)
-                .sum();
-
-        return Math.min(bonusScore, MAX_BONUS_SCORE);
+    private Integer calculateBonusScore(GradeSummary summary) {
+        return Math.min(summary.getCertificateScore(), MAX_BONUS_SCORE);
     }
 }
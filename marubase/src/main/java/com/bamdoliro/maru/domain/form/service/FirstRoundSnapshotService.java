@@ -0,0 +1,61 @@
+package com.bamdoliro.maru.domain.form.service;
+
+import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.domain.form.domain.type.FormStatus;
+import com.bamdoliro.maru.domain.form.domain.value.FirstRoundCandidate;
+import com.bamdoliro.maru.domain.form.domain.value.FirstRoundSnapshot;
+import com.bamdoliro.maru.domain.form.domain.value.ScaledScore;
+import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
+import com.bamdoliro.maru.infrastructure.persistence.form.vo.FormSelectionVo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Service
+public class FirstRoundSnapshotService {
+
+    private static final Duration SNAPSHOT_TTL = Duration.ofMinutes(5);
+
+    private final FormRepository formRepository;
+    private final CalculateFormScoreService calculateFormScoreService;
+
+    private FirstRoundSnapshot cachedSnapshot;
+
+    public FirstRoundSnapshot load() {
+        List<FormSelectionVo> receivedFormList = formRepository.findFormSelectionList(FormStatus.RECEIVED);
+        List<Long> specialFormIdList = receivedFormList.stream()
+                .filter(form -> form.getType().isSpecial())
+                .map(FormSelectionVo::getId)
+                .toList();
+
+        // 특별전형 지원자는 일반전형으로 전환될 수 있어서 일반전형 기준 1차 점수를 미리 계산해 둔다.
+        Map<Long, Long> scaledRegularFirstRoundScoreMap = formRepository.findByFormIdListWithGrade(specialFormIdList)
+                .stream()
+                .collect(Collectors.toMap(Form::getId, form -> ScaledScore.of(calculateFormScoreService.calculateFirstRoundScoreAsRegular(form))));
+
+        List<FirstRoundCandidate> candidateList = receivedFormList.stream()
+                .map(form -> new FirstRoundCandidate(form, scaledRegularFirstRoundScoreMap.get(form.getId())))
+                .toList();
+
+        return new FirstRoundSnapshot(candidateList, LocalDateTime.now());
+    }
+
+    public synchronized FirstRoundSnapshot getSnapshot(boolean refresh) {
+        if (refresh || Objects.isNull(cachedSnapshot) || cachedSnapshot.isCreatedBefore(LocalDateTime.now().minus(SNAPSHOT_TTL))) {
+            cachedSnapshot = load();
+        }
+
+        return cachedSnapshot;
+    }
+
+    public synchronized void invalidate() {
+        cachedSnapshot = null;
+    }
+}
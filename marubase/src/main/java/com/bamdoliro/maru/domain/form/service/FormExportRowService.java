@@ -0,0 +1,92 @@
+package com.bamdoliro.maru.domain.form.service;
+
+import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.domain.form.domain.value.FormExportRow;
+import com.bamdoliro.maru.domain.form.domain.value.GradeSummary;
+import com.bamdoliro.maru.domain.form.domain.value.Subject;
+import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+@Service
+public class FormExportRowService {
+
+    private static final int SUBJECT_CHUNK_SIZE = 500;
+
+    private final FormRepository formRepository;
+    private final int parallelThreshold;
+
+    public FormExportRowService(
+            FormRepository formRepository,
+            @Value("${xlsx.parallel-threshold:1000}") int parallelThreshold
+    ) {
+        this.formRepository = formRepository;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public List<FormExportRow> execute(List<Form> formList) {
+        return map(formList, FormExportRow::new);
+    }
+
+    public List<FormExportRow> executeWithGrade(List<Form> formList) {
+        return map(formList, form -> new FormExportRow(form, form.getGrade().getGradeSummary()));
+    }
+
+    // 과목 목록은 컬렉션이라 커서와 함께 페치 조인할 수 없으므로, 원서를 일정 개수씩 묶어서 과목을 한 번에 조회한다.
+    public Stream<FormExportRow> streamWithGrade(Stream<Form> formStream) {
+        Iterator<Form> formIterator = formStream.iterator();
+        Iterator<List<Form>> chunkIterator = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return formIterator.hasNext();
+            }
+
+            @Override
+            public List<Form> next() {
+                List<Form> chunk = new ArrayList<>(SUBJECT_CHUNK_SIZE);
+                while (formIterator.hasNext() && chunk.size() < SUBJECT_CHUNK_SIZE) {
+                    chunk.add(formIterator.next());
+                }
+                return chunk;
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunkIterator, Spliterator.ORDERED), false)
+                .onClose(formStream::close)
+                .flatMap(this::mapWithSubject);
+    }
+
+    private Stream<FormExportRow> mapWithSubject(List<Form> formList) {
+        Map<Long, List<Subject>> subjectMap = formRepository.findSubjectListByFormIdList(
+                formList.stream()
+                        .map(Form::getId)
+                        .toList()
+        );
+
+        return formList.stream()
+                .map(form -> new FormExportRow(form, GradeSummary.ofSubjectList(subjectMap.getOrDefault(form.getId(), List.of()))));
+    }
+
+    // 원서가 많을 때는 행 계산만 나눠서 하고, 엑셀 쓰기는 순서대로 한 스레드에서 한다.
+    private List<FormExportRow> map(List<Form> formList, Function<Form, FormExportRow> mapper) {
+        if (parallelThreshold > 0 && formList.size() >= parallelThreshold) {
+            return formList.parallelStream()
+                    .map(mapper)
+                    .toList();
+        }
+
+        return formList.stream()
+                .map(mapper)
+                .toList();
+    }
+}
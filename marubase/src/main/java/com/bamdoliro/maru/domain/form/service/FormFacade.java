@@ -35,8 +35,15 @@ public class FormFacade {
     }
 
     public List<Form> getSortedFormList(FormStatus status) {
-        return formRepository.findByStatus(status)
-                .stream()
+        return sort(formRepository.findByStatus(status));
+    }
+
+    public List<Form> getSortedFormListWithGrade(FormStatus status) {
+        return sort(formRepository.findByStatusWithGrade(status));
+    }
+
+    private List<Form> sort(List<Form> formList) {
+        return formList.stream()
                 .sorted(
                         getFormComparator()
                                 .thenComparing(Form::getExaminationNumber)
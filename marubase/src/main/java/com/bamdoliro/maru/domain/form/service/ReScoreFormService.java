@@ -0,0 +1,91 @@
+package com.bamdoliro.maru.domain.form.service;
+
+import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.domain.form.domain.value.ReScoringResult;
+import com.bamdoliro.maru.domain.form.domain.value.ScaledScore;
+import com.bamdoliro.maru.domain.form.domain.value.Score;
+import com.bamdoliro.maru.domain.form.domain.value.ScoreChange;
+import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
+import com.bamdoliro.maru.infrastructure.persistence.form.FormScoreBatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ReScoreFormService {
+
+    private final FormRepository formRepository;
+    private final FormScoreBatchRepository formScoreBatchRepository;
+    private final CalculateFormScoreService calculateFormScoreService;
+    private final ForkJoinPool reScoringPool;
+
+    // 조회한 원서는 트랜잭션 밖에서 계산하고, 점수 컬럼만 JDBC 배치로 다시 쓴다.
+    // 계산하지 못한 원서는 점수를 그대로 두고 실패 목록에 남겨서, 한 원서 때문에 작업 전체가 멈추지 않게 한다.
+    public ReScoringResult execute(List<Long> formIdList) {
+        List<Form> formList = formRepository.findByFormIdListWithGrade(formIdList);
+        List<FormReScoring> reScoringList = reScoringPool.submit(() -> formList.parallelStream()
+                        .map(this::reScore)
+                        .toList())
+                .join();
+
+        formScoreBatchRepository.updateScoreList(reScoringList.stream()
+                .filter(reScoring -> !reScoring.failed())
+                .map(FormReScoring::form)
+                .toList());
+
+        return new ReScoringResult(
+                reScoringList.stream()
+                        .map(FormReScoring::change)
+                        .filter(Objects::nonNull)
+                        .toList(),
+                reScoringList.stream()
+                        .filter(FormReScoring::failed)
+                        .map(reScoring -> reScoring.form().getId())
+                        .toList()
+        );
+    }
+
+    private FormReScoring reScore(Form form) {
+        try {
+            return new FormReScoring(form, calculateChange(form), false);
+        } catch (RuntimeException e) {
+            log.warn("원서를 재채점하지 못했습니다. formId: {}", form.getId(), e);
+            return new FormReScoring(form, null, true);
+        }
+    }
+
+    private ScoreChange calculateChange(Form form) {
+        Long before = getEffectiveScore(form.getScore());
+        calculateFormScoreService.reCalculate(form);
+        Long after = getEffectiveScore(form.getScore());
+
+        if (Objects.equals(before, after)) {
+            return null;
+        }
+
+        return new ScoreChange(
+                form.getId(),
+                form.getExaminationNumber(),
+                ScaledScore.toDouble(before),
+                ScaledScore.toDouble(after),
+                ScaledScore.toDouble(before == null ? after : after - before)
+        );
+    }
+
+    private Long getEffectiveScore(Score score) {
+        if (score == null) {
+            return null;
+        }
+
+        return score.getScaledTotalScore() != null ? score.getScaledTotalScore() : score.getScaledFirstRoundScore();
+    }
+
+    private record FormReScoring(Form form, ScoreChange change, boolean failed) {
+    }
+}
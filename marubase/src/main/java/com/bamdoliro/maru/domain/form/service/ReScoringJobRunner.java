@@ -0,0 +1,69 @@
+package com.bamdoliro.maru.domain.form.service;
+
+import com.bamdoliro.maru.domain.form.domain.ReScoringJob;
+import com.bamdoliro.maru.domain.form.domain.value.ReScoringResult;
+import com.bamdoliro.maru.domain.form.exception.ReScoringJobNotFoundException;
+import com.bamdoliro.maru.domain.form.exception.error.FormErrorProperty;
+import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
+import com.bamdoliro.maru.infrastructure.persistence.form.ReScoringJobRepository;
+import com.bamdoliro.maru.shared.error.MaruException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ReScoringJobRunner {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final FormRepository formRepository;
+    private final ReScoringJobRepository reScoringJobRepository;
+    private final ReScoreFormService reScoreFormService;
+    private final FirstRoundSnapshotService firstRoundSnapshotService;
+
+    // 원서 id 순으로 나눠서 처리하고 청크마다 진행 상황을 저장하기 때문에, 실패해도 마지막 원서 다음부터 이어서 실행할 수 있다.
+    // 작업은 호출하는 쪽에서 claim 으로 선점한 뒤에 넘기고, 끝나면 선점을 푼다.
+    @Async("reScoringJobExecutor")
+    public void run(String jobId) {
+        ReScoringJob job = reScoringJobRepository.findById(jobId)
+                .orElseThrow(ReScoringJobNotFoundException::new);
+        job.run();
+        reScoringJobRepository.save(job);
+
+        try {
+            List<Long> formIdList = formRepository.findIdListAfter(job.getLastFormId(), CHUNK_SIZE);
+            while (!formIdList.isEmpty()) {
+                ReScoringResult result = reScoreFormService.execute(formIdList);
+                reScoringJobRepository.appendChangeList(job.getId(), result.getChangeList());
+                job.proceed(formIdList.size(), formIdList.get(formIdList.size() - 1), result.getChangeList().size(), result.getFailedFormIdList());
+                reScoringJobRepository.save(job);
+                reScoringJobRepository.extendClaim(job.getId());
+
+                formIdList = formRepository.findIdListAfter(job.getLastFormId(), CHUNK_SIZE);
+            }
+
+            job.complete();
+            firstRoundSnapshotService.invalidate();
+        } catch (RuntimeException e) {
+            log.error("재채점 작업 실패: {}", jobId, e);
+            job.fail(getFailureMessage(e));
+        }
+
+        reScoringJobRepository.save(job);
+        reScoringJobRepository.releaseClaim(job.getId());
+    }
+
+    // 예상하지 못한 예외의 메시지에는 내부 정보가 담길 수 있어서, 관리자에게는 정해진 메시지만 보여준다.
+    private String getFailureMessage(RuntimeException e) {
+        if (e instanceof MaruException) {
+            return e.getMessage();
+        }
+
+        return FormErrorProperty.FAILED_TO_RE_SCORE.getMessage();
+    }
+}
@@ -0,0 +1,138 @@
+package com.bamdoliro.maru.domain.form.service;
+
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.domain.form.domain.value.CategorySelection;
+import com.bamdoliro.maru.domain.form.domain.value.FirstRoundCandidate;
+import com.bamdoliro.maru.domain.form.domain.value.FirstRoundSelection;
+import com.bamdoliro.maru.domain.form.domain.value.ScaledScore;
+import com.bamdoliro.maru.domain.form.domain.value.SelectionQuota;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+@Service
+public class SelectFirstRoundService {
+
+    private static final Comparator<FirstRoundCandidate> FIRST_ROUND_SCORE_ORDER = (a, b) -> {
+        int result = Long.compare(b.getScaledFirstRoundScore(), a.getScaledFirstRoundScore());
+        return result != 0 ? result : Long.compare(a.getId(), b.getId());
+    };
+
+    public FirstRoundSelection execute(List<FirstRoundCandidate> candidateList, SelectionQuota quota) {
+        int regularCount = quota.getRegular();
+        int meisterTalentCount = quota.getMeisterTalent();
+        int socialIntegrationCount = quota.getSocialIntegration();
+
+        List<FirstRoundCandidate> sortedCandidateList = sort(candidateList.stream());
+        List<FirstRoundCandidate> specialFormList = classifyFormsByType(sortedCandidateList, FormType::isSpecial);
+        List<FirstRoundCandidate> meisterTalentFormList = classifyFormsByType(specialFormList, FormType::isMeister);
+        List<FirstRoundCandidate> socialIntegrationFormList = classifyFormsByType(specialFormList, FormType::isSocial);
+        List<FirstRoundCandidate> equalOpportunityFormList = classifyFormsByType(specialFormList, FormType::isEqualOpportunity);
+        List<FirstRoundCandidate> societyDiversityFormList = classifyFormsByType(specialFormList, FormType::isSocietyDiversity);
+
+        if (meisterTalentFormList.size() < quota.getMeisterTalent()) {
+            int gap = quota.getMeisterTalent() - meisterTalentFormList.size();
+            regularCount += gap;
+            meisterTalentCount -= gap;
+        }
+
+        if (socialIntegrationFormList.size() < quota.getSocialIntegration()) {
+            int gap = quota.getSocialIntegration() - socialIntegrationFormList.size();
+            regularCount += gap;
+            socialIntegrationCount -= gap;
+        }
+
+        regularCount = quota.calculateMultiple(regularCount);
+        meisterTalentCount = quota.calculateMultiple(meisterTalentCount);
+        socialIntegrationCount = quota.calculateMultiple(socialIntegrationCount);
+        int nationalVeteransEducationCount = quota.calculateMultiple(quota.getNationalVeteransEducation());
+        int specialAdmissionCount = quota.calculateMultiple(quota.getSpecialAdmission());
+        int equalOpportunityCount = (int) Math.round(socialIntegrationCount * 0.5);
+        int societyDiversityCount = equalOpportunityCount;
+
+        AtomicInteger otherRegionCount = new AtomicInteger((int) (quota.calculateMultiple(quota.getTotal()) * quota.getOtherRegionRate()));
+        List<Long> passedIdList = new ArrayList<>();
+        List<Long> failedIdList = new ArrayList<>();
+        List<Long> changedToRegularIdList = new ArrayList<>();
+        List<CategorySelection> categorySelectionList = new ArrayList<>();
+
+        categorySelectionList.add(processForms(FormType.Category.EQUAL_OPPORTUNITY, equalOpportunityFormList, equalOpportunityCount, otherRegionCount, passedIdList, changedToRegularIdList));
+        categorySelectionList.add(processForms(FormType.Category.SOCIETY_DIVERSITY, societyDiversityFormList, societyDiversityCount, otherRegionCount, passedIdList, changedToRegularIdList));
+        categorySelectionList.add(processForms(FormType.Category.MEISTER_TALENT, meisterTalentFormList, meisterTalentCount, otherRegionCount, passedIdList, changedToRegularIdList));
+
+        // 특별전형에서 떨어진 지원자는 일반전형 기준으로 다시 계산한 점수로 일반전형 지원자와 경쟁한다.
+        Set<Long> changedToRegularIdSet = new HashSet<>(changedToRegularIdList);
+        List<FirstRoundCandidate> regularFormList = sort(Stream.concat(
+                sortedCandidateList.stream().filter(FirstRoundCandidate::isRegular),
+                specialFormList.stream()
+                        .filter(candidate -> changedToRegularIdSet.contains(candidate.getId()))
+                        .map(FirstRoundCandidate::toRegular)
+        ));
+
+        categorySelectionList.add(processForms(FormType.Category.REGULAR, regularFormList, regularCount, otherRegionCount, passedIdList, failedIdList));
+
+        List<FirstRoundCandidate> supernumeraryFormList = classifyFormsByType(sortedCandidateList, FormType::isSupernumerary);
+        List<FirstRoundCandidate> nationalVeteransFormList = classifyFormsByType(supernumeraryFormList, FormType::isNationalVeteransEducation);
+        List<FirstRoundCandidate> specialAdmissionFormList = classifyFormsByType(supernumeraryFormList, FormType::isSpecialAdmission);
+
+        categorySelectionList.add(processForms(FormType.Category.NATIONAL_VETERANS_EDUCATION, nationalVeteransFormList, nationalVeteransEducationCount, otherRegionCount, passedIdList, failedIdList));
+        categorySelectionList.add(processForms(FormType.Category.SPECIAL_ADMISSION, specialAdmissionFormList, specialAdmissionCount, otherRegionCount, passedIdList, failedIdList));
+
+        return new FirstRoundSelection(passedIdList, failedIdList, changedToRegularIdList, categorySelectionList);
+    }
+
+    private CategorySelection processForms(FormType.Category category, List<FirstRoundCandidate> formList, int count, AtomicInteger otherRegionCount, List<Long> passedIdList, List<Long> notPassedIdList) {
+        int quota = count;
+        List<Long> categoryPassedIdList = new ArrayList<>();
+        long cutOffScore = 0;
+        int tieCount = 0;
+
+        boolean hasLastScore = count > 0 && !formList.isEmpty();
+        long lastScore = hasLastScore ? formList.get(Math.min(count, formList.size()) - 1).getScaledFirstRoundScore() : 0;
+
+        for (FirstRoundCandidate form : formList) {
+            if (count > 0) {
+                if (form.isBusan()) {
+                    categoryPassedIdList.add(form.getId());
+                    cutOffScore = form.getScaledFirstRoundScore();
+                    count--;
+                } else if (otherRegionCount.intValue() > 0) {
+                    categoryPassedIdList.add(form.getId());
+                    cutOffScore = form.getScaledFirstRoundScore();
+                    otherRegionCount.getAndDecrement();
+                    count--;
+                } else {
+                    notPassedIdList.add(form.getId());
+                }
+            } else if (hasLastScore && form.getScaledFirstRoundScore() == lastScore) {
+                categoryPassedIdList.add(form.getId());
+                cutOffScore = form.getScaledFirstRoundScore();
+                tieCount++;
+            } else {
+                notPassedIdList.add(form.getId());
+            }
+        }
+
+        passedIdList.addAll(categoryPassedIdList);
+        return new CategorySelection(category, formList.size(), quota, categoryPassedIdList, categoryPassedIdList.isEmpty() ? null : ScaledScore.toDouble(cutOffScore), tieCount);
+    }
+
+    private List<FirstRoundCandidate> sort(Stream<FirstRoundCandidate> candidateStream) {
+        return candidateStream
+                .sorted(FIRST_ROUND_SCORE_ORDER)
+                .toList();
+    }
+
+    private List<FirstRoundCandidate> classifyFormsByType(List<FirstRoundCandidate> formList, Predicate<FormType> filter) {
+        return formList.stream()
+                .filter(form -> filter.test(form.getType()))
+                .toList();
+    }
+}
@@ -0,0 +1,41 @@
+package com.bamdoliro.maru.domain.message.domain;
+
+import com.bamdoliro.maru.shared.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "tbl_bulk_message")
+@Entity
+public class BulkMessage extends BaseTimeEntity {
+
+    @Column(name = "bulk_message_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 40)
+    private String title;
+
+    @Column(nullable = false, length = 2000)
+    private String text;
+
+    @Column(nullable = false)
+    private Integer recipientCount;
+
+    @Builder
+    public BulkMessage(String title, String text, Integer recipientCount) {
+        this.title = title;
+        this.text = text;
+        this.recipientCount = recipientCount;
+    }
+}
@@ -0,0 +1,90 @@
+package com.bamdoliro.maru.domain.message.domain;
+
+import com.bamdoliro.maru.domain.message.domain.type.OutboxMessageStatus;
+import com.bamdoliro.maru.shared.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 수신자마다 한 행씩 저장한다. 행은 OutboxMessageBatchRepository 로 한 번에 넣는다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "tbl_outbox_message", indexes = @Index(name = "idx_outbox_message_status", columnList = "status, next_attempt_at"))
+@Entity
+public class OutboxMessage extends BaseTimeEntity {
+
+    private static final int FAILURE_MESSAGE_LENGTH = 255;
+
+    @Column(name = "outbox_message_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "bulk_message_id", nullable = false)
+    private BulkMessage bulkMessage;
+
+    @Column(nullable = false, length = 11)
+    private String phoneNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private OutboxMessageStatus status;
+
+    @Column(nullable = false)
+    private Integer attemptCount;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = FAILURE_MESSAGE_LENGTH)
+    private String failureMessage;
+
+    private LocalDateTime sentAt;
+
+    // 발송 중에 서버가 죽어도 leaseExpiresAt 이 지나면 다시 가져갈 수 있다.
+    public void send(LocalDateTime leaseExpiresAt) {
+        this.status = OutboxMessageStatus.SENDING;
+        this.attemptCount++;
+        this.nextAttemptAt = leaseExpiresAt;
+    }
+
+    public void complete() {
+        this.status = OutboxMessageStatus.SENT;
+        this.failureMessage = null;
+        this.sentAt = LocalDateTime.now();
+    }
+
+    public void retry(String failureMessage, LocalDateTime nextAttemptAt) {
+        this.status = OutboxMessageStatus.PENDING;
+        this.failureMessage = truncate(failureMessage);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void fail(String failureMessage) {
+        this.status = OutboxMessageStatus.FAILED;
+        this.failureMessage = truncate(failureMessage);
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= FAILURE_MESSAGE_LENGTH) {
+            return message;
+        }
+
+        return message.substring(0, FAILURE_MESSAGE_LENGTH);
+    }
+}
@@ -0,0 +1,16 @@
+package com.bamdoliro.maru.domain.message.domain.type;
+
+import com.bamdoliro.maru.shared.property.EnumProperty;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxMessageStatus implements EnumProperty {
+    PENDING("대기 중"),
+    SENDING("발송 중"),
+    SENT("발송 완료"),
+    FAILED("발송 실패");
+
+    private final String description;
+}
@@ -0,0 +1,10 @@
+package com.bamdoliro.maru.domain.message.exception;
+
+import com.bamdoliro.maru.domain.message.exception.error.BulkMessageErrorProperty;
+import com.bamdoliro.maru.shared.error.MaruException;
+
+public class BulkMessageNotFoundException extends MaruException {
+    public BulkMessageNotFoundException() {
+        super(BulkMessageErrorProperty.BULK_MESSAGE_NOT_FOUND);
+    }
+}
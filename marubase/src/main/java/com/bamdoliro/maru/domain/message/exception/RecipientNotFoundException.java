@@ -0,0 +1,10 @@
+package com.bamdoliro.maru.domain.message.exception;
+
+import com.bamdoliro.maru.domain.message.exception.error.BulkMessageErrorProperty;
+import com.bamdoliro.maru.shared.error.MaruException;
+
+public class RecipientNotFoundException extends MaruException {
+    public RecipientNotFoundException() {
+        super(BulkMessageErrorProperty.RECIPIENT_NOT_FOUND);
+    }
+}
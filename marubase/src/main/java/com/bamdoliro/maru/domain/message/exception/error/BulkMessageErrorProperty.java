@@ -0,0 +1,18 @@
+package com.bamdoliro.maru.domain.message.exception.error;
+
+import com.bamdoliro.maru.shared.error.ErrorProperty;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum BulkMessageErrorProperty implements ErrorProperty {
+
+    BULK_MESSAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "메시지 발송 요청을 찾을 수 없습니다."),
+    RECIPIENT_NOT_FOUND(HttpStatus.NOT_FOUND, "메시지를 보낼 대상이 없습니다.")
+    ;
+
+    private final HttpStatus status;
+    private final String message;
+}
@@ -0,0 +1,111 @@
+package com.bamdoliro.maru.domain.message.service;
+
+import com.bamdoliro.maru.domain.message.domain.BulkMessage;
+import com.bamdoliro.maru.domain.message.domain.OutboxMessage;
+import com.bamdoliro.maru.domain.message.domain.type.OutboxMessageStatus;
+import com.bamdoliro.maru.domain.message.exception.RecipientNotFoundException;
+import com.bamdoliro.maru.infrastructure.message.dto.OutgoingMessage;
+import com.bamdoliro.maru.infrastructure.persistence.message.BulkMessageRepository;
+import com.bamdoliro.maru.infrastructure.persistence.message.OutboxMessageBatchRepository;
+import com.bamdoliro.maru.infrastructure.persistence.message.OutboxMessageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class MessageOutboxService {
+
+    private static final List<OutboxMessageStatus> DISPATCHABLE_STATUS_LIST = List.of(OutboxMessageStatus.PENDING, OutboxMessageStatus.SENDING);
+
+    private final BulkMessageRepository bulkMessageRepository;
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final OutboxMessageBatchRepository outboxMessageBatchRepository;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final Duration maxRetryDelay;
+    private final Duration sendTimeout;
+
+    public MessageOutboxService(
+            BulkMessageRepository bulkMessageRepository,
+            OutboxMessageRepository outboxMessageRepository,
+            OutboxMessageBatchRepository outboxMessageBatchRepository,
+            @Value("${message.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${message.outbox.retry-delay:PT10S}") Duration retryDelay,
+            @Value("${message.outbox.max-retry-delay:PT10M}") Duration maxRetryDelay,
+            @Value("${message.outbox.send-timeout:PT5M}") Duration sendTimeout
+    ) {
+        this.bulkMessageRepository = bulkMessageRepository;
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.outboxMessageBatchRepository = outboxMessageBatchRepository;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+        this.sendTimeout = sendTimeout;
+    }
+
+    // 요청을 처리하는 트랜잭션 안에서 저장만 하고, 실제 발송은 MessageDispatcher 가 한다.
+    @Transactional
+    public BulkMessage enqueue(List<String> phoneNumberList, String text, String title) {
+        if (phoneNumberList.isEmpty()) {
+            throw new RecipientNotFoundException();
+        }
+
+        BulkMessage bulkMessage = bulkMessageRepository.save(new BulkMessage(title, text, phoneNumberList.size()));
+        outboxMessageBatchRepository.saveAll(bulkMessage, phoneNumberList);
+
+        return bulkMessage;
+    }
+
+    @Transactional
+    public List<OutgoingMessage> claim(int size) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> messageList = outboxMessageRepository.findByStatusInAndNextAttemptAtLessThanEqualOrderById(
+                DISPATCHABLE_STATUS_LIST,
+                now,
+                PageRequest.of(0, size)
+        );
+        messageList.forEach(message -> message.send(now.plus(sendTimeout)));
+
+        return messageList.stream()
+                .map(OutgoingMessage::new)
+                .toList();
+    }
+
+    // 공급자가 받지 않은 번호는 다시 보내도 같은 결과라서 바로 실패로 처리한다.
+    @Transactional
+    public void complete(List<Long> idList, Map<Long, String> rejectedMap) {
+        outboxMessageRepository.findAllById(idList)
+                .forEach(message -> {
+                    if (rejectedMap.containsKey(message.getId())) {
+                        message.fail(rejectedMap.get(message.getId()));
+                    } else {
+                        message.complete();
+                    }
+                });
+    }
+
+    // 요청 자체가 실패하면 재시도할 때마다 대기 시간을 두 배로 늘린다.
+    @Transactional
+    public void retry(List<Long> idList, String failureMessage) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxMessageRepository.findAllById(idList)
+                .forEach(message -> {
+                    if (message.getAttemptCount() >= maxAttempts) {
+                        message.fail(failureMessage);
+                    } else {
+                        message.retry(failureMessage, now.plus(getRetryDelay(message.getAttemptCount())));
+                    }
+                });
+    }
+
+    private Duration getRetryDelay(int attemptCount) {
+        Duration delay = retryDelay.multipliedBy(1L << Math.min(attemptCount - 1, 20));
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+}
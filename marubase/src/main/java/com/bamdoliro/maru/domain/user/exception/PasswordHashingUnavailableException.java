@@ -0,0 +1,11 @@
+package com.bamdoliro.maru.domain.user.exception;
+
+import com.bamdoliro.maru.domain.user.exception.error.UserErrorProperty;
+import com.bamdoliro.maru.shared.error.MaruException;
+
+public class PasswordHashingUnavailableException extends MaruException {
+
+    public PasswordHashingUnavailableException() {
+        super(UserErrorProperty.PASSWORD_HASHING_UNAVAILABLE);
+    }
+}
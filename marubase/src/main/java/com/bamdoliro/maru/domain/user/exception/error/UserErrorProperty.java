@@ -13,6 +13,7 @@ public enum UserErrorProperty implements ErrorProperty {
     PASSWORD_MISMATCH(HttpStatus.UNAUTHORIZED, "비밀번호가 틀렸습니다."),
     VERIFYING_HAS_FAILED(HttpStatus.UNAUTHORIZED, "전화번호 인증이 실패했습니다."),
     VERIFICATION_CODE_MISMATCH(HttpStatus.UNAUTHORIZED, "전화번호 인증 코드가 틀렸습니다."),
+    PASSWORD_HASHING_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
     ;
 
     private final HttpStatus status;
@@ -0,0 +1,52 @@
+package com.bamdoliro.maru.domain.user.service;
+
+import com.bamdoliro.maru.domain.user.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+// BCrypt 는 한 번에 수십 ms 씩 CPU 를 쓰므로, 로그인이 몰려도 다른 요청이 밀리지 않도록 정해진 스레드에서만 돌린다.
+// 대기열이 가득 차면 기다리지 않고 바로 503 을 돌려준다.
+@Service
+public class PasswordHashingService {
+
+    private final ThreadPoolTaskExecutor passwordHashingExecutor;
+    private final Timer timer;
+
+    public PasswordHashingService(ThreadPoolTaskExecutor passwordHashingExecutor, MeterRegistry meterRegistry) {
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.timer = Timer.builder("maru.password.hashing")
+                .register(meterRegistry);
+        Gauge.builder("maru.password.hashing.queue", passwordHashingExecutor, executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = passwordHashingExecutor.submit(() -> timer.record(task));
+        } catch (TaskRejectedException e) {
+            throw new PasswordHashingUnavailableException();
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -15,6 +15,7 @@ import com.bamdoliro.maru.infrastructure.persistence.log.FormSubmitLogRepository
 import com.bamdoliro.maru.infrastructure.persistence.log.FormUpdateLogRepository;
 import com.bamdoliro.maru.infrastructure.persistence.log.UpdatedFieldRepository;
 import com.bamdoliro.maru.presentation.auth.dto.request.LogInRequest;
+import com.bamdoliro.maru.shared.util.ClientIpUtil;
 import jakarta.persistence.EntityManager;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -56,7 +57,7 @@ public class LogAspect {
         if (user.getAuthority() == Authority.ADMIN) {
             HttpServletRequest request = getCurrentHttpRequest();
 
-            String clientIp = getClientIp(request);
+            String clientIp = ClientIpUtil.getClientIp(request);
             String userAgent = getUserAgent(request);
 
             AdminLoginLog log = new AdminLoginLog(phoneNumber, clientIp, userAgent, user);
@@ -90,7 +91,7 @@ public class LogAspect {
 
         HttpServletRequest request = getCurrentHttpRequest();
 
-        String clientIp = getClientIp(request);
+        String clientIp = ClientIpUtil.getClientIp(request);
         String userAgent = getUserAgent(request);
 
         FormUpdateLog formUpdateLog = FormUpdateLog.builder()
@@ -124,13 +125,6 @@ public class LogAspect {
         return ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
     }
 
-    private String getClientIp(HttpServletRequest request) {
-        String clientIp = request.getHeader("x-forwarded-for");
-
-        if (clientIp == null) return request.getRemoteAddr();
-        return clientIp.split(",")[0];
-    }
-
     private String getUserAgent(HttpServletRequest request) {
         String userAgent = request.getHeader("User-Agent");
 
@@ -146,7 +140,7 @@ public class LogAspect {
 
         HttpServletRequest request = getCurrentHttpRequest();
 
-        String clientIp = getClientIp(request);
+        String clientIp = ClientIpUtil.getClientIp(request);
         String userAgent = getUserAgent(request);
 
         FormSubmitLog formSubmitLog = FormSubmitLog.builder()
@@ -0,0 +1,74 @@
+package com.bamdoliro.maru.infrastructure.aop.ratelimit;
+
+import com.bamdoliro.maru.infrastructure.ratelimit.RateLimitBucket;
+import com.bamdoliro.maru.infrastructure.ratelimit.RateLimiter;
+import com.bamdoliro.maru.infrastructure.ratelimit.exception.TooManyRequestsException;
+import com.bamdoliro.maru.shared.annotation.RateLimit;
+import com.bamdoliro.maru.shared.util.ClientIpUtil;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@RequiredArgsConstructor
+@Aspect
+@Component
+public class RateLimitAspect {
+
+    private static final ExpressionParser parser = new SpelExpressionParser();
+    private static final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+    private final RateLimiter rateLimiter;
+
+    @Before("@annotation(com.bamdoliro.maru.shared.annotation.RateLimit) || @annotation(com.bamdoliro.maru.shared.annotation.RateLimits)")
+    public void limit(JoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Set<RateLimit> rateLimitSet = AnnotatedElementUtils.getMergedRepeatableAnnotations(method, RateLimit.class);
+
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(null, method, joinPoint.getArgs(), parameterNameDiscoverer);
+        context.setVariable("clientIp", getClientIp());
+
+        // 모든 버킷을 한 번에 확인해서, 가장 오래 기다려야 하는 시간을 알려준다.
+        List<RateLimitBucket> bucketList = new ArrayList<>();
+        for (RateLimit rateLimit : rateLimitSet) {
+            String key = parser.parseExpression(rateLimit.key()).getValue(context, String.class);
+            if (Objects.isNull(key)) {
+                continue;
+            }
+
+            bucketList.add(new RateLimitBucket(rateLimit.name(), key, rateLimit.capacity(), rateLimit.period()));
+        }
+
+        long retryAfter = rateLimiter.tryAcquire(bucketList);
+        if (retryAfter > 0) {
+            throw new TooManyRequestsException(TimeUnit.MILLISECONDS.toSeconds(retryAfter + 999));
+        }
+    }
+
+    private String getClientIp() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes instanceof ServletRequestAttributes servletRequestAttributes) {
+            return ClientIpUtil.getClientIp(servletRequestAttributes.getRequest());
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,56 @@
+package com.bamdoliro.maru.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// 서명을 확인한 토큰의 클레임을 토큰이 만료될 때까지 들고 있어서, 같은 토큰으로 다시 요청하면 파싱과 서명 검증을 건너뛴다.
+// 토큰 문자열 전체를 키로 쓰므로 한 글자라도 다르면 다시 검증한다.
+@Component
+public class TokenClaimsCache {
+
+    private final Cache<String, Claims> cache;
+
+    public TokenClaimsCache(
+            @Value("${auth.cache.token-size:10000}") long maximumSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ClaimsExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "token-claims");
+    }
+
+    public Claims get(String token, Function<String, Claims> verifier) {
+        return cache.get(token, verifier);
+    }
+
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
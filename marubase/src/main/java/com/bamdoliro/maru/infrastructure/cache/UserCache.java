@@ -0,0 +1,81 @@
+package com.bamdoliro.maru.infrastructure.cache;
+
+import com.bamdoliro.maru.domain.user.domain.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
+
+// 인증된 요청마다 암호화된 전화번호로 유저를 조회하지 않도록 서버마다 잠깐 들고 있는다.
+// 비밀번호 해시와 전화번호를 Redis 에 두지 않도록 유저는 서버 메모리에만 두고, Redis 로는 무효화 알림만 주고받는다.
+@Slf4j
+@Component
+public class UserCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "user-cache:invalidation";
+
+    private final Cache<String, User> cache;
+    private final StringRedisTemplate redisTemplate;
+
+    public UserCache(
+            @Value("${auth.cache.user-size:10000}") long maximumSize,
+            @Value("${auth.cache.user-ttl:PT30S}") Duration ttl,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.redisTemplate = redisTemplate;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user");
+    }
+
+    public User get(String phoneNumber, Function<String, User> loader) {
+        return cache.get(phoneNumber, loader);
+    }
+
+    // 트랜잭션 안에서 지우면 커밋 전에 다른 요청이 예전 값을 다시 올릴 수 있으므로 커밋한 뒤에 지운다.
+    public void evict(String phoneNumber) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAndPublish(phoneNumber);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictAndPublish(phoneNumber);
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        cache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void evictAndPublish(String phoneNumber) {
+        cache.invalidate(phoneNumber);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, phoneNumber);
+        } catch (DataAccessException e) {
+            // 알림을 못 보내도 다른 서버의 캐시는 TTL 이 지나면 사라진다.
+            log.warn("유저 캐시 무효화 알림 실패", e);
+        }
+    }
+}
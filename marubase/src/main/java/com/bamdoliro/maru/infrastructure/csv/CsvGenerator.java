@@ -0,0 +1,78 @@
+package com.bamdoliro.maru.infrastructure.csv;
+
+import com.bamdoliro.maru.infrastructure.report.ReportColumn;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+// 통합 문서를 만들지 않고 조회한 행을 바로 UTF-8 CSV 로 써서 내보낸다.
+@Component
+public class CsvGenerator {
+
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    public <T> void execute(Stream<T> rowStream, List<ReportColumn<T>> columnList, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writeLine(writer, columnList.stream()
+                .map(ReportColumn::getHeader)
+                .toList());
+
+        try {
+            rowStream.forEach(row -> {
+                try {
+                    writeLine(writer, columnList.stream()
+                            .map(column -> column.valueOf(row))
+                            .toList());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+    }
+
+    private void writeLine(Writer writer, List<?> valueList) throws IOException {
+        for (int index = 0; index < valueList.size(); index++) {
+            if (index > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(valueList.get(index)));
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private String escape(Object value) {
+        if (Objects.isNull(value)) {
+            return "";
+        }
+
+        String text = value.toString();
+        // 지원자가 입력한 문자열이 엑셀에서 수식으로 실행되지 않도록 앞에 ' 를 붙인다. 음수 점수 같은 숫자는 그대로 둔다.
+        if (value instanceof CharSequence && isFormula(text)) {
+            text = "'" + text;
+        }
+
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+
+        return text;
+    }
+
+    private boolean isFormula(String text) {
+        return !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0;
+    }
+}
@@ -0,0 +1,109 @@
+package com.bamdoliro.maru.infrastructure.export;
+
+import com.bamdoliro.maru.domain.export.exception.ExportFileNotFoundException;
+import com.bamdoliro.maru.domain.export.exception.FailedToSaveExportFileException;
+import com.bamdoliro.maru.infrastructure.s3.FileService;
+import com.bamdoliro.maru.infrastructure.s3.constants.FolderConstant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// 작업을 만든 인스턴스와 다운로드를 받는 인스턴스가 다를 수 있어서, 다 만든 파일은 s3 에 올려 둔다.
+// 로컬 디렉터리는 올리기 전까지 쓰는 임시 파일에만 쓴다.
+@Slf4j
+@Component
+public class ExportFileStorage {
+
+    private final FileService fileService;
+    private final Path directory;
+
+    public ExportFileStorage(FileService fileService, @Value("${export.directory:}") String directory) {
+        this.fileService = fileService;
+        this.directory = StringUtils.hasText(directory)
+                ? Path.of(directory)
+                : Path.of(System.getProperty("java.io.tmpdir"), "maru-export");
+        initializeDirectory();
+    }
+
+    // 임시 파일에 다 쓴 다음에 올려서, 쓰는 도중인 파일이 다운로드되지 않게 한다.
+    public long save(String name, Consumer<OutputStream> writer) {
+        try {
+            Path tempFile = Files.createTempFile(directory, name, ".tmp");
+            try {
+                try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                    writer.accept(outputStream);
+                }
+                fileService.upload(FolderConstant.EXPORT, name, tempFile.toFile());
+
+                return Files.size(tempFile);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            throw new FailedToSaveExportFileException();
+        }
+    }
+
+    public InputStream open(String name) {
+        InputStream inputStream = fileService.open(FolderConstant.EXPORT, name);
+        if (Objects.isNull(inputStream)) {
+            throw new ExportFileNotFoundException();
+        }
+
+        return inputStream;
+    }
+
+    public void deleteOlderThan(Duration retention) {
+        Instant threshold = Instant.now().minus(retention);
+        fileService.deleteOlderThan(FolderConstant.EXPORT, Date.from(threshold));
+        deleteTempFilesOlderThan(FileTime.from(threshold));
+    }
+
+    // 쓰는 도중에 서버가 내려가면 임시 파일이 남으므로 함께 지운다.
+    private void deleteTempFilesOlderThan(FileTime threshold) {
+        try (Stream<Path> fileStream = Files.list(directory)) {
+            fileStream.filter(file -> isOlderThan(file, threshold))
+                    .forEach(this::delete);
+        } catch (IOException e) {
+            log.warn("만료된 내보내기 임시 파일을 정리하지 못했습니다. path: {}", directory, e);
+        }
+    }
+
+    private boolean isOlderThan(Path file, FileTime threshold) {
+        try {
+            return Files.getLastModifiedTime(file).compareTo(threshold) < 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("내보내기 임시 파일을 삭제하지 못했습니다. path: {}", file, e);
+        }
+    }
+
+    private void initializeDirectory() {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new IllegalStateException("내보내기 디렉터리를 만들지 못했습니다. path: " + directory, e);
+        }
+    }
+}
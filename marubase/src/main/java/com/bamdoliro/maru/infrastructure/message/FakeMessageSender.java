@@ -0,0 +1,82 @@
+package com.bamdoliro.maru.infrastructure.message;
+
+import com.bamdoliro.maru.infrastructure.message.dto.OutgoingMessage;
+import com.bamdoliro.maru.infrastructure.message.exception.FailedToSendException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 실제로 보내지 않고 기록만 한다. 로컬이나 테스트에서 공급자 없이 처리량과 실패 상황을 확인할 때 쓴다.
+@Slf4j
+@ConditionalOnProperty(name = "message.provider", havingValue = "fake")
+@Component
+public class FakeMessageSender implements MessageSender {
+
+    private final Duration latency;
+    private final List<OutgoingMessage> sentMessageList = new ArrayList<>();
+    private final Set<String> rejectedPhoneNumberSet = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger remainingFailureCount = new AtomicInteger();
+
+    public FakeMessageSender(@Value("${message.fake.latency:PT0S}") Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public Map<Long, String> send(List<OutgoingMessage> messageList) {
+        sleep();
+        if (remainingFailureCount.getAndUpdate(count -> Math.max(count - 1, 0)) > 0) {
+            throw new FailedToSendException();
+        }
+
+        Map<Long, String> rejectedMap = new HashMap<>();
+        synchronized (sentMessageList) {
+            for (OutgoingMessage message : messageList) {
+                if (rejectedPhoneNumberSet.contains(message.getTo())) {
+                    rejectedMap.put(message.getId(), "수신 거부");
+                } else {
+                    sentMessageList.add(message);
+                }
+            }
+        }
+        log.info("가짜 메시지 발송: {}건, 거부 {}건", messageList.size() - rejectedMap.size(), rejectedMap.size());
+
+        return rejectedMap;
+    }
+
+    // 다음 count 번의 요청을 공급자 장애처럼 실패시킨다.
+    public void failNextRequests(int count) {
+        remainingFailureCount.set(count);
+    }
+
+    public void reject(String phoneNumber) {
+        rejectedPhoneNumberSet.add(phoneNumber);
+    }
+
+    public List<OutgoingMessage> getSentMessageList() {
+        synchronized (sentMessageList) {
+            return List.copyOf(sentMessageList);
+        }
+    }
+
+    private void sleep() {
+        if (latency.isZero()) {
+            return;
+        }
+
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.bamdoliro.maru.infrastructure.message;
+
+import com.bamdoliro.maru.domain.message.service.MessageOutboxService;
+import com.bamdoliro.maru.infrastructure.message.dto.OutgoingMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 공급자 요청 한 번에 보낼 수 있는 만큼씩 가져와서 보내고, 초당 발송량을 넘지 않도록 요청 사이에 쉰다.
+@Slf4j
+@Component
+public class MessageDispatcher {
+
+    private final MessageOutboxService messageOutboxService;
+    private final MessageSender messageSender;
+    private final int batchSize;
+    private final int sendRate;
+
+    public MessageDispatcher(
+            MessageOutboxService messageOutboxService,
+            MessageSender messageSender,
+            @Value("${message.outbox.batch-size:1000}") int batchSize,
+            @Value("${message.outbox.send-rate:100}") int sendRate
+    ) {
+        this.messageOutboxService = messageOutboxService;
+        this.messageSender = messageSender;
+        this.batchSize = batchSize;
+        this.sendRate = sendRate;
+    }
+
+    public int dispatch() {
+        int dispatchedCount = 0;
+        List<OutgoingMessage> messageList = messageOutboxService.claim(batchSize);
+        while (!messageList.isEmpty()) {
+            long startedAt = System.nanoTime();
+            send(messageList);
+            dispatchedCount += messageList.size();
+
+            if (!waitForRate(startedAt, messageList.size())) {
+                break;
+            }
+            messageList = messageOutboxService.claim(batchSize);
+        }
+
+        return dispatchedCount;
+    }
+
+    private void send(List<OutgoingMessage> messageList) {
+        List<Long> idList = messageList.stream()
+                .map(OutgoingMessage::getId)
+                .toList();
+
+        Map<Long, String> rejectedMap;
+        try {
+            rejectedMap = messageSender.send(messageList);
+        } catch (RuntimeException e) {
+            log.warn("메시지 {}건 발송 실패, 다시 시도합니다.", idList.size(), e);
+            messageOutboxService.retry(idList, e.getMessage());
+            return;
+        }
+
+        messageOutboxService.complete(idList, rejectedMap);
+    }
+
+    private boolean waitForRate(long startedAt, int sentCount) {
+        long remainingNanos = TimeUnit.SECONDS.toNanos(sentCount) / sendRate - (System.nanoTime() - startedAt);
+        if (remainingNanos <= 0) {
+            return true;
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(remainingNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.bamdoliro.maru.infrastructure.message;
+
+import com.bamdoliro.maru.infrastructure.message.dto.OutgoingMessage;
+
+import java.util.List;
+import java.util.Map;
+
+public interface MessageSender {
+
+    // 공급자가 받지 않은 메시지의 id 와 사유를 돌려준다. 요청 자체가 실패하면 예외가 발생한다.
+    Map<Long, String> send(List<OutgoingMessage> messageList);
+}
@@ -0,0 +1,80 @@
+package com.bamdoliro.maru.infrastructure.message;
+
+import com.bamdoliro.maru.infrastructure.message.dto.OutgoingMessage;
+import com.bamdoliro.maru.infrastructure.message.exception.FailedToSendException;
+import com.bamdoliro.maru.shared.config.properties.MessageProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.nurigo.sdk.message.exception.NurigoMessageNotReceivedException;
+import net.nurigo.sdk.message.model.FailedMessage;
+import net.nurigo.sdk.message.model.Message;
+import net.nurigo.sdk.message.response.MultipleDetailMessageSentResponse;
+import net.nurigo.sdk.message.service.DefaultMessageService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "message.provider", havingValue = "nurigo", matchIfMissing = true)
+@Component
+public class NurigoMessageSender implements MessageSender {
+
+    private static final String OUTBOX_MESSAGE_ID = "outboxMessageId";
+
+    private final MessageProperties messageProperties;
+    private final DefaultMessageService messageService;
+
+    @Override
+    public Map<Long, String> send(List<OutgoingMessage> messageList) {
+        try {
+            MultipleDetailMessageSentResponse response = messageService.send(
+                    messageList.stream()
+                            .map(this::createMessage)
+                            .toList(),
+                    false,
+                    false
+            );
+            return toRejectedMap(response.getFailedMessageList());
+        } catch (NurigoMessageNotReceivedException e) {
+            // 모든 메시지가 접수되지 않으면 응답 대신 예외로 돌아온다.
+            return toRejectedMap(e.getFailedMessageList());
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw new FailedToSendException();
+        }
+    }
+
+    private Message createMessage(OutgoingMessage outgoingMessage) {
+        Message message = new Message();
+        message.setFrom(messageProperties.getFrom());
+        message.setTo(outgoingMessage.getTo());
+        message.setText(outgoingMessage.getText());
+        message.setSubject(outgoingMessage.getTitle());
+        message.setCustomFields(Map.of(OUTBOX_MESSAGE_ID, outgoingMessage.getId().toString()));
+        return message;
+    }
+
+    private Map<Long, String> toRejectedMap(List<FailedMessage> failedMessageList) {
+        Map<Long, String> rejectedMap = new HashMap<>();
+        if (Objects.isNull(failedMessageList)) {
+            return rejectedMap;
+        }
+
+        for (FailedMessage failedMessage : failedMessageList) {
+            Map<String, String> customFields = failedMessage.getCustomFields();
+            if (Objects.isNull(customFields) || !customFields.containsKey(OUTBOX_MESSAGE_ID)) {
+                log.warn("발송 요청과 연결할 수 없는 실패 메시지: {}", failedMessage.getStatusMessage());
+                continue;
+            }
+
+            rejectedMap.put(Long.valueOf(customFields.get(OUTBOX_MESSAGE_ID)), failedMessage.getStatusMessage());
+        }
+
+        return rejectedMap;
+    }
+}
@@ -9,8 +9,6 @@ import net.nurigo.sdk.message.request.SingleMessageSendingRequest;
 import net.nurigo.sdk.message.service.DefaultMessageService;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 @Slf4j
 @RequiredArgsConstructor
 @Service
@@ -30,13 +28,6 @@ public class SendMessageService {
         sendOneMessage(message);
     }
 
-    public void execute(List<String> phoneNumberList, String text, String title) {
-        List<Message> messageList = phoneNumberList.stream()
-                .map(phoneNumber -> createMessage(phoneNumber, text))
-                .peek(message -> message.setSubject(title)).toList();
-        sendManyMessages(messageList);
-    }
-
     private Message createMessage(String to, String text) {
         Message message = new Message();
         message.setFrom(messageProperties.getFrom());
@@ -53,13 +44,4 @@ public class SendMessageService {
             throw new FailedToSendException();
         }
     }
-
-    private void sendManyMessages(List<Message> messageList) {
-        try {
-            messageService.send(messageList, false, false);
-        } catch (Exception e) {
-            log.error(e.getMessage());
-            throw new FailedToSendException();
-        }
-    }
 }
@@ -0,0 +1,35 @@
+package com.bamdoliro.maru.infrastructure.message;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+// 인증번호는 요청 스레드가 공급자 응답을 기다리지 않도록 별도 스레드에서 보낸다.
+// 일괄 발송 대기열을 거치면 앞선 일괄 발송이 끝날 때까지 늦어지므로 따로 보낸다.
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class VerificationMessageDispatcher {
+
+    private final SendMessageService sendMessageService;
+    private final MeterRegistry meterRegistry;
+
+    @Async("verificationMessageExecutor")
+    public void dispatch(String phoneNumber, String text) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+        try {
+            sendMessageService.execute(phoneNumber, text);
+        } catch (RuntimeException e) {
+            log.error("인증번호 발송 실패", e);
+            result = "failure";
+        }
+
+        sample.stop(Timer.builder("maru.message.verification")
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,22 @@
+package com.bamdoliro.maru.infrastructure.message.dto;
+
+import com.bamdoliro.maru.domain.message.domain.OutboxMessage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OutgoingMessage {
+
+    private Long id;
+    private String to;
+    private String title;
+    private String text;
+
+    public OutgoingMessage(OutboxMessage message) {
+        this.id = message.getId();
+        this.to = message.getPhoneNumber();
+        this.title = message.getBulkMessage().getTitle();
+        this.text = message.getBulkMessage().getText();
+    }
+}
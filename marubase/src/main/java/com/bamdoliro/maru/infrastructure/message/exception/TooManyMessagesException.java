@@ -0,0 +1,11 @@
+package com.bamdoliro.maru.infrastructure.message.exception;
+
+import com.bamdoliro.maru.infrastructure.message.exception.error.MessageErrorProperty;
+import com.bamdoliro.maru.shared.error.MaruException;
+
+public class TooManyMessagesException extends MaruException {
+
+    public TooManyMessagesException() {
+        super(MessageErrorProperty.TOO_MANY_MESSAGES);
+    }
+}
@@ -8,7 +8,8 @@ import org.springframework.http.HttpStatus;
 @Getter
 @RequiredArgsConstructor
 public enum MessageErrorProperty implements ErrorProperty {
-    FAILED_TO_SEND(HttpStatus.INTERNAL_SERVER_ERROR, "메시지 전송에 실패했습니다.")
+    FAILED_TO_SEND(HttpStatus.INTERNAL_SERVER_ERROR, "메시지 전송에 실패했습니다."),
+    TOO_MANY_MESSAGES(HttpStatus.SERVICE_UNAVAILABLE, "대기 중인 메시지가 너무 많습니다. 잠시 후 다시 시도해주세요.")
     ;
 
     private final HttpStatus status;
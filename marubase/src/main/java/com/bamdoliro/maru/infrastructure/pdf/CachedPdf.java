@@ -0,0 +1,25 @@
+package com.bamdoliro.maru.infrastructure.pdf;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.OutputStream;
+import java.util.function.Consumer;
+
+@Getter
+public class CachedPdf {
+
+    private final String eTag;
+
+    @Getter(AccessLevel.NONE)
+    private final Consumer<OutputStream> writer;
+
+    public CachedPdf(String eTag, Consumer<OutputStream> writer) {
+        this.eTag = eTag;
+        this.writer = writer;
+    }
+
+    public void writeTo(OutputStream outputStream) {
+        writer.accept(outputStream);
+    }
+}
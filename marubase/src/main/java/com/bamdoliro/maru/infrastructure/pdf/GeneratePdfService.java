@@ -6,12 +6,14 @@ import com.itextpdf.html2pdf.HtmlConverter;
 import com.itextpdf.html2pdf.resolver.font.DefaultFontProvider;
 import com.itextpdf.io.font.FontProgram;
 import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.layout.element.IElement;
 import com.itextpdf.layout.font.FontProvider;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 @Service
@@ -25,28 +27,45 @@ public class GeneratePdfService {
             "/SUIT-Regular.ttf",
             "/SUIT-Light.ttf"
     );
-    private final ConverterProperties converterProperties = createConverterProperties();
+    private final List<FontProgram> fontProgramList = loadFontPrograms();
 
     public ByteArrayOutputStream execute(String html) {
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        HtmlConverter.convertToPdf(html, outputStream, converterProperties);
+        execute(html, outputStream);
         return outputStream;
     }
 
-    private ConverterProperties createConverterProperties() {
-        ConverterProperties properties = new ConverterProperties();
-        FontProvider fontProvider = new DefaultFontProvider(false, false, false);
+    public void execute(String html, OutputStream outputStream) {
+        HtmlConverter.convertToPdf(html, outputStream, createConverterProperties());
+    }
+
+    // pdf 로 쓰지 않고 배치할 요소로만 바꾼다. 폰트는 요소를 배치하는 문서의 FontProvider 로 만든다.
+    public List<IElement> convertToElements(String html) {
+        return HtmlConverter.convertToElements(html, createConverterProperties());
+    }
 
-        fonts.forEach(font -> {
-            try {
-                FontProgram fontProgram = FontProgramFactory.createFont(fontPath + font);
-                fontProvider.addFont(fontProgram);
-            } catch (IOException e) {
-                throw new FailedToExportPdfException();
-            }
-        });
+    // FontProvider 는 내부 캐시가 스레드에 안전하지 않아서 쓰는 곳마다 새로 만들고, 읽어둔 폰트만 공유한다.
+    public FontProvider createFontProvider() {
+        FontProvider fontProvider = new DefaultFontProvider(false, false, false);
+        fontProgramList.forEach(fontProvider::addFont);
+        return fontProvider;
+    }
 
-        properties.setFontProvider(fontProvider);
+    private ConverterProperties createConverterProperties() {
+        ConverterProperties properties = new ConverterProperties();
+        properties.setFontProvider(createFontProvider());
         return properties;
     }
+
+    private List<FontProgram> loadFontPrograms() {
+        return fonts.stream()
+                .map(font -> {
+                    try {
+                        return FontProgramFactory.createFont(fontPath + font);
+                    } catch (IOException e) {
+                        throw new FailedToExportPdfException();
+                    }
+                })
+                .toList();
+    }
 }
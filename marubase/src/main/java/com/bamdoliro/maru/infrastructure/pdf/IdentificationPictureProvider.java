@@ -0,0 +1,214 @@
+package com.bamdoliro.maru.infrastructure.pdf;
+
+import com.bamdoliro.maru.infrastructure.s3.FileService;
+import com.bamdoliro.maru.infrastructure.s3.constants.FolderConstant;
+import com.bamdoliro.maru.infrastructure.s3.dto.response.FileResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+// 증명사진을 data uri 로 바꿔서 템플릿에 넣어주기 때문에, pdf 로 변환할 때는 S3 에 요청하지 않는다.
+@Component
+public class IdentificationPictureProvider {
+
+    // 업로드 url 의 유효 시간 동안은 새 사진이 올라올 수 있어서 캐시하지 않는다.
+    private static final Duration UPLOAD_WINDOW = Duration.ofMinutes(3);
+    private static final String VERSION_KEY_PREFIX = "identification-picture:version:";
+
+    private final FileService fileService;
+    private final StringRedisTemplate redisTemplate;
+    private final Executor executor;
+    private final long maxSize;
+    private final Map<String, Picture> pictureMap = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalSize;
+    private final Map<String, CompletableFuture<Picture>> loadingMap = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public IdentificationPictureProvider(
+            FileService fileService,
+            StringRedisTemplate redisTemplate,
+            @Qualifier("identificationPictureExecutor") Executor executor,
+            @Value("${pdf.picture-cache.max-size:64MB}") DataSize maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.fileService = fileService;
+        this.redisTemplate = redisTemplate;
+        this.executor = executor;
+        this.maxSize = maxSize.toBytes();
+        this.hitCounter = Counter.builder("maru.identification-picture.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("maru.identification-picture.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    // 사진 버전은 업로드 url 을 마지막으로 발급한 시각이다. S3 에 묻지 않고도 모든 서버가 같은 버전을 본다.
+    public String getVersion(UUID uuid) {
+        return redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + uuid);
+    }
+
+    public boolean isUploading(String version) {
+        return version != null && Instant.now().isBefore(Instant.ofEpochMilli(Long.parseLong(version)).plus(UPLOAD_WINDOW));
+    }
+
+    public Map<UUID, String> getVersionMap(Collection<UUID> uuidList) {
+        List<UUID> uuids = List.copyOf(uuidList);
+        List<String> versionList = redisTemplate.opsForValue().multiGet(uuids.stream()
+                .map(uuid -> VERSION_KEY_PREFIX + uuid)
+                .toList());
+
+        Map<UUID, String> versionMap = new HashMap<>();
+        for (int i = 0; i < uuids.size(); i++) {
+            versionMap.put(uuids.get(i), versionList != null ? versionList.get(i) : null);
+        }
+        return versionMap;
+    }
+
+    // 여러 장을 동시에 받아두고 바로 반환한다. 받는 중인 사진을 getUri 로 요청하면 받을 때까지 기다린다.
+    // 받아둔 사진도 캐시가 가득 차면 밀려나기 때문에, 캐시 크기 안에서 곧 쓸 만큼만 받아둬야 한다.
+    public void prefetch(Collection<UUID> uuidList) {
+        getVersionMap(uuidList).forEach(this::prefetch);
+    }
+
+    public void prefetch(UUID uuid, String version) {
+        String key = uuid.toString();
+        if (!isCached(key, version)) {
+            load(key, version);
+        }
+    }
+
+    // 캐시된 사진의 버전이 다르면 다른 서버에서 바뀐 사진이므로 다시 받는다.
+    public String getUri(UUID uuid, String version) {
+        String key = uuid.toString();
+        Picture picture = get(key);
+        if (picture != null && Objects.equals(version, picture.getVersion())) {
+            hitCounter.increment();
+            return picture.getUri();
+        }
+
+        missCounter.increment();
+        if (picture != null) {
+            remove(key);
+        }
+
+        try {
+            picture = load(key, version).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return picture != null ? picture.getUri() : null;
+    }
+
+    public void invalidate(UUID uuid) {
+        redisTemplate.opsForValue().set(VERSION_KEY_PREFIX + uuid, String.valueOf(System.currentTimeMillis()));
+        remove(uuid.toString());
+    }
+
+    private CompletableFuture<Picture> load(String key, String version) {
+        CompletableFuture<Picture> future = new CompletableFuture<>();
+        CompletableFuture<Picture> loading = loadingMap.putIfAbsent(key, future);
+        if (loading != null) {
+            return loading;
+        }
+
+        executor.execute(() -> {
+            try {
+                // 받기 전에 정해야, 업로드 중에 받기 시작한 사진이 업로드가 끝난 뒤에 캐시되지 않는다.
+                boolean cacheable = !isUploading(version);
+                Picture picture = download(key, version);
+                if (picture != null && cacheable) {
+                    put(key, picture);
+                }
+                loadingMap.remove(key, future);
+                future.complete(picture);
+            } catch (RuntimeException e) {
+                loadingMap.remove(key, future);
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private Picture download(String key, String version) {
+        FileResponse file = fileService.download(FolderConstant.IDENTIFICATION_PICTURE, key);
+        if (file == null) {
+            return null;
+        }
+
+        String contentType = file.getContentType() != null ? file.getContentType() : MediaType.IMAGE_JPEG_VALUE;
+        String uri = "data:" + contentType + ";base64," + Base64.getEncoder().encodeToString(file.getContent());
+        return new Picture(version, uri);
+    }
+
+    private boolean isCached(String key, String version) {
+        Picture picture = get(key);
+        return picture != null && Objects.equals(version, picture.getVersion());
+    }
+
+    private synchronized Picture get(String key) {
+        return pictureMap.get(key);
+    }
+
+    private synchronized void put(String key, Picture picture) {
+        Picture previous = pictureMap.put(key, picture);
+        totalSize += picture.size() - (previous != null ? previous.size() : 0);
+
+        Iterator<Map.Entry<String, Picture>> iterator = pictureMap.entrySet().iterator();
+        while (totalSize > maxSize && iterator.hasNext()) {
+            Map.Entry<String, Picture> eldest = iterator.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+
+            iterator.remove();
+            totalSize -= eldest.getValue().size();
+        }
+    }
+
+    private synchronized void remove(String key) {
+        Picture previous = pictureMap.remove(key);
+        if (previous != null) {
+            totalSize -= previous.size();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Picture {
+
+        private final String version;
+        private final String uri;
+
+        private long size() {
+            return uri.length();
+        }
+    }
+}
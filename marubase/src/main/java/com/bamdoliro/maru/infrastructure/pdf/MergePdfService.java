@@ -1,23 +1,75 @@
 package com.bamdoliro.maru.infrastructure.pdf;
 
 import com.bamdoliro.maru.infrastructure.pdf.exception.FailedToExportPdfException;
+import com.itextpdf.io.source.RandomAccessSourceFactory;
+import com.itextpdf.kernel.geom.PageSize;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfReader;
-import com.itextpdf.kernel.utils.PdfMerger;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.ReaderProperties;
+import com.itextpdf.kernel.pdf.WriterProperties;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.AreaBreak;
+import com.itextpdf.layout.element.IBlockElement;
+import com.itextpdf.layout.element.IElement;
+import com.itextpdf.layout.element.Image;
+import com.itextpdf.layout.font.FontProvider;
+import com.itextpdf.layout.properties.AreaBreakType;
+import com.itextpdf.layout.properties.Property;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
 
 @Service
 public class MergePdfService {
 
-    public void execute(PdfMerger merger, ByteArrayOutputStream outputStream) {
+    // 지원자마다 따로 만든 pdf 에는 같은 폰트 서브셋, 이미지가 반복해서 들어 있어서
+    // 내용이 같은 객체는 한 번만 쓰고(smart mode), 나머지 객체도 압축 스트림에 묶어서 쓴다.
+    public PdfDocument createMergedDocument(OutputStream outputStream) {
+        WriterProperties properties = new WriterProperties()
+                .useSmartMode()
+                .setFullCompressionMode(true);
+
+        return new PdfDocument(new PdfWriter(outputStream, properties));
+    }
+
+    // 따로 만든 pdf 를 합치면 지원자마다 쓰인 글자가 달라서 폰트 서브셋이 장마다 따로 들어간다.
+    // html 을 요소로 바꿔서 FontProvider 하나를 쓰는 문서 하나에 배치하면 서브셋이 폰트마다 한 번만 들어간다.
+    // 요소로 바꾸면 @page 규칙이 빠지므로 양식의 여백은 직접 넘겨 받는다.
+    public Document createMergedDocument(OutputStream outputStream, FontProvider fontProvider, float margin) {
+        Document document = new Document(createMergedDocument(outputStream), PageSize.A4);
+        document.setMargins(margin, margin, margin, margin);
+        document.setFontProvider(fontProvider);
+
+        return document;
+    }
+
+    public void execute(Document mergedDocument, List<IElement> elementList) {
+        if (mergedDocument.getPdfDocument().getNumberOfPages() > 0) {
+            mergedDocument.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
+        }
+
+        FontProvider fontProvider = mergedDocument.getProperty(Property.FONT_PROVIDER);
+        elementList.forEach(element -> {
+            // 변환할 때 쓴 FontProvider 가 남아 있으면 폰트를 따로 만들기 때문에 문서의 것으로 바꾼다.
+            element.setProperty(Property.FONT_PROVIDER, fontProvider);
+            if (element instanceof IBlockElement blockElement) {
+                mergedDocument.add(blockElement);
+            } else if (element instanceof Image image) {
+                mergedDocument.add(image);
+            }
+        });
+    }
+
+    public void execute(PdfDocument mergedDocument, ByteArrayOutputStream outputStream) {
         PdfDocument document = createPdfDocumentFrom(outputStream);
 
-        merger.merge(document, 1, document.getNumberOfPages());
+        document.copyPagesTo(1, document.getNumberOfPages(), mergedDocument);
+        // 복사한 페이지는 바로 출력 스트림으로 내보내서 합친 문서가 메모리에 쌓이지 않게 한다.
+        mergedDocument.flushCopiedObjects(document);
         document.close();
 
         try {
@@ -29,8 +81,11 @@ public class MergePdfService {
 
     private PdfDocument createPdfDocumentFrom(ByteArrayOutputStream outputStream) {
         try {
-            InputStream inputStream = new ByteArrayInputStream(outputStream.toByteArray());
-            return new PdfDocument(new PdfReader(inputStream));
+            PdfReader reader = new PdfReader(
+                    new RandomAccessSourceFactory().createSource(outputStream.toByteArray()),
+                    new ReaderProperties()
+            );
+            return new PdfDocument(reader);
         } catch (IOException e) {
             throw new FailedToExportPdfException();
         }
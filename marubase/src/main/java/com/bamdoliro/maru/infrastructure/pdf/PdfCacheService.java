@@ -0,0 +1,162 @@
+package com.bamdoliro.maru.infrastructure.pdf;
+
+import com.bamdoliro.maru.infrastructure.pdf.exception.FailedToExportPdfException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class PdfCacheService {
+
+    private static final String DIRECTORY_NAME = "maru-pdf-cache";
+    // 캐시 파일(<md5>.pdf)과 만드는 도중에 남은 임시 파일(<md5><숫자>.tmp)만 이 캐시가 만든 파일이다.
+    private static final Pattern CACHE_FILE_NAME = Pattern.compile("[0-9a-f]{32}(\\.pdf|\\d*\\.tmp)");
+
+    private final Path directory;
+    private final long maxSize;
+    private final Map<String, Long> sizeMap = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalSize;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public PdfCacheService(
+            @Value("${pdf.cache.directory:}") String directory,
+            @Value("${pdf.cache.max-size:512MB}") DataSize maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.directory = (StringUtils.hasText(directory) ? Path.of(directory) : Path.of(System.getProperty("java.io.tmpdir")))
+                .resolve(DIRECTORY_NAME);
+        this.maxSize = maxSize.toBytes();
+        this.hitCounter = Counter.builder("maru.pdf.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("maru.pdf.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        initializeDirectory();
+    }
+
+    // 키에는 문서 내용을 바꿀 수 있는 값(원서 수정 시각, 상태, 사진 버전, 템플릿 목록 등)을 모두 넣는다.
+    // 같은 키로 만든 파일 이름을 그대로 ETag 로 쓴다.
+    public CachedPdf get(String key, Consumer<OutputStream> renderer) {
+        String eTag = DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8));
+        return new CachedPdf(eTag, outputStream -> write(eTag, renderer, outputStream));
+    }
+
+    // 사진을 올리는 중처럼 내용을 하나로 정할 수 없을 때는 캐시하지 않고 바로 만든다.
+    public CachedPdf render(Consumer<OutputStream> renderer) {
+        return new CachedPdf(null, renderer);
+    }
+
+    private void write(String eTag, Consumer<OutputStream> renderer, OutputStream outputStream) {
+        Path file = directory.resolve(eTag + ".pdf");
+
+        try {
+            if (copyIfExists(eTag, file, outputStream)) {
+                hitCounter.increment();
+                return;
+            }
+
+            missCounter.increment();
+            render(eTag, file, renderer);
+            Files.copy(file, outputStream);
+        } catch (IOException e) {
+            throw new FailedToExportPdfException();
+        }
+    }
+
+    private boolean copyIfExists(String eTag, Path file, OutputStream outputStream) throws IOException {
+        if (!isCached(eTag)) {
+            return false;
+        }
+
+        try {
+            Files.copy(file, outputStream);
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    // 임시 파일에 다 만든 다음에 옮겨서, 만드는 도중에 다른 요청이 덜 만들어진 파일을 읽지 않게 한다.
+    private void render(String eTag, Path file, Consumer<OutputStream> renderer) throws IOException {
+        Path tempFile = Files.createTempFile(directory, eTag, ".tmp");
+        try {
+            try (OutputStream fileOutputStream = Files.newOutputStream(tempFile)) {
+                renderer.accept(fileOutputStream);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+        put(eTag, Files.size(file));
+    }
+
+    private synchronized boolean isCached(String eTag) {
+        return sizeMap.get(eTag) != null;
+    }
+
+    private synchronized void put(String eTag, long size) {
+        Long previousSize = sizeMap.put(eTag, size);
+        totalSize += size - (previousSize != null ? previousSize : 0);
+
+        Iterator<Map.Entry<String, Long>> iterator = sizeMap.entrySet().iterator();
+        while (totalSize > maxSize && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            if (eldest.getKey().equals(eTag)) {
+                continue;
+            }
+
+            iterator.remove();
+            totalSize -= eldest.getValue();
+            delete(directory.resolve(eldest.getKey() + ".pdf"));
+        }
+    }
+
+    private void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("pdf 캐시 파일을 삭제하지 못했습니다. path: {}", file, e);
+        }
+    }
+
+    // 템플릿이나 일정은 배포할 때만 바뀌기 때문에, 시작할 때 이전 캐시를 비운다.
+    // 설정한 경로를 다른 곳과 같이 쓸 수도 있어서, 캐시 전용 하위 디렉터리에서 캐시가 만든 파일만 지운다.
+    private void initializeDirectory() {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new IllegalStateException("pdf 캐시 디렉터리를 만들지 못했습니다. path: " + directory, e);
+        }
+
+        try (Stream<Path> fileStream = Files.list(directory)) {
+            fileStream.filter(file -> CACHE_FILE_NAME.matcher(file.getFileName().toString()).matches())
+                    .filter(Files::isRegularFile)
+                    .forEach(this::delete);
+        } catch (IOException e) {
+            log.warn("이전 pdf 캐시를 비우지 못했습니다. path: {}", directory, e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.bamdoliro.maru.infrastructure.persistence.converter.encryptor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jasypt.encryption.StringEncryptor;
+
+public class FieldStringEncryptor implements StringEncryptor {
+
+    private final StringEncryptor delegate;
+    private final Cache<String, String> decryptCache;
+    private final Timer encryptTimer;
+    private final Timer decryptTimer;
+    private final Counter decryptCacheHitCounter;
+
+    public FieldStringEncryptor(StringEncryptor delegate, int decryptCacheSize, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.decryptCache = decryptCacheSize > 0 ? createDecryptCache(decryptCacheSize) : null;
+        this.encryptTimer = Timer.builder("maru.encryptor")
+                .tag("operation", "encrypt")
+                .register(meterRegistry);
+        this.decryptTimer = Timer.builder("maru.encryptor")
+                .tag("operation", "decrypt")
+                .register(meterRegistry);
+        this.decryptCacheHitCounter = Counter.builder("maru.encryptor.decrypt.cache.hit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encrypt(String message) {
+        return encryptTimer.record(() -> delegate.encrypt(message));
+    }
+
+    @Override
+    public String decrypt(String encryptedMessage) {
+        if (decryptCache == null) {
+            return decryptTimer.record(() -> delegate.decrypt(encryptedMessage));
+        }
+
+        String cached = decryptCache.getIfPresent(encryptedMessage);
+        if (cached != null) {
+            decryptCacheHitCounter.increment();
+            return cached;
+        }
+
+        String message = decryptTimer.record(() -> delegate.decrypt(encryptedMessage));
+        decryptCache.put(encryptedMessage, message);
+        return message;
+    }
+
+    // 목록을 한꺼번에 복호화할 때도 크기를 넘지 않도록 정리 작업을 호출한 스레드에서 바로 한다.
+    private Cache<String, String> createDecryptCache(int decryptCacheSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(decryptCacheSize)
+                .executor(Runnable::run)
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.bamdoliro.maru.infrastructure.persistence.export;
+
+import com.bamdoliro.maru.domain.export.domain.ExportJob;
+import org.springframework.data.repository.CrudRepository;
+
+public interface ExportJobRepository extends CrudRepository<ExportJob, String>, ExportJobRepositoryCustom {
+}
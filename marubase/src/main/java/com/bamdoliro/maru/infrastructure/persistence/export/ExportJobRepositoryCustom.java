@@ -0,0 +1,6 @@
+package com.bamdoliro.maru.infrastructure.persistence.export;
+
+public interface ExportJobRepositoryCustom {
+
+    boolean claimDownload(String jobId);
+}
@@ -0,0 +1,20 @@
+package com.bamdoliro.maru.infrastructure.persistence.export;
+
+import com.bamdoliro.maru.domain.export.domain.ExportJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+// 같은 링크로 동시에 요청이 와도 한 번만 내려주도록, 작업 해시와 별도의 키를 SET NX 로 선점한다.
+@RequiredArgsConstructor
+public class ExportJobRepositoryImpl implements ExportJobRepositoryCustom {
+
+    private static final String DOWNLOAD_CLAIM_KEY_PREFIX = "export-download:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public boolean claimDownload(String jobId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(DOWNLOAD_CLAIM_KEY_PREFIX + jobId, jobId, ExportJob.RETENTION));
+    }
+}
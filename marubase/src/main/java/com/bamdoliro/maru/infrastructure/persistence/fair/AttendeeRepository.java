@@ -2,9 +2,17 @@ package com.bamdoliro.maru.infrastructure.persistence.fair;
 
 import com.bamdoliro.maru.domain.fair.domain.Attendee;
 import com.bamdoliro.maru.domain.fair.domain.Fair;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 
+import java.util.stream.Stream;
+
 public interface AttendeeRepository extends CrudRepository<Attendee, Long> {
 
     Integer countByFair(Fair fair);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Attendee> streamByFairOrderById(Fair fair);
 }
@@ -0,0 +1,28 @@
+package com.bamdoliro.maru.infrastructure.persistence.form;
+
+import com.bamdoliro.maru.domain.form.domain.ExaminationNumberSequence;
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface ExaminationNumberSequenceRepository extends JpaRepository<ExaminationNumberSequence, FormType.Category> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ExaminationNumberSequence> findWithLockByCategory(FormType.Category category);
+
+    // 동시에 넣다가 키가 겹치면 호출한 쪽 트랜잭션까지 깨지지 않도록 따로 커밋한다.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = "INSERT INTO tbl_examination_number_sequence (category, last_number) " +
+            "SELECT :category, :lastNumber " +
+            "WHERE NOT EXISTS (SELECT 1 FROM tbl_examination_number_sequence WHERE category = :category)", nativeQuery = true)
+    void insertIfNotExists(@Param("category") String category, @Param("lastNumber") Long lastNumber);
+}
@@ -1,33 +1,48 @@
 package com.bamdoliro.maru.infrastructure.persistence.form;
 
 import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.domain.form.domain.type.FormSortType;
 import com.bamdoliro.maru.domain.form.domain.type.FormStatus;
 import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.domain.form.domain.value.Subject;
+import com.bamdoliro.maru.infrastructure.persistence.form.vo.FormSelectionVo;
+import com.bamdoliro.maru.infrastructure.persistence.form.vo.FormSimpleVo;
 import com.bamdoliro.maru.infrastructure.persistence.form.vo.NumberOfApplicantsVo;
 import com.bamdoliro.maru.infrastructure.persistence.form.vo.FormUrlVo;
 import com.bamdoliro.maru.infrastructure.persistence.form.vo.GradeVo;
 import com.bamdoliro.maru.infrastructure.persistence.form.vo.SchoolStatusVo;
+import com.bamdoliro.maru.infrastructure.persistence.form.vo.SecondRoundScoreTargetVo;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public interface FormRepositoryCustom {
 
     List<Form> findByStatus(FormStatus status);
+    List<Form> findByStatusWithGrade(FormStatus status);
+    List<Form> findByStatusWithUser(FormStatus status);
+    List<FormSimpleVo> findFormSimpleList(FormStatus status, FormType.Category category, FormSortType sortType, Long cursor, Integer size);
     List<Form> findByType(FormType type);
     List<Form> findByCategory(FormType.Category category);
     List<Form> findByOriginalCategory(FormType.Category category);
-    List<Form> findReceivedSpecialForm();
-    List<Form> findReceivedRegularForm();
-    List<Form> findReceivedSupernumeraryForm();
-    List<Form> findFirstPassedSpecialForm();
-    List<Form> findFirstPassedRegularForm();
-    List<Form> findFirstPassedSupernumeraryForm();
+    List<FormSelectionVo> findFormSelectionList(FormStatus status);
+    long updateStatusByFormIdList(FormStatus status, List<Long> idList);
     List<Form> findFirstRoundForm();
     List<Form> findMeisterTalentFirstRoundForm();
     List<Form> findNotExistsMeisterTalentAndChangedToRegularFirstRoundForm();
     List<Form> findChangedToRegularFirstRoundForm();
     List<Form> findSecondRoundForm();
+    List<SecondRoundScoreTargetVo> findSecondRoundScoreTargetList();
+    Stream<Form> streamByStatus(FormStatus status);
+    Map<Long, List<Subject>> findSubjectListByFormIdList(List<Long> idList);
+    Stream<Form> streamFirstRoundForm();
+    Stream<Form> streamSecondRoundForm();
     List<Form> findByFormIdList(List<Long> idList);
+    List<Form> findByFormIdListWithGrade(List<Long> idList);
+    List<Long> findIdListAfter(Long cursor, int size);
+    List<Long> findIdListByStatusAndCategory(FormStatus status, FormType.Category category);
+    List<Form> findByFormIdListWithUserAndGrade(List<Long> idList);
     List<FormUrlVo> findFormUrlByFormIdList(List<Long> idList);
     List<NumberOfApplicantsVo> findTypeAndCountGroupByType();
     List<NumberOfApplicantsVo> findOriginalTypeAndCountGroupByType();
@@ -1,16 +1,32 @@
 package com.bamdoliro.maru.infrastructure.persistence.form;
 
 import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.domain.form.domain.type.FormSortType;
 import com.bamdoliro.maru.domain.form.domain.type.FormStatus;
 import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.domain.form.domain.value.QSubject;
+import com.bamdoliro.maru.domain.form.domain.value.Subject;
+import com.bamdoliro.maru.domain.form.exception.InvalidCursorException;
+import com.bamdoliro.maru.domain.form.exception.InvalidPageSizeException;
 import com.bamdoliro.maru.infrastructure.persistence.form.vo.*;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.bamdoliro.maru.domain.form.domain.QForm.form;
@@ -19,7 +35,11 @@ import static com.bamdoliro.maru.domain.form.domain.QForm.form;
 @RequiredArgsConstructor
 public class FormRepositoryImpl implements FormRepositoryCustom {
 
+    private static final int UPDATE_CHUNK_SIZE = 1000;
+    private static final int STREAM_FETCH_SIZE = 500;
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     @Override
     public List<Form> findByStatus(FormStatus status) {
@@ -29,6 +49,170 @@ public class FormRepositoryImpl implements FormRepositoryCustom {
                 .fetch();
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<Form> findByStatusWithGrade(FormStatus status) {
+        return fetchWithGrade(eqStatus(status));
+    }
+
+    @Override
+    public List<Form> findByStatusWithUser(FormStatus status) {
+        return queryFactory
+                .selectFrom(form)
+                .join(form.user).fetchJoin()
+                .where(eqStatus(status))
+                .fetch();
+    }
+
+    // 과목, 자격증 목록은 지연 로딩되는 컬렉션이라 원서마다 조회 쿼리가 나가기 때문에
+    // 컬렉션별로 한 번씩 fetch join 해서 원서 수와 상관없이 쿼리 두 번으로 가져온다.
+    // 두 컬렉션을 한 쿼리에서 fetch join 하면 행이 곱해지고 MultipleBagFetchException 이 발생한다.
+    private List<Form> fetchWithGrade(Predicate predicate, OrderSpecifier<?>... orderSpecifiers) {
+        List<Form> formList = queryFactory
+                .selectFrom(form)
+                .leftJoin(form.grade.subjectList.value).fetchJoin()
+                .where(predicate)
+                .orderBy(orderSpecifiers)
+                .fetch();
+
+        if (!formList.isEmpty()) {
+            queryFactory
+                    .selectFrom(form)
+                    .leftJoin(form.grade.certificateList.value).fetchJoin()
+                    .where(predicate)
+                    .fetch();
+        }
+
+        return formList;
+    }
+
+    @Override
+    public List<FormSimpleVo> findFormSimpleList(FormStatus status, FormType.Category category, FormSortType sortType, Long cursor, Integer size) {
+        if (Objects.nonNull(size) && size < 1) {
+            throw new InvalidPageSizeException();
+        }
+
+        JPAQuery<FormSimpleVo> query = queryFactory
+                .select(new QFormSimpleVo(
+                        form.id,
+                        form.examinationNumber,
+                        form.applicant.name,
+                        form.applicant.birthday,
+                        form.education.graduationType,
+                        form.education.school.name,
+                        form.status,
+                        form.type,
+                        form.changedToRegular,
+                        form.score.totalScore
+                ))
+                .from(form)
+                .where(
+                        eqStatus(status),
+                        inCategory(category)
+                );
+
+        // 수험번호는 암호화되어 저장되기 때문에 DB에서 정렬할 수 없어 조회 후 정렬한다.
+        if (sortType == FormSortType.EXAMINATION_NUMBER) {
+            return sliceByCursor(
+                    query.fetch().stream()
+                            .sorted(Comparator.comparing(FormSimpleVo::getExaminationNumber, Comparator.nullsLast(Comparator.naturalOrder()))
+                                    .thenComparing(FormSimpleVo::getId))
+                            .toList(),
+                    cursor,
+                    size
+            );
+        }
+
+        query.where(afterCursor(sortType, cursor))
+                .orderBy(getOrderSpecifiers(sortType));
+
+        if (Objects.nonNull(size)) {
+            query.limit(size);
+        }
+
+        return query.fetch();
+    }
+
+    private BooleanExpression inCategory(FormType.Category category) {
+        if (Objects.isNull(category)) {
+            return null;
+        }
+
+        return form.type.in(getFormTypesByCategory(category));
+    }
+
+    private BooleanExpression afterCursor(FormSortType sortType, Long cursor) {
+        if (Objects.isNull(cursor)) {
+            return null;
+        }
+
+        BooleanExpression afterCursorId = form.id.gt(cursor);
+        if (sortType == FormSortType.FORM_ID) {
+            return afterCursorId;
+        }
+
+        // 점수가 없는 원서와 존재하지 않는 원서를 구분하려고 목록으로 가져온다.
+        List<Double> cursorScoreList = queryFactory
+                .select(form.score.totalScore)
+                .from(form)
+                .where(form.id.eq(cursor))
+                .fetch();
+
+        if (cursorScoreList.isEmpty()) {
+            throw new InvalidCursorException();
+        }
+
+        Double cursorScore = cursorScoreList.get(0);
+        if (Objects.isNull(cursorScore)) {
+            return form.score.totalScore.isNull().and(afterCursorId);
+        }
+
+        BooleanExpression afterCursorScore = sortType == FormSortType.TOTAL_SCORE_ASC
+                ? form.score.totalScore.gt(cursorScore)
+                : form.score.totalScore.lt(cursorScore);
+
+        return afterCursorScore
+                .or(form.score.totalScore.eq(cursorScore).and(afterCursorId))
+                .or(form.score.totalScore.isNull());
+    }
+
+    private OrderSpecifier<?>[] getOrderSpecifiers(FormSortType sortType) {
+        return switch (sortType) {
+            case TOTAL_SCORE_ASC -> new OrderSpecifier<?>[]{scoreMissingLast(), form.score.totalScore.asc(), form.id.asc()};
+            case TOTAL_SCORE_DESC -> new OrderSpecifier<?>[]{scoreMissingLast(), form.score.totalScore.desc(), form.id.asc()};
+            default -> new OrderSpecifier<?>[]{form.id.asc()};
+        };
+    }
+
+    // JPQL 로는 nulls last 가 SQL 에 그대로 전달되지 않아서, DB 마다 다른 null 정렬 순서에 기대지 않도록 직접 뒤로 보낸다.
+    private OrderSpecifier<Integer> scoreMissingLast() {
+        return new CaseBuilder()
+                .when(form.score.totalScore.isNull()).then(1)
+                .otherwise(0)
+                .asc();
+    }
+
+    private List<FormSimpleVo> sliceByCursor(List<FormSimpleVo> sortedList, Long cursor, Integer size) {
+        int from = 0;
+        if (Objects.nonNull(cursor)) {
+            from = -1;
+            for (int i = 0; i < sortedList.size(); i++) {
+                if (sortedList.get(i).getId().equals(cursor)) {
+                    from = i + 1;
+                    break;
+                }
+            }
+        }
+
+        // 조회 조건에 없는 커서로 처음부터 다시 보여주면 같은 원서가 중복되어 보이므로 거절한다.
+        if (from < 0) {
+            throw new InvalidCursorException();
+        }
+
+        int to = Objects.isNull(size) ? sortedList.size() : Math.min(sortedList.size(), from + size);
+        return sortedList.subList(from, to);
+    }
+
     @Override
     public List<Form> findByType(FormType type) {
         return queryFactory
@@ -80,176 +264,248 @@ public class FormRepositoryImpl implements FormRepositoryCustom {
     }
 
     @Override
-    public List<Form> findReceivedSpecialForm() {
+    public List<FormSelectionVo> findFormSelectionList(FormStatus status) {
         return queryFactory
-                .selectFrom(form)
-                .where(
-                        form.status.eq(FormStatus.RECEIVED)
-                                .and(
-                                        form.type.eq(FormType.REGULAR).not()
-                                                .and(form.type.eq(FormType.NATIONAL_VETERANS_EDUCATION).not())
-                                                .and(form.type.eq(FormType.SPECIAL_ADMISSION).not())
-                                )
-                )
-                .orderBy(form.score.firstRoundScore.desc())
+                .select(new QFormSelectionVo(
+                        form.id,
+                        form.type,
+                        form.changedToRegular,
+                        form.education.school.location,
+                        form.score.scaledFirstRoundScore,
+                        form.score.scaledTotalScore,
+                        form.score.subjectGradeScore,
+                        form.score.depthInterviewScore,
+                        form.score.ncsScore,
+                        form.score.thirdGradeFirstSemesterSubjectGradeScore,
+                        form.score.attendanceScore,
+                        form.score.volunteerScore
+                ))
+                .from(form)
+                .where(form.status.eq(status))
                 .fetch();
     }
 
     @Override
-    public List<Form> findReceivedRegularForm() {
+    public long updateStatusByFormIdList(FormStatus status, List<Long> idList) {
+        long count = 0;
+        LocalDateTime now = LocalDateTime.now();
+
+        // IN 절에 들어가는 파라미터 수를 제한하기 위해 나눠서 업데이트한다.
+        for (int from = 0; from < idList.size(); from += UPDATE_CHUNK_SIZE) {
+            count += queryFactory
+                    .update(form)
+                    .set(form.status, status)
+                    .set(form.updatedAt, now)
+                    .where(form.id.in(idList.subList(from, Math.min(idList.size(), from + UPDATE_CHUNK_SIZE))))
+                    .execute();
+        }
+
+        return count;
+    }
+
+    @Override
+    public List<Form> findFirstRoundForm() {
         return queryFactory
                 .selectFrom(form)
-                .where(
-                        form.status.eq(FormStatus.RECEIVED)
-                                .and(
-                                        form.type.eq(FormType.REGULAR)
-                                                .or(form.changedToRegular.isTrue())
-                                )
+                .where(form.status.eq(FormStatus.FIRST_PASSED)
+                        .or(form.status.eq(FormStatus.FIRST_FAILED))
                 )
-                .orderBy(form.score.firstRoundScore.desc())
                 .fetch();
     }
 
     @Override
-    public List<Form> findReceivedSupernumeraryForm() {
+    public List<Form> findMeisterTalentFirstRoundForm() {
         return queryFactory
                 .selectFrom(form)
-                .where(
-                        form.status.eq(FormStatus.RECEIVED)
-                                .and(
-                                        form.type.eq(FormType.SPECIAL_ADMISSION)
-                                                .or(form.type.eq(FormType.NATIONAL_VETERANS_EDUCATION))
-                                )
+                .where(form.status.eq(FormStatus.FIRST_PASSED)
+                        .and(form.type.eq(FormType.MEISTER_TALENT))
                 )
-                .orderBy(form.score.firstRoundScore.desc())
                 .fetch();
     }
 
     @Override
-    public List<Form> findFirstPassedSpecialForm() {
+    public List<Form> findNotExistsMeisterTalentAndChangedToRegularFirstRoundForm() {
         return queryFactory
                 .selectFrom(form)
-                .where(
-                        form.status.eq(FormStatus.FIRST_PASSED)
-                                .and(
-                                        form.type.eq(FormType.REGULAR).not()
-                                                .and(form.type.eq(FormType.NATIONAL_VETERANS_EDUCATION).not())
-                                                .and(form.type.eq(FormType.SPECIAL_ADMISSION).not())
-                                )
-                )
-                .orderBy(form.score.totalScore.desc(),
-                        form.score.subjectGradeScore.desc(),
-                        form.score.depthInterviewScore.desc(),
-                        form.score.ncsScore.desc(),
-                        form.score.thirdGradeFirstSemesterSubjectGradeScore.desc().nullsLast(),
-                        form.score.attendanceScore.desc(),
-                        form.score.volunteerScore.desc()
+                .where(form.status.eq(FormStatus.FIRST_PASSED)
+                        .and(form.type.ne(FormType.MEISTER_TALENT)
+                                .and(form.changedToRegular.isFalse()))
                 )
                 .fetch();
     }
 
     @Override
-    public List<Form> findFirstPassedRegularForm() {
+    public List<Form> findChangedToRegularFirstRoundForm() {
         return queryFactory
                 .selectFrom(form)
-                .where(
-                        form.status.eq(FormStatus.FIRST_PASSED)
-                                .and(
-                                        form.type.eq(FormType.REGULAR)
-                                                .or(form.changedToRegular.isTrue())
-                                )
-                )
-                .orderBy(form.score.totalScore.desc(),
-                        form.score.subjectGradeScore.desc(),
-                        form.score.depthInterviewScore.desc(),
-                        form.score.ncsScore.desc(),
-                        form.score.thirdGradeFirstSemesterSubjectGradeScore.desc().nullsLast(),
-                        form.score.attendanceScore.desc(),
-                        form.score.volunteerScore.desc()
+                .where(form.status.eq(FormStatus.FIRST_PASSED)
+                        .and(form.type.eq(FormType.REGULAR)
+                                .and(form.changedToRegular.isTrue()))
                 )
                 .fetch();
     }
 
     @Override
-    public List<Form> findFirstPassedSupernumeraryForm() {
+    public List<Form> findSecondRoundForm() {
         return queryFactory
                 .selectFrom(form)
-                .where(
-                        form.status.eq(FormStatus.FIRST_PASSED)
-                                .and(
-                                        form.type.eq(FormType.SPECIAL_ADMISSION)
-                                                .or(form.type.eq(FormType.NATIONAL_VETERANS_EDUCATION))
-                                )
-                )
-                .orderBy(form.score.totalScore.desc(),
-                        form.score.subjectGradeScore.desc(),
-                        form.score.depthInterviewScore.desc(),
-                        form.score.ncsScore.desc(),
-                        form.score.thirdGradeFirstSemesterSubjectGradeScore.desc().nullsLast(),
-                        form.score.attendanceScore.desc(),
-                        form.score.volunteerScore.desc()
+                .where(form.status.eq(FormStatus.FAILED)
+                        .or(form.status.eq(FormStatus.PASSED))
                 )
                 .fetch();
     }
 
     @Override
-    public List<Form> findFirstRoundForm() {
+    public List<SecondRoundScoreTargetVo> findSecondRoundScoreTargetList() {
         return queryFactory
-                .selectFrom(form)
+                .select(new QSecondRoundScoreTargetVo(
+                        form.id,
+                        form.examinationNumber,
+                        form.type,
+                        form.score.scaledFirstRoundScore
+                ))
+                .from(form)
                 .where(form.status.eq(FormStatus.FIRST_PASSED)
-                        .or(form.status.eq(FormStatus.FIRST_FAILED))
+                        .or(form.status.eq(FormStatus.NO_SHOW))
                 )
                 .fetch();
     }
 
     @Override
-    public List<Form> findMeisterTalentFirstRoundForm() {
+    public Stream<Form> streamByStatus(FormStatus status) {
+        return stream(
+                queryFactory
+                        .selectFrom(form)
+                        .where(eqStatus(status))
+                        .orderBy(categoryOrder(), form.changedToRegular.asc(), form.id.asc())
+        );
+    }
+
+    // 커서로 읽은 원서의 과목 목록을 원서마다 지연 로딩하지 않도록 여러 원서의 과목을 한 번에 가져온다.
+    @Override
+    public Map<Long, List<Subject>> findSubjectListByFormIdList(List<Long> idList) {
+        QSubject subject = new QSubject("subject");
+
         return queryFactory
-                .selectFrom(form)
-                .where(form.status.eq(FormStatus.FIRST_PASSED)
-                        .and(form.type.eq(FormType.MEISTER_TALENT))
-                )
-                .fetch();
+                .select(form.id, subject)
+                .from(form)
+                .join(form.grade.subjectList.value, subject)
+                .where(form.id.in(idList))
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        tuple -> tuple.get(form.id),
+                        Collectors.mapping(tuple -> tuple.get(subject), Collectors.toList())
+                ));
     }
 
     @Override
-    public List<Form> findNotExistsMeisterTalentAndChangedToRegularFirstRoundForm() {
+    public Stream<Form> streamFirstRoundForm() {
+        return stream(
+                queryFactory
+                        .selectFrom(form)
+                        .where(form.status.eq(FormStatus.FIRST_PASSED)
+                                .or(form.status.eq(FormStatus.FIRST_FAILED))
+                        )
+                        .orderBy(categoryOrder(), form.changedToRegular.asc(), form.score.firstRoundScore.asc(), form.id.asc())
+        );
+    }
+
+    @Override
+    public Stream<Form> streamSecondRoundForm() {
+        return stream(
+                queryFactory
+                        .selectFrom(form)
+                        .where(form.status.eq(FormStatus.FAILED)
+                                .or(form.status.eq(FormStatus.PASSED))
+                        )
+                        .orderBy(categoryOrder(), form.changedToRegular.asc(), form.score.totalScore.asc(), form.id.asc())
+        );
+    }
+
+    // 내보내기에서 DB 커서로 원서를 한 건씩 넘기고, 넘긴 원서는 영속성 컨텍스트에서 떼어내서 메모리에 쌓이지 않게 한다.
+    // 호출하는 쪽에서 트랜잭션 안에서 사용하고 다 쓴 스트림을 닫아야 한다.
+    private Stream<Form> stream(JPAQuery<Form> query) {
+        return query
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .stream()
+                .map(this::detach);
+    }
+
+    private Form detach(Form form) {
+        entityManager.detach(form);
+        return form;
+    }
+
+    // FormFacade 의 전형 분류 정렬 순서를 DB 에서 그대로 계산한다.
+    // 수험번호는 암호화되어 DB 에서 정렬할 수 없어서 같은 분류 안에서는 원서 id 순으로 내보낸다.
+    private OrderSpecifier<Integer> categoryOrder() {
+        return new CaseBuilder()
+                .when(form.type.in(getFormTypesByCategory(FormType.Category.REGULAR))).then(1)
+                .when(form.type.in(getFormTypesByCategory(FormType.Category.MEISTER_TALENT))).then(2)
+                .when(form.type.in(getFormTypesByCategory(FormType.Category.SOCIAL_INTEGRATION))).then(3)
+                .otherwise(4)
+                .asc();
+    }
+
+    @Override
+    public List<Form> findByFormIdList(List<Long> idList) {
         return queryFactory
                 .selectFrom(form)
-                .where(form.status.eq(FormStatus.FIRST_PASSED)
-                        .and(form.type.ne(FormType.MEISTER_TALENT)
-                                .and(form.changedToRegular.isFalse()))
-                )
+                .where(form.id.in(idList))
+                .orderBy(form.id.asc())
                 .fetch();
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public List<Form> findChangedToRegularFirstRoundForm() {
-        return queryFactory
+    public List<Form> findByFormIdListWithGrade(List<Long> idList) {
+        if (idList.isEmpty()) {
+            return List.of();
+        }
+
+        return fetchWithGrade(form.id.in(idList), form.id.asc());
+    }
+
+    // 사용자도 같은 영속성 컨텍스트에서 한 번 더 조회해서, 트랜잭션이 끝난 뒤 다른 스레드에서 읽어도 지연 로딩이 일어나지 않게 한다.
+    @Transactional(readOnly = true)
+    @Override
+    public List<Form> findByFormIdListWithUserAndGrade(List<Long> idList) {
+        if (idList.isEmpty()) {
+            return List.of();
+        }
+
+        List<Form> formList = fetchWithGrade(form.id.in(idList), form.id.asc());
+        queryFactory
                 .selectFrom(form)
-                .where(form.status.eq(FormStatus.FIRST_PASSED)
-                        .and(form.type.eq(FormType.REGULAR)
-                                .and(form.changedToRegular.isTrue()))
-                )
+                .join(form.user).fetchJoin()
+                .where(form.id.in(idList))
                 .fetch();
+
+        return formList;
     }
 
     @Override
-    public List<Form> findSecondRoundForm() {
+    public List<Long> findIdListByStatusAndCategory(FormStatus status, FormType.Category category) {
         return queryFactory
-                .selectFrom(form)
-                .where(form.status.eq(FormStatus.FAILED)
-                        .or(form.status.eq(FormStatus.PASSED))
+                .select(form.id)
+                .from(form)
+                .where(
+                        eqStatus(status),
+                        inCategory(category)
                 )
+                .orderBy(form.id.asc())
                 .fetch();
     }
 
     @Override
-    public List<Form> findByFormIdList(List<Long> idList) {
+    public List<Long> findIdListAfter(Long cursor, int size) {
         return queryFactory
-                .selectFrom(form)
-                .where(form.id.in(idList))
+                .select(form.id)
+                .from(form)
+                .where(cursor == null ? null : form.id.gt(cursor))
                 .orderBy(form.id.asc())
+                .limit(size)
                 .fetch();
     }
 
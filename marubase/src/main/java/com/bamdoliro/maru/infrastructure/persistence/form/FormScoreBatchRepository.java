@@ -0,0 +1,86 @@
+package com.bamdoliro.maru.infrastructure.persistence.form;
+
+import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.domain.form.domain.value.Score;
+import com.bamdoliro.maru.domain.form.domain.value.SecondRoundScore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Repository
+public class FormScoreBatchRepository {
+
+    private static final String UPDATE_SCORE_SQL = """
+            UPDATE tbl_form
+               SET subject_grade_score = ?,
+                   third_grade_first_semester_subject_grade_score = ?,
+                   attendance_score = ?,
+                   volunteer_score = ?,
+                   bonus_score = ?,
+                   total_score = ?,
+                   first_round_score = ?,
+                   scaled_first_round_score = ?,
+                   scaled_total_score = ?,
+                   updated_at = ?
+             WHERE form_id = ?
+            """;
+
+    // 불참 처리된 지원자도 다시 올린 점수로 되돌릴 수 있도록 1차 합격, 불참 상태만 고친다.
+    private static final String UPDATE_SECOND_ROUND_SCORE_SQL = """
+            UPDATE tbl_form
+               SET depth_interview_score = ?,
+                   ncs_score = ?,
+                   coding_test_score = ?,
+                   total_score = ?,
+                   scaled_total_score = ?,
+                   status = ?,
+                   updated_at = ?
+             WHERE form_id = ?
+               AND status IN ('FIRST_PASSED', 'NO_SHOW')
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void updateScoreList(List<Form> formList) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(UPDATE_SCORE_SQL, formList, formList.size(), (ps, form) -> {
+            Score score = form.getScore();
+            ps.setObject(1, score.getSubjectGradeScore(), Types.DOUBLE);
+            ps.setObject(2, score.getThirdGradeFirstSemesterSubjectGradeScore(), Types.DOUBLE);
+            ps.setInt(3, score.getAttendanceScore());
+            ps.setInt(4, score.getVolunteerScore());
+            ps.setInt(5, score.getBonusScore());
+            ps.setObject(6, score.getTotalScore(), Types.DOUBLE);
+            ps.setObject(7, score.getFirstRoundScore(), Types.DOUBLE);
+            ps.setLong(8, score.getScaledFirstRoundScore());
+            ps.setObject(9, score.getScaledTotalScore(), Types.BIGINT);
+            ps.setTimestamp(10, now);
+            ps.setLong(11, form.getId());
+        });
+    }
+
+    @Transactional
+    public void updateSecondRoundScoreList(List<SecondRoundScore> scoreList) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(UPDATE_SECOND_ROUND_SCORE_SQL, scoreList, scoreList.size(), (ps, score) -> {
+            ps.setObject(1, score.getDepthInterviewScore(), Types.DOUBLE);
+            ps.setObject(2, score.getNcsScore(), Types.DOUBLE);
+            ps.setObject(3, score.getCodingTestScore(), Types.DOUBLE);
+            ps.setObject(4, score.getTotalScore(), Types.DOUBLE);
+            ps.setObject(5, score.getScaledTotalScore(), Types.BIGINT);
+            ps.setString(6, score.getStatus().name());
+            ps.setTimestamp(7, now);
+            ps.setLong(8, score.getFormId());
+        });
+    }
+}
@@ -0,0 +1,7 @@
+package com.bamdoliro.maru.infrastructure.persistence.form;
+
+import com.bamdoliro.maru.domain.form.domain.ReScoringJob;
+import org.springframework.data.repository.CrudRepository;
+
+public interface ReScoringJobRepository extends CrudRepository<ReScoringJob, String>, ReScoringJobRepositoryCustom {
+}
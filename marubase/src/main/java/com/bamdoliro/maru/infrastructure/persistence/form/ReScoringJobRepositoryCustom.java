@@ -0,0 +1,18 @@
+package com.bamdoliro.maru.infrastructure.persistence.form;
+
+import com.bamdoliro.maru.domain.form.domain.value.ScoreChange;
+
+import java.util.List;
+
+public interface ReScoringJobRepositoryCustom {
+
+    boolean claim(String jobId);
+
+    void extendClaim(String jobId);
+
+    void releaseClaim(String jobId);
+
+    void appendChangeList(String jobId, List<ScoreChange> changeList);
+
+    List<ScoreChange> findChangeList(String jobId);
+}
@@ -0,0 +1,85 @@
+package com.bamdoliro.maru.infrastructure.persistence.form;
+
+import com.bamdoliro.maru.domain.form.domain.ReScoringJob;
+import com.bamdoliro.maru.domain.form.domain.value.ScoreChange;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ReScoringJobRepositoryImpl implements ReScoringJobRepositoryCustom {
+
+    // 재채점은 모든 원서의 점수를 다시 쓰기 때문에, 작업과 상관없이 한 번에 하나만 실행한다.
+    private static final String CLAIM_KEY = "form-re-scoring:active";
+    private static final String CHANGE_LIST_KEY_PREFIX = "form-re-scoring:changes:";
+    // 실행 중인 서버가 내려가도 다른 서버에서 이어서 실행할 수 있도록, 선점은 청크마다 연장하는 임대로 둔다.
+    private static final Duration CLAIM_LEASE = Duration.ofMinutes(5);
+    private static final int MAX_CHANGE_LIST_SIZE = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean claim(String jobId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(CLAIM_KEY, jobId, CLAIM_LEASE));
+    }
+
+    @Override
+    public void extendClaim(String jobId) {
+        if (jobId.equals(redisTemplate.opsForValue().get(CLAIM_KEY))) {
+            redisTemplate.expire(CLAIM_KEY, CLAIM_LEASE);
+        }
+    }
+
+    // 임대가 끝나서 다른 작업이 선점했을 수 있으므로, 자기가 잡은 선점만 푼다.
+    @Override
+    public void releaseClaim(String jobId) {
+        if (jobId.equals(redisTemplate.opsForValue().get(CLAIM_KEY))) {
+            redisTemplate.delete(CLAIM_KEY);
+        }
+    }
+
+    // 변동 내역은 작업 해시와 따로 두고 청크마다 덧붙이기만 해서, 진행 상황을 저장할 때 내역 전체를 다시 쓰지 않는다.
+    // 관리자가 확인할 만큼만 앞에서부터 남기고, 전체 건수는 작업의 changedCount 로 센다.
+    @Override
+    public void appendChangeList(String jobId, List<ScoreChange> changeList) {
+        if (changeList.isEmpty()) {
+            return;
+        }
+
+        String key = CHANGE_LIST_KEY_PREFIX + jobId;
+        redisTemplate.opsForList().rightPushAll(key, changeList.stream().map(this::serialize).toList());
+        redisTemplate.opsForList().trim(key, 0, MAX_CHANGE_LIST_SIZE - 1);
+        redisTemplate.expire(key, Duration.ofSeconds(ReScoringJob.TIME_TO_LIVE));
+    }
+
+    @Override
+    public List<ScoreChange> findChangeList(String jobId) {
+        return redisTemplate.opsForList()
+                .range(CHANGE_LIST_KEY_PREFIX + jobId, 0, -1)
+                .stream()
+                .map(this::deserialize)
+                .toList();
+    }
+
+    private String serialize(ScoreChange change) {
+        try {
+            return objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ScoreChange deserialize(String value) {
+        try {
+            return objectMapper.readValue(value, ScoreChange.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
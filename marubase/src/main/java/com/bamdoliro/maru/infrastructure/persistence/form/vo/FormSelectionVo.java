@@ -0,0 +1,77 @@
+package com.bamdoliro.maru.infrastructure.persistence.form.vo;
+
+import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.domain.form.domain.value.ScaledScore;
+import com.bamdoliro.maru.domain.form.domain.value.SecondRoundRankKey;
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+@Getter
+public class FormSelectionVo {
+
+    private Long id;
+    private FormType type;
+    private Boolean changedToRegular;
+    private String schoolLocation;
+    private Long scaledFirstRoundScore;
+    private Long scaledTotalScore;
+    private Double subjectGradeScore;
+    private Double depthInterviewScore;
+    private Double ncsScore;
+    private Double thirdGradeFirstSemesterSubjectGradeScore;
+    private Integer attendanceScore;
+    private Integer volunteerScore;
+    private SecondRoundRankKey secondRoundRankKey;
+
+    @QueryProjection
+    public FormSelectionVo(Long id, FormType type, Boolean changedToRegular, String schoolLocation, Long scaledFirstRoundScore, Long scaledTotalScore, Double subjectGradeScore, Double depthInterviewScore, Double ncsScore, Double thirdGradeFirstSemesterSubjectGradeScore, Integer attendanceScore, Integer volunteerScore) {
+        this.id = id;
+        this.type = type;
+        this.changedToRegular = changedToRegular;
+        this.schoolLocation = schoolLocation;
+        this.scaledFirstRoundScore = scaledFirstRoundScore;
+        this.scaledTotalScore = scaledTotalScore;
+        this.subjectGradeScore = subjectGradeScore;
+        this.depthInterviewScore = depthInterviewScore;
+        this.ncsScore = ncsScore;
+        this.thirdGradeFirstSemesterSubjectGradeScore = thirdGradeFirstSemesterSubjectGradeScore;
+        this.attendanceScore = attendanceScore;
+        this.volunteerScore = volunteerScore;
+        this.secondRoundRankKey = new SecondRoundRankKey(
+                ScaledScore.orLowest(scaledTotalScore),
+                ScaledScore.orLowest(subjectGradeScore),
+                ScaledScore.orLowest(depthInterviewScore),
+                ScaledScore.orLowest(ncsScore),
+                ScaledScore.orLowest(thirdGradeFirstSemesterSubjectGradeScore),
+                ScaledScore.orLowest(attendanceScore),
+                ScaledScore.orLowest(volunteerScore),
+                id
+        );
+    }
+
+    public FormSelectionVo(Form form) {
+        this(
+                form.getId(),
+                form.getType(),
+                form.getChangedToRegular(),
+                form.getEducation().getSchool().getLocation(),
+                form.getScore().getScaledFirstRoundScore(),
+                form.getScore().getScaledTotalScore(),
+                form.getScore().getSubjectGradeScore(),
+                form.getScore().getDepthInterviewScore(),
+                form.getScore().getNcsScore(),
+                form.getScore().getThirdGradeFirstSemesterSubjectGradeScore(),
+                form.getScore().getAttendanceScore(),
+                form.getScore().getVolunteerScore()
+        );
+    }
+
+    public boolean isBusan() {
+        return "부산광역시".equals(schoolLocation);
+    }
+
+    public boolean isRegular() {
+        return type.isRegular() || changedToRegular;
+    }
+}
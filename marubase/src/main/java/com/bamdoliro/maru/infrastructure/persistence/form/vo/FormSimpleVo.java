@@ -0,0 +1,38 @@
+package com.bamdoliro.maru.infrastructure.persistence.form.vo;
+
+import com.bamdoliro.maru.domain.form.domain.type.FormStatus;
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.domain.form.domain.type.GraduationType;
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+public class FormSimpleVo {
+
+    private Long id;
+    private Long examinationNumber;
+    private String name;
+    private LocalDate birthday;
+    private GraduationType graduationType;
+    private String school;
+    private FormStatus status;
+    private FormType type;
+    private Boolean changedToRegular;
+    private Double totalScore;
+
+    @QueryProjection
+    public FormSimpleVo(Long id, Long examinationNumber, String name, LocalDate birthday, GraduationType graduationType, String school, FormStatus status, FormType type, Boolean changedToRegular, Double totalScore) {
+        this.id = id;
+        this.examinationNumber = examinationNumber;
+        this.name = name;
+        this.birthday = birthday;
+        this.graduationType = graduationType;
+        this.school = school;
+        this.status = status;
+        this.type = type;
+        this.changedToRegular = changedToRegular;
+        this.totalScore = totalScore;
+    }
+}
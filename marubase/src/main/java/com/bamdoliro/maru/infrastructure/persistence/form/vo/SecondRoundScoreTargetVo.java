@@ -0,0 +1,22 @@
+package com.bamdoliro.maru.infrastructure.persistence.form.vo;
+
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+@Getter
+public class SecondRoundScoreTargetVo {
+
+    private Long id;
+    private Long examinationNumber;
+    private FormType type;
+    private Long scaledFirstRoundScore;
+
+    @QueryProjection
+    public SecondRoundScoreTargetVo(Long id, Long examinationNumber, FormType type, Long scaledFirstRoundScore) {
+        this.id = id;
+        this.examinationNumber = examinationNumber;
+        this.type = type;
+        this.scaledFirstRoundScore = scaledFirstRoundScore;
+    }
+}
@@ -0,0 +1,7 @@
+package com.bamdoliro.maru.infrastructure.persistence.message;
+
+import com.bamdoliro.maru.domain.message.domain.BulkMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BulkMessageRepository extends JpaRepository<BulkMessage, Long> {
+}
@@ -0,0 +1,40 @@
+package com.bamdoliro.maru.infrastructure.persistence.message;
+
+import com.bamdoliro.maru.domain.message.domain.BulkMessage;
+import com.bamdoliro.maru.domain.message.domain.type.OutboxMessageStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Repository
+public class OutboxMessageBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO tbl_outbox_message (bulk_message_id, phone_number, status, attempt_count, next_attempt_at, created_at, updated_at)
+            VALUES (?, ?, ?, 0, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void saveAll(BulkMessage bulkMessage, List<String> phoneNumberList) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, phoneNumberList, BATCH_SIZE, (ps, phoneNumber) -> {
+            ps.setLong(1, bulkMessage.getId());
+            ps.setString(2, phoneNumber);
+            ps.setString(3, OutboxMessageStatus.PENDING.name());
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+    }
+}
@@ -0,0 +1,23 @@
+package com.bamdoliro.maru.infrastructure.persistence.message;
+
+import com.bamdoliro.maru.domain.message.domain.OutboxMessage;
+import com.bamdoliro.maru.domain.message.domain.type.OutboxMessageStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    // 여러 서버가 동시에 가져가도 같은 메시지를 두 번 보내지 않도록 다른 서버가 잠근 행은 건너뛴다. (-2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<OutboxMessage> findByStatusInAndNextAttemptAtLessThanEqualOrderById(List<OutboxMessageStatus> statusList, LocalDateTime now, Pageable pageable);
+
+    long countByBulkMessageIdAndStatus(Long bulkMessageId, OutboxMessageStatus status);
+}
@@ -0,0 +1,14 @@
+package com.bamdoliro.maru.infrastructure.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RateLimitBucket {
+
+    private final String name;
+    private final String key;
+    private final int capacity;
+    private final int period;
+}
@@ -0,0 +1,110 @@
+package com.bamdoliro.maru.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+// 토큰 버킷을 Redis 에 두고, 채우기와 꺼내기를 Lua 스크립트 한 번으로 처리해서 서버가 여러 대여도 같은 버킷을 쓴다.
+// 시간은 서버마다 시계가 다를 수 있으므로 Redis 의 시간을 기준으로 한다.
+// 한 요청에 걸린 버킷을 모두 확인한 다음 전부 토큰이 있을 때만 꺼내서, 다른 버킷 때문에 거절된 요청은 토큰을 쓰지 않는다.
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+    @SuppressWarnings("unchecked")
+    private static final RedisScript<List<Long>> TOKEN_BUCKET_SCRIPT = (RedisScript<List<Long>>) (RedisScript<?>) RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+            local tokensList = {}
+            local retryAfterList = {}
+            local allowed = true
+            for i = 1, #KEYS do
+                local capacity = tonumber(ARGV[i * 2 - 1])
+                local rate = tonumber(ARGV[i * 2])
+                local bucket = redis.call('HMGET', KEYS[i], 'tokens', 'timestamp')
+                local tokens = tonumber(bucket[1]) or capacity
+                local timestamp = tonumber(bucket[2]) or now
+                tokens = math.min(capacity, tokens + math.max(0, now - timestamp) * rate)
+
+                tokensList[i] = tokens
+                retryAfterList[i] = 0
+                if tokens < 1 then
+                    allowed = false
+                    retryAfterList[i] = math.ceil((1 - tokens) / rate)
+                end
+            end
+
+            for i = 1, #KEYS do
+                local capacity = tonumber(ARGV[i * 2 - 1])
+                local rate = tonumber(ARGV[i * 2])
+                local tokens = tokensList[i]
+                if allowed then
+                    tokens = tokens - 1
+                end
+
+                redis.call('HSET', KEYS[i], 'tokens', tostring(tokens), 'timestamp', now)
+                redis.call('PEXPIRE', KEYS[i], math.ceil(capacity / rate))
+            end
+            return retryAfterList
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 요청을 받을 수 있으면 0을, 아니면 모든 버킷에 토큰이 생길 때까지 남은 밀리초를 돌려준다.
+    public long tryAcquire(List<RateLimitBucket> bucketList) {
+        if (bucketList.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> retryAfterList;
+        try {
+            retryAfterList = redisTemplate.execute(
+                    TOKEN_BUCKET_SCRIPT,
+                    bucketList.stream()
+                            .map(bucket -> KEY_PREFIX + bucket.getName() + ":" + bucket.getKey())
+                            .toList(),
+                    bucketList.stream()
+                            .flatMap(bucket -> Stream.of(
+                                    String.valueOf(bucket.getCapacity()),
+                                    String.valueOf((double) bucket.getCapacity() / (bucket.getPeriod() * 1000L))
+                            ))
+                            .toArray()
+            );
+        } catch (DataAccessException e) {
+            // Redis 가 내려가도 로그인과 인증은 되어야 하므로 제한하지 않고 통과시킨다.
+            log.warn("처리율 제한 확인 실패 {}", bucketList.stream().map(RateLimitBucket::getName).toList(), e);
+            return 0;
+        }
+
+        if (Objects.isNull(retryAfterList)) {
+            return 0;
+        }
+
+        long retryAfter = 0;
+        for (int i = 0; i < retryAfterList.size(); i++) {
+            if (retryAfterList.get(i) <= 0) {
+                continue;
+            }
+
+            retryAfter = Math.max(retryAfter, retryAfterList.get(i));
+            Counter.builder("maru.rate-limit.rejected")
+                    .tag("name", bucketList.get(i).getName())
+                    .register(meterRegistry)
+                    .increment();
+        }
+        return retryAfter;
+    }
+}
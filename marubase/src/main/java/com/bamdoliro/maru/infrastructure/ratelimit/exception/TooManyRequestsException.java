@@ -0,0 +1,16 @@
+package com.bamdoliro.maru.infrastructure.ratelimit.exception;
+
+import com.bamdoliro.maru.infrastructure.ratelimit.exception.error.RateLimitErrorProperty;
+import com.bamdoliro.maru.shared.error.MaruException;
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends MaruException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(long retryAfterSeconds) {
+        super(RateLimitErrorProperty.TOO_MANY_REQUESTS, retryAfterSeconds);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,15 @@
+package com.bamdoliro.maru.infrastructure.ratelimit.exception.error;
+
+import com.bamdoliro.maru.shared.error.ErrorProperty;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum RateLimitErrorProperty implements ErrorProperty {
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. %d초 후 다시 시도해주세요.");
+
+    private final HttpStatus status;
+    private final String message;
+}
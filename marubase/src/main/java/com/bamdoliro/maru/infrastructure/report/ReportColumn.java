@@ -0,0 +1,20 @@
+package com.bamdoliro.maru.infrastructure.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.function.Function;
+
+// 엑셀과 CSV 가 같은 열 정의를 쓰도록 제목, 엑셀 셀 스타일, 값을 꺼내는 방법을 함께 둔다.
+@Getter
+@AllArgsConstructor
+public class ReportColumn<T> {
+
+    private final String header;
+    private final String style;
+    private final Function<T, Object> value;
+
+    public Object valueOf(T row) {
+        return value.apply(row);
+    }
+}
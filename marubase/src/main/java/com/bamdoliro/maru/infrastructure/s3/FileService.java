@@ -4,6 +4,7 @@ import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.Headers;
 import com.amazonaws.services.s3.model.*;
+import com.bamdoliro.maru.infrastructure.s3.dto.response.FileResponse;
 import com.bamdoliro.maru.infrastructure.s3.dto.response.UrlResponse;
 import com.bamdoliro.maru.infrastructure.s3.validator.FileValidator;
 import com.bamdoliro.maru.infrastructure.s3.dto.request.FileMetadata;
@@ -12,6 +13,10 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Date;
 
 @Service
@@ -38,6 +43,52 @@ public class FileService {
         return request != null ? amazonS3Client.generatePresignedUrl(request).toString() : null;
     }
 
+    public FileResponse download(String folder, String fileName) {
+        try (S3Object object = amazonS3Client.getObject(bucket, createFileName(folder, fileName))) {
+            ObjectMetadata metadata = object.getObjectMetadata();
+            return new FileResponse(object.getObjectContent().readAllBytes(), metadata.getContentType(), metadata.getETag());
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                return null;
+            }
+            throw e;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void upload(String folder, String fileName, File file) {
+        amazonS3Client.putObject(bucket, createFileName(folder, fileName), file);
+    }
+
+    // 큰 파일을 메모리에 올리지 않도록 스트림을 그대로 넘긴다. 닫는 것은 호출하는 쪽의 몫이다.
+    public InputStream open(String folder, String fileName) {
+        try {
+            return amazonS3Client.getObject(bucket, createFileName(folder, fileName)).getObjectContent();
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    public void deleteOlderThan(String folder, Date threshold) {
+        ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(bucket)
+                .withPrefix(folder + "/");
+        ListObjectsV2Result result;
+
+        do {
+            result = amazonS3Client.listObjectsV2(request);
+            result.getObjectSummaries()
+                    .stream()
+                    .filter(summary -> summary.getLastModified().before(threshold))
+                    .forEach(summary -> amazonS3Client.deleteObject(bucket, summary.getKey()));
+            request.setContinuationToken(result.getNextContinuationToken());
+        } while (result.isTruncated());
+    }
+
     public UrlResponse getPresignedUrl(String folder, String fileName, FileMetadata metadata, FileValidator validator) {
         return new UrlResponse(
                 getUploadPresignedUrl(folder, fileName, metadata, validator),
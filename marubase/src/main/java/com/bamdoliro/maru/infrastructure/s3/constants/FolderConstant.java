@@ -9,4 +9,5 @@ public class FolderConstant {
     public static final String FORM = "form";
     public static final String NOTICE_FILE = "notice-file";
     public static final String ADMISSION_AND_PLEDGE = "admission-and-pledge";
+    public static final String EXPORT = "export";
 }
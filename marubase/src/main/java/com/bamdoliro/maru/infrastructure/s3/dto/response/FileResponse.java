@@ -0,0 +1,13 @@
+package com.bamdoliro.maru.infrastructure.s3.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FileResponse {
+
+    private byte[] content;
+    private String contentType;
+    private String eTag;
+}
@@ -0,0 +1,20 @@
+package com.bamdoliro.maru.infrastructure.scheduler;
+
+import com.bamdoliro.maru.domain.export.domain.ExportJob;
+import com.bamdoliro.maru.infrastructure.export.ExportFileStorage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class ExportScheduler {
+
+    private final ExportFileStorage exportFileStorage;
+
+    // 작업은 redis 에서 만료되므로, 같은 기간이 지난 파일도 지운다.
+    @Scheduled(fixedDelayString = "${export.cleanup-interval:PT1H}")
+    public void deleteExpiredFiles() {
+        exportFileStorage.deleteOlderThan(ExportJob.RETENTION);
+    }
+}
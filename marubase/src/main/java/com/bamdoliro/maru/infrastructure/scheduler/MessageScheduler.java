@@ -0,0 +1,21 @@
+package com.bamdoliro.maru.infrastructure.scheduler;
+
+import com.bamdoliro.maru.infrastructure.message.MessageDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 발송을 맡지 않을 서버나 테스트에서는 message.outbox.enabled 를 false 로 둔다.
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "message.outbox.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class MessageScheduler {
+
+    private final MessageDispatcher messageDispatcher;
+
+    @Scheduled(fixedDelayString = "${message.outbox.dispatch-interval:PT1S}")
+    public void dispatch() {
+        messageDispatcher.dispatch();
+    }
+}
@@ -1,17 +1,18 @@
 package com.bamdoliro.maru.infrastructure.xlsx;
 
-import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.infrastructure.report.ReportColumn;
 import com.bamdoliro.maru.infrastructure.xlsx.constant.XlsxConstant;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.*;
-import org.springframework.core.io.Resource;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Objects;
 
 @RequiredArgsConstructor
 @Component
@@ -19,28 +20,44 @@ public class XlsxGenerator {
 
     private final XlsxService xlsxService;
 
-    public Resource execute(String templateName, List<Form> formList, List<Function<Form, Object>> columnList, List<String> styleList) throws IOException {
-        Workbook workbook = xlsxService.openTemplate(templateName);
-        Sheet sheet = workbook.getSheetAt(0);
+    public <T> void execute(String templateName, List<T> rowList, List<ReportColumn<T>> columnList, OutputStream outputStream) throws IOException {
+        execute(templateName, null, rowList, columnList, outputStream);
+    }
+
+    public <T> void execute(String templateName, String title, List<T> rowList, List<ReportColumn<T>> columnList, OutputStream outputStream) throws IOException {
+        SXSSFWorkbook workbook = xlsxService.openStreamingTemplate(templateName, XlsxConstant.FIRST_ROW_INDEX_WITH_TITLE);
+        try {
+            // 제목은 템플릿에 있는 행이라 스트리밍 시트가 아니라 원본 시트에 쓴다.
+            if (Objects.nonNull(title)) {
+                xlsxService.writeTitle(workbook.getXSSFWorkbook().getSheetAt(0), title);
+            }
+
+            Sheet sheet = workbook.getSheetAt(0);
 
-        Map<String, CellStyle> styleMap = Map.of(
-                "default", xlsxService.createDefaultCellStyle(workbook),
-                "right", xlsxService.createRightCellStyle(workbook),
-                "empty", xlsxService.createEmptyCellStyle(workbook),
-                "date", xlsxService.createDateCellStyle(workbook)
-        );
+            Map<String, CellStyle> styleMap = Map.of(
+                    "default", xlsxService.createDefaultCellStyle(workbook),
+                    "right", xlsxService.createRightCellStyle(workbook),
+                    "empty", xlsxService.createEmptyCellStyle(workbook),
+                    "date", xlsxService.createDateCellStyle(workbook)
+            );
 
-        for (int index = 0; index < formList.size(); index++) {
-            Form form = formList.get(index);
-            Row row = sheet.createRow(index + XlsxConstant.FIRST_ROW_INDEX_WITH_TITLE);
-            int columnIndex = 0;
+            List<CellStyle> columnStyleList = columnList.stream()
+                    .map(column -> styleMap.get(column.getStyle()))
+                    .toList();
 
-            for (Function<Form, Object> column : columnList) {
-                createCell(row, columnIndex, column.apply(form), styleMap.get(styleList.get(columnIndex++)));
+            for (int index = 0; index < rowList.size(); index++) {
+                T value = rowList.get(index);
+                Row row = sheet.createRow(index + XlsxConstant.FIRST_ROW_INDEX_WITH_TITLE);
+
+                for (int columnIndex = 0; columnIndex < columnList.size(); columnIndex++) {
+                    createCell(row, columnIndex, columnList.get(columnIndex).valueOf(value), columnStyleList.get(columnIndex));
+                }
             }
-        }
 
-        return xlsxService.convertToByteArrayResource(workbook);
+            workbook.write(outputStream);
+        } finally {
+            xlsxService.dispose(workbook);
+        }
     }
 
     private void createCell(Row row, int cellIndex, Object value, CellStyle style) {
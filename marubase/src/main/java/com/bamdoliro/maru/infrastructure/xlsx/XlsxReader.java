@@ -0,0 +1,105 @@
+package com.bamdoliro.maru.infrastructure.xlsx;
+
+import com.bamdoliro.maru.domain.form.exception.InvalidFileException;
+import com.bamdoliro.maru.infrastructure.xlsx.dto.XlsxRow;
+import org.apache.poi.openxml4j.exceptions.NotOfficeXmlFileException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.ss.util.NumberToTextConverter;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.stereotype.Component;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// 시트를 DOM 으로 올리지 않고 SAX 로 읽으면서 한 행씩 넘겨준다.
+// 셀 값은 엑셀에 보이는 문자열 그대로이고, 수식은 마지막으로 계산된 값이 들어온다.
+@Component
+public class XlsxReader {
+
+    public void read(InputStream inputStream, int firstRowIndex, Consumer<XlsxRow> rowConsumer) throws IOException {
+        try (OPCPackage opcPackage = OPCPackage.open(inputStream)) {
+            XSSFReader reader = new XSSFReader(opcPackage);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+            Iterator<InputStream> sheetIterator = reader.getSheetsData();
+            if (!sheetIterator.hasNext()) {
+                throw new InvalidFileException("시트가 없습니다.");
+            }
+
+            try (InputStream sheet = sheetIterator.next()) {
+                XMLReader xmlReader = XMLHelper.newXMLReader();
+                xmlReader.setContentHandler(new XSSFSheetXMLHandler(
+                        reader.getStylesTable(),
+                        sharedStrings,
+                        new RowHandler(firstRowIndex, rowConsumer),
+                        new RawNumberFormatter(),
+                        false
+                ));
+                xmlReader.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException | NotOfficeXmlFileException e) {
+            throw new InvalidFileException("xlsx 파일을 읽을 수 없습니다.");
+        }
+    }
+
+    // 숫자는 표시 형식으로 반올림되지 않도록 저장된 값을 그대로 쓴다.
+    private static class RawNumberFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use4DigitYears) {
+            if (DateUtil.isADateFormat(formatIndex, formatString)) {
+                return super.formatRawCellContents(value, formatIndex, formatString, use4DigitYears);
+            }
+
+            return NumberToTextConverter.toText(value);
+        }
+    }
+
+    private static class RowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final int firstRowIndex;
+        private final Consumer<XlsxRow> rowConsumer;
+        private Map<Integer, String> valueMap;
+
+        private RowHandler(int firstRowIndex, Consumer<XlsxRow> rowConsumer) {
+            this.firstRowIndex = firstRowIndex;
+            this.rowConsumer = rowConsumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            valueMap = new HashMap<>();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (rowNum >= firstRowIndex && !valueMap.isEmpty()) {
+                rowConsumer.accept(new XlsxRow(rowNum, valueMap));
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            if (formattedValue == null || formattedValue.isBlank()) {
+                return;
+            }
+
+            valueMap.put((int) new CellReference(cellReference).getCol(), formattedValue.trim());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.bamdoliro.maru.infrastructure.xlsx;
 
+import com.bamdoliro.maru.infrastructure.xlsx.constant.XlsxConstant;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.BorderStyle;
 import org.apache.poi.ss.usermodel.Cell;
@@ -7,11 +8,14 @@ import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.CreationHelper;
 import org.apache.poi.ss.usermodel.FillPatternType;
 import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.DefaultIndexedColorMap;
 import org.apache.poi.xssf.usermodel.XSSFColor;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.ClassPathResource;
@@ -31,6 +35,20 @@ public class XlsxService {
         return new XSSFWorkbook(inputStream);
     }
 
+    // 템플릿의 제목과 머리글만 남기고, 그 아래 행은 일정 개수만 메모리에 두고 임시 파일로 내보내며 쓴다.
+    public SXSSFWorkbook openStreamingTemplate(String path, int firstRowIndex) throws IOException {
+        XSSFWorkbook template = (XSSFWorkbook) openTemplate(path);
+        XSSFSheet sheet = template.getSheetAt(0);
+        for (int index = sheet.getLastRowNum(); index >= firstRowIndex; index--) {
+            Row row = sheet.getRow(index);
+            if (row != null) {
+                sheet.removeRow(row);
+            }
+        }
+
+        return new SXSSFWorkbook(template, XlsxConstant.ROW_ACCESS_WINDOW_SIZE);
+    }
+
     public CellStyle createDefaultCellStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         style.setAlignment(HorizontalAlignment.CENTER);
@@ -85,6 +103,11 @@ public class XlsxService {
         return new ByteArrayResource(byteArrayOutputStream.toByteArray());
     }
 
+    public void dispose(SXSSFWorkbook workbook) throws IOException {
+        workbook.dispose();
+        workbook.close();
+    }
+
     public void writeTitle(Sheet sheet, String title) {
         Cell titleCell = sheet.getRow(0).getCell(0);
         titleCell.setCellValue(title);
@@ -4,4 +4,5 @@ public class XlsxConstant {
 
     public static final int FIRST_ROW_INDEX_WITH_NO_TITLE = 1;
     public static final int FIRST_ROW_INDEX_WITH_TITLE = 2;
+    public static final int ROW_ACCESS_WINDOW_SIZE = 100;
 }
@@ -0,0 +1,22 @@
+package com.bamdoliro.maru.infrastructure.xlsx.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class XlsxRow {
+
+    private final int rowNum;
+    private final Map<Integer, String> valueMap;
+
+    public String get(int columnIndex) {
+        return valueMap.get(columnIndex);
+    }
+
+    public boolean isBlank(int columnIndex) {
+        return !valueMap.containsKey(columnIndex);
+    }
+}
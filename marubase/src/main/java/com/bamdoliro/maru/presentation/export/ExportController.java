@@ -0,0 +1,77 @@
+package com.bamdoliro.maru.presentation.export;
+
+import com.bamdoliro.maru.application.export.DownloadExportUseCase;
+import com.bamdoliro.maru.application.export.QueryExportJobUseCase;
+import com.bamdoliro.maru.application.export.StartExportUseCase;
+import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.presentation.export.dto.request.StartExportRequest;
+import com.bamdoliro.maru.presentation.export.dto.response.ExportFileResponse;
+import com.bamdoliro.maru.presentation.export.dto.response.ExportJobResponse;
+import com.bamdoliro.maru.shared.auth.AuthenticationPrincipal;
+import com.bamdoliro.maru.shared.auth.Authority;
+import com.bamdoliro.maru.shared.response.SingleCommonResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+
+@RequiredArgsConstructor
+@RequestMapping("/exports")
+@RestController
+public class ExportController {
+
+    private final StartExportUseCase startExportUseCase;
+    private final QueryExportJobUseCase queryExportJobUseCase;
+    private final DownloadExportUseCase downloadExportUseCase;
+
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PostMapping
+    public SingleCommonResponse<ExportJobResponse> startExport(
+            @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
+            @RequestBody @Valid StartExportRequest request
+    ) {
+        return SingleCommonResponse.ok(
+                startExportUseCase.execute(request)
+        );
+    }
+
+    @GetMapping("/{job-id}")
+    public SingleCommonResponse<ExportJobResponse> getExportJob(
+            @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
+            @PathVariable(name = "job-id") String jobId
+    ) {
+        return SingleCommonResponse.ok(
+                queryExportJobUseCase.execute(jobId)
+        );
+    }
+
+    // 브라우저에서 링크로 바로 받을 수 있도록 토큰만 확인한다. 토큰은 한 번 쓰면 사라진다.
+    @GetMapping("/{job-id}/file")
+    public ResponseEntity<Resource> downloadExport(
+            @PathVariable(name = "job-id") String jobId,
+            @RequestParam(name = "token") String token
+    ) {
+        ExportFileResponse response = downloadExportUseCase.execute(jobId, token);
+
+        return ResponseEntity.ok()
+                .contentType(response.getType().getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(response.getType().getFileName(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .body(response.getResource());
+    }
+}
@@ -0,0 +1,18 @@
+package com.bamdoliro.maru.presentation.export.dto.request;
+
+import com.bamdoliro.maru.domain.export.domain.type.ExportType;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StartExportRequest {
+
+    @NotNull(message = "필수 값입니다.")
+    private ExportType type;
+
+    private Long fairId;
+}
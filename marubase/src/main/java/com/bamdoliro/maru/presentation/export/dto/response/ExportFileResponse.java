@@ -0,0 +1,14 @@
+package com.bamdoliro.maru.presentation.export.dto.response;
+
+import com.bamdoliro.maru.domain.export.domain.type.ExportType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.core.io.Resource;
+
+@Getter
+@AllArgsConstructor
+public class ExportFileResponse {
+
+    private ExportType type;
+    private Resource resource;
+}
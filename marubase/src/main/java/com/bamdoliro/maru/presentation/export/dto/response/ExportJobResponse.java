@@ -0,0 +1,36 @@
+package com.bamdoliro.maru.presentation.export.dto.response;
+
+import com.bamdoliro.maru.domain.export.domain.ExportJob;
+import com.bamdoliro.maru.domain.export.domain.type.ExportJobStatus;
+import com.bamdoliro.maru.domain.export.domain.type.ExportType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ExportJobResponse {
+
+    private String id;
+    private ExportType type;
+    private ExportJobStatus status;
+    private Long fileSize;
+    private String downloadUrl;
+    private String failureMessage;
+    private LocalDateTime requestedAt;
+    private LocalDateTime updatedAt;
+
+    public ExportJobResponse(ExportJob job) {
+        this.id = job.getId();
+        this.type = job.getType();
+        this.status = job.getStatus();
+        this.fileSize = job.getFileSize();
+        this.downloadUrl = job.getDownloadToken() != null
+                ? String.format("/exports/%s/file?token=%s", job.getId(), job.getDownloadToken())
+                : null;
+        this.failureMessage = job.getFailureMessage();
+        this.requestedAt = job.getRequestedAt();
+        this.updatedAt = job.getUpdatedAt();
+    }
+}
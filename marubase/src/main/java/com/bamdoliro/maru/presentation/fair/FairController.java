@@ -16,12 +16,12 @@ import com.bamdoliro.maru.shared.auth.Authority;
 import com.bamdoliro.maru.shared.response.CommonResponse;
 import com.bamdoliro.maru.shared.response.ListCommonResponse;
 import com.bamdoliro.maru.shared.response.SingleCommonResponse;
+import com.bamdoliro.maru.shared.response.StreamingResponseOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -82,12 +82,20 @@ public class FairController {
     }
 
     @GetMapping("/{fair-id}/export")
-    public ResponseEntity<Resource> exportFairAttendeeList(
+    public void exportFairAttendeeList(
             @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
-            @PathVariable(name = "fair-id") Long fairId
+            @PathVariable(name = "fair-id") Long fairId,
+            HttpServletResponse response
+    ) throws IOException {
+        exportAttendeeListUseCase.execute(fairId, new StreamingResponseOutputStream(response, MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")));
+    }
+
+    @GetMapping("/{fair-id}/export/csv")
+    public void exportFairAttendeeListAsCsv(
+            @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
+            @PathVariable(name = "fair-id") Long fairId,
+            HttpServletResponse response
     ) throws IOException {
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(exportAttendeeListUseCase.execute(fairId));
+        exportAttendeeListUseCase.executeCsv(fairId, new StreamingResponseOutputStream(response, MediaType.parseMediaType("text/csv; charset=UTF-8")));
     }
 }
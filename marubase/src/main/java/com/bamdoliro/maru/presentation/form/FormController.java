@@ -4,24 +4,32 @@ import com.bamdoliro.maru.application.form.*;
 import com.bamdoliro.maru.domain.form.domain.type.FormStatus;
 import com.bamdoliro.maru.domain.form.domain.type.FormType;
 import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.infrastructure.pdf.CachedPdf;
 import com.bamdoliro.maru.infrastructure.s3.dto.request.FileMetadata;
 import com.bamdoliro.maru.infrastructure.s3.dto.response.UrlResponse;
 import com.bamdoliro.maru.presentation.form.dto.request.PassOrFailFormListRequest;
+import com.bamdoliro.maru.presentation.form.dto.request.SimulateFirstPassRequest;
 import com.bamdoliro.maru.presentation.form.dto.request.SubmitFormRequest;
 import com.bamdoliro.maru.presentation.form.dto.request.UpdateFormRequest;
 import com.bamdoliro.maru.presentation.form.dto.response.*;
 import com.bamdoliro.maru.shared.auth.AuthenticationPrincipal;
 import com.bamdoliro.maru.shared.auth.Authority;
 import com.bamdoliro.maru.shared.response.CommonResponse;
+import com.bamdoliro.maru.shared.response.CursorListCommonResponse;
 import com.bamdoliro.maru.shared.response.ListCommonResponse;
 import com.bamdoliro.maru.shared.response.SingleCommonResponse;
+import com.bamdoliro.maru.shared.response.StreamingResponseOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -61,8 +69,13 @@ public class FormController {
     private final PassOrFailFormUseCase passOrFailFormUseCase;
     private final QueryFormUrlUseCase queryFormUrlUseCase;
     private final SelectSecondPassUseCase selectSecondPassUseCase;
+    private final SimulateFirstPassUseCase simulateFirstPassUseCase;
+    private final StartReScoringUseCase startReScoringUseCase;
+    private final ResumeReScoringUseCase resumeReScoringUseCase;
+    private final QueryReScoringJobUseCase queryReScoringJobUseCase;
     private final GenerateAllAdmissionTicketUseCase generateAllAdmissionTicketUseCase;
     private final QueryAdmissionAndPledgeUseCase queryAdmissionAndPledgeUseCase;
+    private final ExportAllFormUseCase exportAllFormUseCase;
 
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping
@@ -175,12 +188,22 @@ public class FormController {
     }
 
     @GetMapping("/export")
-    public ResponseEntity<Resource> exportForm(
-            @AuthenticationPrincipal(authority = Authority.USER) User user
+    public void exportForm(
+            @AuthenticationPrincipal(authority = Authority.USER) User user,
+            WebRequest request,
+            HttpServletResponse response
     ) {
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_PDF)
-                .body(exportFormUseCase.execute(user));
+        writeCachedPdf(exportFormUseCase.execute(user), request, response);
+    }
+
+    @GetMapping("/export/all")
+    public void exportAllForm(
+            @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
+            @RequestParam(name = "status", required = false) FormStatus status,
+            @RequestParam(name = "type", required = false) FormType.Category type,
+            HttpServletResponse response
+    ) {
+        exportAllFormUseCase.execute(status, type, new StreamingResponseOutputStream(response, MediaType.parseMediaType("application/zip")));
     }
 
     @GetMapping( "/admission-and-pledge")
@@ -203,14 +226,18 @@ public class FormController {
     }
 
     @GetMapping
-    public ListCommonResponse<FormSimpleResponse> getFormList(
+    public CursorListCommonResponse<FormSimpleResponse> getFormList(
             @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
             @RequestParam(name = "status", required = false) FormStatus status,
             @RequestParam(name = "type", required = false) FormType.Category type,
-            @RequestParam(name = "sort", required = false) String sort
+            @RequestParam(name = "sort", required = false) String sort,
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @RequestParam(name = "size", required = false) Integer size
     ) {
-        return ListCommonResponse.ok(
-                queryAllFormUseCase.execute(status, type, sort)
+        List<FormSimpleResponse> formList = queryAllFormUseCase.execute(status, type, sort, cursor, size);
+        return CommonResponse.ok(
+                formList,
+                FormSimpleResponse.nextCursorOf(formList, size)
         );
     }
 
@@ -233,30 +260,29 @@ public class FormController {
     }
 
     @GetMapping("/admission-ticket")
-    public ResponseEntity<Resource> generateAdmissionTicket(
-            @AuthenticationPrincipal(authority = Authority.USER) User user
+    public void generateAdmissionTicket(
+            @AuthenticationPrincipal(authority = Authority.USER) User user,
+            WebRequest request,
+            HttpServletResponse response
     ) {
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_PDF)
-                .body(generateAdmissionTicketUseCase.execute(user));
+        writeCachedPdf(generateAdmissionTicketUseCase.execute(user), request, response);
     }
 
     @GetMapping("/admission-tickets")
-    public ResponseEntity<Resource> generateAllAdmissionTicket(
-            @AuthenticationPrincipal(authority = Authority.ADMIN) User user
+    public void generateAllAdmissionTicket(
+            @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
+            HttpServletResponse response
     ) {
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_PDF)
-                .body(generateAllAdmissionTicketUseCase.execute());
+        generateAllAdmissionTicketUseCase.execute(new StreamingResponseOutputStream(response, MediaType.APPLICATION_PDF));
     }
 
     @GetMapping("/proof-of-application")
-    public ResponseEntity<Resource> generateProofOfApplication(
-            @AuthenticationPrincipal(authority = Authority.USER) User user
+    public void generateProofOfApplication(
+            @AuthenticationPrincipal(authority = Authority.USER) User user,
+            WebRequest request,
+            HttpServletResponse response
     ) {
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_PDF)
-                .body(generateProofOfApplicationUseCase.execute(user));
+        writeCachedPdf(generateProofOfApplicationUseCase.execute(user), request, response);
     }
 
     @GetMapping("/second-round/format")
@@ -269,57 +295,77 @@ public class FormController {
     }
 
     @PatchMapping("/second-round/score")
-    public ResponseEntity<Resource> updateSecondRoundScore(
+    public SingleCommonResponse<UpdateSecondRoundScoreResponse> updateSecondRoundScore(
             @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
             @RequestPart(value = "xlsx") MultipartFile file
     ) throws IOException {
-        Resource response = updateSecondRoundScoreUseCase.execute(file);
-        if (response == null) {
-            return ResponseEntity
-                    .noContent()
-                    .build();
-        } else {
-            return ResponseEntity
-                    .badRequest()
-                    .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                    .body(response);
-        }
+        return SingleCommonResponse.ok(
+                updateSecondRoundScoreUseCase.execute(file)
+        );
     }
 
     @GetMapping("/xlsx/final-passed")
-    public ResponseEntity<Resource> exportFinalPassedForm(
-            @AuthenticationPrincipal(authority = Authority.ADMIN) User user
+    public void exportFinalPassedForm(
+            @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
+            HttpServletResponse response
     ) throws IOException {
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(exportFinalPassedFormUseCase.execute());
+        exportFinalPassedFormUseCase.execute(new StreamingResponseOutputStream(response, MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")));
     }
 
     @GetMapping("/xlsx/first-round")
-    public ResponseEntity<Resource> exportFirstRoundResult(
-            @AuthenticationPrincipal(authority = Authority.ADMIN) User user
+    public void exportFirstRoundResult(
+            @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
+            HttpServletResponse response
     ) throws IOException {
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(exportFirstRoundResultUseCase.execute());
+        exportFirstRoundResultUseCase.execute(new StreamingResponseOutputStream(response, MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")));
     }
 
     @GetMapping("/xlsx/second-round")
-    public ResponseEntity<Resource> exportSecondRoundResult(
-            @AuthenticationPrincipal(authority = Authority.ADMIN) User user
+    public void exportSecondRoundResult(
+            @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
+            HttpServletResponse response
     ) throws IOException {
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(exportSecondRoundResultUseCase.execute());
+        exportSecondRoundResultUseCase.execute(new StreamingResponseOutputStream(response, MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")));
     }
 
     @GetMapping("/xlsx/result")
-    public ResponseEntity<Resource> exportResult(
-            @AuthenticationPrincipal(authority = Authority.ADMIN) User user
+    public void exportResult(
+            @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
+            HttpServletResponse response
     ) throws IOException {
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(exportResultUseCase.execute());
+        exportResultUseCase.execute(new StreamingResponseOutputStream(response, MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")));
+    }
+
+    @GetMapping("/csv/final-passed")
+    public void exportFinalPassedFormAsCsv(
+            @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
+            HttpServletResponse response
+    ) throws IOException {
+        exportFinalPassedFormUseCase.executeCsv(new StreamingResponseOutputStream(response, MediaType.parseMediaType("text/csv; charset=UTF-8")));
+    }
+
+    @GetMapping("/csv/first-round")
+    public void exportFirstRoundResultAsCsv(
+            @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
+            HttpServletResponse response
+    ) throws IOException {
+        exportFirstRoundResultUseCase.executeCsv(new StreamingResponseOutputStream(response, MediaType.parseMediaType("text/csv; charset=UTF-8")));
+    }
+
+    @GetMapping("/csv/second-round")
+    public void exportSecondRoundResultAsCsv(
+            @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
+            HttpServletResponse response
+    ) throws IOException {
+        exportSecondRoundResultUseCase.executeCsv(new StreamingResponseOutputStream(response, MediaType.parseMediaType("text/csv; charset=UTF-8")));
+    }
+
+    @GetMapping("/csv/result")
+    public void exportResultAsCsv(
+            @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
+            HttpServletResponse response
+    ) throws IOException {
+        exportResultUseCase.executeCsv(new StreamingResponseOutputStream(response, MediaType.parseMediaType("text/csv; charset=UTF-8")));
     }
 
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -359,4 +405,55 @@ public class FormController {
     ) {
         selectSecondPassUseCase.execute();
     }
-}
\ No newline at end of file
+
+    @GetMapping("/first-round/simulation")
+    public SingleCommonResponse<FirstPassSimulationResponse> simulateFirstPass(
+            @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
+            @ModelAttribute @Valid SimulateFirstPassRequest request
+    ) {
+        return SingleCommonResponse.ok(
+                simulateFirstPassUseCase.execute(request)
+        );
+    }
+
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PostMapping("/re-scoring")
+    public SingleCommonResponse<ReScoringJobResponse> startReScoring(
+            @AuthenticationPrincipal(authority = Authority.ADMIN) User user
+    ) {
+        return SingleCommonResponse.ok(
+                startReScoringUseCase.execute()
+        );
+    }
+
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PostMapping("/re-scoring/{job-id}/resume")
+    public SingleCommonResponse<ReScoringJobResponse> resumeReScoring(
+            @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
+            @PathVariable(name = "job-id") String jobId
+    ) {
+        return SingleCommonResponse.ok(
+                resumeReScoringUseCase.execute(jobId)
+        );
+    }
+
+    @GetMapping("/re-scoring/{job-id}")
+    public SingleCommonResponse<ReScoringJobResponse> getReScoringJob(
+            @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
+            @PathVariable(name = "job-id") String jobId
+    ) {
+        return SingleCommonResponse.ok(
+                queryReScoringJobUseCase.execute(jobId)
+        );
+    }
+
+    // If-None-Match 가 ETag 와 같으면 304 만 응답하고 pdf 는 보내지 않는다. 캐시하지 않은 pdf 는 ETag 가 없다.
+    private void writeCachedPdf(CachedPdf pdf, WebRequest request, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        if (pdf.getETag() != null && request.checkNotModified(pdf.getETag())) {
+            return;
+        }
+
+        pdf.writeTo(new StreamingResponseOutputStream(response, MediaType.APPLICATION_PDF));
+    }
+}
@@ -0,0 +1,57 @@
+package com.bamdoliro.maru.presentation.form.dto.request;
+
+import com.bamdoliro.maru.domain.form.domain.value.SelectionQuota;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Objects;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulateFirstPassRequest {
+
+    @Min(value = 0, message = "0 이상이여야 합니다.")
+    private Integer regular;
+
+    @Min(value = 0, message = "0 이상이여야 합니다.")
+    private Integer meisterTalent;
+
+    @Min(value = 0, message = "0 이상이여야 합니다.")
+    private Integer socialIntegration;
+
+    @Min(value = 0, message = "0 이상이여야 합니다.")
+    private Integer nationalVeteransEducation;
+
+    @Min(value = 0, message = "0 이상이여야 합니다.")
+    private Integer specialAdmission;
+
+    @DecimalMin(value = "1.0", message = "1 이상이여야 합니다.")
+    private Double multiple;
+
+    @DecimalMin(value = "0.0", message = "0 이상이여야 합니다.")
+    @DecimalMax(value = "1.0", message = "1 이하여야 합니다.")
+    private Double otherRegionRate;
+
+    private boolean refresh;
+
+    public SelectionQuota toQuota() {
+        SelectionQuota defaultQuota = SelectionQuota.defaultQuota();
+
+        return new SelectionQuota(
+                Objects.requireNonNullElse(regular, defaultQuota.getRegular()),
+                Objects.requireNonNullElse(meisterTalent, defaultQuota.getMeisterTalent()),
+                Objects.requireNonNullElse(socialIntegration, defaultQuota.getSocialIntegration()),
+                Objects.requireNonNullElse(nationalVeteransEducation, defaultQuota.getNationalVeteransEducation()),
+                Objects.requireNonNullElse(specialAdmission, defaultQuota.getSpecialAdmission()),
+                Objects.requireNonNullElse(multiple, defaultQuota.getMultiple()),
+                Objects.requireNonNullElse(otherRegionRate, defaultQuota.getOtherRegionRate())
+        );
+    }
+}
@@ -0,0 +1,31 @@
+package com.bamdoliro.maru.presentation.form.dto.response;
+
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.domain.form.domain.value.CategorySelection;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CategorySimulationResponse {
+
+    private FormType.Category category;
+    private Integer applicantCount;
+    private Integer quota;
+    private Integer passedCount;
+    private Double cutOffScore;
+    private Integer tieCount;
+    private List<Long> passedFormIdList;
+
+    public CategorySimulationResponse(CategorySelection selection) {
+        this.category = selection.getCategory();
+        this.applicantCount = selection.getApplicantCount();
+        this.quota = selection.getQuota();
+        this.passedCount = selection.getPassedIdList().size();
+        this.cutOffScore = selection.getCutOffScore();
+        this.tieCount = selection.getTieCount();
+        this.passedFormIdList = selection.getPassedIdList();
+    }
+}
@@ -0,0 +1,31 @@
+package com.bamdoliro.maru.presentation.form.dto.response;
+
+import com.bamdoliro.maru.domain.form.domain.value.FirstRoundSelection;
+import com.bamdoliro.maru.domain.form.domain.value.FirstRoundSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class FirstPassSimulationResponse {
+
+    private Integer applicantCount;
+    private Integer passedCount;
+    private Integer changedToRegularCount;
+    private LocalDateTime snapshotCreatedAt;
+    private List<CategorySimulationResponse> categoryList;
+
+    public FirstPassSimulationResponse(FirstRoundSnapshot snapshot, FirstRoundSelection selection) {
+        this.applicantCount = snapshot.getCandidateList().size();
+        this.passedCount = selection.getPassedIdList().size();
+        this.changedToRegularCount = selection.getChangedToRegularIdList().size();
+        this.snapshotCreatedAt = snapshot.getCreatedAt();
+        this.categoryList = selection.getCategorySelectionList()
+                .stream()
+                .map(CategorySimulationResponse::new)
+                .toList();
+    }
+}
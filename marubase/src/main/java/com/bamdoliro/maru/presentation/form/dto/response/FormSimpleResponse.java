@@ -5,10 +5,13 @@ import com.bamdoliro.maru.domain.form.domain.Form;
 import com.bamdoliro.maru.domain.form.domain.type.FormStatus;
 import com.bamdoliro.maru.domain.form.domain.type.FormType;
 import com.bamdoliro.maru.domain.form.domain.type.GraduationType;
+import com.bamdoliro.maru.infrastructure.persistence.form.vo.FormSimpleVo;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
 
 @Getter
 @AllArgsConstructor
@@ -43,4 +46,28 @@ public class FormSimpleResponse {
         this.firstRoundPassed = form.isFirstPassed();
         this.secondRoundPassed = form.isPassed();
     }
+
+    public FormSimpleResponse(FormSimpleVo vo) {
+        this.id = vo.getId();
+        this.examinationNumber = vo.getExaminationNumber();
+        this.name = vo.getName();
+        this.birthday = vo.getBirthday();
+        this.graduationType = vo.getGraduationType();
+        this.school = vo.getSchool();
+        this.status = vo.getStatus();
+        this.type = vo.getType();
+        this.isChangedToRegular = vo.getChangedToRegular();
+        this.totalScore = vo.getTotalScore();
+        this.hasDocument = vo.getStatus().isReceived();
+        this.firstRoundPassed = vo.getStatus().isFirstPassed();
+        this.secondRoundPassed = vo.getStatus().isPassed();
+    }
+
+    public static Long nextCursorOf(List<FormSimpleResponse> formList, Integer size) {
+        if (Objects.isNull(size) || formList.isEmpty() || formList.size() < size) {
+            return null;
+        }
+
+        return formList.get(formList.size() - 1).getId();
+    }
 }
@@ -0,0 +1,44 @@
+package com.bamdoliro.maru.presentation.form.dto.response;
+
+import com.bamdoliro.maru.domain.form.domain.ReScoringJob;
+import com.bamdoliro.maru.domain.form.domain.type.ReScoringJobStatus;
+import com.bamdoliro.maru.domain.form.domain.value.ScoreChange;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ReScoringJobResponse {
+
+    private String id;
+    private ReScoringJobStatus status;
+    private Long totalCount;
+    private Long processedCount;
+    private Long changedCount;
+    private Long failedCount;
+    private List<Long> failedFormIdList;
+    private String failureMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private List<ScoreChangeResponse> changeList;
+
+    public ReScoringJobResponse(ReScoringJob job, List<ScoreChange> changeList) {
+        this.id = job.getId();
+        this.status = job.getStatus();
+        this.totalCount = job.getTotalCount();
+        this.processedCount = job.getProcessedCount();
+        this.changedCount = job.getChangedCount();
+        this.failedCount = job.getFailedCount();
+        this.failedFormIdList = job.getFailedFormIdList();
+        this.failureMessage = job.getFailureMessage();
+        this.startedAt = job.getStartedAt();
+        this.updatedAt = job.getUpdatedAt();
+        this.changeList = changeList
+                .stream()
+                .map(ScoreChangeResponse::new)
+                .toList();
+    }
+}
@@ -0,0 +1,24 @@
+package com.bamdoliro.maru.presentation.form.dto.response;
+
+import com.bamdoliro.maru.domain.form.domain.value.ScoreChange;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ScoreChangeResponse {
+
+    private Long formId;
+    private Long examinationNumber;
+    private Double beforeScore;
+    private Double afterScore;
+    private Double difference;
+
+    public ScoreChangeResponse(ScoreChange change) {
+        this.formId = change.getFormId();
+        this.examinationNumber = change.getExaminationNumber();
+        this.beforeScore = change.getBeforeScore();
+        this.afterScore = change.getAfterScore();
+        this.difference = change.getDifference();
+    }
+}
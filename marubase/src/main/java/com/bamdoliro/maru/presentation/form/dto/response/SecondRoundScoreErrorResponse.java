@@ -0,0 +1,14 @@
+package com.bamdoliro.maru.presentation.form.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SecondRoundScoreErrorResponse {
+
+    private Integer row;
+    private Long examinationNumber;
+    private String column;
+    private String message;
+}
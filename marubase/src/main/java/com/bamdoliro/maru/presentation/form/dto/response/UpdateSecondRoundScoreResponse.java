@@ -0,0 +1,15 @@
+package com.bamdoliro.maru.presentation.form.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class UpdateSecondRoundScoreResponse {
+
+    private Integer updatedCount;
+    private Integer noShowCount;
+    private List<SecondRoundScoreErrorResponse> errorList;
+}
@@ -1,12 +1,15 @@
 package com.bamdoliro.maru.presentation.message;
 
+import com.bamdoliro.maru.application.message.QueryBulkMessageUseCase;
 import com.bamdoliro.maru.application.message.SendMessageUseCase;
 import com.bamdoliro.maru.domain.user.domain.User;
 import com.bamdoliro.maru.presentation.message.dto.request.SendMessageByStatusRequest;
 import com.bamdoliro.maru.presentation.message.dto.request.SendMessageByTypeRequest;
 import com.bamdoliro.maru.presentation.message.dto.request.SendMessageToAllUserRequest;
+import com.bamdoliro.maru.presentation.message.dto.response.BulkMessageResponse;
 import com.bamdoliro.maru.shared.auth.AuthenticationPrincipal;
 import com.bamdoliro.maru.shared.auth.Authority;
+import com.bamdoliro.maru.shared.response.SingleCommonResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -18,31 +21,48 @@ import org.springframework.web.bind.annotation.*;
 public class MessageController {
 
     private final SendMessageUseCase sendMessageUseCase;
+    private final QueryBulkMessageUseCase queryBulkMessageUseCase;
 
-    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @ResponseStatus(HttpStatus.ACCEPTED)
     @PostMapping("/status")
-    public void sendMessageByStatus(
+    public SingleCommonResponse<BulkMessageResponse> sendMessageByStatus(
             @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
             @RequestBody @Valid SendMessageByStatusRequest request
     ) {
-        sendMessageUseCase.execute(request);
+        return SingleCommonResponse.ok(
+                sendMessageUseCase.execute(request)
+        );
     }
 
-    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @ResponseStatus(HttpStatus.ACCEPTED)
     @PostMapping("/type")
-    public void sendMessageByType(
+    public SingleCommonResponse<BulkMessageResponse> sendMessageByType(
             @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
             @RequestBody @Valid SendMessageByTypeRequest request
     ) {
-        sendMessageUseCase.execute(request);
+        return SingleCommonResponse.ok(
+                sendMessageUseCase.execute(request)
+        );
     }
 
-    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @ResponseStatus(HttpStatus.ACCEPTED)
     @PostMapping("/all")
-    public void sendMessageToAllUser(
+    public SingleCommonResponse<BulkMessageResponse> sendMessageToAllUser(
             @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
             @RequestBody @Valid SendMessageToAllUserRequest request
     ) {
-        sendMessageUseCase.execute(request);
+        return SingleCommonResponse.ok(
+                sendMessageUseCase.execute(request)
+        );
+    }
+
+    @GetMapping("/{bulk-message-id}")
+    public SingleCommonResponse<BulkMessageResponse> getBulkMessage(
+            @AuthenticationPrincipal(authority = Authority.ADMIN) User user,
+            @PathVariable(name = "bulk-message-id") Long bulkMessageId
+    ) {
+        return SingleCommonResponse.ok(
+                queryBulkMessageUseCase.execute(bulkMessageId)
+        );
     }
 }
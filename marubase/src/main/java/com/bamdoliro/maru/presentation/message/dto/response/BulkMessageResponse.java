@@ -0,0 +1,30 @@
+package com.bamdoliro.maru.presentation.message.dto.response;
+
+import com.bamdoliro.maru.domain.message.domain.BulkMessage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class BulkMessageResponse {
+
+    private Long id;
+    private String title;
+    private Integer recipientCount;
+    private Long pendingCount;
+    private Long sentCount;
+    private Long failedCount;
+    private LocalDateTime createdAt;
+
+    public BulkMessageResponse(BulkMessage bulkMessage, Long sentCount, Long failedCount) {
+        this.id = bulkMessage.getId();
+        this.title = bulkMessage.getTitle();
+        this.recipientCount = bulkMessage.getRecipientCount();
+        this.pendingCount = bulkMessage.getRecipientCount() - sentCount - failedCount;
+        this.sentCount = sentCount;
+        this.failedCount = failedCount;
+        this.createdAt = bulkMessage.getCreatedAt();
+    }
+}
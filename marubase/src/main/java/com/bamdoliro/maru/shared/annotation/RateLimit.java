@@ -0,0 +1,23 @@
+package com.bamdoliro.maru.shared.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 같은 name 과 key 로 들어온 요청은 capacity 만큼 한 번에 보낼 수 있고, period 초에 걸쳐 다시 채워진다.
+// key 는 메서드 인자를 참조하는 SpEL 이고, 요청한 클라이언트의 IP 는 #clientIp 로 쓸 수 있다.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(RateLimits.class)
+public @interface RateLimit {
+
+    String name();
+
+    String key();
+
+    int capacity();
+
+    int period();
+}
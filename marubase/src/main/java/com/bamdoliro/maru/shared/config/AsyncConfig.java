@@ -0,0 +1,131 @@
+package com.bamdoliro.maru.shared.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Value("${form.re-scoring.parallelism:0}")
+    private int reScoringParallelism;
+
+    @Value("${form.admission-ticket.concurrency:0}")
+    private int admissionTicketConcurrency;
+
+    @Value("${form.archive.concurrency:0}")
+    private int formArchiveConcurrency;
+
+    @Value("${pdf.picture-cache.concurrency:8}")
+    private int identificationPictureConcurrency;
+
+    @Value("${export.concurrency:2}")
+    private int exportConcurrency;
+
+    @Value("${export.queue-capacity:20}")
+    private int exportQueueCapacity;
+
+    @Value("${message.verification.concurrency:16}")
+    private int verificationMessageConcurrency;
+
+    @Value("${message.verification.queue-capacity:1000}")
+    private int verificationMessageQueueCapacity;
+
+    @Value("${password.hashing.concurrency:0}")
+    private int passwordHashingConcurrency;
+
+    @Value("${password.hashing.queue-capacity:50}")
+    private int passwordHashingQueueCapacity;
+
+    // 재채점 작업은 한 번에 하나만 실행한다. 대기열이 없어서 실행 중에 들어온 요청은 거절된다.
+    @Bean
+    public ThreadPoolTaskExecutor reScoringJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("re-scoring-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool reScoringPool() {
+        return new ForkJoinPool(reScoringParallelism > 0 ? reScoringParallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor admissionTicketExecutor() {
+        int concurrency = admissionTicketConcurrency > 0 ? admissionTicketConcurrency : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setThreadNamePrefix("admission-ticket-");
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor formArchiveExecutor() {
+        int concurrency = formArchiveConcurrency > 0 ? formArchiveConcurrency : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setThreadNamePrefix("form-archive-");
+        return executor;
+    }
+
+    // 증명사진은 S3 에서 받기만 하므로 CPU 수와 상관없이 정해진 수만큼 동시에 받는다.
+    @Bean
+    public ThreadPoolTaskExecutor identificationPictureExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(identificationPictureConcurrency);
+        executor.setMaxPoolSize(identificationPictureConcurrency);
+        executor.setThreadNamePrefix("identification-picture-");
+        return executor;
+    }
+
+    // 무거운 내보내기가 요청 스레드와 DB 커넥션을 다 쓰지 않도록 동시에 실행하는 수를 제한한다.
+    // 대기열이 가득 차면 TaskRejectedException 이 발생한다.
+    @Bean
+    public ThreadPoolTaskExecutor exportJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(exportConcurrency);
+        executor.setMaxPoolSize(exportConcurrency);
+        executor.setQueueCapacity(exportQueueCapacity);
+        executor.setThreadNamePrefix("export-");
+        return executor;
+    }
+
+    // 공급자 응답을 기다리기만 하므로 CPU 수와 상관없이 정해진 수만큼 동시에 보낸다.
+    // 대기열이 가득 차면 TaskRejectedException 이 발생한다.
+    @Bean
+    public ThreadPoolTaskExecutor verificationMessageExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(verificationMessageConcurrency);
+        executor.setMaxPoolSize(verificationMessageConcurrency);
+        executor.setQueueCapacity(verificationMessageQueueCapacity);
+        executor.setThreadNamePrefix("verification-message-");
+        return executor;
+    }
+
+    // 비밀번호 해싱은 CPU 만 쓰므로 CPU 수만큼만 동시에 돌린다.
+    // 기다리는 요청 스레드가 톰캣 스레드를 다 차지하지 않도록 대기열을 작게 두고, 가득 차면 TaskRejectedException 이 발생한다.
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingExecutor() {
+        int concurrency = passwordHashingConcurrency > 0 ? passwordHashingConcurrency : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(passwordHashingQueueCapacity);
+        executor.setThreadNamePrefix("password-hashing-");
+        return executor;
+    }
+}
@@ -1,5 +1,7 @@
 package com.bamdoliro.maru.shared.config;
 
+import com.bamdoliro.maru.infrastructure.persistence.converter.encryptor.FieldStringEncryptor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.jasypt.encryption.StringEncryptor;
@@ -13,20 +15,32 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class JasyptConfig {
 
+    private final MeterRegistry meterRegistry;
+
     @Value("${spring.jasypt.encryptor.key}")
     private String key;
 
     @Value("${spring.jasypt.encryptor.salt}")
     private String salt;
 
+    @Value("${spring.jasypt.encryptor.pool-size:0}")
+    private int poolSize;
+
+    @Value("${spring.jasypt.encryptor.decrypt-cache-size:0}")
+    private int decryptCacheSize;
+
     @Bean
     public StringEncryptor stringEncryptor() {
+        return new FieldStringEncryptor(pbeStringEncryptor(), decryptCacheSize, meterRegistry);
+    }
+
+    private StringEncryptor pbeStringEncryptor() {
         PooledPBEStringEncryptor encryptor = new PooledPBEStringEncryptor();
         encryptor.setProvider(new BouncyCastleProvider());
         encryptor.setPassword(key);
         encryptor.setAlgorithm("PBEWithSHA256And256BitAES-CBC-BC");
         encryptor.setKeyObtentionIterations(1000);
-        encryptor.setPoolSize(1);
+        encryptor.setPoolSize(poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors());
 
         encryptor.setSaltGenerator(new StringFixedSaltGenerator(salt));
         return encryptor;
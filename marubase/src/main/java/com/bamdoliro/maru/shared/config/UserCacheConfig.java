@@ -0,0 +1,25 @@
+package com.bamdoliro.maru.shared.config;
+
+import com.bamdoliro.maru.infrastructure.cache.UserCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ConditionalOnProperty(name = "auth.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+@Configuration
+public class UserCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer userCacheInvalidationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            UserCache userCache
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(userCache, new ChannelTopic(UserCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
@@ -1,11 +1,15 @@
 package com.bamdoliro.maru.shared.config;
 
 import com.bamdoliro.maru.shared.auth.AuthenticationArgumentResolver;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
@@ -15,12 +19,25 @@ import java.util.List;
 public class WebConfig implements WebMvcConfigurer {
 
     private final AuthenticationArgumentResolver authenticationArgumentResolver;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactoryProvider;
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(authenticationArgumentResolver);
     }
 
+    // open-in-view 세션은 첫 조회 뒤로 요청이 끝날 때까지 커넥션을 쥐고 있다.
+    // 로그인은 조회한 다음 BCrypt 스레드를 기다리므로, 인증 요청에는 세션을 열지 않아서 기다리는 동안 커넥션을 돌려놓는다.
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        entityManagerFactoryProvider.ifAvailable(entityManagerFactory -> {
+            OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+            interceptor.setEntityManagerFactory(entityManagerFactory);
+            registry.addWebRequestInterceptor(interceptor)
+                    .excludePathPatterns("/auth", "/auth/**");
+        });
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -1,9 +1,11 @@
 package com.bamdoliro.maru.shared.error;
 
+import com.bamdoliro.maru.infrastructure.ratelimit.exception.TooManyRequestsException;
 import com.bamdoliro.maru.shared.response.ErrorResponse;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.tomcat.util.http.fileupload.impl.FileSizeLimitExceededException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -112,6 +114,16 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(GlobalErrorProperty.BAD_REQUEST, e.getMessage()));
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException e) {
+        logHandledException(e);
+
+        return ResponseEntity
+                .status(e.getErrorProperty().getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ErrorResponse(e.getErrorProperty(), e.getMessage()));
+    }
+
     @ExceptionHandler(MaruException.class)
     public ResponseEntity<ErrorResponse> handleMaruException(MaruException e) {
         logHandledException(e);
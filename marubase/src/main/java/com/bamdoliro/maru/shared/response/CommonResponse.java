@@ -30,5 +30,14 @@ public class CommonResponse {
         );
     }
 
+    public static <T> CursorListCommonResponse<T> ok(List<T> dataList, Long nextCursor) {
+        return new CursorListCommonResponse<>(
+                "OK",
+                "ok",
+                dataList,
+                nextCursor
+        );
+    }
+
 
 }
@@ -0,0 +1,15 @@
+package com.bamdoliro.maru.shared.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CursorListCommonResponse<T> extends ListCommonResponse<T> {
+    private final Long nextCursor;
+
+    public CursorListCommonResponse(String code, String message, List<T> dataList, Long nextCursor) {
+        super(code, message, dataList);
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,52 @@
+package com.bamdoliro.maru.shared.response;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// 첫 바이트를 쓰기 전까지는 Content-Type 을 정하지 않아서, 그 전에 발생한 예외는 평소처럼 에러 응답으로 내려간다.
+public class StreamingResponseOutputStream extends OutputStream {
+
+    private final HttpServletResponse response;
+    private final MediaType mediaType;
+    private OutputStream outputStream;
+
+    public StreamingResponseOutputStream(HttpServletResponse response, MediaType mediaType) {
+        this.response = response;
+        this.mediaType = mediaType;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        getOutputStream().write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        getOutputStream().write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (outputStream != null) {
+            outputStream.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (outputStream != null) {
+            outputStream.close();
+        }
+    }
+
+    private OutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            response.setContentType(mediaType.toString());
+            outputStream = response.getOutputStream();
+        }
+        return outputStream;
+    }
+}
@@ -0,0 +1,14 @@
+package com.bamdoliro.maru.shared.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class ClientIpUtil {
+
+    // x-forwarded-for 의 맨 앞 값은 클라이언트가 마음대로 넣을 수 있다.
+    // server.forward-headers-strategy=native 로 Tomcat 이 신뢰하는 프록시가 붙인 값만 보고 remoteAddr 를 바꿔두므로 그 값을 쓴다.
+    public String getClientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+}
@@ -6,7 +6,7 @@ import lombok.experimental.UtilityClass;
 public class MathUtil {
 
     public static Double roundTo(double value, int place) {
-        String format = "%." + place + "f";
-        return Double.parseDouble(String.format(format, value));
+        double scale = Math.pow(10, place);
+        return Math.round(value * scale) / scale;
     }
 }
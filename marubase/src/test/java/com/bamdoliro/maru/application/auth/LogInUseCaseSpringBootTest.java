@@ -0,0 +1,76 @@
+package com.bamdoliro.maru.application.auth;
+
+import com.bamdoliro.maru.domain.auth.service.TokenService;
+import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.domain.user.service.PasswordHashingService;
+import com.bamdoliro.maru.infrastructure.persistence.user.UserRepository;
+import com.bamdoliro.maru.presentation.auth.dto.request.LogInRequest;
+import com.bamdoliro.maru.shared.config.DatabaseClearExtension;
+import com.bamdoliro.maru.shared.fixture.UserFixture;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@ExtendWith(DatabaseClearExtension.class)
+@AutoConfigureMockMvc
+@SpringBootTest
+class LogInUseCaseSpringBootTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @SpyBean
+    private PasswordHashingService passwordHashingService;
+
+    @MockBean
+    private TokenService tokenService;
+
+    @Test
+    void 비밀번호를_확인하는_동안_커넥션을_쥐고_있지_않는다() throws Exception {
+        // given
+        User user = userRepository.save(UserFixture.createUser());
+        List<Integer> activeConnectionList = new ArrayList<>();
+        willAnswer(invocation -> {
+            activeConnectionList.add(dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections());
+            return invocation.callRealMethod();
+        }).given(passwordHashingService).execute(any());
+
+        // when
+        mockMvc.perform(post("/auth")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LogInRequest(user.getPhoneNumber(), "비밀번호"))))
+                .andExpect(status().isOk());
+
+        // then
+        assertEquals(List.of(0), activeConnectionList);
+    }
+}
@@ -2,8 +2,10 @@ package com.bamdoliro.maru.application.auth;
 
 import com.bamdoliro.maru.domain.auth.service.TokenService;
 import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.domain.user.exception.PasswordHashingUnavailableException;
 import com.bamdoliro.maru.domain.user.exception.UserNotFoundException;
 import com.bamdoliro.maru.domain.auth.exception.WrongLoginException;
+import com.bamdoliro.maru.domain.user.service.PasswordHashingService;
 import com.bamdoliro.maru.domain.user.service.UserFacade;
 import com.bamdoliro.maru.presentation.auth.dto.request.LogInRequest;
 import com.bamdoliro.maru.presentation.auth.dto.response.TokenResponse;
@@ -15,8 +17,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.function.Supplier;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -34,6 +39,9 @@ class LogInUseCaseTest {
     @Mock
     private UserFacade userFacade;
 
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
     @Test
     void 유저가_로그인한다() {
         // given
@@ -43,6 +51,7 @@ class LogInUseCaseTest {
         String refreshToken = AuthFixture.createRefreshTokenString();
 
         given(userFacade.getUser(request.getPhoneNumber())).willReturn(user);
+        given(passwordHashingService.execute(any())).willAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
         given(tokenService.generateAccessToken(user.getPhoneNumber())).willReturn(accessToken);
         given(tokenService.generateRefreshToken(user.getPhoneNumber())).willReturn(refreshToken);
 
@@ -80,6 +89,7 @@ class LogInUseCaseTest {
         LogInRequest request = new LogInRequest(user.getPhoneNumber(), "틀린비밀번호");
 
         given(userFacade.getUser(request.getPhoneNumber())).willReturn(user);
+        given(passwordHashingService.execute(any())).willAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
 
         // when and then
         assertThrows(WrongLoginException.class, () -> logInUseCase.execute(request));
@@ -88,4 +98,20 @@ class LogInUseCaseTest {
         verify(tokenService, never()).generateAccessToken(user.getPhoneNumber());
         verify(tokenService, never()).generateRefreshToken(user.getPhoneNumber());
     }
-}
\ No newline at end of file
+
+    @Test
+    void 비밀번호_확인_대기열이_가득_차면_에러가_발생한다() {
+        // given
+        User user = UserFixture.createUser();
+        LogInRequest request = new LogInRequest(user.getPhoneNumber(), "비밀번호");
+
+        given(userFacade.getUser(request.getPhoneNumber())).willReturn(user);
+        given(passwordHashingService.execute(any())).willThrow(PasswordHashingUnavailableException.class);
+
+        // when and then
+        assertThrows(PasswordHashingUnavailableException.class, () -> logInUseCase.execute(request));
+
+        verify(tokenService, never()).generateAccessToken(user.getPhoneNumber());
+        verify(tokenService, never()).generateRefreshToken(user.getPhoneNumber());
+    }
+}
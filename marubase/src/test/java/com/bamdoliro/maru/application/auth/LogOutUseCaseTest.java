@@ -1,6 +1,7 @@
 package com.bamdoliro.maru.application.auth;
 
 import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.infrastructure.cache.UserCache;
 import com.bamdoliro.maru.infrastructure.persistence.auth.TokenRepository;
 import com.bamdoliro.maru.shared.fixture.UserFixture;
 import org.junit.jupiter.api.Test;
@@ -22,6 +23,9 @@ class LogOutUseCaseTest {
     @Mock
     private TokenRepository tokenRepository;
 
+    @Mock
+    private UserCache userCache;
+
     @Test
     void 로그아웃_한다() {
         // given
@@ -33,5 +37,6 @@ class LogOutUseCaseTest {
 
         // then
         verify(tokenRepository, times(1)).deleteById(user.getPhoneNumber());
+        verify(userCache, times(1)).evict(user.getPhoneNumber());
     }
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.bamdoliro.maru.application.export;
+
+import com.bamdoliro.maru.domain.export.domain.ExportJob;
+import com.bamdoliro.maru.domain.export.domain.type.ExportJobStatus;
+import com.bamdoliro.maru.domain.export.domain.type.ExportType;
+import com.bamdoliro.maru.domain.export.exception.ExportFileNotFoundException;
+import com.bamdoliro.maru.domain.export.exception.ExportJobNotCompletedException;
+import com.bamdoliro.maru.domain.export.exception.InvalidDownloadTokenException;
+import com.bamdoliro.maru.infrastructure.export.ExportFileStorage;
+import com.bamdoliro.maru.infrastructure.persistence.export.ExportJobRepository;
+import com.bamdoliro.maru.presentation.export.dto.response.ExportFileResponse;
+import com.bamdoliro.maru.shared.fixture.ExportFixture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DownloadExportUseCaseTest {
+
+    @InjectMocks
+    private DownloadExportUseCase downloadExportUseCase;
+
+    @Mock
+    private ExportJobRepository exportJobRepository;
+
+    @Mock
+    private ExportFileStorage exportFileStorage;
+
+    @Test
+    void 다운로드_링크로_파일을_받으면_링크를_더_이상_쓸_수_없다() throws IOException {
+        // given
+        ExportJob job = ExportFixture.createCompletedExportJob(ExportType.RESULT);
+        String token = job.getDownloadToken();
+        given(exportJobRepository.findById(job.getId())).willReturn(Optional.of(job));
+        given(exportFileStorage.open(job.getId())).willReturn(new ByteArrayInputStream(new byte[]{1}));
+        given(exportJobRepository.claimDownload(job.getId())).willReturn(true);
+
+        // when
+        ExportFileResponse response = downloadExportUseCase.execute(job.getId(), token);
+
+        // then
+        assertEquals(ExportType.RESULT, response.getType());
+        assertArrayEquals(new byte[]{1}, response.getResource().getContentAsByteArray());
+        assertEquals(ExportJobStatus.DOWNLOADED, job.getStatus());
+        assertNull(job.getDownloadToken());
+        assertThrows(InvalidDownloadTokenException.class, () -> downloadExportUseCase.execute(job.getId(), token));
+        verify(exportJobRepository, times(1)).save(job);
+    }
+
+    @Test
+    void 토큰이_다르면_에러가_발생한다() {
+        // given
+        ExportJob job = ExportFixture.createCompletedExportJob(ExportType.RESULT);
+        given(exportJobRepository.findById(job.getId())).willReturn(Optional.of(job));
+
+        // when and then
+        assertThrows(InvalidDownloadTokenException.class, () -> downloadExportUseCase.execute(job.getId(), "wrong-token"));
+        verify(exportJobRepository, never()).save(any(ExportJob.class));
+    }
+
+    @Test
+    void 작업이_끝나지_않았으면_에러가_발생한다() {
+        // given
+        ExportJob job = ExportFixture.createExportJob(ExportType.RESULT);
+        given(exportJobRepository.findById(job.getId())).willReturn(Optional.of(job));
+
+        // when and then
+        assertThrows(ExportJobNotCompletedException.class, () -> downloadExportUseCase.execute(job.getId(), ExportFixture.DOWNLOAD_TOKEN));
+        verify(exportFileStorage, never()).open(any(String.class));
+    }
+
+    @Test
+    void 다른_요청이_먼저_링크를_썼으면_에러가_발생한다() {
+        // given
+        ExportJob job = ExportFixture.createCompletedExportJob(ExportType.RESULT);
+        given(exportJobRepository.findById(job.getId())).willReturn(Optional.of(job));
+        given(exportFileStorage.open(job.getId())).willReturn(new ByteArrayInputStream(new byte[]{1}));
+        given(exportJobRepository.claimDownload(job.getId())).willReturn(false);
+
+        // when and then
+        assertThrows(InvalidDownloadTokenException.class, () -> downloadExportUseCase.execute(job.getId(), job.getDownloadToken()));
+        verify(exportJobRepository, never()).save(any(ExportJob.class));
+    }
+
+    @Test
+    void 파일을_열지_못하면_링크를_쓰지_않는다() {
+        // given
+        ExportJob job = ExportFixture.createCompletedExportJob(ExportType.RESULT);
+        given(exportJobRepository.findById(job.getId())).willReturn(Optional.of(job));
+        willThrow(ExportFileNotFoundException.class).given(exportFileStorage).open(job.getId());
+
+        // when and then
+        assertThrows(ExportFileNotFoundException.class, () -> downloadExportUseCase.execute(job.getId(), job.getDownloadToken()));
+        assertEquals(ExportJobStatus.COMPLETED, job.getStatus());
+        verify(exportJobRepository, never()).claimDownload(any(String.class));
+        verify(exportJobRepository, never()).save(any(ExportJob.class));
+    }
+}
@@ -0,0 +1,183 @@
+package com.bamdoliro.maru.application.export;
+
+import com.bamdoliro.maru.application.fair.ExportAttendeeListUseCase;
+import com.bamdoliro.maru.application.form.DownloadSecondRoundScoreFormatUseCase;
+import com.bamdoliro.maru.application.form.ExportFinalPassedFormUseCase;
+import com.bamdoliro.maru.application.form.ExportFirstRoundResultUseCase;
+import com.bamdoliro.maru.application.form.ExportResultUseCase;
+import com.bamdoliro.maru.application.form.ExportSecondRoundResultUseCase;
+import com.bamdoliro.maru.application.form.GenerateAllAdmissionTicketUseCase;
+import com.bamdoliro.maru.domain.export.domain.ExportJob;
+import com.bamdoliro.maru.domain.export.domain.type.ExportJobStatus;
+import com.bamdoliro.maru.domain.export.domain.type.ExportType;
+import com.bamdoliro.maru.domain.export.exception.error.ExportErrorProperty;
+import com.bamdoliro.maru.domain.fair.exception.FairNotFoundException;
+import com.bamdoliro.maru.infrastructure.export.ExportFileStorage;
+import com.bamdoliro.maru.infrastructure.persistence.export.ExportJobRepository;
+import com.bamdoliro.maru.infrastructure.s3.FileService;
+import com.bamdoliro.maru.infrastructure.s3.constants.FolderConstant;
+import com.bamdoliro.maru.shared.fixture.ExportFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ExportJobRunnerTest {
+
+    private ExportJobRunner exportJobRunner;
+
+    private ExportFileStorage exportFileStorage;
+
+    @Mock
+    private ExportJobRepository exportJobRepository;
+
+    @Mock
+    private FileService fileService;
+
+    @Mock
+    private GenerateAllAdmissionTicketUseCase generateAllAdmissionTicketUseCase;
+
+    @Mock
+    private DownloadSecondRoundScoreFormatUseCase downloadSecondRoundScoreFormatUseCase;
+
+    @Mock
+    private ExportFinalPassedFormUseCase exportFinalPassedFormUseCase;
+
+    @Mock
+    private ExportFirstRoundResultUseCase exportFirstRoundResultUseCase;
+
+    @Mock
+    private ExportSecondRoundResultUseCase exportSecondRoundResultUseCase;
+
+    @Mock
+    private ExportResultUseCase exportResultUseCase;
+
+    @Mock
+    private ExportAttendeeListUseCase exportAttendeeListUseCase;
+
+    @BeforeEach
+    void setUp(@TempDir Path directory) {
+        exportFileStorage = new ExportFileStorage(fileService, directory.toString());
+        exportJobRunner = new ExportJobRunner(
+                exportJobRepository,
+                exportFileStorage,
+                generateAllAdmissionTicketUseCase,
+                downloadSecondRoundScoreFormatUseCase,
+                exportFinalPassedFormUseCase,
+                exportFirstRoundResultUseCase,
+                exportSecondRoundResultUseCase,
+                exportResultUseCase,
+                exportAttendeeListUseCase,
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @Test
+    void 엑셀을_내보내서_파일로_저장하고_다운로드_링크를_만든다() throws IOException {
+        // given
+        ExportJob job = ExportFixture.createExportJob(ExportType.RESULT);
+        byte[] content = {1, 2, 3, 4};
+        Map<String, byte[]> uploadedFileMap = captureUploadedFiles();
+        given(exportJobRepository.findById(job.getId())).willReturn(Optional.of(job));
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write(content);
+            return null;
+        }).given(exportResultUseCase).execute(any(OutputStream.class));
+
+        // when
+        exportJobRunner.run(job.getId());
+
+        // then
+        assertEquals(ExportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(4L, job.getFileSize());
+        assertNotNull(job.getDownloadToken());
+        assertArrayEquals(content, uploadedFileMap.get(job.getId()));
+    }
+
+    @Test
+    void 전체_수험표는_파일에_바로_쓴다() throws IOException {
+        // given
+        ExportJob job = ExportFixture.createExportJob(ExportType.ADMISSION_TICKET);
+        Map<String, byte[]> uploadedFileMap = captureUploadedFiles();
+        given(exportJobRepository.findById(job.getId())).willReturn(Optional.of(job));
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write(new byte[]{37, 80, 68, 70});
+            return null;
+        }).given(generateAllAdmissionTicketUseCase).execute(any(OutputStream.class));
+
+        // when
+        exportJobRunner.run(job.getId());
+
+        // then
+        assertEquals(ExportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(4, uploadedFileMap.get(job.getId()).length);
+        verify(generateAllAdmissionTicketUseCase, times(1)).execute(any(OutputStream.class));
+    }
+
+    @Test
+    void 내보내기에_실패하면_실패_사유를_저장한다() throws IOException {
+        // given
+        ExportJob job = ExportFixture.createExportJob(ExportType.FAIR_ATTENDEE_LIST);
+        given(exportJobRepository.findById(job.getId())).willReturn(Optional.of(job));
+        willThrow(new FairNotFoundException()).given(exportAttendeeListUseCase).execute(eq(job.getFairId()), any(OutputStream.class));
+
+        // when
+        exportJobRunner.run(job.getId());
+
+        // then
+        assertEquals(ExportJobStatus.FAILED, job.getStatus());
+        assertEquals(new FairNotFoundException().getMessage(), job.getFailureMessage());
+        assertNull(job.getDownloadToken());
+        verify(exportJobRepository, times(2)).save(job);
+    }
+
+    @Test
+    void 예상하지_못한_예외로_실패하면_정해진_실패_사유만_저장한다() throws IOException {
+        // given
+        ExportJob job = ExportFixture.createExportJob(ExportType.RESULT);
+        given(exportJobRepository.findById(job.getId())).willReturn(Optional.of(job));
+        willThrow(new IllegalStateException("jdbc:postgresql://db/maru")).given(exportResultUseCase).execute(any(OutputStream.class));
+
+        // when
+        exportJobRunner.run(job.getId());
+
+        // then
+        assertEquals(ExportJobStatus.FAILED, job.getStatus());
+        assertEquals(ExportErrorProperty.FAILED_TO_EXPORT.getMessage(), job.getFailureMessage());
+    }
+
+    private Map<String, byte[]> captureUploadedFiles() {
+        Map<String, byte[]> uploadedFileMap = new HashMap<>();
+        willAnswer(invocation -> {
+            uploadedFileMap.put(invocation.getArgument(1), Files.readAllBytes(invocation.<File>getArgument(2).toPath()));
+            return null;
+        }).given(fileService).upload(eq(FolderConstant.EXPORT), any(String.class), any(File.class));
+
+        return uploadedFileMap;
+    }
+}
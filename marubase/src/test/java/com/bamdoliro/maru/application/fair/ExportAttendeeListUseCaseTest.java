@@ -10,12 +10,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.core.io.Resource;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 @Slf4j
 @ActiveProfiles("test")
 @SpringBootTest
@@ -35,8 +38,27 @@ class ExportAttendeeListUseCaseTest {
         Fair fair = fairRepository.save(FairFixture.createFair());
         List<Attendee> attendeeList = FairFixture.createAttendeeList(fair);
         attendeeRepository.saveAll(attendeeList);
-        Resource resource = exportAttendeeListUseCase.execute(fair.getId());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exportAttendeeListUseCase.execute(fair.getId(), outputStream);
+
+        SaveFileUtil.execute(outputStream, SaveFileUtil.XLSX);
+    }
+
+    @Test
+    void 신청자_명단을_CSV로_내려받는다() throws IOException {
+        // given
+        Fair fair = fairRepository.save(FairFixture.createFair());
+        List<Attendee> attendeeList = FairFixture.createAttendeeList(fair);
+        attendeeRepository.saveAll(attendeeList);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        exportAttendeeListUseCase.executeCsv(fair.getId(), outputStream);
 
-        SaveFileUtil.execute(resource, SaveFileUtil.XLSX);
+        // then
+        List<String> lineList = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(attendeeList.size() + 1, lineList.size());
+        assertEquals("이름,전화번호,참석 인원,학교,유형,사전질문", lineList.get(0));
+        assertEquals("곰밤돌," + attendeeList.get(0).getPhoneNumber() + ",2,비전중학교,학생,내신 커트라인 몇인가요?", lineList.get(1));
     }
-}
\ No newline at end of file
+}
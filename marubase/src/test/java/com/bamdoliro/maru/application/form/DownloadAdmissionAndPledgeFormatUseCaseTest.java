@@ -11,7 +11,8 @@ import com.bamdoliro.maru.infrastructure.pdf.exception.FailedToExportPdfExceptio
 import com.bamdoliro.maru.infrastructure.thymeleaf.ProcessTemplateService;
 import com.bamdoliro.maru.shared.fixture.FormFixture;
 import com.bamdoliro.maru.shared.fixture.UserFixture;
-import com.itextpdf.kernel.utils.PdfMerger;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -19,6 +20,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.*;
@@ -50,7 +52,8 @@ public class DownloadAdmissionAndPledgeFormatUseCaseTest {
         given(formFacade.getForm(user)).willReturn(form);
         given(processTemplateService.execute(any(String.class), any())).willReturn("html");
         given(generatePdfService.execute(any(String.class))).willReturn(new ByteArrayOutputStream());
-        willDoNothing().given(mergePdfService).execute(any(PdfMerger.class), any(ByteArrayOutputStream.class));
+        willDoNothing().given(mergePdfService).execute(any(PdfDocument.class), any(ByteArrayOutputStream.class));
+        given(mergePdfService.createMergedDocument(any(OutputStream.class))).willAnswer(invocation -> new PdfDocument(new PdfWriter(invocation.<OutputStream>getArgument(0))));
 
         //when
         downloadAdmissionAndPledgeFormatUseCase.execute(user);
@@ -59,7 +62,7 @@ public class DownloadAdmissionAndPledgeFormatUseCaseTest {
         verify(formFacade, times(1)).getForm(user);
         verify(processTemplateService, times(2)).execute(any(String.class), any());
         verify(generatePdfService, times(2)).execute(any(String.class));
-        verify(mergePdfService, times(2)).execute(any(PdfMerger.class), any(ByteArrayOutputStream.class));
+        verify(mergePdfService, times(2)).execute(any(PdfDocument.class), any(ByteArrayOutputStream.class));
     }
 
     @Test
@@ -76,7 +79,7 @@ public class DownloadAdmissionAndPledgeFormatUseCaseTest {
         verify(formFacade, times(1)).getForm(user);
         verify(processTemplateService, never()).execute(any(String.class), any());
         verify(generatePdfService, never()).execute(any(String.class));
-        verify(mergePdfService, never()).execute(any(PdfMerger.class), any(ByteArrayOutputStream.class));
+        verify(mergePdfService, never()).execute(any(PdfDocument.class), any(ByteArrayOutputStream.class));
     }
 
     @Test
@@ -96,6 +99,6 @@ public class DownloadAdmissionAndPledgeFormatUseCaseTest {
         verify(formFacade, times(1)).getForm(user);
         verify(processTemplateService, times(1)).execute(any(String.class), any());
         verify(generatePdfService, times(1)).execute(any(String.class));
-        verify(mergePdfService, never()).execute(any(PdfMerger.class), any(ByteArrayOutputStream.class));
+        verify(mergePdfService, never()).execute(any(PdfDocument.class), any(ByteArrayOutputStream.class));
     }
 }
@@ -0,0 +1,134 @@
+package com.bamdoliro.maru.application.form;
+
+import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.domain.form.domain.type.FormStatus;
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.infrastructure.pdf.IdentificationPictureProvider;
+import com.bamdoliro.maru.infrastructure.pdf.exception.FailedToExportPdfException;
+import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
+import com.bamdoliro.maru.shared.fixture.FormFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ExportAllFormUseCaseTest {
+
+    private ExportAllFormUseCase exportAllFormUseCase;
+
+    private ThreadPoolTaskExecutor formArchiveExecutor;
+
+    @Mock
+    private FormRepository formRepository;
+
+    @Mock
+    private ExportFormUseCase exportFormUseCase;
+
+    @Mock
+    private IdentificationPictureProvider identificationPictureProvider;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        formArchiveExecutor = new ThreadPoolTaskExecutor();
+        formArchiveExecutor.setCorePoolSize(2);
+        formArchiveExecutor.setMaxPoolSize(2);
+        formArchiveExecutor.initialize();
+
+        exportAllFormUseCase = new ExportAllFormUseCase(
+                formRepository,
+                exportFormUseCase,
+                identificationPictureProvider,
+                formArchiveExecutor,
+                new SimpleMeterRegistry(),
+                entityManager
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        formArchiveExecutor.shutdown();
+    }
+
+    @Test
+    void 모든_원서를_압축_파일로_내보낸다() throws IOException {
+        // given
+        List<Form> formList = new ArrayList<>();
+        for (long examinationNumber = 1001L; examinationNumber <= 1010L; examinationNumber++) {
+            Form form = FormFixture.createForm(FormType.REGULAR);
+            form.assignExaminationNumber(examinationNumber);
+            formList.add(form);
+        }
+        given(formRepository.findIdListByStatusAndCategory(FormStatus.FINAL_SUBMITTED, null))
+                .willReturn(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L));
+        given(formRepository.findByFormIdListWithUserAndGrade(anyList())).willReturn(formList);
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("pdf".getBytes());
+            return null;
+        }).given(exportFormUseCase).execute(any(Form.class), any(OutputStream.class));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        exportAllFormUseCase.execute(FormStatus.FINAL_SUBMITTED, null, outputStream);
+
+        // then
+        List<String> entryNameList = new ArrayList<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                entryNameList.add(entry.getName());
+                assertEquals("pdf", new String(zipInputStream.readAllBytes()));
+            }
+        }
+        assertEquals(10, entryNameList.size());
+        assertEquals(
+                formList.stream().map(form -> form.getExaminationNumber() + "_김밤돌.pdf").sorted().toList(),
+                entryNameList.stream().sorted().toList()
+        );
+        verify(identificationPictureProvider, times(1)).prefetch(anyList());
+        verify(exportFormUseCase, times(10)).execute(any(Form.class), any(OutputStream.class));
+        verify(exportFormUseCase, never()).execute(any(Form.class));
+        verify(entityManager, times(1)).clear();
+    }
+
+    @Test
+    void 원서를_하나라도_만들지_못하면_에러가_발생한다() {
+        // given
+        Form form = FormFixture.createForm(FormType.REGULAR);
+        given(formRepository.findIdListByStatusAndCategory(null, null)).willReturn(List.of(1L));
+        given(formRepository.findByFormIdListWithUserAndGrade(anyList())).willReturn(List.of(form));
+        willThrow(FailedToExportPdfException.class).given(exportFormUseCase).execute(any(Form.class), any(OutputStream.class));
+
+        // when and then
+        assertThrows(FailedToExportPdfException.class,
+                () -> exportAllFormUseCase.execute(null, null, new ByteArrayOutputStream()));
+    }
+}
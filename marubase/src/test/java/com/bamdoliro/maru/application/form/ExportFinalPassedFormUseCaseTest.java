@@ -18,6 +18,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.io.ByteArrayOutputStream;
 import java.util.List;
 
 @ActiveProfiles("test")
@@ -57,6 +58,9 @@ class ExportFinalPassedFormUseCaseTest {
 
     @Test
     void 최종합격자_명단을_엑셀로_저장한다() throws Exception {
-        SaveFileUtil.execute(exportFinalPassedFormUseCase.execute(), SaveFileUtil.XLSX);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exportFinalPassedFormUseCase.execute(outputStream);
+
+        SaveFileUtil.execute(outputStream, SaveFileUtil.XLSX);
     }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.List;
 
@@ -62,6 +63,9 @@ class ExportFirstRoundResultUseCaseTest {
 
     @Test
     void 정상적으로_1차전형_결과를_엑셀로_저장한다() throws IOException {
-        SaveFileUtil.execute(exportFirstRoundResultUseCase.execute(), SaveFileUtil.XLSX);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exportFirstRoundResultUseCase.execute(outputStream);
+
+        SaveFileUtil.execute(outputStream, SaveFileUtil.XLSX);
     }
 }
\ No newline at end of file
@@ -24,7 +24,9 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Set;
 
 @ActiveProfiles("test")
@@ -64,7 +66,9 @@ class ExportFormUseCaseSpringBootTest {
         form.assignExaminationNumber(2004L);
         formRepository.save(form);
 
-        SaveFileUtil.execute(exportFormUseCase.execute(user), SaveFileUtil.PDF);
+        try (OutputStream outputStream = new FileOutputStream(SaveFileUtil.PDF)) {
+            exportFormUseCase.execute(user).writeTo(outputStream);
+        }
     }
 
     @Transactional
@@ -84,6 +88,8 @@ class ExportFormUseCaseSpringBootTest {
         form.assignExaminationNumber(2004L);
         formRepository.save(form);
 
-        SaveFileUtil.execute(exportFormUseCase.execute(user), SaveFileUtil.PDF);
+        try (OutputStream outputStream = new FileOutputStream(SaveFileUtil.PDF)) {
+            exportFormUseCase.execute(user).writeTo(outputStream);
+        }
     }
 }
\ No newline at end of file
@@ -4,16 +4,19 @@ import com.bamdoliro.maru.domain.form.domain.Form;
 import com.bamdoliro.maru.domain.form.domain.type.FormType;
 import com.bamdoliro.maru.domain.form.service.FormFacade;
 import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.infrastructure.pdf.CachedPdf;
 import com.bamdoliro.maru.infrastructure.pdf.GeneratePdfService;
+import com.bamdoliro.maru.infrastructure.pdf.IdentificationPictureProvider;
+import com.bamdoliro.maru.infrastructure.pdf.PdfCacheService;
 import com.bamdoliro.maru.infrastructure.pdf.MergePdfService;
 import com.bamdoliro.maru.infrastructure.pdf.exception.FailedToExportPdfException;
-import com.bamdoliro.maru.infrastructure.s3.FileService;
 import com.bamdoliro.maru.infrastructure.thymeleaf.ProcessTemplateService;
 import com.bamdoliro.maru.shared.fixture.FormFixture;
 import com.bamdoliro.maru.shared.fixture.SharedFixture;
 import com.bamdoliro.maru.shared.fixture.UserFixture;
 import com.bamdoliro.maru.shared.service.ScheduleService;
-import com.itextpdf.kernel.utils.PdfMerger;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -21,7 +24,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -48,11 +53,14 @@ class ExportFormUseCaseTest {
     private MergePdfService mergePdfService;
 
     @Mock
-    private FileService fileService;
+    private IdentificationPictureProvider identificationPictureProvider;
 
     @Mock
     private ScheduleService scheduleService;
 
+    @Mock
+    private PdfCacheService pdfCacheService;
+
     @Test
     void 일반전형_원서를_pdf로_다운받는다() {
         // given
@@ -62,18 +70,20 @@ class ExportFormUseCaseTest {
         given(formFacade.getForm(user)).willReturn(form);
         given(processTemplateService.execute(any(String.class), any())).willReturn("html");
         given(generatePdfService.execute(any(String.class))).willReturn(new ByteArrayOutputStream());
-        given(fileService.getDownloadPresignedUrl(any(String.class), any(String.class))).willReturn(SharedFixture.createIdentificationPictureUrlResponse().getDownloadUrl());
-        willDoNothing().given(mergePdfService).execute(any(PdfMerger.class), any(ByteArrayOutputStream.class));
+        given(identificationPictureProvider.getUri(any(UUID.class), any())).willReturn(SharedFixture.createIdentificationPictureUrlResponse().getDownloadUrl());
+        given(pdfCacheService.get(any(String.class), any())).willAnswer(invocation -> new CachedPdf("etag", invocation.getArgument(1)));
+        willDoNothing().given(mergePdfService).execute(any(PdfDocument.class), any(ByteArrayOutputStream.class));
+        given(mergePdfService.createMergedDocument(any(OutputStream.class))).willAnswer(invocation -> new PdfDocument(new PdfWriter(invocation.<OutputStream>getArgument(0))));
 
         // when
-        exportFormUseCase.execute(user);
+        exportFormUseCase.execute(user).writeTo(new ByteArrayOutputStream());
 
         // then
         verify(formFacade, times(1)).getForm(user);
         verify(processTemplateService, times(4)).execute(any(String.class), any());
         verify(generatePdfService, times(4)).execute(any(String.class));
-        verify(mergePdfService, times(4)).execute(any(PdfMerger.class), any(ByteArrayOutputStream.class));
-        verify(fileService, times(1)).getDownloadPresignedUrl(any(String.class), any(String.class));
+        verify(mergePdfService, times(4)).execute(any(PdfDocument.class), any(ByteArrayOutputStream.class));
+        verify(identificationPictureProvider, times(1)).getUri(any(UUID.class), any());
     }
 
     @Test
@@ -85,18 +95,20 @@ class ExportFormUseCaseTest {
         given(formFacade.getForm(user)).willReturn(form);
         given(processTemplateService.execute(any(String.class), any())).willReturn("html");
         given(generatePdfService.execute(any(String.class))).willReturn(new ByteArrayOutputStream());
-        given(fileService.getDownloadPresignedUrl(any(String.class), any(String.class))).willReturn(SharedFixture.createIdentificationPictureUrlResponse().getDownloadUrl());
-        willDoNothing().given(mergePdfService).execute(any(PdfMerger.class), any(ByteArrayOutputStream.class));
+        given(identificationPictureProvider.getUri(any(UUID.class), any())).willReturn(SharedFixture.createIdentificationPictureUrlResponse().getDownloadUrl());
+        given(pdfCacheService.get(any(String.class), any())).willAnswer(invocation -> new CachedPdf("etag", invocation.getArgument(1)));
+        willDoNothing().given(mergePdfService).execute(any(PdfDocument.class), any(ByteArrayOutputStream.class));
+        given(mergePdfService.createMergedDocument(any(OutputStream.class))).willAnswer(invocation -> new PdfDocument(new PdfWriter(invocation.<OutputStream>getArgument(0))));
 
         // when
-        exportFormUseCase.execute(user);
+        exportFormUseCase.execute(user).writeTo(new ByteArrayOutputStream());
 
         // then
         verify(formFacade, times(1)).getForm(user);
         verify(processTemplateService, times(5)).execute(any(String.class), any());
         verify(generatePdfService, times(5)).execute(any(String.class));
-        verify(mergePdfService, times(5)).execute(any(PdfMerger.class), any(ByteArrayOutputStream.class));
-        verify(fileService, times(1)).getDownloadPresignedUrl(any(String.class), any(String.class));
+        verify(mergePdfService, times(5)).execute(any(PdfDocument.class), any(ByteArrayOutputStream.class));
+        verify(identificationPictureProvider, times(1)).getUri(any(UUID.class), any());
     }
 
     @Test
@@ -107,17 +119,38 @@ class ExportFormUseCaseTest {
         given(scheduleService.getAdmissionYear()).willReturn(LocalDate.now().plusYears(1).getYear());
         given(formFacade.getForm(user)).willReturn(form);
         given(processTemplateService.execute(any(String.class), any())).willReturn("html");
-        given(fileService.getDownloadPresignedUrl(any(String.class), any(String.class))).willReturn(SharedFixture.createIdentificationPictureUrlResponse().getDownloadUrl());
+        given(identificationPictureProvider.getUri(any(UUID.class), any())).willReturn(SharedFixture.createIdentificationPictureUrlResponse().getDownloadUrl());
+        given(pdfCacheService.get(any(String.class), any())).willAnswer(invocation -> new CachedPdf("etag", invocation.getArgument(1)));
         doThrow(FailedToExportPdfException.class).when(generatePdfService).execute(any(String.class));
 
         // when and then
-        assertThrows(FailedToExportPdfException.class, () -> exportFormUseCase.execute(user));
+        assertThrows(FailedToExportPdfException.class, () -> exportFormUseCase.execute(user).writeTo(new ByteArrayOutputStream()));
 
         // then
         verify(formFacade, times(1)).getForm(user);
-        verify(processTemplateService, times(1)).execute(any(String.class), any());
+        verify(processTemplateService, times(4)).execute(any(String.class), any());
         verify(generatePdfService, times(1)).execute(any(String.class));
-        verify(mergePdfService, never()).execute(any(PdfMerger.class), any(ByteArrayOutputStream.class));
-        verify(fileService, times(1)).getDownloadPresignedUrl(any(String.class), any(String.class));
+        verify(mergePdfService, never()).execute(any(PdfDocument.class), any(ByteArrayOutputStream.class));
+        verify(identificationPictureProvider, times(1)).getUri(any(UUID.class), any());
+    }
+
+    @Test
+    void 전체_원서를_내보낼_때는_캐시를_거치지_않고_pdf를_만든다() {
+        // given
+        Form form = FormFixture.createForm(FormType.REGULAR);
+        given(scheduleService.getAdmissionYear()).willReturn(LocalDate.now().plusYears(1).getYear());
+        given(processTemplateService.execute(any(String.class), any())).willReturn("html");
+        given(generatePdfService.execute(any(String.class))).willReturn(new ByteArrayOutputStream());
+        given(identificationPictureProvider.getUri(any(UUID.class), any())).willReturn(SharedFixture.createIdentificationPictureUrlResponse().getDownloadUrl());
+        willDoNothing().given(mergePdfService).execute(any(PdfDocument.class), any(ByteArrayOutputStream.class));
+        given(mergePdfService.createMergedDocument(any(OutputStream.class))).willAnswer(invocation -> new PdfDocument(new PdfWriter(invocation.<OutputStream>getArgument(0))));
+
+        // when
+        exportFormUseCase.execute(form, new ByteArrayOutputStream());
+
+        // then
+        verify(processTemplateService, times(4)).execute(any(String.class), any());
+        verify(mergePdfService, times(4)).execute(any(PdfDocument.class), any(ByteArrayOutputStream.class));
+        verify(pdfCacheService, never()).get(any(String.class), any());
     }
-}
\ No newline at end of file
+}
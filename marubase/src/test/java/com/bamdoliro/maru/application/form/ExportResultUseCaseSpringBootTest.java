@@ -0,0 +1,81 @@
+package com.bamdoliro.maru.application.form;
+
+import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.domain.form.service.CalculateFormScoreService;
+import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
+import com.bamdoliro.maru.infrastructure.persistence.user.UserRepository;
+import com.bamdoliro.maru.shared.config.DatabaseClearExtension;
+import com.bamdoliro.maru.shared.fixture.FormFixture;
+import com.bamdoliro.maru.shared.fixture.UserFixture;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ActiveProfiles("test")
+@ExtendWith(DatabaseClearExtension.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ExportResultUseCaseSpringBootTest {
+
+    @Autowired
+    private ExportResultUseCase exportResultUseCase;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @Autowired
+    private CalculateFormScoreService calculateFormScoreService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        List<User> userList = userRepository.saveAll(UserFixture.generateUserList(500));
+        List<Form> formList = FormFixture.generateBusanFormList(userList);
+        for (int i = 0; i < formList.size(); i++) {
+            Form form = formList.get(i);
+            form.assignExaminationNumber(1000L + i);
+            calculateFormScoreService.execute(form);
+        }
+        formRepository.saveAll(formList);
+    }
+
+    @Test
+    void 원서_수와_상관없이_일정한_쿼리로_전체_결과를_내보낸다() throws IOException {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        exportResultUseCase.execute(new ByteArrayOutputStream());
+
+        // then
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void 성적을_함께_조회해도_원서가_중복되지_않는다() {
+        // when
+        List<Form> formList = formRepository.findByStatusWithGrade(null);
+
+        // then
+        assertEquals(500, formList.size());
+        assertEquals(500, formList.stream().map(Form::getId).distinct().count());
+    }
+}
@@ -18,10 +18,16 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Random;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 @ActiveProfiles("test")
 @Transactional
 @SpringBootTest
@@ -76,6 +82,24 @@ class ExportResultUseCaseTest {
 
     @Test
     void 정상적으로_전체_결과를_다운받는다() throws IOException {
-        SaveFileUtil.execute(exportResultUseCase.execute(), SaveFileUtil.XLSX);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exportResultUseCase.execute(outputStream);
+
+        SaveFileUtil.execute(outputStream, SaveFileUtil.XLSX);
+    }
+
+    @Test
+    void 전체_결과를_CSV로_내려받는다() throws IOException {
+        // given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        exportResultUseCase.executeCsv(outputStream);
+
+        // then
+        List<String> lineList = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(formRepository.count() + 1, lineList.size());
+        assertTrue(lineList.get(0).startsWith("접수번호,수험번호,지원 전형,최종 전형,전형 결과,이름,"));
+        assertFalse(lineList.get(1).split(",")[12].isEmpty());
     }
-}
\ No newline at end of file
+}
@@ -18,6 +18,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.List;
 import java.util.Random;
@@ -70,6 +71,9 @@ class ExportSecondRoundResultUseCaseTest {
 
     @Test
     void 정상적으로_2차전형_결과를_다운받는다() throws IOException {
-        SaveFileUtil.execute(exportSecondRoundResultUseCase.execute(), SaveFileUtil.XLSX);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exportSecondRoundResultUseCase.execute(outputStream);
+
+        SaveFileUtil.execute(outputStream, SaveFileUtil.XLSX);
     }
 }
\ No newline at end of file
@@ -24,7 +24,9 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Set;
 
 @ActiveProfiles("test")
@@ -65,6 +67,8 @@ class GenerateAdmissionTicketUseCaseSpringBootTest {
         calculateFormScoreService.execute(form);
         formRepository.save(form);
 
-        SaveFileUtil.execute(generateAdmissionTicketUseCase.execute(user), SaveFileUtil.PDF);
+        try (OutputStream outputStream = new FileOutputStream(SaveFileUtil.PDF)) {
+            generateAdmissionTicketUseCase.execute(user).writeTo(outputStream);
+        }
     }
 }
\ No newline at end of file
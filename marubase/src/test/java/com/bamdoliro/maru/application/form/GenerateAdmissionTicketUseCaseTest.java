@@ -6,8 +6,10 @@ import com.bamdoliro.maru.domain.form.exception.FormNotFoundException;
 import com.bamdoliro.maru.domain.form.exception.InvalidFormStatusException;
 import com.bamdoliro.maru.domain.form.service.FormFacade;
 import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.infrastructure.pdf.CachedPdf;
 import com.bamdoliro.maru.infrastructure.pdf.GeneratePdfService;
-import com.bamdoliro.maru.infrastructure.s3.FileService;
+import com.bamdoliro.maru.infrastructure.pdf.IdentificationPictureProvider;
+import com.bamdoliro.maru.infrastructure.pdf.PdfCacheService;
 import com.bamdoliro.maru.infrastructure.thymeleaf.ProcessTemplateService;
 import com.bamdoliro.maru.shared.config.properties.ScheduleProperties;
 import com.bamdoliro.maru.shared.fixture.FormFixture;
@@ -21,8 +23,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -47,7 +51,7 @@ class GenerateAdmissionTicketUseCaseTest {
     private GeneratePdfService generatePdfService;
 
     @Mock
-    private FileService fileService;
+    private IdentificationPictureProvider identificationPictureProvider;
 
     @Mock
     private ScheduleService scheduleService;
@@ -55,6 +59,9 @@ class GenerateAdmissionTicketUseCaseTest {
     @Mock
     private ScheduleProperties scheduleProperties;
 
+    @Mock
+    private PdfCacheService pdfCacheService;
+
     @Test
     void 수험표를_생성한다() {
         // given
@@ -66,19 +73,19 @@ class GenerateAdmissionTicketUseCaseTest {
         givenScheduleProperties();
         given(formFacade.getForm(user)).willReturn(form);
         given(processTemplateService.execute(any(String.class), anyMap())).willReturn("html");
-        given(fileService.getDownloadPresignedUrl(any(String.class), any(String.class))).willReturn(SharedFixture.createIdentificationPictureUrlResponse().getDownloadUrl());
-        given(generatePdfService.execute(any(String.class))).willReturn(new ByteArrayOutputStream());
+        given(identificationPictureProvider.getUri(any(UUID.class), any())).willReturn(SharedFixture.createIdentificationPictureUrlResponse().getDownloadUrl());
+        given(pdfCacheService.get(any(String.class), any())).willAnswer(invocation -> new CachedPdf("etag", invocation.getArgument(1)));
 
         // when
-        generateAdmissionTicketUseCase.execute(user);
+        generateAdmissionTicketUseCase.execute(user).writeTo(new ByteArrayOutputStream());
 
         // then
         verify(scheduleService, times(1)).getAdmissionYear();
         verifyScheduleProperties();
         verify(formFacade, times(1)).getForm(user);
         verify(processTemplateService, times(1)).execute(any(String.class), anyMap());
-        verify(generatePdfService, times(1)).execute(any(String.class));
-        verify(fileService, times(1)).getDownloadPresignedUrl(any(String.class), any(String.class));
+        verify(generatePdfService, times(1)).execute(any(String.class), any(OutputStream.class));
+        verify(identificationPictureProvider, times(1)).getUri(any(UUID.class), any());
     }
 
     @Test
@@ -94,7 +101,7 @@ class GenerateAdmissionTicketUseCaseTest {
 
         verify(formFacade, times(1)).getForm(user);
         verify(processTemplateService, never()).execute(any(String.class), anyMap());
-        verify(generatePdfService, never()).execute(any(String.class));
+        verify(generatePdfService, never()).execute(any(String.class), any(OutputStream.class));
     }
 
     @Test
@@ -108,7 +115,7 @@ class GenerateAdmissionTicketUseCaseTest {
 
         verify(formFacade, times(1)).getForm(user);
         verify(processTemplateService, never()).execute(any(String.class), anyMap());
-        verify(generatePdfService, never()).execute(any(String.class));
+        verify(generatePdfService, never()).execute(any(String.class), any(OutputStream.class));
     }
 
     private void givenScheduleProperties() {
@@ -4,38 +4,60 @@ import com.bamdoliro.maru.domain.form.domain.Form;
 import com.bamdoliro.maru.domain.form.domain.type.FormStatus;
 import com.bamdoliro.maru.domain.form.domain.type.FormType;
 import com.bamdoliro.maru.infrastructure.pdf.GeneratePdfService;
+import com.bamdoliro.maru.infrastructure.pdf.IdentificationPictureProvider;
 import com.bamdoliro.maru.infrastructure.pdf.MergePdfService;
 import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
-import com.bamdoliro.maru.infrastructure.s3.FileService;
 import com.bamdoliro.maru.infrastructure.thymeleaf.ProcessTemplateService;
 import com.bamdoliro.maru.shared.config.properties.ScheduleProperties;
 import com.bamdoliro.maru.shared.fixture.FormFixture;
 import com.bamdoliro.maru.shared.fixture.SharedFixture;
 import com.bamdoliro.maru.shared.service.ScheduleService;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.IElement;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Text;
+import com.itextpdf.layout.font.FontProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class GenerateAllAdmissionTicketUseCaseTest {
 
-    @InjectMocks
     private GenerateAllAdmissionTicketUseCase generateAllAdmissionTicketUseCase;
 
+    private ThreadPoolTaskExecutor admissionTicketExecutor;
+
     @Mock
     private ProcessTemplateService processTemplateService;
 
@@ -43,7 +65,7 @@ public class GenerateAllAdmissionTicketUseCaseTest {
     private GeneratePdfService generatePdfService;
 
     @Mock
-    private FileService fileService;
+    private IdentificationPictureProvider identificationPictureProvider;
 
     @Mock
     private MergePdfService mergePdfService;
@@ -57,6 +79,34 @@ public class GenerateAllAdmissionTicketUseCaseTest {
     @Mock
     private ScheduleProperties scheduleProperties;
 
+    @Captor
+    private ArgumentCaptor<List<IElement>> elementListCaptor;
+
+    @BeforeEach
+    void setUp() {
+        admissionTicketExecutor = new ThreadPoolTaskExecutor();
+        admissionTicketExecutor.setCorePoolSize(2);
+        admissionTicketExecutor.setMaxPoolSize(2);
+        admissionTicketExecutor.initialize();
+
+        generateAllAdmissionTicketUseCase = new GenerateAllAdmissionTicketUseCase(
+                formRepository,
+                processTemplateService,
+                generatePdfService,
+                mergePdfService,
+                identificationPictureProvider,
+                scheduleService,
+                scheduleProperties,
+                admissionTicketExecutor,
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        admissionTicketExecutor.shutdown();
+    }
+
     @Test
     void 모든_1차_합격자의_수험표를_생성한다() {
         // given
@@ -66,21 +116,79 @@ public class GenerateAllAdmissionTicketUseCaseTest {
         formList.forEach(Form::firstPass);
         given(scheduleService.getAdmissionYear()).willReturn(LocalDate.now().plusYears(1).getYear());
         givenScheduleProperties();
-        given(formRepository.findByStatus(FormStatus.FIRST_PASSED)).willReturn(formList);
+        given(formRepository.findByStatusWithUser(FormStatus.FIRST_PASSED)).willReturn(formList);
+        given(generatePdfService.createFontProvider()).willReturn(new FontProvider());
+        given(mergePdfService.createMergedDocument(any(OutputStream.class), any(FontProvider.class), anyFloat()))
+                .willAnswer(invocation -> new Document(new PdfDocument(new PdfWriter(invocation.<OutputStream>getArgument(0)))));
         given(processTemplateService.execute(any(String.class), anyMap())).willReturn("html");
-        given(fileService.getDownloadPresignedUrl(any(String.class), any(String.class))).willReturn(SharedFixture.createIdentificationPictureUrlResponse().getDownloadUrl());
-        given(generatePdfService.execute(any(String.class))).willReturn(new ByteArrayOutputStream());
+        Map<UUID, String> versionMap = Map.of(
+                formList.get(0).getUser().getUuid(), "1697760000000",
+                formList.get(1).getUser().getUuid(), "1697760000001"
+        );
+        given(identificationPictureProvider.getVersionMap(anyList())).willReturn(versionMap);
+        given(identificationPictureProvider.getUri(any(UUID.class), any(String.class))).willReturn(SharedFixture.createIdentificationPictureUrlResponse().getDownloadUrl());
+        given(generatePdfService.convertToElements(any(String.class))).willReturn(List.of());
 
         // when
-        generateAllAdmissionTicketUseCase.execute();
+        generateAllAdmissionTicketUseCase.execute(new ByteArrayOutputStream());
 
         //then
-        verify(scheduleService, times(2)).getAdmissionYear();
+        verify(scheduleService, times(1)).getAdmissionYear();
         verifyScheduleProperties();
-        verify(formRepository, times(1)).findByStatus(FormStatus.FIRST_PASSED);
+        verify(formRepository, times(1)).findByStatusWithUser(FormStatus.FIRST_PASSED);
         verify(processTemplateService, times(2)).execute(any(String.class), anyMap());
-        verify(generatePdfService, times(2)).execute(any(String.class));
-        verify(fileService, times(2)).getDownloadPresignedUrl(any(String.class), any(String.class));
+        verify(generatePdfService, times(2)).convertToElements(any(String.class));
+        verify(identificationPictureProvider, times(1)).getVersionMap(anyList());
+        versionMap.forEach((uuid, version) -> {
+            verify(identificationPictureProvider, times(1)).prefetch(uuid, version);
+            verify(identificationPictureProvider, times(1)).getUri(uuid, version);
+        });
+        verify(mergePdfService, times(2)).execute(any(Document.class), anyList());
+    }
+
+    @Test
+    void 수험표를_동시에_만들어도_수험번호_순서대로_합친다() {
+        // given
+        List<Form> formList = new ArrayList<>();
+        for (long examinationNumber = 1010L; examinationNumber > 1000L; examinationNumber--) {
+            Form form = FormFixture.createForm(FormType.REGULAR);
+            form.assignExaminationNumber(examinationNumber);
+            form.firstPass();
+            formList.add(form);
+        }
+        given(scheduleService.getAdmissionYear()).willReturn(LocalDate.now().plusYears(1).getYear());
+        givenScheduleProperties();
+        given(formRepository.findByStatusWithUser(FormStatus.FIRST_PASSED)).willReturn(formList);
+        given(generatePdfService.createFontProvider()).willReturn(new FontProvider());
+        given(mergePdfService.createMergedDocument(any(OutputStream.class), any(FontProvider.class), anyFloat()))
+                .willAnswer(invocation -> new Document(new PdfDocument(new PdfWriter(invocation.<OutputStream>getArgument(0)))));
+        given(processTemplateService.execute(any(String.class), anyMap())).willAnswer(invocation -> {
+            Map<String, Object> formMap = invocation.getArgument(1);
+            return ((Form) formMap.get("form")).getExaminationNumber().toString();
+        });
+        given(generatePdfService.convertToElements(any(String.class)))
+                .willAnswer(invocation -> List.of(new Paragraph(invocation.<String>getArgument(0))));
+        AtomicInteger prefetchCount = new AtomicInteger();
+        List<Integer> prefetchCountList = new ArrayList<>();
+        willAnswer(invocation -> prefetchCount.incrementAndGet())
+                .given(identificationPictureProvider).prefetch(any(UUID.class), any());
+        willAnswer(invocation -> prefetchCountList.add(prefetchCount.get()))
+                .given(mergePdfService).execute(any(Document.class), anyList());
+
+        // when
+        generateAllAdmissionTicketUseCase.execute(new ByteArrayOutputStream());
+
+        //then
+        // 처음에는 만들기 시작할 수험표 4장보다 8장 앞까지만 사진을 받아둔다.
+        assertEquals(List.of(8, 10, 10, 10, 10, 10, 10, 10, 10, 10), prefetchCountList);
+        verify(mergePdfService, times(10)).execute(any(Document.class), elementListCaptor.capture());
+        List<String> mergedList = elementListCaptor.getAllValues().stream()
+                .map(elementList -> ((Text) ((Paragraph) elementList.get(0)).getChildren().get(0)).getText())
+                .toList();
+        assertEquals(
+                LongStream.rangeClosed(1001L, 1010L).mapToObj(Long::toString).toList(),
+                mergedList
+        );
     }
 
     private void givenScheduleProperties() {
@@ -98,14 +206,14 @@ public class GenerateAllAdmissionTicketUseCaseTest {
     }
 
     private void verifyScheduleProperties() {
-        verify(scheduleProperties, times(2)).getCodingTest();
-        verify(scheduleProperties, times(2)).getNcs();
-        verify(scheduleProperties, times(2)).getDepthInterview();
-        verify(scheduleProperties, times(2)).getPhysicalExamination();
-        verify(scheduleProperties, times(2)).getAnnouncementOfSecondPass();
-        verify(scheduleProperties, times(2)).getMeisterTalentEntranceTime();
-        verify(scheduleProperties, times(2)).getMeisterTalentExclusionEntranceTime();
-        verify(scheduleProperties, times(2)).getEntranceRegistrationPeriodStart();
-        verify(scheduleProperties, times(2)).getEntranceRegistrationPeriodEnd();
+        verify(scheduleProperties, times(1)).getCodingTest();
+        verify(scheduleProperties, times(1)).getNcs();
+        verify(scheduleProperties, times(1)).getDepthInterview();
+        verify(scheduleProperties, times(1)).getPhysicalExamination();
+        verify(scheduleProperties, times(1)).getAnnouncementOfSecondPass();
+        verify(scheduleProperties, times(1)).getMeisterTalentEntranceTime();
+        verify(scheduleProperties, times(1)).getMeisterTalentExclusionEntranceTime();
+        verify(scheduleProperties, times(1)).getEntranceRegistrationPeriodStart();
+        verify(scheduleProperties, times(1)).getEntranceRegistrationPeriodEnd();
     }
 }
@@ -23,7 +23,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Set;
 
 @ActiveProfiles("test")
@@ -62,6 +64,8 @@ public class GenerateProofOfApplicationUseCaseSpringBootTest {
         calculateFormScoreService.execute(form);
         formRepository.save(form);
 
-        SaveFileUtil.execute(generateProofOfApplicationUseCase.execute(user), SaveFileUtil.PDF);
+        try (OutputStream outputStream = new FileOutputStream(SaveFileUtil.PDF)) {
+            generateProofOfApplicationUseCase.execute(user).writeTo(outputStream);
+        }
     }
 }
@@ -6,8 +6,10 @@ import com.bamdoliro.maru.domain.form.exception.FormNotFoundException;
 import com.bamdoliro.maru.domain.form.exception.InvalidFormStatusException;
 import com.bamdoliro.maru.domain.form.service.FormFacade;
 import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.infrastructure.pdf.CachedPdf;
 import com.bamdoliro.maru.infrastructure.pdf.GeneratePdfService;
-import com.bamdoliro.maru.infrastructure.s3.FileService;
+import com.bamdoliro.maru.infrastructure.pdf.IdentificationPictureProvider;
+import com.bamdoliro.maru.infrastructure.pdf.PdfCacheService;
 import com.bamdoliro.maru.infrastructure.thymeleaf.ProcessTemplateService;
 import com.bamdoliro.maru.shared.config.properties.ScheduleProperties;
 import com.bamdoliro.maru.shared.fixture.FormFixture;
@@ -21,7 +23,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
@@ -45,7 +49,7 @@ public class GenerateProofOfApplicationUseCaseTest {
     private GeneratePdfService generatePdfService;
 
     @Mock
-    private FileService fileService;
+    private IdentificationPictureProvider identificationPictureProvider;
 
     @Mock
     private ScheduleService scheduleService;
@@ -53,6 +57,9 @@ public class GenerateProofOfApplicationUseCaseTest {
     @Mock
     private ScheduleProperties scheduleProperties;
 
+    @Mock
+    private PdfCacheService pdfCacheService;
+
     @Test
     void 접수증을_생성한다() {
         // given
@@ -63,19 +70,44 @@ public class GenerateProofOfApplicationUseCaseTest {
         given(scheduleProperties.getAnnouncementOfFirstPass()).willReturn(LocalDateTime.now());
         given(formFacade.getForm(user)).willReturn(form);
         given(processTemplateService.execute(any(String.class), anyMap())).willReturn("html");
-        given(fileService.getDownloadPresignedUrl(any(String.class), any(String.class))).willReturn(SharedFixture.createIdentificationPictureUrlResponse().getDownloadUrl());
-        given(generatePdfService.execute(any(String.class))).willReturn(new ByteArrayOutputStream());
+        given(identificationPictureProvider.getUri(any(UUID.class), any())).willReturn(SharedFixture.createIdentificationPictureUrlResponse().getDownloadUrl());
+        given(pdfCacheService.get(any(String.class), any())).willAnswer(invocation -> new CachedPdf("etag", invocation.getArgument(1)));
 
         // when
-        generateProofOfApplicationUseCase.execute(user);
+        generateProofOfApplicationUseCase.execute(user).writeTo(new ByteArrayOutputStream());
 
         // then
         verify(scheduleService, times(1)).getAdmissionYear();
         verify(scheduleProperties, times(1)).getAnnouncementOfFirstPass();
         verify(formFacade, times(1)).getForm(user);
         verify(processTemplateService, times(1)).execute(any(String.class), anyMap());
-        verify(generatePdfService, times(1)).execute(any(String.class));
-        verify(fileService, times(1)).getDownloadPresignedUrl(any(String.class), any(String.class));
+        verify(generatePdfService, times(1)).execute(any(String.class), any(OutputStream.class));
+        verify(identificationPictureProvider, times(1)).getUri(any(UUID.class), any());
+    }
+
+    @Test
+    void 증명사진을_올리는_중이면_캐시하지_않고_접수증을_생성한다() {
+        // given
+        User user = UserFixture.createUser();
+        Form form = FormFixture.createForm(FormType.MULTI_CHILDREN);
+        form.submit();
+        String version = String.valueOf(System.currentTimeMillis());
+        given(scheduleService.getAdmissionYear()).willReturn(LocalDateTime.now().plusYears(1).getYear());
+        given(scheduleProperties.getAnnouncementOfFirstPass()).willReturn(LocalDateTime.now());
+        given(formFacade.getForm(user)).willReturn(form);
+        given(processTemplateService.execute(any(String.class), anyMap())).willReturn("html");
+        given(identificationPictureProvider.getVersion(user.getUuid())).willReturn(version);
+        given(identificationPictureProvider.isUploading(version)).willReturn(true);
+        given(pdfCacheService.render(any())).willAnswer(invocation -> new CachedPdf(null, invocation.getArgument(0)));
+
+        // when
+        generateProofOfApplicationUseCase.execute(user).writeTo(new ByteArrayOutputStream());
+
+        // then
+        verify(pdfCacheService, never()).get(any(String.class), any());
+        verify(pdfCacheService, times(1)).render(any());
+        verify(generatePdfService, times(1)).execute(any(String.class), any(OutputStream.class));
+        verify(identificationPictureProvider, times(1)).getUri(user.getUuid(), version);
     }
 
     @Test
@@ -90,7 +122,7 @@ public class GenerateProofOfApplicationUseCaseTest {
 
         verify(formFacade, times(1)).getForm(user);
         verify(processTemplateService, never()).execute(any(String.class), anyMap());
-        verify(generatePdfService, never()).execute(any(String.class));
+        verify(generatePdfService, never()).execute(any(String.class), any(OutputStream.class));
     }
 
     @Test
@@ -104,6 +136,6 @@ public class GenerateProofOfApplicationUseCaseTest {
 
         verify(formFacade, times(1)).getForm(user);
         verify(processTemplateService, never()).execute(any(String.class), anyMap());
-        verify(generatePdfService, never()).execute(any(String.class));
+        verify(generatePdfService, never()).execute(any(String.class), any(OutputStream.class));
     }
 }
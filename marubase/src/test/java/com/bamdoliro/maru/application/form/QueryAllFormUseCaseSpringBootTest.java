@@ -0,0 +1,105 @@
+package com.bamdoliro.maru.application.form;
+
+import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
+import com.bamdoliro.maru.infrastructure.persistence.user.UserRepository;
+import com.bamdoliro.maru.presentation.form.dto.response.FormSimpleResponse;
+import com.bamdoliro.maru.shared.config.DatabaseClearExtension;
+import com.bamdoliro.maru.shared.fixture.FormFixture;
+import com.bamdoliro.maru.shared.util.RandomUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ActiveProfiles("test")
+@ExtendWith(DatabaseClearExtension.class)
+@SpringBootTest
+class QueryAllFormUseCaseSpringBootTest {
+
+    @Autowired
+    private QueryAllFormUseCase queryAllFormUseCase;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @BeforeEach
+    void setUp() {
+        List<Form> formList = List.of(
+                FormFixture.createForm(FormType.REGULAR),
+                FormFixture.createForm(FormType.SPECIAL_ADMISSION),
+                FormFixture.createForm(FormType.MEISTER_TALENT),
+                FormFixture.createForm(FormType.MULTI_CHILDREN)
+        );
+        formList.forEach(form -> form.getScore().updateSecondRoundScore(
+                RandomUtil.randomDouble(10, 50),
+                RandomUtil.randomDouble(10, 50)
+        ));
+        userRepository.saveAll(formList.stream().map(Form::getUser).toList());
+        formRepository.saveAll(formList);
+    }
+
+    @Test
+    void 특별전형_원서만_조회한다() {
+        // when
+        List<FormSimpleResponse> returnedFormList = queryAllFormUseCase.execute(null, FormType.Category.SPECIAL, null, null, null);
+
+        // then
+        assertEquals(2, returnedFormList.size());
+        assertEquals(
+                List.of(FormType.MEISTER_TALENT, FormType.MULTI_CHILDREN),
+                returnedFormList.stream().map(FormSimpleResponse::getType).sorted().toList()
+        );
+    }
+
+    @Test
+    void 사회통합전형_원서만_조회한다() {
+        // when
+        List<FormSimpleResponse> returnedFormList = queryAllFormUseCase.execute(null, FormType.Category.SOCIAL_INTEGRATION, null, null, null);
+
+        // then
+        assertEquals(1, returnedFormList.size());
+        assertEquals(FormType.MULTI_CHILDREN, returnedFormList.get(0).getType());
+    }
+
+    @Test
+    void 최종_점수가_높은_순으로_조회한다() {
+        // when
+        List<FormSimpleResponse> returnedFormList = queryAllFormUseCase.execute(null, null, "total-score-desc", null, null);
+
+        // then
+        assertEquals(4, returnedFormList.size());
+        assertEquals(
+                returnedFormList.stream()
+                        .sorted(Comparator.comparing(FormSimpleResponse::getTotalScore).reversed())
+                        .toList(),
+                returnedFormList
+        );
+    }
+
+    @Test
+    void 최종_점수가_낮은_순으로_조회한다() {
+        // when
+        List<FormSimpleResponse> returnedFormList = queryAllFormUseCase.execute(null, null, "total-score-asc", null, null);
+
+        // then
+        assertEquals(4, returnedFormList.size());
+        assertEquals(
+                returnedFormList.stream()
+                        .sorted(Comparator.comparing(FormSimpleResponse::getTotalScore))
+                        .toList(),
+                returnedFormList
+        );
+    }
+}
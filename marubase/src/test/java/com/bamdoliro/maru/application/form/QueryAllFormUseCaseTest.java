@@ -1,22 +1,24 @@
 package com.bamdoliro.maru.application.form;
 
-import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.domain.form.domain.type.FormSortType;
+import com.bamdoliro.maru.domain.form.domain.type.FormStatus;
 import com.bamdoliro.maru.domain.form.domain.type.FormType;
 import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
+import com.bamdoliro.maru.infrastructure.persistence.form.vo.FormSimpleVo;
 import com.bamdoliro.maru.presentation.form.dto.response.FormSimpleResponse;
 import com.bamdoliro.maru.shared.fixture.FormFixture;
-import com.bamdoliro.maru.shared.util.RandomUtil;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -33,168 +35,66 @@ class QueryAllFormUseCaseTest {
     @Test
     void 모든_원서를_조회한다() {
         // given
-        List<Form> formList = List.of(
-                FormFixture.createForm(FormType.REGULAR),
-                FormFixture.createForm(FormType.SPECIAL_ADMISSION),
-                FormFixture.createForm(FormType.MEISTER_TALENT),
-                FormFixture.createForm(FormType.MULTI_CHILDREN)
+        List<FormSimpleVo> voList = List.of(
+                FormFixture.createFormSimpleVo(1L, FormType.REGULAR, FormStatus.SUBMITTED),
+                FormFixture.createFormSimpleVo(2L, FormType.SPECIAL_ADMISSION, FormStatus.SUBMITTED),
+                FormFixture.createFormSimpleVo(3L, FormType.MEISTER_TALENT, FormStatus.SUBMITTED),
+                FormFixture.createFormSimpleVo(4L, FormType.MULTI_CHILDREN, FormStatus.SUBMITTED)
         );
 
-        formList.forEach(form -> form.assignExaminationNumber(1001L));
-
-        given(formRepository.findByStatus(null)).willReturn(formList);
+        given(formRepository.findFormSimpleList(null, null, FormSortType.EXAMINATION_NUMBER, null, null)).willReturn(voList);
 
         // when
-        List<FormSimpleResponse> returnedFormList = queryAllFormUseCase.execute(null, null, null);
+        List<FormSimpleResponse> returnedFormList = queryAllFormUseCase.execute(null, null, null, null, null);
 
         // then
-        assertEquals(formList.size(), returnedFormList.size());
+        assertEquals(voList.size(), returnedFormList.size());
+        assertNull(FormSimpleResponse.nextCursorOf(returnedFormList, null));
 
-        verify(formRepository, times(1)).findByStatus(null);
+        verify(formRepository, times(1)).findFormSimpleList(null, null, FormSortType.EXAMINATION_NUMBER, null, null);
     }
 
     @Test
-    void 특별전형_원서만_조회한다() {
+    void 특별전형_원서를_최종_점수가_높은_순으로_페이지_단위로_조회한다() {
         // given
-        List<Form> formList = List.of(
-                FormFixture.createForm(FormType.REGULAR),
-                FormFixture.createForm(FormType.SPECIAL_ADMISSION),
-                FormFixture.createForm(FormType.MEISTER_TALENT),
-                FormFixture.createForm(FormType.MULTI_CHILDREN)
+        List<FormSimpleVo> voList = List.of(
+                FormFixture.createFormSimpleVo(3L, FormType.MEISTER_TALENT, FormStatus.FIRST_PASSED),
+                FormFixture.createFormSimpleVo(4L, FormType.MULTI_CHILDREN, FormStatus.FIRST_PASSED)
         );
 
-        formList.forEach(form -> form.assignExaminationNumber(1001L));
-
-        given(formRepository.findByStatus(null)).willReturn(formList);
+        given(formRepository.findFormSimpleList(FormStatus.FIRST_PASSED, FormType.Category.SPECIAL, FormSortType.TOTAL_SCORE_DESC, 2L, 2))
+                .willReturn(voList);
 
         // when
-        List<FormSimpleResponse> returnedFormList = queryAllFormUseCase.execute(null, FormType.Category.SPECIAL, null);
+        List<FormSimpleResponse> returnedFormList = queryAllFormUseCase.execute(FormStatus.FIRST_PASSED, FormType.Category.SPECIAL, "total-score-desc", 2L, 2);
 
         // then
         assertEquals(2, returnedFormList.size());
+        assertEquals(4L, FormSimpleResponse.nextCursorOf(returnedFormList, 2));
+        assertTrue(returnedFormList.get(0).getHasDocument());
+        assertTrue(returnedFormList.get(0).getFirstRoundPassed());
+        assertNull(returnedFormList.get(0).getSecondRoundPassed());
 
-        verify(formRepository, times(1)).findByStatus(null);
-    }
-
-    @Test
-    void 사회통합전형_원서만_조회한다() {
-        // given
-        List<Form> formList = List.of(
-                FormFixture.createForm(FormType.REGULAR),
-                FormFixture.createForm(FormType.SPECIAL_ADMISSION),
-                FormFixture.createForm(FormType.MEISTER_TALENT),
-                FormFixture.createForm(FormType.MULTI_CHILDREN)
-        );
-
-        formList.forEach(form -> form.assignExaminationNumber(1001L));
-
-        given(formRepository.findByStatus(null)).willReturn(formList);
-
-        // when
-        List<FormSimpleResponse> returnedFormList = queryAllFormUseCase.execute(null, FormType.Category.SOCIAL_INTEGRATION, null);
-
-        // then
-        assertEquals(1, returnedFormList.size());
-
-        verify(formRepository, times(1)).findByStatus(null);
-    }
-
-    @Test
-    void 최종_점수가_높은_순으로_조회한다() {
-        // given
-        List<Form> formList = List.of(
-                FormFixture.createForm(FormType.REGULAR),
-                FormFixture.createForm(FormType.SPECIAL_ADMISSION),
-                FormFixture.createForm(FormType.MEISTER_TALENT),
-                FormFixture.createForm(FormType.MULTI_CHILDREN)
-        );
-
-        formList.stream()
-                .filter(form -> form.getType() == FormType.MEISTER_TALENT)
-                .forEach(form -> form.getScore().updateSecondRoundMeisterScore(
-                        RandomUtil.randomDouble(10, 50),
-                        RandomUtil.randomDouble(10, 50),
-                        RandomUtil.randomDouble(10, 50)
-                ));
-        formList.stream()
-                .filter(form -> form.getType() != FormType.MEISTER_TALENT)
-                .forEach(form -> form.getScore().updateSecondRoundScore(
-                        RandomUtil.randomDouble(10, 50),
-                        RandomUtil.randomDouble(10, 50)
-                ));
-        given(formRepository.findByStatus(null)).willReturn(formList);
-
-        // when
-        List<FormSimpleResponse> returnedFormList = queryAllFormUseCase.execute(null, null, "total-score-desc");
-
-        // then
-        assertEquals(
-                Collections.max(formList, Comparator.comparingDouble(form -> form.getScore().getTotalScore()))
-                        .getScore()
-                        .getTotalScore(),
-                returnedFormList.get(0).getTotalScore()
-        );
-
-        verify(formRepository, times(1)).findByStatus(null);
-    }
-
-    @Test
-    void 최종_점수가_낮은_순으로_조회한다() {
-        // given
-        List<Form> formList = List.of(
-                FormFixture.createForm(FormType.REGULAR),
-                FormFixture.createForm(FormType.SPECIAL_ADMISSION),
-                FormFixture.createForm(FormType.MEISTER_TALENT),
-                FormFixture.createForm(FormType.MULTI_CHILDREN)
-        );
-
-        formList.stream()
-                .filter(form -> form.getType() == FormType.MEISTER_TALENT)
-                .forEach(form -> form.getScore().updateSecondRoundMeisterScore(
-                        RandomUtil.randomDouble(10, 50),
-                        RandomUtil.randomDouble(10, 50),
-                        RandomUtil.randomDouble(10, 50)
-                ));
-        formList.stream()
-                .filter(form -> form.getType() != FormType.MEISTER_TALENT)
-                .forEach(form -> form.getScore().updateSecondRoundScore(
-                        RandomUtil.randomDouble(10, 50),
-                        RandomUtil.randomDouble(10, 50)
-                ));
-        given(formRepository.findByStatus(null)).willReturn(formList);
-
-        // when
-        List<FormSimpleResponse> returnedFormList = queryAllFormUseCase.execute(null, null, "total-score-asc");
-
-        // then
-        assertEquals(
-                Collections.min(formList, Comparator.comparingDouble(form -> form.getScore().getTotalScore()))
-                        .getScore()
-                        .getTotalScore(),
-                returnedFormList.get(0).getTotalScore()
-        );
-
-        verify(formRepository, times(1)).findByStatus(null);
+        verify(formRepository, times(1)).findFormSimpleList(FormStatus.FIRST_PASSED, FormType.Category.SPECIAL, FormSortType.TOTAL_SCORE_DESC, 2L, 2);
     }
 
     @Test
-    void 접수번호가_높은_순으로_조회한다() {
+    void 마지막_페이지라면_다음_커서가_없다() {
         // given
-        List<Form> formList = List.of(
-                FormFixture.createForm(FormType.REGULAR),
-                FormFixture.createForm(FormType.SPECIAL_ADMISSION),
-                FormFixture.createForm(FormType.MEISTER_TALENT),
-                FormFixture.createForm(FormType.MULTI_CHILDREN)
+        List<FormSimpleVo> voList = List.of(
+                FormFixture.createFormSimpleVo(5L, FormType.REGULAR, FormStatus.FIRST_FAILED)
         );
 
-        given(formRepository.findByStatus(null)).willReturn(formList);
+        given(formRepository.findFormSimpleList(null, null, FormSortType.FORM_ID, 4L, 2)).willReturn(voList);
 
         // when
-        List<FormSimpleResponse> returnedFormList = queryAllFormUseCase.execute(null, FormType.Category.SOCIAL_INTEGRATION, "form-id");
+        List<FormSimpleResponse> returnedFormList = queryAllFormUseCase.execute(null, null, "form-id", 4L, 2);
 
         // then
         assertEquals(1, returnedFormList.size());
+        assertNull(FormSimpleResponse.nextCursorOf(returnedFormList, 2));
+        assertFalse(returnedFormList.get(0).getFirstRoundPassed());
 
-        verify(formRepository, times(1)).findByStatus(null);
+        verify(formRepository, times(1)).findFormSimpleList(null, null, FormSortType.FORM_ID, 4L, 2);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,80 @@
+package com.bamdoliro.maru.application.form;
+
+import com.bamdoliro.maru.domain.form.domain.ReScoringJob;
+import com.bamdoliro.maru.domain.form.domain.value.ScoreChange;
+import com.bamdoliro.maru.domain.form.exception.ReScoringJobAlreadyRunningException;
+import com.bamdoliro.maru.domain.form.service.ReScoringJobRunner;
+import com.bamdoliro.maru.infrastructure.persistence.form.ReScoringJobRepository;
+import com.bamdoliro.maru.presentation.form.dto.response.ReScoringJobResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ResumeReScoringUseCaseTest {
+
+    @InjectMocks
+    private ResumeReScoringUseCase resumeReScoringUseCase;
+
+    @Mock
+    private ReScoringJobRepository reScoringJobRepository;
+
+    @Mock
+    private ReScoringJobRunner reScoringJobRunner;
+
+    @Test
+    void 작업을_선점하고_이어서_실행한다() {
+        // given
+        ReScoringJob job = new ReScoringJob(3L);
+        given(reScoringJobRepository.findById(job.getId())).willReturn(Optional.of(job));
+        given(reScoringJobRepository.claim(job.getId())).willReturn(true);
+        given(reScoringJobRepository.findChangeList(job.getId())).willReturn(List.of(new ScoreChange(2L, 1002L, 170.0, 171.5, 1.5)));
+
+        // when
+        ReScoringJobResponse response = resumeReScoringUseCase.execute(job.getId());
+
+        // then
+        assertEquals(1, response.getChangeList().size());
+        verify(reScoringJobRunner, times(1)).run(job.getId());
+    }
+
+    @Test
+    void 다른_서버에서_실행_중인_작업이면_에러가_발생한다() {
+        // given
+        ReScoringJob job = new ReScoringJob(3L);
+        given(reScoringJobRepository.findById(job.getId())).willReturn(Optional.of(job));
+        given(reScoringJobRepository.claim(job.getId())).willReturn(false);
+
+        // when and then
+        assertThrows(ReScoringJobAlreadyRunningException.class, () -> resumeReScoringUseCase.execute(job.getId()));
+        verify(reScoringJobRunner, never()).run(any(String.class));
+    }
+
+    @Test
+    void 실행할_자리가_없으면_선점을_풀고_에러가_발생한다() {
+        // given
+        ReScoringJob job = new ReScoringJob(3L);
+        given(reScoringJobRepository.findById(job.getId())).willReturn(Optional.of(job));
+        given(reScoringJobRepository.claim(job.getId())).willReturn(true);
+        willThrow(TaskRejectedException.class).given(reScoringJobRunner).run(job.getId());
+
+        // when and then
+        assertThrows(ReScoringJobAlreadyRunningException.class, () -> resumeReScoringUseCase.execute(job.getId()));
+        verify(reScoringJobRepository, times(1)).releaseClaim(job.getId());
+    }
+}
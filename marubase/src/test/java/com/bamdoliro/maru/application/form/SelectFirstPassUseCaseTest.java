@@ -1,6 +1,7 @@
 package com.bamdoliro.maru.application.form;
 
 import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.domain.form.domain.type.FormStatus;
 import com.bamdoliro.maru.domain.form.service.AssignExaminationNumberService;
 import com.bamdoliro.maru.domain.form.service.CalculateFormScoreService;
 import com.bamdoliro.maru.domain.user.domain.User;
@@ -87,4 +88,21 @@ class SelectFirstPassUseCaseTest {
         assertEquals(totalCount, passedFormCount);
         assertTrue(Math.ceil((double) totalCount / 2) >= passedOtherRegionFormCount);
     }
-}
\ No newline at end of file
+
+    @Test
+    void 접수된_모든_원서에_1차전형_결과를_반영한다() {
+        // when
+        selectFirstPassUseCase.execute();
+
+        // then
+        List<Form> formList = formRepository.findAll();
+        assertTrue(formRepository.findByStatus(FormStatus.RECEIVED).isEmpty());
+        assertEquals(
+                formList.size(),
+                formRepository.findByStatus(FormStatus.FIRST_PASSED).size() + formRepository.findByStatus(FormStatus.FIRST_FAILED).size()
+        );
+        assertTrue(formList.stream()
+                .filter(Form::getChangedToRegular)
+                .allMatch(form -> form.getType().isRegular()));
+    }
+}
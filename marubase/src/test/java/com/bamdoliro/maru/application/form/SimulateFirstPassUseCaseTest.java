@@ -0,0 +1,71 @@
+package com.bamdoliro.maru.application.form;
+
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.domain.form.domain.value.FirstRoundCandidate;
+import com.bamdoliro.maru.domain.form.domain.value.ScaledScore;
+import com.bamdoliro.maru.domain.form.domain.value.FirstRoundSnapshot;
+import com.bamdoliro.maru.domain.form.service.FirstRoundSnapshotService;
+import com.bamdoliro.maru.domain.form.service.SelectFirstRoundService;
+import com.bamdoliro.maru.presentation.form.dto.request.SimulateFirstPassRequest;
+import com.bamdoliro.maru.presentation.form.dto.response.FirstPassSimulationResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SimulateFirstPassUseCaseTest {
+
+    @InjectMocks
+    private SimulateFirstPassUseCase simulateFirstPassUseCase;
+
+    @Mock
+    private FirstRoundSnapshotService firstRoundSnapshotService;
+
+    @Spy
+    private SelectFirstRoundService selectFirstRoundService;
+
+    @Test
+    void 정원과_배수를_바꿔서_1차_합격자를_시뮬레이션한다() {
+        // given
+        List<FirstRoundCandidate> candidateList = LongStream.range(0, 100)
+                .mapToObj(i -> new FirstRoundCandidate(i, FormType.REGULAR, true, ScaledScore.of(300.0 - i), ScaledScore.of(300.0 - i)))
+                .toList();
+        given(firstRoundSnapshotService.getSnapshot(false)).willReturn(new FirstRoundSnapshot(candidateList, LocalDateTime.now()));
+        SimulateFirstPassRequest request = new SimulateFirstPassRequest(30, 0, 0, 0, 0, 2.0, 0.5, false);
+
+        // when
+        FirstPassSimulationResponse response = simulateFirstPassUseCase.execute(request);
+
+        // then
+        assertEquals(100, response.getApplicantCount());
+        assertEquals(60, response.getPassedCount());
+        verify(firstRoundSnapshotService, times(1)).getSnapshot(false);
+    }
+
+    @Test
+    void 값을_입력하지_않으면_기본_정원과_배수로_시뮬레이션한다() {
+        // given
+        List<FirstRoundCandidate> candidateList = LongStream.range(0, 100)
+                .mapToObj(i -> new FirstRoundCandidate(i, FormType.REGULAR, true, ScaledScore.of(300.0 - i), ScaledScore.of(300.0 - i)))
+                .toList();
+        given(firstRoundSnapshotService.getSnapshot(false)).willReturn(new FirstRoundSnapshot(candidateList, LocalDateTime.now()));
+
+        // when
+        FirstPassSimulationResponse response = simulateFirstPassUseCase.execute(new SimulateFirstPassRequest());
+
+        // then
+        assertEquals(84, response.getPassedCount());
+    }
+}
@@ -0,0 +1,80 @@
+package com.bamdoliro.maru.application.form;
+
+import com.bamdoliro.maru.domain.form.domain.ReScoringJob;
+import com.bamdoliro.maru.domain.form.exception.ReScoringJobAlreadyRunningException;
+import com.bamdoliro.maru.domain.form.service.ReScoringJobRunner;
+import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
+import com.bamdoliro.maru.infrastructure.persistence.form.ReScoringJobRepository;
+import com.bamdoliro.maru.presentation.form.dto.response.ReScoringJobResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StartReScoringUseCaseTest {
+
+    @InjectMocks
+    private StartReScoringUseCase startReScoringUseCase;
+
+    @Mock
+    private FormRepository formRepository;
+
+    @Mock
+    private ReScoringJobRepository reScoringJobRepository;
+
+    @Mock
+    private ReScoringJobRunner reScoringJobRunner;
+
+    @Test
+    void 재채점_작업을_선점하고_실행한다() {
+        // given
+        given(formRepository.count()).willReturn(3L);
+        given(reScoringJobRepository.claim(any(String.class))).willReturn(true);
+
+        // when
+        ReScoringJobResponse response = startReScoringUseCase.execute();
+
+        // then
+        assertEquals(3L, response.getTotalCount());
+        verify(reScoringJobRepository, times(1)).claim(response.getId());
+        verify(reScoringJobRepository, times(1)).save(any(ReScoringJob.class));
+        verify(reScoringJobRunner, times(1)).run(response.getId());
+    }
+
+    @Test
+    void 진행_중인_재채점_작업이_있으면_에러가_발생한다() {
+        // given
+        given(formRepository.count()).willReturn(3L);
+        given(reScoringJobRepository.claim(any(String.class))).willReturn(false);
+
+        // when and then
+        assertThrows(ReScoringJobAlreadyRunningException.class, () -> startReScoringUseCase.execute());
+        verify(reScoringJobRepository, never()).save(any(ReScoringJob.class));
+        verify(reScoringJobRunner, never()).run(any(String.class));
+    }
+
+    @Test
+    void 실행할_자리가_없으면_선점을_풀고_작업을_지운다() {
+        // given
+        given(formRepository.count()).willReturn(3L);
+        given(reScoringJobRepository.claim(any(String.class))).willReturn(true);
+        willThrow(TaskRejectedException.class).given(reScoringJobRunner).run(any(String.class));
+
+        // when and then
+        assertThrows(ReScoringJobAlreadyRunningException.class, () -> startReScoringUseCase.execute());
+        verify(reScoringJobRepository, times(1)).releaseClaim(any(String.class));
+        verify(reScoringJobRepository, times(1)).delete(any(ReScoringJob.class));
+    }
+}
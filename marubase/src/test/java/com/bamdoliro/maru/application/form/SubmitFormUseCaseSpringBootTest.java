@@ -0,0 +1,105 @@
+package com.bamdoliro.maru.application.form;
+
+import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.domain.form.service.AssignExaminationNumberService;
+import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
+import com.bamdoliro.maru.infrastructure.persistence.user.UserRepository;
+import com.bamdoliro.maru.shared.config.DatabaseClearExtension;
+import com.bamdoliro.maru.shared.fixture.FormFixture;
+import com.bamdoliro.maru.shared.fixture.UserFixture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ActiveProfiles("test")
+@ExtendWith(DatabaseClearExtension.class)
+@SpringBootTest(properties = {
+        "schedule.start=2000-01-01T00:00:00",
+        "schedule.end=2999-12-31T23:59:59"
+})
+class SubmitFormUseCaseSpringBootTest {
+
+    private static final int NUMBER_OF_APPLICANTS = 300;
+    private static final List<FormType> FORM_TYPES = List.of(
+            FormType.REGULAR,
+            FormType.MEISTER_TALENT,
+            FormType.ONE_PARENT,
+            FormType.SPECIAL_ADMISSION
+    );
+
+    @Autowired
+    private SubmitFormUseCase submitFormUseCase;
+
+    @Autowired
+    private AssignExaminationNumberService assignExaminationNumberService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @Test
+    void 동시에_원서를_제출해도_수험번호가_중복되지_않는다() throws InterruptedException {
+        assignExaminationNumberService.initializeSequence();
+        List<User> userList = userRepository.saveAll(UserFixture.generateUserList(NUMBER_OF_APPLICANTS));
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(NUMBER_OF_APPLICANTS);
+        AtomicInteger failCount = new AtomicInteger();
+
+        for (int i = 0; i < NUMBER_OF_APPLICANTS; i++) {
+            User user = userList.get(i);
+            FormType type = FORM_TYPES.get(i % FORM_TYPES.size());
+            executorService.submit(() -> {
+                RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+                try {
+                    submitFormUseCase.execute(user, FormFixture.createFormRequest(type));
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    RequestContextHolder.resetRequestAttributes();
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(1, TimeUnit.MINUTES);
+        executorService.shutdown();
+
+        List<Form> formList = formRepository.findAll();
+        assertEquals(0, failCount.get());
+        assertEquals(NUMBER_OF_APPLICANTS, formList.size());
+        assertEquals(NUMBER_OF_APPLICANTS, formList.stream().map(Form::getExaminationNumber).distinct().count());
+
+        Map<FormType.Category, List<Long>> examinationNumbersByCategory = formList.stream()
+                .collect(Collectors.groupingBy(
+                        form -> form.getType().getCategory(),
+                        Collectors.mapping(Form::getExaminationNumber, Collectors.toList())
+                ));
+        examinationNumbersByCategory.forEach((category, examinationNumberList) -> {
+            long startNumber = examinationNumberList.stream().min(Long::compareTo).orElseThrow();
+            long endNumber = examinationNumberList.stream().max(Long::compareTo).orElseThrow();
+            assertEquals(NUMBER_OF_APPLICANTS / FORM_TYPES.size(), examinationNumberList.size());
+            assertEquals(startNumber + examinationNumberList.size() - 1, endNumber);
+            assertTrue(startNumber % 1000 == 1);
+        });
+    }
+}
@@ -7,10 +7,15 @@ import com.bamdoliro.maru.domain.form.service.CalculateFormScoreService;
 import com.bamdoliro.maru.domain.user.domain.User;
 import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
 import com.bamdoliro.maru.infrastructure.persistence.user.UserRepository;
+import com.bamdoliro.maru.presentation.form.dto.response.SecondRoundScoreErrorResponse;
+import com.bamdoliro.maru.presentation.form.dto.response.UpdateSecondRoundScoreResponse;
 import com.bamdoliro.maru.shared.config.DatabaseClearExtension;
 import com.bamdoliro.maru.shared.constants.FixedNumber;
 import com.bamdoliro.maru.shared.fixture.FormFixture;
 import com.bamdoliro.maru.shared.fixture.UserFixture;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +25,7 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -28,6 +34,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ActiveProfiles("test")
 @ExtendWith(DatabaseClearExtension.class)
@@ -80,9 +87,12 @@ class UpdateSecondRoundScoreUseCaseTest {
         MockMultipartFile multipartFile = new MockMultipartFile("test.xlsx", new FileInputStream(file));
 
         // when
-        updateSecondRoundScoreUseCase.execute(multipartFile);
+        UpdateSecondRoundScoreResponse response = updateSecondRoundScoreUseCase.execute(multipartFile);
 
         // then
+        assertEquals(3, response.getUpdatedCount());
+        assertEquals(1, response.getNoShowCount());
+        assertTrue(response.getErrorList().isEmpty());
         List<Form> formList = formRepository.findByStatus(FormStatus.FIRST_PASSED).stream()
                 .sorted(Comparator.comparing(Form::getExaminationNumber))
                 .toList();
@@ -91,4 +101,71 @@ class UpdateSecondRoundScoreUseCaseTest {
         assertEquals(20, formList.get(1).getScore().getCodingTestScore());
         assertNull(formList.get(2).getScore().getCodingTestScore());
     }
-}
\ No newline at end of file
+
+    @Test
+    void 일부_행만_다시_올리면_해당_지원자만_수정한다() throws IOException {
+        // given
+        File file = new ClassPathResource("xlsx/2차전형점수.xlsx").getFile();
+        updateSecondRoundScoreUseCase.execute(new MockMultipartFile("test.xlsx", new FileInputStream(file)));
+        Double before = formRepository.findByExaminationNumber(1001L).orElseThrow().getScore().getTotalScore();
+
+        // when
+        UpdateSecondRoundScoreResponse response = updateSecondRoundScoreUseCase.execute(createXlsx(
+                new Object[]{1002, "김밤돌", "일반전형", 100, 30}
+        ));
+
+        // then
+        assertEquals(1, response.getUpdatedCount());
+        assertEquals(0, response.getNoShowCount());
+        Form form = formRepository.findByExaminationNumber(1002L).orElseThrow();
+        assertEquals(FormStatus.FIRST_PASSED, form.getStatus());
+        assertEquals(100, form.getScore().getDepthInterviewScore());
+        assertEquals(30, form.getScore().getNcsScore());
+        assertEquals(before, formRepository.findByExaminationNumber(1001L).orElseThrow().getScore().getTotalScore());
+    }
+
+    @Test
+    void 잘못된_행은_반영하지_않고_오류_목록으로_반환한다() throws IOException {
+        // when
+        UpdateSecondRoundScoreResponse response = updateSecondRoundScoreUseCase.execute(createXlsx(
+                new Object[]{1001, "김밤돌", "일반전형", 100, 30},
+                new Object[]{2001, "김밤돌", "마이스터인재전형", 100, 30, 100},
+                new Object[]{9999, "김밤돌", "일반전형", 100, 30},
+                new Object[]{1001, "김밤돌", "일반전형", 100, 30}
+        ));
+
+        // then
+        assertEquals(1, response.getUpdatedCount());
+        assertEquals(3, response.getErrorList().size());
+
+        SecondRoundScoreErrorResponse rangeError = response.getErrorList().get(0);
+        assertEquals(3, rangeError.getRow());
+        assertEquals(2001L, rangeError.getExaminationNumber());
+        assertEquals("코딩테스트", rangeError.getColumn());
+        assertEquals("범위 초과", rangeError.getMessage());
+        assertEquals("2차전형 대상 아님", response.getErrorList().get(1).getMessage());
+        assertEquals("수험번호 중복", response.getErrorList().get(2).getMessage());
+        assertNull(formRepository.findByExaminationNumber(2001L).orElseThrow().getScore().getCodingTestScore());
+    }
+
+    private MockMultipartFile createXlsx(Object[]... valueList) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet();
+            sheet.createRow(0).createCell(0).setCellValue("수험번호");
+            for (int rowIndex = 0; rowIndex < valueList.length; rowIndex++) {
+                Row row = sheet.createRow(rowIndex + 1);
+                Object[] values = valueList[rowIndex];
+                for (int columnIndex = 0; columnIndex < values.length; columnIndex++) {
+                    if (values[columnIndex] instanceof Number number) {
+                        row.createCell(columnIndex).setCellValue(number.doubleValue());
+                    } else {
+                        row.createCell(columnIndex).setCellValue((String) values[columnIndex]);
+                    }
+                }
+            }
+            workbook.write(outputStream);
+
+            return new MockMultipartFile("test.xlsx", outputStream.toByteArray());
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.bamdoliro.maru.domain.form.domain.Form;
 import com.bamdoliro.maru.domain.form.domain.type.FormType;
 import com.bamdoliro.maru.domain.form.exception.InvalidFormStatusException;
 import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.infrastructure.pdf.IdentificationPictureProvider;
 import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
 import com.bamdoliro.maru.infrastructure.s3.FileService;
 import com.bamdoliro.maru.infrastructure.s3.dto.request.FileMetadata;
@@ -37,6 +38,9 @@ class UploadIdentificationPictureUseCaseTest {
     @Mock
     private FormRepository formRepository;
 
+    @Mock
+    private IdentificationPictureProvider identificationPictureProvider;
+
     @Test
     void 증명_사진을_업로드한다() {
         // given
@@ -56,6 +60,7 @@ class UploadIdentificationPictureUseCaseTest {
         // then
         verify(formRepository, times(1)).findByUser(user);
         verify(fileService, times(1)).getPresignedUrl(any(String.class), any(String.class), any(FileMetadata.class), any(FileValidator.class));
+        verify(identificationPictureProvider, times(1)).invalidate(user.getUuid());
     }
 
     @Test
@@ -6,7 +6,8 @@ import com.bamdoliro.maru.domain.form.domain.type.FormType;
 import com.bamdoliro.maru.domain.form.service.CalculateFormScoreService;
 import com.bamdoliro.maru.domain.user.domain.User;
 import com.bamdoliro.maru.domain.user.domain.type.Authority;
-import com.bamdoliro.maru.infrastructure.message.SendMessageService;
+import com.bamdoliro.maru.domain.message.exception.RecipientNotFoundException;
+import com.bamdoliro.maru.domain.message.service.MessageOutboxService;
 import com.bamdoliro.maru.infrastructure.message.exception.FailedToSendException;
 import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
 import com.bamdoliro.maru.infrastructure.persistence.user.UserRepository;
@@ -14,6 +15,7 @@ import com.bamdoliro.maru.presentation.message.dto.request.SendMessageByStatusRe
 import com.bamdoliro.maru.presentation.message.dto.request.SendMessageByTypeRequest;
 import com.bamdoliro.maru.presentation.message.dto.request.SendMessageToAllUserRequest;
 import com.bamdoliro.maru.shared.fixture.FormFixture;
+import com.bamdoliro.maru.shared.fixture.MessageFixture;
 import com.bamdoliro.maru.shared.fixture.UserFixture;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -36,7 +38,7 @@ public class SendMessageUseCaseTest {
     private SendMessageUseCase sendMessageUseCase;
 
     @Mock
-    private SendMessageService sendMessageService;
+    private MessageOutboxService messageOutboxService;
 
     @Mock
     private FormRepository formRepository;
@@ -55,13 +57,14 @@ public class SendMessageUseCaseTest {
         form.submit();
         given(formRepository.findByStatus(FormStatus.FINAL_SUBMITTED)).willReturn(List.of(form));
         SendMessageByStatusRequest request = new SendMessageByStatusRequest("부산소마고 공지사항", "테스트입니다", FormStatus.FINAL_SUBMITTED);
+        given(messageOutboxService.enqueue(anyList(), anyString(), anyString())).willReturn(MessageFixture.createBulkMessage(1));
 
         //when
         sendMessageUseCase.execute(request);
 
         //then
         verify(formRepository, times(1)).findByStatus(FormStatus.FINAL_SUBMITTED);
-        verify(sendMessageService, times(1)).execute(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
+        verify(messageOutboxService, times(1)).enqueue(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
     }
 
     @Test
@@ -72,13 +75,14 @@ public class SendMessageUseCaseTest {
         form.approve();
         given(formRepository.findByStatus(FormStatus.APPROVED)).willReturn(List.of(form));
         SendMessageByStatusRequest request = new SendMessageByStatusRequest("부산소마고 공지사항", "테스트입니다", FormStatus.APPROVED);
+        given(messageOutboxService.enqueue(anyList(), anyString(), anyString())).willReturn(MessageFixture.createBulkMessage(1));
 
         //when
         sendMessageUseCase.execute(request);
 
         //then
         verify(formRepository, times(1)).findByStatus(FormStatus.APPROVED);
-        verify(sendMessageService, times(1)).execute(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
+        verify(messageOutboxService, times(1)).enqueue(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
     }
 
     @Test
@@ -89,13 +93,14 @@ public class SendMessageUseCaseTest {
         form.reject();
         given(formRepository.findByStatus(FormStatus.REJECTED)).willReturn(List.of(form));
         SendMessageByStatusRequest request = new SendMessageByStatusRequest("부산소마고 공지사항", "학생들의 원서가 조건을 충족하지 못해 반려되었습니다.", FormStatus.REJECTED);
+        given(messageOutboxService.enqueue(anyList(), anyString(), anyString())).willReturn(MessageFixture.createBulkMessage(1));
 
         //when
         sendMessageUseCase.execute(request);
 
         //then
         verify(formRepository, times(1)).findByStatus(FormStatus.REJECTED);
-        verify(sendMessageService, times(1)).execute(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
+        verify(messageOutboxService, times(1)).enqueue(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
     }
 
     @Test
@@ -106,13 +111,14 @@ public class SendMessageUseCaseTest {
         form.receive();
         given(formRepository.findByStatus(FormStatus.RECEIVED)).willReturn(List.of(form));
         SendMessageByStatusRequest request = new SendMessageByStatusRequest("부산소마고 공지사항", "제출하신 원서가 접수되었습니다.", FormStatus.RECEIVED);
+        given(messageOutboxService.enqueue(anyList(), anyString(), anyString())).willReturn(MessageFixture.createBulkMessage(1));
 
         //when
         sendMessageUseCase.execute(request);
 
         //then
         verify(formRepository, times(1)).findByStatus(FormStatus.RECEIVED);
-        verify(sendMessageService, times(1)).execute(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
+        verify(messageOutboxService, times(1)).enqueue(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
     }
 
     @Test
@@ -123,13 +129,14 @@ public class SendMessageUseCaseTest {
         form.firstPass();
         given(formRepository.findByStatus(FormStatus.FIRST_PASSED)).willReturn(List.of(form));
         SendMessageByStatusRequest request = new SendMessageByStatusRequest("부산소마고 공지사항", "1차 전형에 합격하신것을 축하드립니다. 면접 장소를 확인하시고 꼭 제시간에 방문하시길 바라겠습니다,", FormStatus.FIRST_PASSED);
+        given(messageOutboxService.enqueue(anyList(), anyString(), anyString())).willReturn(MessageFixture.createBulkMessage(1));
 
         //when
         sendMessageUseCase.execute(request);
 
         //then
         verify(formRepository, times(1)).findByStatus(FormStatus.FIRST_PASSED);
-        verify(sendMessageService, times(1)).execute(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
+        verify(messageOutboxService, times(1)).enqueue(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
     }
 
     @Test
@@ -140,13 +147,14 @@ public class SendMessageUseCaseTest {
         form.firstFail();
         given(formRepository.findByStatus(FormStatus.FIRST_FAILED)).willReturn(List.of(form));
         SendMessageByStatusRequest request = new SendMessageByStatusRequest("부산소마고 공지사항", "1차 전형에 불합격하신것에 대해 유감입니당~", FormStatus.FIRST_FAILED);
+        given(messageOutboxService.enqueue(anyList(), anyString(), anyString())).willReturn(MessageFixture.createBulkMessage(1));
 
         //when
         sendMessageUseCase.execute(request);
 
         //then
         verify(formRepository, times(1)).findByStatus(FormStatus.FIRST_FAILED);
-        verify(sendMessageService, times(1)).execute(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
+        verify(messageOutboxService, times(1)).enqueue(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
     }
 
     @Test
@@ -157,13 +165,14 @@ public class SendMessageUseCaseTest {
         form.noShow();
         given(formRepository.findByStatus(FormStatus.NO_SHOW)).willReturn(List.of(form));
         SendMessageByStatusRequest request = new SendMessageByStatusRequest("부산소마고 공지사항", "해당 지원자들은 2차전형에 '불참'하였으므로 패널티가 있을 예정입니다.", FormStatus.NO_SHOW);
+        given(messageOutboxService.enqueue(anyList(), anyString(), anyString())).willReturn(MessageFixture.createBulkMessage(1));
 
         //when
         sendMessageUseCase.execute(request);
 
         //then
         verify(formRepository, times(1)).findByStatus(FormStatus.NO_SHOW);
-        verify(sendMessageService, times(1)).execute(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
+        verify(messageOutboxService, times(1)).enqueue(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
     }
 
     @Test
@@ -174,13 +183,14 @@ public class SendMessageUseCaseTest {
         form.pass();
         given(formRepository.findByStatus(FormStatus.PASSED)).willReturn(List.of(form));
         SendMessageByStatusRequest request = new SendMessageByStatusRequest("부산소마고 공지사항", "합격하였습니다. 축하드립니다.", FormStatus.PASSED);
+        given(messageOutboxService.enqueue(anyList(), anyString(), anyString())).willReturn(MessageFixture.createBulkMessage(1));
 
         //when
         sendMessageUseCase.execute(request);
 
         //then
         verify(formRepository, times(1)).findByStatus(FormStatus.PASSED);
-        verify(sendMessageService, times(1)).execute(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
+        verify(messageOutboxService, times(1)).enqueue(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
     }
 
     @Test
@@ -191,13 +201,14 @@ public class SendMessageUseCaseTest {
         form.fail();
         given(formRepository.findByStatus(FormStatus.FAILED)).willReturn(List.of(form));
         SendMessageByStatusRequest request = new SendMessageByStatusRequest("부산소마고 공지사항", "불합격", FormStatus.FAILED);
+        given(messageOutboxService.enqueue(anyList(), anyString(), anyString())).willReturn(MessageFixture.createBulkMessage(1));
 
         //when
         sendMessageUseCase.execute(request);
 
         //then
         verify(formRepository, times(1)).findByStatus(FormStatus.FAILED);
-        verify(sendMessageService, times(1)).execute(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
+        verify(messageOutboxService, times(1)).enqueue(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
     }
 
     @Test
@@ -208,13 +219,14 @@ public class SendMessageUseCaseTest {
         form.firstPass();
         given(formRepository.findNotExistsMeisterTalentAndChangedToRegularFirstRoundForm()).willReturn(List.of(form));
         SendMessageByTypeRequest request = new SendMessageByTypeRequest("부산소마고 공지사항", "살려줘요..", FormType.REGULAR, false);
+        given(messageOutboxService.enqueue(anyList(), anyString(), anyString())).willReturn(MessageFixture.createBulkMessage(1));
 
         //when
         sendMessageUseCase.execute(request);
 
         //then
         verify(formRepository, times(1)).findNotExistsMeisterTalentAndChangedToRegularFirstRoundForm();
-        verify(sendMessageService, times(1)).execute(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
+        verify(messageOutboxService, times(1)).enqueue(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
     }
 
     @Test
@@ -225,13 +237,14 @@ public class SendMessageUseCaseTest {
         form.firstPass();
         given(formRepository.findMeisterTalentFirstRoundForm()).willReturn(List.of(form));
         SendMessageByTypeRequest request = new SendMessageByTypeRequest("부산소마고 공지사항", "배고파요...", FormType.MEISTER_TALENT, false);
+        given(messageOutboxService.enqueue(anyList(), anyString(), anyString())).willReturn(MessageFixture.createBulkMessage(1));
 
         //when
         sendMessageUseCase.execute(request);
 
         //then
         verify(formRepository, times(1)).findMeisterTalentFirstRoundForm();
-        verify(sendMessageService, times(1)).execute(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
+        verify(messageOutboxService, times(1)).enqueue(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
     }
 
     @Test
@@ -246,6 +259,7 @@ public class SendMessageUseCaseTest {
         form.firstPass();
         form.changeToRegularFirstRound(calculateFormScoreService);
         SendMessageByTypeRequest request = new SendMessageByTypeRequest("부산소마고 공지사항", "헤헤", FormType.REGULAR, true);
+        given(messageOutboxService.enqueue(anyList(), anyString(), anyString())).willReturn(MessageFixture.createBulkMessage(1));
 
         //when
         sendMessageUseCase.execute(request);
@@ -253,7 +267,7 @@ public class SendMessageUseCaseTest {
 
         //then
         verify(formRepository, times(1)).findChangedToRegularFirstRoundForm();
-        verify(sendMessageService, times(1)).execute(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
+        verify(messageOutboxService, times(1)).enqueue(List.of(form.getUser().getPhoneNumber()), request.getText(), request.getTitle());
     }
 
     @Test
@@ -267,7 +281,7 @@ public class SendMessageUseCaseTest {
         Assertions.assertThrows(FailedToSendException.class,
                 () -> sendMessageUseCase.execute(request));
         verify(formRepository, times(1)).findByStatus(FormStatus.SUBMITTED);
-        verify(sendMessageService, never()).execute(anyList(), anyString(), anyString());
+        verify(messageOutboxService, never()).enqueue(anyList(), anyString(), anyString());
     }
 
     @Test
@@ -281,7 +295,7 @@ public class SendMessageUseCaseTest {
         Assertions.assertThrows(FailedToSendException.class,
                 () -> sendMessageUseCase.execute(request));
         verify(formRepository, times(1)).findMeisterTalentFirstRoundForm();
-        verify(sendMessageService, never()).execute(anyList(), anyString(), anyString());
+        verify(messageOutboxService, never()).enqueue(anyList(), anyString(), anyString());
     }
 
     @Test
@@ -299,13 +313,14 @@ public class SendMessageUseCaseTest {
 
         when(userRepository.findAll()).thenReturn(userList);
         SendMessageToAllUserRequest request = new SendMessageToAllUserRequest("부산소마고 공지사항", "부산소마고 공지사항입니다.");
+        given(messageOutboxService.enqueue(anyList(), anyString(), anyString())).willReturn(MessageFixture.createBulkMessage(1));
 
         //when
         sendMessageUseCase.execute(request);
 
         //then
         verify(userRepository, times(1)).findAll();
-        verify(sendMessageService, times(1)).execute(phoneNumberList, request.getText(), request.getTitle());
+        verify(messageOutboxService, times(1)).enqueue(phoneNumberList, request.getText(), request.getTitle());
     }
 
     @Test
@@ -315,14 +330,14 @@ public class SendMessageUseCaseTest {
         List<User> userList = new ArrayList<>();
         when(userRepository.findAll()).thenReturn(userList);
         SendMessageToAllUserRequest request = new SendMessageToAllUserRequest("부산소마고 공지사항", "부산소마고 공지사항입니다.");
-        willThrow(new FailedToSendException()).given(sendMessageService).execute(anyList(), anyString(), anyString());
+        willThrow(new RecipientNotFoundException()).given(messageOutboxService).enqueue(anyList(), anyString(), anyString());
 
         //when
-        Assertions.assertThrows(FailedToSendException.class,
+        Assertions.assertThrows(RecipientNotFoundException.class,
                 () -> sendMessageUseCase.execute(request));
 
         //then
         verify(userRepository, times(1)).findAll(); // UserRepository의 findAll 메소드가 호출되었는지 검증
-        verify(sendMessageService, times(1)).execute(anyList(), anyString(), anyString()); // sendMessageService의 execute 메소드가 호출되었는지 검증
+        verify(messageOutboxService, times(1)).enqueue(anyList(), anyString(), anyString()); // messageOutboxService의 enqueue 메소드가 호출되었는지 검증
     }
 }
@@ -5,6 +5,7 @@ import com.bamdoliro.maru.domain.form.domain.Form;
 import com.bamdoliro.maru.domain.form.domain.type.FormType;
 import com.bamdoliro.maru.domain.user.domain.User;
 import com.bamdoliro.maru.domain.user.exception.PasswordMismatchException;
+import com.bamdoliro.maru.infrastructure.cache.UserCache;
 import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
 import com.bamdoliro.maru.infrastructure.persistence.user.UserRepository;
 import com.bamdoliro.maru.presentation.user.dto.request.DeleteUserRequest;
@@ -38,6 +39,9 @@ class DeleteUserUseCaseTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserCache userCache;
+
     @Test
     void 유저를_삭제한다() {
         // given
@@ -56,6 +60,7 @@ class DeleteUserUseCaseTest {
         verify(formRepository, times(1)).delete(form);
         verify(logOutUseCase, times(1)).execute(user);
         verify(userRepository, times(1)).delete(user);
+        verify(userCache, times(1)).evict(user.getPhoneNumber());
     }
 
     @Test
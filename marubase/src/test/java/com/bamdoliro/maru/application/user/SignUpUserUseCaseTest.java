@@ -4,6 +4,7 @@ import com.bamdoliro.maru.domain.user.domain.User;
 import com.bamdoliro.maru.domain.user.domain.SignUpVerification;
 import com.bamdoliro.maru.domain.user.exception.UserAlreadyExistsException;
 import com.bamdoliro.maru.domain.user.exception.VerifyingHasFailedException;
+import com.bamdoliro.maru.domain.user.service.PasswordHashingService;
 import com.bamdoliro.maru.infrastructure.persistence.user.UserRepository;
 import com.bamdoliro.maru.infrastructure.persistence.user.SignUpVerificationRepository;
 import com.bamdoliro.maru.presentation.user.dto.request.SignUpUserRequest;
@@ -11,16 +12,19 @@ import com.bamdoliro.maru.shared.fixture.UserFixture;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -37,6 +41,9 @@ class SignUpUserUseCaseTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
     @Test
     void 유저를_생성한다() {
         // given
@@ -47,14 +54,18 @@ class SignUpUserUseCaseTest {
 
         given(signUpVerificationRepository.findById(request.getPhoneNumber())).willReturn(Optional.of(signUpVerification));
         given(userRepository.existsByPhoneNumber(request.getPhoneNumber())).willReturn(false);
+        given(passwordHashingService.execute(any())).willAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
         given(userRepository.save(any(User.class))).willReturn(user);
 
         // when
         signUpUserUseCase.execute(request);
 
         // then
-        verify(userRepository, times(1)).existsByPhoneNumber(request.getPhoneNumber());
-        verify(userRepository, times(1)).save(captor.capture());
+        InOrder inOrder = inOrder(passwordHashingService, userRepository, signUpVerificationRepository);
+        inOrder.verify(passwordHashingService, times(1)).execute(any());
+        inOrder.verify(userRepository, times(1)).existsByPhoneNumber(request.getPhoneNumber());
+        inOrder.verify(userRepository, times(1)).save(captor.capture());
+        inOrder.verify(signUpVerificationRepository, times(1)).delete(signUpVerification);
         User savedUser = captor.getValue();
         assertEquals(user.getPhoneNumber(), savedUser.getPhoneNumber());
     }
@@ -99,6 +110,7 @@ class SignUpUserUseCaseTest {
         SignUpUserRequest request = new SignUpUserRequest(user.getPhoneNumber(), user.getName(), "비밀번호");
 
         given(signUpVerificationRepository.findById(request.getPhoneNumber())).willReturn(Optional.of(signUpVerification));
+        given(passwordHashingService.execute(any())).willAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
         given(userRepository.existsByPhoneNumber(request.getPhoneNumber())).willReturn(true);
 
         // when and then
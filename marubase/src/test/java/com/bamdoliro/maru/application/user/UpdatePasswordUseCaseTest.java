@@ -4,6 +4,7 @@ import com.bamdoliro.maru.domain.user.domain.UpdatePasswordVerification;
 import com.bamdoliro.maru.domain.user.domain.User;
 import com.bamdoliro.maru.domain.user.exception.VerifyingHasFailedException;
 import com.bamdoliro.maru.domain.user.service.UserFacade;
+import com.bamdoliro.maru.infrastructure.cache.UserCache;
 import com.bamdoliro.maru.infrastructure.persistence.user.UpdatePasswordVerificationRepository;
 import com.bamdoliro.maru.presentation.user.dto.request.UpdatePasswordRequest;
 import com.bamdoliro.maru.shared.fixture.UserFixture;
@@ -32,6 +33,9 @@ public class UpdatePasswordUseCaseTest {
     @Mock
     private UserFacade userFacade;
 
+    @Mock
+    private UserCache userCache;
+
     @Test
     void 비밀번호를_변경한다() {
         //given
@@ -47,6 +51,7 @@ public class UpdatePasswordUseCaseTest {
 
         //then
         verify(verificationRepository, times(1)).findById(request.getPhoneNumber());
+        verify(userCache, times(1)).evict(user.getPhoneNumber());
 
         assertTrue(user.getPassword().match(request.getPassword()));
     }
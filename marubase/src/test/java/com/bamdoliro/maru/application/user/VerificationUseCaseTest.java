@@ -3,8 +3,8 @@ package com.bamdoliro.maru.application.user;
 import com.bamdoliro.maru.domain.user.domain.SignUpVerification;
 import com.bamdoliro.maru.domain.user.domain.UpdatePasswordVerification;
 import com.bamdoliro.maru.domain.user.domain.type.VerificationType;
-import com.bamdoliro.maru.infrastructure.message.SendMessageService;
-import com.bamdoliro.maru.infrastructure.message.exception.FailedToSendException;
+import com.bamdoliro.maru.infrastructure.message.VerificationMessageDispatcher;
+import com.bamdoliro.maru.infrastructure.message.exception.TooManyMessagesException;
 import com.bamdoliro.maru.infrastructure.persistence.user.SignUpVerificationRepository;
 import com.bamdoliro.maru.infrastructure.persistence.user.UpdatePasswordVerificationRepository;
 import com.bamdoliro.maru.presentation.user.dto.request.SendVerificationRequest;
@@ -14,11 +14,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.*;
 
 
@@ -29,7 +29,7 @@ class VerificationUseCaseTest {
     private SendVerificationUseCase sendVerificationUseCase;
 
     @Mock
-    private SendMessageService sendMessageService;
+    private VerificationMessageDispatcher verificationMessageDispatcher;
 
     @Mock
     private SignUpVerificationRepository signUpVerificationRepository;
@@ -41,61 +41,59 @@ class VerificationUseCaseTest {
     void 유저가_회원가입_전화번호_인증을_요청한다() {
         // given
         SignUpVerification signUpVerification = UserFixture.createSignUpVerification(false);
-        willDoNothing().given(sendMessageService).execute(anyString(), anyString());
         given(signUpVerificationRepository.save(any(SignUpVerification.class))).willReturn(signUpVerification);
 
         // when
         sendVerificationUseCase.execute(new SendVerificationRequest(signUpVerification.getPhoneNumber(), VerificationType.SIGNUP));
 
         // then
-        verify(sendMessageService, times(1)).execute(anyString(), anyString());
+        verify(verificationMessageDispatcher, times(1)).dispatch(anyString(), anyString());
         verify(signUpVerificationRepository, times(1)).save(any(SignUpVerification.class));
 
         assertNotNull(signUpVerification.getCode());
     }
 
     @Test
-    void 회원가입_전화번호_전송이_실패한다() {
+    void 발송_대기열이_가득_차면_회원가입_인증번호_전송이_실패한다() {
         // given
         SignUpVerification signUpVerification = UserFixture.createSignUpVerification(false);
-        doThrow(new FailedToSendException()).when(sendMessageService).execute(anyString(), anyString());
+        doThrow(new TaskRejectedException("queue full")).when(verificationMessageDispatcher).dispatch(anyString(), anyString());
 
         // when and then
-        assertThrows(FailedToSendException.class,
+        assertThrows(TooManyMessagesException.class,
                 () -> sendVerificationUseCase.execute(new SendVerificationRequest(signUpVerification.getPhoneNumber(), VerificationType.SIGNUP)));
 
-        verify(sendMessageService, times(1)).execute(anyString(), anyString());
-        verify(signUpVerificationRepository, never()).save(any(SignUpVerification.class));
+        verify(verificationMessageDispatcher, times(1)).dispatch(anyString(), anyString());
+        verify(signUpVerificationRepository, times(1)).save(any(SignUpVerification.class));
     }
 
     @Test
     void 유저가_비밀번호_변경_전화번호_인증을_요청한다() {
         // given
         UpdatePasswordVerification verification = UserFixture.createUpdatePasswordVerification(false);
-        willDoNothing().given(sendMessageService).execute(anyString(), anyString());
         given(updatePasswordVerificationRepository.save(any(UpdatePasswordVerification.class))).willReturn(verification);
 
         // when
         sendVerificationUseCase.execute(new SendVerificationRequest(verification.getPhoneNumber(), VerificationType.UPDATE_PASSWORD));
 
         // then
-        verify(sendMessageService, times(1)).execute(anyString(), anyString());
+        verify(verificationMessageDispatcher, times(1)).dispatch(anyString(), anyString());
         verify(updatePasswordVerificationRepository, times(1)).save(any(UpdatePasswordVerification.class));
 
         assertNotNull(verification.getCode());
     }
 
     @Test
-    void 회원가입_비밀번호_변경전화번호_전송이_실패한다() {
+    void 발송_대기열이_가득_차면_비밀번호_변경_인증번호_전송이_실패한다() {
         // given
         UpdatePasswordVerification verification = UserFixture.createUpdatePasswordVerification(false);
-        doThrow(new FailedToSendException()).when(sendMessageService).execute(anyString(), anyString());
+        doThrow(new TaskRejectedException("queue full")).when(verificationMessageDispatcher).dispatch(anyString(), anyString());
 
         // when and then
-        assertThrows(FailedToSendException.class,
+        assertThrows(TooManyMessagesException.class,
                 () -> sendVerificationUseCase.execute(new SendVerificationRequest(verification.getPhoneNumber(), VerificationType.UPDATE_PASSWORD)));
 
-        verify(sendMessageService, times(1)).execute(anyString(), anyString());
-        verify(updatePasswordVerificationRepository, never()).save(any(UpdatePasswordVerification.class));
+        verify(verificationMessageDispatcher, times(1)).dispatch(anyString(), anyString());
+        verify(updatePasswordVerificationRepository, times(1)).save(any(UpdatePasswordVerification.class));
     }
 }
\ No newline at end of file
@@ -1,20 +1,30 @@
 package com.bamdoliro.maru.domain.auth.service;
 
 import com.bamdoliro.maru.domain.auth.domain.Token;
+import com.bamdoliro.maru.domain.auth.exception.ExpiredTokenException;
+import com.bamdoliro.maru.domain.auth.exception.InvalidTokenException;
 import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.domain.user.service.UserFacade;
+import com.bamdoliro.maru.infrastructure.cache.TokenClaimsCache;
+import com.bamdoliro.maru.infrastructure.cache.UserCache;
 import com.bamdoliro.maru.infrastructure.persistence.auth.TokenRepository;
 import com.bamdoliro.maru.shared.config.properties.JwtProperties;
 import com.bamdoliro.maru.shared.fixture.AuthFixture;
 import com.bamdoliro.maru.shared.fixture.UserFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -30,6 +40,15 @@ class TokenServiceTest {
     @Mock
     private JwtProperties jwtProperties;
 
+    @Mock
+    private UserFacade userFacade;
+
+    @Spy
+    private TokenClaimsCache tokenClaimsCache = new TokenClaimsCache(100, new SimpleMeterRegistry());
+
+    @Spy
+    private UserCache userCache = new UserCache(100, Duration.ofSeconds(30), null, new SimpleMeterRegistry());
+
     @Test
     void 액세스_토큰을_생성한다() {
         // given
@@ -63,4 +82,53 @@ class TokenServiceTest {
         verify(tokenRepository, times(1)).save(any(Token.class));
         assertNotNull(refreshToken);
     }
+
+    @Test
+    void 같은_토큰으로_유저를_다시_불러오면_검증과_조회를_다시_하지_않는다() {
+        // given
+        User user = UserFixture.createUser();
+        given(jwtProperties.getAccessExpirationTime()).willReturn(60000L);
+        given(jwtProperties.getSecretKey()).willReturn("탑시크릿정말정말탑시크릿진짜옝용찐찐찐찐찐이야");
+        given(userFacade.getUser(user.getPhoneNumber())).willReturn(user);
+        String accessToken = tokenService.generateAccessToken(user.getPhoneNumber());
+
+        // when
+        User first = tokenService.getUser(accessToken);
+        User second = tokenService.getUser(accessToken);
+
+        // then
+        verify(jwtProperties, times(1)).getSecretKey();
+        verify(userFacade, times(1)).getUser(user.getPhoneNumber());
+        assertEquals(user, first);
+        assertEquals(user, second);
+    }
+
+    @Test
+    void 서명이_다른_토큰이면_에러가_발생한다() {
+        // given
+        User user = UserFixture.createUser();
+        given(jwtProperties.getAccessExpirationTime()).willReturn(60000L);
+        given(jwtProperties.getSecretKey()).willReturn("탑시크릿정말정말탑시크릿진짜옝용찐찐찐찐찐이야");
+        String accessToken = tokenService.generateAccessToken(user.getPhoneNumber());
+        String forgedToken = accessToken.substring(0, accessToken.lastIndexOf('.') + 1) + "forged";
+
+        // when and then
+        assertThrows(InvalidTokenException.class,
+                () -> tokenService.getUser(forgedToken));
+        verify(userFacade, never()).getUser(any());
+    }
+
+    @Test
+    void 만료된_토큰이면_에러가_발생한다() {
+        // given
+        User user = UserFixture.createUser();
+        given(jwtProperties.getAccessExpirationTime()).willReturn(-1000L);
+        given(jwtProperties.getSecretKey()).willReturn("탑시크릿정말정말탑시크릿진짜옝용찐찐찐찐찐이야");
+        String accessToken = tokenService.generateAccessToken(user.getPhoneNumber());
+
+        // when and then
+        assertThrows(ExpiredTokenException.class,
+                () -> tokenService.getUser(accessToken));
+        verify(userFacade, never()).getUser(any());
+    }
 }
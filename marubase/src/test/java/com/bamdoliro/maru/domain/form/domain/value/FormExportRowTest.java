@@ -0,0 +1,51 @@
+package com.bamdoliro.maru.domain.form.domain.value;
+
+import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.shared.fixture.FormFixture;
+import com.bamdoliro.maru.shared.util.MathUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class FormExportRowTest {
+
+    @Test
+    void 엑셀에_쓸_값을_원서마다_한_번에_계산한다() {
+        // given
+        Form form = FormFixture.createForm(FormType.REGULAR);
+        GradeSummary summary = form.getGrade().getGradeSummary();
+
+        // when
+        FormExportRow row = new FormExportRow(form, summary);
+
+        // then
+        assertEquals(form.getApplicant().getName(), row.getName());
+        assertEquals(FormType.REGULAR.getDescription(), row.getType());
+        assertEquals(form.getStatus().getDescription(), row.getStatus());
+        assertEquals("20050415", row.getFormattedBirthday());
+        assertEquals(form.getEducation().getGraduationTypeToString(), row.getGraduationType());
+        assertEquals(form.getParent().getAddress().toString(), row.getParentAddress());
+        assertEquals(summary.getCountOf(2, 1), row.getSubjectCountOf(2, 1));
+        assertEquals(summary.getScoreSumOf(3, 1), row.getSubjectScoreSumOf(3, 1));
+        assertEquals(MathUtil.roundTo(form.getScore().getFirstRoundScore(), 3), row.getFirstRoundScore());
+        assertEquals(row.getFirstRoundScore(), row.getResultScore());
+    }
+
+    @Test
+    void 원서가_2차전형을_치렀다면_총점을_결과_점수로_쓴다() {
+        // given
+        Form form = FormFixture.createForm(FormType.MEISTER_TALENT);
+        form.getScore().updateSecondRoundMeisterScore(100.2, 10.4, 100.7);
+        form.pass();
+
+        // when
+        FormExportRow row = new FormExportRow(form);
+
+        // then
+        assertEquals(MathUtil.roundTo(form.getScore().getTotalScore(), 3), row.getTotalScore());
+        assertEquals(row.getTotalScore(), row.getResultScore());
+        assertNull(row.getSubjectCountOf(2, 1));
+    }
+}
@@ -0,0 +1,77 @@
+package com.bamdoliro.maru.domain.form.domain.value;
+
+import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.shared.fixture.FormFixture;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GradeSummaryTest {
+
+    @Test
+    void 학기별_성적_합계와_과목_수를_한_번에_계산한다() {
+        // given
+        Form form = FormFixture.createForm(FormType.REGULAR);
+        SubjectMap subjectMap = form.getGrade().getSubjectList().getSubjectMap();
+
+        // when
+        GradeSummary summary = form.getGrade().getGradeSummary();
+
+        // then
+        for (int[] semester : new int[][]{{2, 1}, {2, 2}, {3, 1}}) {
+            SubjectList subjectList = subjectMap.getSubjectListOf(semester[0], semester[1]);
+            assertEquals(subjectList.totalScore(), summary.getScoreSumOf(semester[0], semester[1]));
+            assertEquals(subjectList.size(), summary.getCountOf(semester[0], semester[1]));
+            assertEquals(subjectMap.getScoreOf(semester[0], semester[1]), summary.getAverageScoreOf(semester[0], semester[1]));
+        }
+        assertEquals(form.getGrade().getSubjectList().getAverageScore(), summary.getAverageScore());
+    }
+
+    @Test
+    void 출결_봉사_자격증_합계를_함께_계산한다() {
+        // given
+        Form form = FormFixture.createForm(FormType.REGULAR);
+        Grade grade = form.getGrade();
+
+        // when
+        GradeSummary summary = grade.getGradeSummary();
+
+        // then
+        assertEquals(grade.getTotalAbsenceCount(), summary.getAbsenceCount());
+        assertEquals(grade.getTotalLatenessCount(), summary.getLatenessCount());
+        assertEquals(grade.getTotalEarlyLeaveCount(), summary.getEarlyLeaveCount());
+        assertEquals(grade.getTotalClassAbsenceCount(), summary.getClassAbsenceCount());
+        assertTrue(summary.isHasVolunteerTime());
+        assertEquals(grade.getTotalVolunteerTime(), summary.getTotalVolunteerTime());
+        assertEquals(grade.getCertificateListValue().get(0).getScore(), summary.getCertificateScore());
+        assertSame(summary, grade.getGradeSummary());
+    }
+
+    @Test
+    void 검정고시_성적은_학기_구분_없이_합산한다() {
+        // given
+        Form form = FormFixture.createQualificationExaminationForm(FormType.REGULAR);
+
+        // when
+        GradeSummary summary = form.getGrade().getGradeSummary();
+
+        // then
+        assertEquals(form.getGrade().getSubjectList().getAverageScore(), summary.getAverageScore());
+        assertEquals(0, summary.getCountOf(2, 1));
+        assertEquals(0, summary.getScoreSumOf(3, 1));
+    }
+
+    @Test
+    void 성적이_없는_학기의_평균을_구하면_실패한다() {
+        // given
+        Form form = FormFixture.createQualificationExaminationForm(FormType.REGULAR);
+        GradeSummary summary = form.getGrade().getGradeSummary();
+
+        // when and then
+        assertThrows(IllegalStateException.class, () -> summary.getAverageScoreOf(3, 1));
+    }
+}
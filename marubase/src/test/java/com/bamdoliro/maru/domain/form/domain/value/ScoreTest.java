@@ -0,0 +1,62 @@
+package com.bamdoliro.maru.domain.form.domain.value;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoreTest {
+
+    @Test
+    void 교과_성적을_다시_계산해도_1차_점수를_소수점_셋째_자리로_맞춘다() {
+        // given
+        Score score = new Score(100.0, 30, 15, 15);
+
+        // when
+        score.updateSubjectScore(0.1 + 0.2 + 99.7);
+
+        // then
+        assertEquals(160_000L, score.getScaledFirstRoundScore());
+        assertEquals(160.0, score.getFirstRoundScore());
+    }
+
+    @Test
+    void 계산_순서가_달라도_같은_점수는_동점이다() {
+        // given
+        Score score = new Score(120.1 + 0.2, 30, 15, 15);
+        Score otherScore = new Score(120.3, 30, 15, 15);
+
+        // when
+        score.updateSecondRoundScore(60.1, 20.2);
+        otherScore.updateSecondRoundScore(60.3, 20.0);
+
+        // then
+        assertEquals(score.getScaledFirstRoundScore(), otherScore.getScaledFirstRoundScore());
+        assertEquals(score.getScaledTotalScore(), otherScore.getScaledTotalScore());
+        assertEquals(score.getTotalScore(), otherScore.getTotalScore());
+    }
+
+    @Test
+    void 최종_점수가_같으면_세부_점수_순으로_순위를_정한다() {
+        // given
+        SecondRoundRankKey higherSubject = new SecondRoundRankKey(250_000L, 120_000L, 50_000L, 30_000L, 10_000L, 30_000L, 15_000L, 3L);
+        SecondRoundRankKey lowerSubject = new SecondRoundRankKey(250_000L, 119_999L, 60_000L, 40_000L, 10_000L, 30_000L, 15_000L, 1L);
+        SecondRoundRankKey missingThirdGrade = new SecondRoundRankKey(250_000L, 119_999L, 60_000L, 40_000L, Long.MIN_VALUE, 30_000L, 15_000L, 2L);
+        SecondRoundRankKey sameButLaterId = new SecondRoundRankKey(250_000L, 119_999L, 60_000L, 40_000L, Long.MIN_VALUE, 30_000L, 15_000L, 4L);
+
+        // when
+        List<SecondRoundRankKey> rankedList = Stream.of(sameButLaterId, missingThirdGrade, lowerSubject, higherSubject)
+                .sorted()
+                .toList();
+
+        // then
+        assertEquals(3L, rankedList.get(0).getId());
+        assertEquals(1L, rankedList.get(1).getId());
+        assertEquals(2L, rankedList.get(2).getId());
+        assertEquals(4L, rankedList.get(3).getId());
+        assertTrue(higherSubject.compareTo(lowerSubject) < 0);
+    }
+}
@@ -1,7 +1,9 @@
 package com.bamdoliro.maru.domain.form.service;
 
+import com.bamdoliro.maru.domain.form.domain.ExaminationNumberSequence;
 import com.bamdoliro.maru.domain.form.domain.Form;
 import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.infrastructure.persistence.form.ExaminationNumberSequenceRepository;
 import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
 import com.bamdoliro.maru.shared.fixture.FormFixture;
 import org.junit.jupiter.api.Test;
@@ -9,11 +11,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,24 +34,71 @@ class AssignExaminationNumberServiceTest {
     @Mock
     private FormRepository formRepository;
 
+    @Mock
+    private ExaminationNumberSequenceRepository examinationNumberSequenceRepository;
+
     @Test
     void 수험번호를_부여한다() {
         // given
         Form form = FormFixture.createForm(FormType.REGULAR);
-        given(formRepository.findAllExaminationNumber()).willReturn(List.of(1001L, 1002L, 1003L, 1004L, 1005L));
+        ExaminationNumberSequence sequence = new ExaminationNumberSequence(FormType.Category.REGULAR, 1005L);
+        given(examinationNumberSequenceRepository.findWithLockByCategory(FormType.Category.REGULAR)).willReturn(Optional.of(sequence));
+
+        // when
+        assignExaminationNumberService.execute(form);
+
+        // then
+        assertEquals(1006L, form.getExaminationNumber());
+        assertEquals(1006L, sequence.getLastNumber());
+        verify(examinationNumberSequenceRepository, times(1)).findWithLockByCategory(FormType.Category.REGULAR);
+        verify(examinationNumberSequenceRepository, never()).insertIfNotExists(anyString(), anyLong());
+        verify(formRepository, never()).findAllExaminationNumber();
+    }
+
+    @Test
+    void 시퀀스가_없다면_이미_부여된_수험번호의_다음부터_시작한다() {
+        // given
+        Form form = FormFixture.createForm(FormType.REGULAR);
+        given(examinationNumberSequenceRepository.findWithLockByCategory(FormType.Category.REGULAR))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(new ExaminationNumberSequence(FormType.Category.REGULAR, 1005L)));
+        given(formRepository.findAllExaminationNumber()).willReturn(List.of(1001L, 1002L, 2001L, 1005L, 3001L));
 
         // when
         assignExaminationNumberService.execute(form);
 
         // then
         assertEquals(1006L, form.getExaminationNumber());
-        verify(formRepository).findAllExaminationNumber();
+        verify(examinationNumberSequenceRepository, times(1)).insertIfNotExists("REGULAR", 1005L);
+        verify(examinationNumberSequenceRepository, times(2)).findWithLockByCategory(FormType.Category.REGULAR);
+    }
+
+    @Test
+    void 다른_곳에서_먼저_시퀀스를_넣었다면_그_시퀀스로_부여한다() {
+        // given
+        Form form = FormFixture.createForm(FormType.REGULAR);
+        given(examinationNumberSequenceRepository.findWithLockByCategory(FormType.Category.REGULAR))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(new ExaminationNumberSequence(FormType.Category.REGULAR, 1010L)));
+        given(formRepository.findAllExaminationNumber()).willReturn(List.of());
+        willThrow(DataIntegrityViolationException.class)
+                .given(examinationNumberSequenceRepository).insertIfNotExists("REGULAR", 1000L);
+
+        // when
+        assignExaminationNumberService.execute(form);
+
+        // then
+        assertEquals(1011L, form.getExaminationNumber());
+        verify(examinationNumberSequenceRepository, times(2)).findWithLockByCategory(FormType.Category.REGULAR);
     }
 
     @Test
     void 이전에_수험번호가_없다면_초기값을_부여한다() {
         // given
         Form form = FormFixture.createForm(FormType.TEEN_HOUSEHOLDER);
+        given(examinationNumberSequenceRepository.findWithLockByCategory(FormType.Category.SOCIAL_INTEGRATION))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(new ExaminationNumberSequence(FormType.Category.SOCIAL_INTEGRATION, 3000L)));
         given(formRepository.findAllExaminationNumber()).willReturn(List.of());
 
         // when
@@ -50,6 +106,23 @@ class AssignExaminationNumberServiceTest {
 
         // then
         assertEquals(3001L, form.getExaminationNumber());
-        verify(formRepository).findAllExaminationNumber();
+        verify(examinationNumberSequenceRepository, times(1)).insertIfNotExists("SOCIAL_INTEGRATION", 3000L);
+    }
+
+    @Test
+    void 시퀀스가_없는_전형만_초기화한다() {
+        // given
+        given(examinationNumberSequenceRepository.existsById(FormType.Category.REGULAR)).willReturn(true);
+        given(examinationNumberSequenceRepository.existsById(FormType.Category.MEISTER_TALENT)).willReturn(true);
+        given(examinationNumberSequenceRepository.existsById(FormType.Category.SOCIAL_INTEGRATION)).willReturn(false);
+        given(examinationNumberSequenceRepository.existsById(FormType.Category.SUPERNUMERARY)).willReturn(true);
+        given(formRepository.findAllExaminationNumber()).willReturn(List.of(1001L, 3001L, 3002L));
+
+        // when
+        assignExaminationNumberService.initializeSequence();
+
+        // then
+        verify(examinationNumberSequenceRepository, times(1)).insertIfNotExists("SOCIAL_INTEGRATION", 3002L);
+        verify(examinationNumberSequenceRepository, times(1)).insertIfNotExists(anyString(), anyLong());
     }
-}
\ No newline at end of file
+}
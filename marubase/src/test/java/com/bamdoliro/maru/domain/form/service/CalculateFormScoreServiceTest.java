@@ -2,6 +2,7 @@ package com.bamdoliro.maru.domain.form.service;
 
 import com.bamdoliro.maru.domain.form.domain.Form;
 import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.domain.form.domain.value.ScaledScore;
 import com.bamdoliro.maru.shared.fixture.FormFixture;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -49,6 +50,20 @@ class CalculateFormScoreServiceTest {
         assertEquals(2, form.getScore().getBonusScore());
     }
 
+    @Test
+    void 특별전형_지원자의_일반전형_기준_1차_점수를_계산한다() {
+        // given
+        Form form = FormFixture.createForm(FormType.MEISTER_TALENT);
+        calculateFormScoreService.execute(form);
+
+        // when
+        Double regularFirstRoundScore = calculateFormScoreService.calculateFirstRoundScoreAsRegular(form);
+
+        // then
+        form.changeToRegularFirstRound(calculateFormScoreService);
+        assertEquals(form.getScore().getScaledFirstRoundScore(), ScaledScore.of(regularFirstRoundScore));
+    }
+
     @Test
     void 검정고시_일반전형_1차_점수를_계산한다() {
         // given
@@ -0,0 +1,89 @@
+package com.bamdoliro.maru.domain.form.service;
+
+import com.bamdoliro.maru.domain.form.domain.type.FormStatus;
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.domain.form.domain.value.FirstRoundSnapshot;
+import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
+import com.bamdoliro.maru.shared.fixture.FormFixture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FirstRoundSnapshotServiceTest {
+
+    @InjectMocks
+    private FirstRoundSnapshotService firstRoundSnapshotService;
+
+    @Mock
+    private FormRepository formRepository;
+
+    @Mock
+    private CalculateFormScoreService calculateFormScoreService;
+
+    @Test
+    void 접수된_원서로_스냅샷을_만든다() {
+        // given
+        given(formRepository.findFormSelectionList(FormStatus.RECEIVED)).willReturn(List.of(
+                FormFixture.createFormSelectionVo(1L, FormType.REGULAR),
+                FormFixture.createFormSelectionVo(2L, FormType.REGULAR)
+        ));
+        given(formRepository.findByFormIdListWithGrade(List.of())).willReturn(List.of());
+
+        // when
+        FirstRoundSnapshot snapshot = firstRoundSnapshotService.load();
+
+        // then
+        assertEquals(2, snapshot.getCandidateList().size());
+        assertNull(snapshot.getCandidateList().get(0).getScaledRegularFirstRoundScore());
+    }
+
+    @Test
+    void 스냅샷을_재사용한다() {
+        // given
+        given(formRepository.findFormSelectionList(FormStatus.RECEIVED)).willReturn(List.of(
+                FormFixture.createFormSelectionVo(1L, FormType.REGULAR)
+        ));
+        given(formRepository.findByFormIdListWithGrade(List.of())).willReturn(List.of());
+
+        // when
+        FirstRoundSnapshot snapshot = firstRoundSnapshotService.getSnapshot(false);
+        FirstRoundSnapshot reusedSnapshot = firstRoundSnapshotService.getSnapshot(false);
+
+        // then
+        assertSame(snapshot, reusedSnapshot);
+        verify(formRepository, times(1)).findFormSelectionList(FormStatus.RECEIVED);
+    }
+
+    @Test
+    void 새로고침하거나_무효화하면_스냅샷을_다시_만든다() {
+        // given
+        given(formRepository.findFormSelectionList(FormStatus.RECEIVED)).willReturn(List.of(
+                FormFixture.createFormSelectionVo(1L, FormType.REGULAR)
+        ));
+        given(formRepository.findByFormIdListWithGrade(List.of())).willReturn(List.of());
+        FirstRoundSnapshot snapshot = firstRoundSnapshotService.getSnapshot(false);
+
+        // when
+        FirstRoundSnapshot refreshedSnapshot = firstRoundSnapshotService.getSnapshot(true);
+        firstRoundSnapshotService.invalidate();
+        FirstRoundSnapshot reloadedSnapshot = firstRoundSnapshotService.getSnapshot(false);
+
+        // then
+        assertNotSame(snapshot, refreshedSnapshot);
+        assertNotSame(refreshedSnapshot, reloadedSnapshot);
+        verify(formRepository, times(3)).findFormSelectionList(FormStatus.RECEIVED);
+    }
+}
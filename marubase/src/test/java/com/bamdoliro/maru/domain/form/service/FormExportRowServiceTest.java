@@ -0,0 +1,38 @@
+package com.bamdoliro.maru.domain.form.service;
+
+import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.domain.form.domain.value.FormExportRow;
+import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
+import com.bamdoliro.maru.shared.fixture.FormFixture;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class FormExportRowServiceTest {
+
+    @Test
+    void 행을_나눠서_계산해도_원서_순서를_유지한다() {
+        // given
+        FormExportRowService formExportRowService = new FormExportRowService(mock(FormRepository.class), 1);
+        List<Form> formList = new ArrayList<>();
+        for (long examinationNumber = 1000L; examinationNumber < 1100L; examinationNumber++) {
+            Form form = FormFixture.createForm(FormType.REGULAR);
+            form.assignExaminationNumber(examinationNumber);
+            formList.add(form);
+        }
+
+        // when
+        List<FormExportRow> rowList = formExportRowService.execute(formList);
+
+        // then
+        assertEquals(
+                formList.stream().map(Form::getExaminationNumber).toList(),
+                rowList.stream().map(FormExportRow::getExaminationNumber).toList()
+        );
+    }
+}
@@ -0,0 +1,112 @@
+package com.bamdoliro.maru.domain.form.service;
+
+import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.domain.form.domain.value.ReScoringResult;
+import com.bamdoliro.maru.domain.form.domain.value.Score;
+import com.bamdoliro.maru.domain.form.domain.value.ScoreChange;
+import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
+import com.bamdoliro.maru.infrastructure.persistence.user.UserRepository;
+import com.bamdoliro.maru.shared.config.DatabaseClearExtension;
+import com.bamdoliro.maru.shared.fixture.FormFixture;
+import com.bamdoliro.maru.shared.fixture.UserFixture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.willThrow;
+
+@ActiveProfiles("test")
+@ExtendWith(DatabaseClearExtension.class)
+@SpringBootTest
+class ReScoreFormServiceTest {
+
+    @Autowired
+    private ReScoreFormService reScoreFormService;
+
+    @SpyBean
+    private CalculateFormScoreService calculateFormScoreService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @Test
+    void 점수가_바뀐_원서만_변동_내역에_남기고_점수를_다시_저장한다() {
+        // given
+        List<User> userList = userRepository.saveAll(UserFixture.generateUserList(20));
+        List<Form> formList = FormFixture.generateBusanFormList(userList);
+        for (int i = 0; i < formList.size(); i++) {
+            Form form = formList.get(i);
+            form.assignExaminationNumber(1000L + i);
+            calculateFormScoreService.execute(form);
+        }
+        Form outdatedForm = formList.get(0);
+        outdatedForm.updateScore(new Score(1.0, 0.5, 2, 3, 4));
+        formRepository.saveAll(formList);
+
+        // when
+        List<ScoreChange> changeList = reScoreFormService.execute(formList.stream().map(Form::getId).toList()).getChangeList();
+
+        // then
+        Form reScoredForm = formRepository.findById(outdatedForm.getId()).orElseThrow();
+        assertEquals(1, changeList.size());
+        assertEquals(1000L, changeList.get(0).getExaminationNumber());
+        assertEquals(10.0, changeList.get(0).getBeforeScore());
+        assertEquals(reScoredForm.getScore().getFirstRoundScore(), changeList.get(0).getAfterScore());
+        assertEquals(reScoredForm.getScore().getFirstRoundScore() - 10.0, changeList.get(0).getDifference(), 0.001);
+    }
+
+    @Test
+    void 재채점해도_입력된_2차_점수는_유지한다() {
+        // given
+        User user = userRepository.save(UserFixture.createUser());
+        Form form = FormFixture.createRandomBusanForm(user);
+        calculateFormScoreService.execute(form);
+        Double firstRoundScore = form.getScore().getFirstRoundScore();
+        form.updateScore(new Score(1.0, 0.5, 2, 3, 4));
+        form.getScore().updateSecondRoundScore(80.0, 40.0);
+        formRepository.save(form);
+
+        // when
+        reScoreFormService.execute(List.of(form.getId()));
+
+        // then
+        Score score = formRepository.findById(form.getId()).orElseThrow().getScore();
+        assertEquals(firstRoundScore, score.getFirstRoundScore());
+        assertEquals(80.0, score.getDepthInterviewScore());
+        assertEquals(40.0, score.getNcsScore());
+        assertEquals(firstRoundScore + 120.0, score.getTotalScore(), 0.001);
+    }
+
+    @Test
+    void 재채점하지_못한_원서는_점수를_그대로_두고_나머지_원서는_재채점한다() {
+        // given
+        List<User> userList = userRepository.saveAll(UserFixture.generateUserList(2));
+        List<Form> formList = FormFixture.generateBusanFormList(userList);
+        formList.forEach(form -> form.updateScore(new Score(1.0, 0.5, 2, 3, 4)));
+        formRepository.saveAll(formList);
+        Form failingForm = formList.get(0);
+        Form reScoredForm = formList.get(1);
+        willThrow(new IllegalStateException("3학년 1학기 성적이 없습니다."))
+                .given(calculateFormScoreService).reCalculate(argThat(form -> form.getId().equals(failingForm.getId())));
+
+        // when
+        ReScoringResult result = reScoreFormService.execute(List.of(failingForm.getId(), reScoredForm.getId()));
+
+        // then
+        assertEquals(List.of(failingForm.getId()), result.getFailedFormIdList());
+        assertEquals(1, result.getChangeList().size());
+        assertEquals(reScoredForm.getId(), result.getChangeList().get(0).getFormId());
+        assertEquals(10.0, formRepository.findById(failingForm.getId()).orElseThrow().getScore().getFirstRoundScore());
+    }
+}
@@ -0,0 +1,95 @@
+package com.bamdoliro.maru.domain.form.service;
+
+import com.bamdoliro.maru.domain.form.domain.ReScoringJob;
+import com.bamdoliro.maru.domain.form.domain.type.ReScoringJobStatus;
+import com.bamdoliro.maru.domain.form.domain.value.ReScoringResult;
+import com.bamdoliro.maru.domain.form.domain.value.ScoreChange;
+import com.bamdoliro.maru.domain.form.exception.error.FormErrorProperty;
+import com.bamdoliro.maru.infrastructure.persistence.form.FormRepository;
+import com.bamdoliro.maru.infrastructure.persistence.form.ReScoringJobRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReScoringJobRunnerTest {
+
+    @InjectMocks
+    private ReScoringJobRunner reScoringJobRunner;
+
+    @Mock
+    private FormRepository formRepository;
+
+    @Mock
+    private ReScoringJobRepository reScoringJobRepository;
+
+    @Mock
+    private ReScoreFormService reScoreFormService;
+
+    @Mock
+    private FirstRoundSnapshotService firstRoundSnapshotService;
+
+    @Test
+    void 원서를_나눠서_재채점하고_진행_상황을_저장한다() {
+        // given
+        ReScoringJob job = new ReScoringJob(3L);
+        given(reScoringJobRepository.findById(job.getId())).willReturn(Optional.of(job));
+        given(formRepository.findIdListAfter(isNull(), anyInt())).willReturn(List.of(1L, 2L));
+        given(formRepository.findIdListAfter(eq(2L), anyInt())).willReturn(List.of(3L));
+        given(formRepository.findIdListAfter(eq(3L), anyInt())).willReturn(List.of());
+        List<ScoreChange> changeList = List.of(new ScoreChange(2L, 1002L, 170.0, 171.5, 1.5));
+        given(reScoreFormService.execute(List.of(1L, 2L))).willReturn(new ReScoringResult(changeList, List.of()));
+        given(reScoreFormService.execute(List.of(3L))).willReturn(new ReScoringResult(List.of(), List.of(3L)));
+
+        // when
+        reScoringJobRunner.run(job.getId());
+
+        // then
+        assertEquals(ReScoringJobStatus.COMPLETED, job.getStatus());
+        assertEquals(3L, job.getProcessedCount());
+        assertEquals(3L, job.getLastFormId());
+        assertEquals(1L, job.getChangedCount());
+        assertEquals(1L, job.getFailedCount());
+        assertEquals(List.of(3L), job.getFailedFormIdList());
+        verify(reScoringJobRepository, times(1)).appendChangeList(job.getId(), changeList);
+        verify(reScoringJobRepository, times(2)).extendClaim(job.getId());
+        verify(reScoringJobRepository, times(1)).releaseClaim(job.getId());
+        verify(firstRoundSnapshotService, times(1)).invalidate();
+    }
+
+    @Test
+    void 재채점에_실패하면_마지막으로_처리한_원서부터_이어서_실행할_수_있다() {
+        // given
+        ReScoringJob job = new ReScoringJob(3L);
+        given(reScoringJobRepository.findById(job.getId())).willReturn(Optional.of(job));
+        given(formRepository.findIdListAfter(isNull(), anyInt())).willReturn(List.of(1L, 2L));
+        given(formRepository.findIdListAfter(eq(2L), anyInt())).willReturn(List.of(3L));
+        given(reScoreFormService.execute(List.of(1L, 2L))).willReturn(new ReScoringResult(List.of(), List.of()));
+        given(reScoreFormService.execute(List.of(3L))).willThrow(new IllegalStateException("connection reset"));
+
+        // when
+        reScoringJobRunner.run(job.getId());
+
+        // then
+        assertEquals(ReScoringJobStatus.FAILED, job.getStatus());
+        assertEquals(2L, job.getProcessedCount());
+        assertEquals(2L, job.getLastFormId());
+        assertEquals(FormErrorProperty.FAILED_TO_RE_SCORE.getMessage(), job.getFailureMessage());
+        verify(reScoringJobRepository, times(1)).releaseClaim(job.getId());
+        verify(firstRoundSnapshotService, never()).invalidate();
+    }
+}
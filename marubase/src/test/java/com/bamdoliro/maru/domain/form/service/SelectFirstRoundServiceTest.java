@@ -0,0 +1,127 @@
+package com.bamdoliro.maru.domain.form.service;
+
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.domain.form.domain.value.CategorySelection;
+import com.bamdoliro.maru.domain.form.domain.value.FirstRoundCandidate;
+import com.bamdoliro.maru.domain.form.domain.value.FirstRoundSelection;
+import com.bamdoliro.maru.domain.form.domain.value.ScaledScore;
+import com.bamdoliro.maru.domain.form.domain.value.SelectionQuota;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class SelectFirstRoundServiceTest {
+
+    @InjectMocks
+    private SelectFirstRoundService selectFirstRoundService;
+
+    @Test
+    void 기본_정원과_배수로_1차_합격자를_선발한다() {
+        // given
+        List<FirstRoundCandidate> candidateList = generateCandidateList(FormType.REGULAR, true, 200);
+
+        // when
+        FirstRoundSelection selection = selectFirstRoundService.execute(candidateList, SelectionQuota.defaultQuota());
+
+        // then
+        CategorySelection regular = getCategorySelection(selection, FormType.Category.REGULAR);
+        assertEquals(84, regular.getQuota());
+        assertEquals(84, regular.getPassedIdList().size());
+        assertEquals(0, regular.getTieCount());
+        assertEquals(200.0 - 83, regular.getCutOffScore());
+        assertEquals(116, selection.getFailedIdList().size());
+    }
+
+    @Test
+    void 배수를_바꿔서_1차_합격자를_선발한다() {
+        // given
+        List<FirstRoundCandidate> candidateList = generateCandidateList(FormType.REGULAR, true, 200);
+        SelectionQuota quota = new SelectionQuota(36, 22, 6, 2, 1, 1.0, 0.5);
+
+        // when
+        FirstRoundSelection selection = selectFirstRoundService.execute(candidateList, quota);
+
+        // then
+        assertEquals(64, selection.getPassedIdList().size());
+    }
+
+    @Test
+    void 커트라인_점수가_같은_지원자는_모두_합격한다() {
+        // given
+        List<FirstRoundCandidate> candidateList = new ArrayList<>(generateCandidateList(FormType.REGULAR, true, 90));
+        candidateList.add(new FirstRoundCandidate(1000L, FormType.REGULAR, true, ScaledScore.of(200.0 - 83), null));
+        candidateList.add(new FirstRoundCandidate(1001L, FormType.REGULAR, true, ScaledScore.of(200.0 - 83), null));
+
+        // when
+        FirstRoundSelection selection = selectFirstRoundService.execute(candidateList, SelectionQuota.defaultQuota());
+
+        // then
+        CategorySelection regular = getCategorySelection(selection, FormType.Category.REGULAR);
+        assertEquals(86, regular.getPassedIdList().size());
+        assertEquals(2, regular.getTieCount());
+        assertEquals(200.0 - 83, regular.getCutOffScore());
+    }
+
+    @Test
+    void 타지역_지원자는_정해진_비율까지만_합격한다() {
+        // given
+        List<FirstRoundCandidate> candidateList = generateCandidateList(FormType.REGULAR, false, 200);
+
+        // when
+        FirstRoundSelection selection = selectFirstRoundService.execute(candidateList, SelectionQuota.defaultQuota());
+
+        // then
+        assertEquals(42, selection.getPassedIdList().size());
+    }
+
+    @Test
+    void 특별전형에서_떨어진_지원자는_일반전형_점수로_다시_경쟁한다() {
+        // given
+        List<FirstRoundCandidate> candidateList = new ArrayList<>(generateCandidateList(FormType.MEISTER_TALENT, true, 40));
+        candidateList.add(new FirstRoundCandidate(1000L, FormType.MEISTER_TALENT, true, ScaledScore.of(0.0), ScaledScore.of(300.0)));
+
+        // when
+        FirstRoundSelection selection = selectFirstRoundService.execute(candidateList, SelectionQuota.defaultQuota());
+
+        // then
+        assertTrue(selection.getChangedToRegularIdList().contains(1000L));
+        assertTrue(getCategorySelection(selection, FormType.Category.REGULAR).getPassedIdList().contains(1000L));
+    }
+
+    @Test
+    void 수천_명의_지원자를_1초_안에_시뮬레이션한다() {
+        // given
+        List<FirstRoundCandidate> candidateList = new ArrayList<>(generateCandidateList(FormType.REGULAR, true, 3000));
+        candidateList.addAll(generateCandidateList(FormType.MEISTER_TALENT, false, 1000));
+        candidateList.addAll(generateCandidateList(FormType.ONE_PARENT, true, 1000));
+
+        // when and then
+        assertTimeout(Duration.ofSeconds(1), () -> selectFirstRoundService.execute(candidateList, SelectionQuota.defaultQuota()));
+    }
+
+    private List<FirstRoundCandidate> generateCandidateList(FormType type, boolean busan, int size) {
+        long offset = type.ordinal() * 10000L;
+        return LongStream.range(0, size)
+                .mapToObj(i -> new FirstRoundCandidate(offset + i, type, busan, ScaledScore.of(200.0 - i), ScaledScore.of(250.0 - i)))
+                .toList();
+    }
+
+    private CategorySelection getCategorySelection(FirstRoundSelection selection, FormType.Category category) {
+        return selection.getCategorySelectionList()
+                .stream()
+                .filter(categorySelection -> categorySelection.getCategory() == category)
+                .findFirst()
+                .orElseThrow();
+    }
+}
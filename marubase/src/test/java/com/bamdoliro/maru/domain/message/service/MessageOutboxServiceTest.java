@@ -0,0 +1,113 @@
+package com.bamdoliro.maru.domain.message.service;
+
+import com.bamdoliro.maru.domain.message.domain.BulkMessage;
+import com.bamdoliro.maru.domain.message.domain.OutboxMessage;
+import com.bamdoliro.maru.domain.message.domain.type.OutboxMessageStatus;
+import com.bamdoliro.maru.domain.message.exception.RecipientNotFoundException;
+import com.bamdoliro.maru.infrastructure.message.dto.OutgoingMessage;
+import com.bamdoliro.maru.infrastructure.persistence.message.BulkMessageRepository;
+import com.bamdoliro.maru.infrastructure.persistence.message.OutboxMessageBatchRepository;
+import com.bamdoliro.maru.infrastructure.persistence.message.OutboxMessageRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ActiveProfiles("test")
+@Transactional
+@SpringBootTest
+class MessageOutboxServiceTest {
+
+    @Autowired
+    private MessageOutboxService messageOutboxService;
+
+    @Autowired
+    private BulkMessageRepository bulkMessageRepository;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private OutboxMessageBatchRepository outboxMessageBatchRepository;
+
+    @Test
+    void 수신자마다_메시지를_저장하고_보낼_만큼씩_가져간다() {
+        // given
+        BulkMessage bulkMessage = messageOutboxService.enqueue(List.of("01011111111", "01022222222", "01033333333"), "테스트입니다", "부산소마고 공지사항");
+
+        // when
+        List<OutgoingMessage> firstMessageList = messageOutboxService.claim(2);
+        List<OutgoingMessage> secondMessageList = messageOutboxService.claim(2);
+        List<OutgoingMessage> thirdMessageList = messageOutboxService.claim(2);
+
+        // then
+        assertEquals(3, bulkMessage.getRecipientCount());
+        assertEquals(List.of("01011111111", "01022222222"), firstMessageList.stream().map(OutgoingMessage::getTo).toList());
+        assertEquals("부산소마고 공지사항", firstMessageList.get(0).getTitle());
+        assertEquals("테스트입니다", firstMessageList.get(0).getText());
+        assertEquals(List.of("01033333333"), secondMessageList.stream().map(OutgoingMessage::getTo).toList());
+        assertTrue(thirdMessageList.isEmpty());
+    }
+
+    @Test
+    void 수신자별로_발송_결과를_기록한다() {
+        // given
+        BulkMessage bulkMessage = messageOutboxService.enqueue(List.of("01011111111", "01022222222"), "테스트입니다", "부산소마고 공지사항");
+        List<OutgoingMessage> messageList = messageOutboxService.claim(2);
+        List<Long> idList = messageList.stream().map(OutgoingMessage::getId).toList();
+
+        // when
+        messageOutboxService.complete(idList, Map.of(idList.get(1), "수신 거부"));
+
+        // then
+        assertEquals(1L, outboxMessageRepository.countByBulkMessageIdAndStatus(bulkMessage.getId(), OutboxMessageStatus.SENT));
+        assertEquals(1L, outboxMessageRepository.countByBulkMessageIdAndStatus(bulkMessage.getId(), OutboxMessageStatus.FAILED));
+        assertEquals("수신 거부", outboxMessageRepository.findById(idList.get(1)).orElseThrow().getFailureMessage());
+    }
+
+    @Test
+    void 발송에_실패하면_다시_시도하고_최대_횟수를_넘으면_실패로_처리한다() {
+        // given
+        MessageOutboxService messageOutboxService = new MessageOutboxService(
+                bulkMessageRepository,
+                outboxMessageRepository,
+                outboxMessageBatchRepository,
+                2,
+                Duration.ZERO,
+                Duration.ZERO,
+                Duration.ofMinutes(5)
+        );
+        messageOutboxService.enqueue(List.of("01011111111"), "테스트입니다", "부산소마고 공지사항");
+        List<Long> idList = messageOutboxService.claim(1).stream().map(OutgoingMessage::getId).toList();
+
+        // when
+        messageOutboxService.retry(idList, "connection reset");
+        OutboxMessageStatus retriedStatus = outboxMessageRepository.findById(idList.get(0)).orElseThrow().getStatus();
+        List<Long> retriedIdList = messageOutboxService.claim(1).stream().map(OutgoingMessage::getId).toList();
+        messageOutboxService.retry(retriedIdList, "connection reset");
+
+        // then
+        OutboxMessage message = outboxMessageRepository.findById(idList.get(0)).orElseThrow();
+        assertEquals(OutboxMessageStatus.PENDING, retriedStatus);
+        assertEquals(idList, retriedIdList);
+        assertEquals(OutboxMessageStatus.FAILED, message.getStatus());
+        assertEquals(2, message.getAttemptCount());
+        assertEquals("connection reset", message.getFailureMessage());
+    }
+
+    @Test
+    void 보낼_대상이_없으면_에러가_발생한다() {
+        // when and then
+        assertThrows(RecipientNotFoundException.class,
+                () -> messageOutboxService.enqueue(List.of(), "테스트입니다", "부산소마고 공지사항"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.bamdoliro.maru.domain.user.service;
+
+import com.bamdoliro.maru.domain.user.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PasswordHashingServiceTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingService passwordHashingService;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHashingService = new PasswordHashingService(executor, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void 해싱_전용_스레드에서_실행하고_걸린_시간을_기록한다() {
+        // when
+        String threadName = passwordHashingService.execute(() -> Thread.currentThread().getName());
+
+        // then
+        assertEquals(executor.getThreadNamePrefix() + "1", threadName);
+        assertEquals(1L, meterRegistry.get("maru.password.hashing").timer().count());
+    }
+
+    @Test
+    void 작업에서_발생한_예외를_그대로_던진다() {
+        // when and then
+        assertThrows(IllegalArgumentException.class, () -> passwordHashingService.execute(() -> {
+            throw new IllegalArgumentException();
+        }));
+    }
+
+    @Test
+    void 대기열이_가득_차면_에러가_발생한다() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        started.await(1, TimeUnit.SECONDS);
+        executor.execute(() -> await(release));
+
+        // when and then
+        assertEquals(1.0, meterRegistry.get("maru.password.hashing.queue").gauge().value());
+        assertThrows(PasswordHashingUnavailableException.class,
+                () -> passwordHashingService.execute(() -> true));
+        release.countDown();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
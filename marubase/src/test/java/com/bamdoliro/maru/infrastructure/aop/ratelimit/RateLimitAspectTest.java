@@ -0,0 +1,107 @@
+package com.bamdoliro.maru.infrastructure.aop.ratelimit;
+
+import com.bamdoliro.maru.infrastructure.ratelimit.RateLimitBucket;
+import com.bamdoliro.maru.infrastructure.ratelimit.RateLimiter;
+import com.bamdoliro.maru.infrastructure.ratelimit.exception.TooManyRequestsException;
+import com.bamdoliro.maru.presentation.auth.dto.request.LogInRequest;
+import com.bamdoliro.maru.shared.annotation.RateLimit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitAspectTest {
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    private LimitedService limitedService;
+
+    @Captor
+    private ArgumentCaptor<List<RateLimitBucket>> bucketListCaptor;
+
+    @BeforeEach
+    void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new LimitedService());
+        factory.addAspect(new RateLimitAspect(rateLimiter));
+        limitedService = factory.getProxy();
+
+        // remoteAddr 는 Tomcat 이 신뢰하는 프록시만 건너뛰고 정한 값이라, 클라이언트가 보낸 x-forwarded-for 는 보지 않는다.
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("x-forwarded-for", "1.2.3.4, 10.0.0.1");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void 전화번호와_IP별_버킷을_한_번에_확인한다() {
+        // given
+        given(rateLimiter.tryAcquire(anyList())).willReturn(0L);
+
+        // when
+        limitedService.execute(new LogInRequest("01012345678", "비밀번호"));
+
+        // then
+        verify(rateLimiter, times(1)).tryAcquire(bucketListCaptor.capture());
+        List<RateLimitBucket> bucketList = bucketListCaptor.getValue();
+        assertEquals(List.of("test-phone-number", "test-ip"), bucketList.stream().map(RateLimitBucket::getName).toList());
+        assertEquals(List.of("01012345678", "10.0.0.1"), bucketList.stream().map(RateLimitBucket::getKey).toList());
+        assertEquals(List.of(3, 10), bucketList.stream().map(RateLimitBucket::getCapacity).toList());
+    }
+
+    @Test
+    void 토큰이_없으면_기다려야_하는_시간으로_에러가_발생한다() {
+        // given
+        given(rateLimiter.tryAcquire(anyList())).willReturn(29001L);
+
+        // when and then
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> limitedService.execute(new LogInRequest("01012345678", "비밀번호")));
+        assertEquals(30L, exception.getRetryAfterSeconds());
+    }
+
+    @Test
+    void 웹_요청이_아니면_IP별_제한은_건너뛴다() {
+        // given
+        RequestContextHolder.resetRequestAttributes();
+        given(rateLimiter.tryAcquire(anyList())).willReturn(0L);
+
+        // when
+        limitedService.execute(new LogInRequest("01012345678", "비밀번호"));
+
+        // then
+        verify(rateLimiter, times(1)).tryAcquire(bucketListCaptor.capture());
+        assertEquals(List.of("test-phone-number"), bucketListCaptor.getValue().stream().map(RateLimitBucket::getName).toList());
+    }
+
+    static class LimitedService {
+
+        @RateLimit(name = "test-phone-number", key = "#request.phoneNumber", capacity = 3, period = 60)
+        @RateLimit(name = "test-ip", key = "#clientIp", capacity = 10, period = 60)
+        public void execute(LogInRequest request) {
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.bamdoliro.maru.infrastructure.cache;
+
+import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.domain.user.service.UserFacade;
+import com.bamdoliro.maru.shared.fixture.UserFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheTest {
+
+    @Mock
+    private UserFacade userFacade;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    void 유저를_지우면_다시_조회하고_다른_서버에도_알린다() {
+        // given
+        User user = UserFixture.createUser();
+        UserCache userCache = new UserCache(100, Duration.ofSeconds(30), redisTemplate, new SimpleMeterRegistry());
+        given(userFacade.getUser(user.getPhoneNumber())).willReturn(user);
+        userCache.get(user.getPhoneNumber(), userFacade::getUser);
+
+        // when
+        userCache.evict(user.getPhoneNumber());
+        userCache.get(user.getPhoneNumber(), userFacade::getUser);
+
+        // then
+        verify(userFacade, times(2)).getUser(user.getPhoneNumber());
+        verify(redisTemplate, times(1)).convertAndSend(UserCache.INVALIDATION_CHANNEL, user.getPhoneNumber());
+    }
+
+    @Test
+    void 다른_서버에서_무효화_알림을_받으면_유저를_지운다() {
+        // given
+        User user = UserFixture.createUser();
+        UserCache userCache = new UserCache(100, Duration.ofSeconds(30), redisTemplate, new SimpleMeterRegistry());
+        given(userFacade.getUser(user.getPhoneNumber())).willReturn(user);
+        userCache.get(user.getPhoneNumber(), userFacade::getUser);
+
+        // when
+        userCache.onMessage(new DefaultMessage(
+                UserCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                user.getPhoneNumber().getBytes(StandardCharsets.UTF_8)
+        ), null);
+        userCache.get(user.getPhoneNumber(), userFacade::getUser);
+
+        // then
+        verify(userFacade, times(2)).getUser(user.getPhoneNumber());
+    }
+}
@@ -0,0 +1,75 @@
+package com.bamdoliro.maru.infrastructure.csv;
+
+import com.bamdoliro.maru.infrastructure.report.ReportColumn;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvGeneratorTest {
+
+    private final CsvGenerator csvGenerator = new CsvGenerator();
+
+    @Test
+    void 열_정의대로_행을_CSV로_쓴다() throws IOException {
+        // given
+        List<ReportColumn<String[]>> columnList = List.of(
+                new ReportColumn<>("이름", "default", row -> row[0]),
+                new ReportColumn<>("주소", "default", row -> row[1]),
+                new ReportColumn<>("비고", "default", row -> row[2])
+        );
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        csvGenerator.execute(
+                Stream.of(
+                        new String[]{"김밤돌", "부산광역시 강서구, 가락대로 1393", null},
+                        new String[]{"곰밤돌", "부산광역시", "\"마이스터\"\n인재전형"}
+                ),
+                columnList,
+                outputStream
+        );
+
+        // then
+        assertEquals(
+                "이름,주소,비고\r\n" +
+                        "김밤돌,\"부산광역시 강서구, 가락대로 1393\",\r\n" +
+                        "곰밤돌,부산광역시,\"\"\"마이스터\"\"\n인재전형\"\r\n",
+                outputStream.toString(StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void 수식으로_시작하는_문자열은_수식으로_실행되지_않게_쓴다() throws IOException {
+        // given
+        List<ReportColumn<Object[]>> columnList = List.of(
+                new ReportColumn<>("이름", "default", row -> row[0]),
+                new ReportColumn<>("학교", "default", row -> row[1]),
+                new ReportColumn<>("점수 변동", "default", row -> row[2])
+        );
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        csvGenerator.execute(
+                Stream.of(
+                        new Object[]{"=HYPERLINK(\"http://example.com\")", "+부산중학교", -1.25},
+                        new Object[]{"-김밤돌", "@SUM(A1:A2)", 2.4}
+                ),
+                columnList,
+                outputStream
+        );
+
+        // then
+        assertEquals(
+                "이름,학교,점수 변동\r\n" +
+                        "\"'=HYPERLINK(\"\"http://example.com\"\")\",'+부산중학교,-1.25\r\n" +
+                        "'-김밤돌,'@SUM(A1:A2),2.4\r\n",
+                outputStream.toString(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -0,0 +1,101 @@
+package com.bamdoliro.maru.infrastructure.message;
+
+import com.bamdoliro.maru.domain.message.service.MessageOutboxService;
+import com.bamdoliro.maru.infrastructure.message.dto.OutgoingMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MessageDispatcherTest {
+
+    @Mock
+    private MessageOutboxService messageOutboxService;
+
+    @Test
+    void 공급자_요청_단위로_나눠서_초당_발송량에_맞춰_보낸다() {
+        // given
+        FakeMessageSender messageSender = new FakeMessageSender(Duration.ZERO);
+        MessageDispatcher messageDispatcher = new MessageDispatcher(messageOutboxService, messageSender, 50, 500);
+        given(messageOutboxService.claim(50))
+                .willReturn(createMessageList(1, 50))
+                .willReturn(createMessageList(51, 100))
+                .willReturn(createMessageList(101, 150))
+                .willReturn(List.of());
+
+        // when
+        long startedAt = System.nanoTime();
+        int dispatchedCount = messageDispatcher.dispatch();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // then
+        assertEquals(150, dispatchedCount);
+        assertEquals(150, messageSender.getSentMessageList().size());
+        assertTrue(elapsed.toMillis() >= 250, "150건을 초당 500건으로 보내면 300ms 가까이 걸려야 한다: " + elapsed.toMillis());
+        verify(messageOutboxService, times(3)).complete(anyList(), eq(Map.of()));
+    }
+
+    @Test
+    void 공급자가_받지_않은_번호는_실패로_기록한다() {
+        // given
+        FakeMessageSender messageSender = new FakeMessageSender(Duration.ZERO);
+        messageSender.reject("01000000002");
+        MessageDispatcher messageDispatcher = new MessageDispatcher(messageOutboxService, messageSender, 50, 1000);
+        given(messageOutboxService.claim(50))
+                .willReturn(createMessageList(1, 3))
+                .willReturn(List.of());
+
+        // when
+        messageDispatcher.dispatch();
+
+        // then
+        assertEquals(2, messageSender.getSentMessageList().size());
+        verify(messageOutboxService, times(1)).complete(List.of(1L, 2L, 3L), Map.of(2L, "수신 거부"));
+    }
+
+    @Test
+    void 공급자_요청이_실패하면_다시_시도하도록_돌려놓는다() {
+        // given
+        FakeMessageSender messageSender = new FakeMessageSender(Duration.ZERO);
+        messageSender.failNextRequests(1);
+        MessageDispatcher messageDispatcher = new MessageDispatcher(messageOutboxService, messageSender, 50, 1000);
+        given(messageOutboxService.claim(50))
+                .willReturn(createMessageList(1, 2))
+                .willReturn(createMessageList(3, 4))
+                .willReturn(List.of());
+
+        // when
+        messageDispatcher.dispatch();
+
+        // then
+        assertEquals(List.of(3L, 4L), messageSender.getSentMessageList().stream().map(OutgoingMessage::getId).toList());
+        verify(messageOutboxService, times(1)).retry(eq(List.of(1L, 2L)), anyString());
+        verify(messageOutboxService, never()).complete(eq(List.of(1L, 2L)), anyMap());
+        verify(messageOutboxService, times(1)).complete(List.of(3L, 4L), Map.of());
+    }
+
+    private List<OutgoingMessage> createMessageList(long fromId, long toId) {
+        List<OutgoingMessage> messageList = new ArrayList<>();
+        LongStream.rangeClosed(fromId, toId)
+                .forEach(id -> messageList.add(new OutgoingMessage(id, String.format("010%08d", id), "부산소마고 공지사항", "테스트입니다")));
+        return messageList;
+    }
+}
@@ -0,0 +1,50 @@
+package com.bamdoliro.maru.infrastructure.message;
+
+import com.bamdoliro.maru.infrastructure.message.exception.FailedToSendException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class VerificationMessageDispatcherTest {
+
+    @Mock
+    private SendMessageService sendMessageService;
+
+    @Test
+    void 인증번호를_보내고_공급자_응답_시간을_기록한다() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VerificationMessageDispatcher dispatcher = new VerificationMessageDispatcher(sendMessageService, meterRegistry);
+
+        // when
+        dispatcher.dispatch("01012345678", "인증번호는 [123456]입니다.");
+
+        // then
+        verify(sendMessageService, times(1)).execute("01012345678", "인증번호는 [123456]입니다.");
+        assertEquals(1L, meterRegistry.get("maru.message.verification").tag("result", "success").timer().count());
+        assertNull(meterRegistry.find("maru.message.verification").tag("result", "failure").timer());
+    }
+
+    @Test
+    void 인증번호_발송에_실패하면_실패_횟수를_기록한다() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VerificationMessageDispatcher dispatcher = new VerificationMessageDispatcher(sendMessageService, meterRegistry);
+        willThrow(new FailedToSendException()).given(sendMessageService).execute("01012345678", "인증번호는 [123456]입니다.");
+
+        // when
+        dispatcher.dispatch("01012345678", "인증번호는 [123456]입니다.");
+
+        // then
+        assertEquals(1L, meterRegistry.get("maru.message.verification").tag("result", "failure").timer().count());
+    }
+}
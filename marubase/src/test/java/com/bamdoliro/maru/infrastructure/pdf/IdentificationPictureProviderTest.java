@@ -0,0 +1,174 @@
+package com.bamdoliro.maru.infrastructure.pdf;
+
+import com.bamdoliro.maru.infrastructure.s3.FileService;
+import com.bamdoliro.maru.infrastructure.s3.constants.FolderConstant;
+import com.bamdoliro.maru.infrastructure.s3.dto.response.FileResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IdentificationPictureProviderTest {
+
+    @Mock
+    private FileService fileService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final Map<String, String> versionMap = new HashMap<>();
+
+    private IdentificationPictureProvider createProvider(DataSize maxSize) {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.get(any())).thenAnswer(invocation -> versionMap.get(invocation.<String>getArgument(0)));
+        lenient().when(valueOperations.multiGet(any())).thenAnswer(invocation -> invocation.<Collection<String>>getArgument(0)
+                .stream()
+                .map(versionMap::get)
+                .toList());
+        lenient().doAnswer(invocation -> versionMap.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(any(), any());
+
+        return new IdentificationPictureProvider(fileService, redisTemplate, Runnable::run, maxSize, new SimpleMeterRegistry());
+    }
+
+    private void setVersion(UUID uuid, Duration age) {
+        versionMap.put("identification-picture:version:" + uuid, String.valueOf(System.currentTimeMillis() - age.toMillis()));
+    }
+
+    private FileResponse createPicture(String eTag) {
+        return new FileResponse(new byte[]{1, 2, 3}, MediaType.IMAGE_PNG_VALUE, eTag);
+    }
+
+    @Test
+    void 미리_받아둔_증명사진은_S3에_다시_요청하지_않고_data_uri로_돌려준다() {
+        // given
+        IdentificationPictureProvider provider = createProvider(DataSize.ofMegabytes(1));
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        given(fileService.download(eq(FolderConstant.IDENTIFICATION_PICTURE), any(String.class))).willReturn(createPicture("etag"));
+
+        // when
+        provider.prefetch(List.of(first, second));
+        String uri = provider.getUri(first, provider.getVersion(first));
+        provider.getUri(second, provider.getVersion(second));
+
+        // then
+        assertEquals("data:image/png;base64,AQID", uri);
+        verify(fileService, times(2)).download(eq(FolderConstant.IDENTIFICATION_PICTURE), any(String.class));
+    }
+
+    @Test
+    void 증명사진이_없으면_null을_돌려준다() {
+        // given
+        IdentificationPictureProvider provider = createProvider(DataSize.ofMegabytes(1));
+        UUID uuid = UUID.randomUUID();
+        given(fileService.download(FolderConstant.IDENTIFICATION_PICTURE, uuid.toString())).willReturn(null);
+
+        // when
+        String uri = provider.getUri(uuid, provider.getVersion(uuid));
+
+        // then
+        assertNull(uri);
+    }
+
+    @Test
+    void 업로드_url을_발급하면_캐시를_지우고_업로드가_끝날_때까지_캐시하지_않는다() {
+        // given
+        IdentificationPictureProvider provider = createProvider(DataSize.ofMegabytes(1));
+        UUID uuid = UUID.randomUUID();
+        given(fileService.download(FolderConstant.IDENTIFICATION_PICTURE, uuid.toString())).willReturn(createPicture("etag"));
+        provider.getUri(uuid, provider.getVersion(uuid));
+
+        // when
+        provider.invalidate(uuid);
+        provider.getUri(uuid, provider.getVersion(uuid));
+        provider.getUri(uuid, provider.getVersion(uuid));
+
+        // then
+        assertTrue(provider.isUploading(provider.getVersion(uuid)));
+        verify(fileService, times(3)).download(FolderConstant.IDENTIFICATION_PICTURE, uuid.toString());
+    }
+
+    @Test
+    void 다른_서버에서_버전이_바뀌면_증명사진을_다시_받는다() {
+        // given
+        IdentificationPictureProvider provider = createProvider(DataSize.ofMegabytes(1));
+        UUID uuid = UUID.randomUUID();
+        given(fileService.download(FolderConstant.IDENTIFICATION_PICTURE, uuid.toString())).willReturn(createPicture("etag"));
+        setVersion(uuid, Duration.ofHours(1));
+        provider.getUri(uuid, provider.getVersion(uuid));
+
+        // when
+        provider.getUri(uuid, provider.getVersion(uuid));
+        setVersion(uuid, Duration.ofMinutes(10));
+        provider.getUri(uuid, provider.getVersion(uuid));
+        provider.getUri(uuid, provider.getVersion(uuid));
+
+        // then
+        verify(fileService, times(2)).download(FolderConstant.IDENTIFICATION_PICTURE, uuid.toString());
+    }
+
+    @Test
+    void 업로드_시간이_지나면_다시_캐시한다() {
+        // given
+        IdentificationPictureProvider provider = createProvider(DataSize.ofMegabytes(1));
+        UUID uuid = UUID.randomUUID();
+        given(fileService.download(FolderConstant.IDENTIFICATION_PICTURE, uuid.toString())).willReturn(createPicture("etag"));
+        setVersion(uuid, Duration.ofMinutes(4));
+
+        // when
+        boolean uploading = provider.isUploading(provider.getVersion(uuid));
+        provider.getUri(uuid, provider.getVersion(uuid));
+        provider.getUri(uuid, provider.getVersion(uuid));
+
+        // then
+        assertFalse(uploading);
+        verify(fileService, times(1)).download(FolderConstant.IDENTIFICATION_PICTURE, uuid.toString());
+    }
+
+    @Test
+    void 캐시가_가득_차면_가장_오래_쓰지_않은_사진부터_지운다() {
+        // given
+        IdentificationPictureProvider provider = createProvider(DataSize.ofBytes(40));
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        given(fileService.download(eq(FolderConstant.IDENTIFICATION_PICTURE), any(String.class))).willReturn(createPicture("etag"));
+        provider.getUri(first, provider.getVersion(first));
+        provider.getUri(second, provider.getVersion(second));
+
+        // when
+        provider.getUri(second, provider.getVersion(second));
+        provider.getUri(first, provider.getVersion(first));
+
+        // then
+        verify(fileService, times(2)).download(FolderConstant.IDENTIFICATION_PICTURE, first.toString());
+        verify(fileService, times(1)).download(FolderConstant.IDENTIFICATION_PICTURE, second.toString());
+    }
+}
@@ -0,0 +1,96 @@
+package com.bamdoliro.maru.infrastructure.pdf;
+
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import com.itextpdf.layout.Document;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MergePdfServiceTest {
+
+    private static final int PAGE_COUNT = 30;
+    // 한 장짜리 수험표는 약 28KB 이고, 따로 만든 pdf 를 그대로 합치면 장당 크기도 그만큼 나온다.
+    private static final int MAX_SIZE_PER_PAGE = 10 * 1024;
+    // 지원자마다 이름 글자가 달라야 장마다 다른 폰트 서브셋이 만들어진다.
+    private static final List<String> NAME_LIST = List.of(
+            "김밤돌", "이마루", "박부산", "최소프", "정마이", "강스터", "조고등", "윤학교", "장입학", "임전형",
+            "한지민", "오세훈", "서준혁", "신예린", "권도윤", "황보람", "안태양", "송하늘", "류건우", "전수빈",
+            "홍길동", "고은비", "문채원", "양현석", "손흥민", "배수지", "백승호", "허준영", "남궁민", "유재석"
+    );
+    private static final String ADMISSION_TICKET_HTML = """
+            <html>
+            <head><style>body { font-family: SUIT, sans-serif; } h1 { font-weight: 600; } .number { font-weight: 500; }</style></head>
+            <body>
+            <h1>부산소프트웨어마이스터고등학교 입학전형 수험표</h1>
+            <p class="number">수험번호 %d</p>
+            <p>성명 %s</p>
+            <p>수험표는 신분증과 함께 지참해야 하며, 분실하지 않도록 주의하시기 바랍니다.</p>
+            </body>
+            </html>
+            """;
+
+    private final GeneratePdfService generatePdfService = new GeneratePdfService();
+    private final MergePdfService mergePdfService = new MergePdfService();
+
+    @Test
+    void 여러_pdf를_하나의_출력_스트림으로_합친다() throws IOException {
+        // given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        PdfDocument mergedDocument = mergePdfService.createMergedDocument(outputStream);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            mergePdfService.execute(mergedDocument, generatePdfService.execute("<p>수험표 " + i + "</p>"));
+        }
+        mergedDocument.close();
+
+        // then
+        PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(outputStream.toByteArray())));
+        assertEquals(3, document.getNumberOfPages());
+        document.close();
+    }
+
+    @Test
+    void 여러_지원자의_수험표를_한_문서에_배치하면_한_장씩_들어간다() throws IOException {
+        // given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Document mergedDocument = mergePdfService.createMergedDocument(outputStream, generatePdfService.createFontProvider(), 0);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            mergePdfService.execute(mergedDocument, generatePdfService.convertToElements(ADMISSION_TICKET_HTML.formatted(1000 + i, NAME_LIST.get(i))));
+        }
+        mergedDocument.close();
+
+        // then
+        PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(outputStream.toByteArray())));
+        assertEquals(3, document.getNumberOfPages());
+        assertTrue(PdfTextExtractor.getTextFromPage(document.getPage(2)).contains(NAME_LIST.get(1)));
+        document.close();
+    }
+
+    @Test
+    void 여러_지원자의_수험표를_한_문서에_배치하면_폰트를_한_번만_넣어서_크기가_줄어든다() {
+        // given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Document mergedDocument = mergePdfService.createMergedDocument(outputStream, generatePdfService.createFontProvider(), 0);
+
+        // when
+        for (int i = 0; i < PAGE_COUNT; i++) {
+            String html = ADMISSION_TICKET_HTML.formatted(1000 + i, NAME_LIST.get(i));
+            mergePdfService.execute(mergedDocument, generatePdfService.convertToElements(html));
+        }
+        mergedDocument.close();
+
+        // then
+        assertTrue(outputStream.size() / PAGE_COUNT < MAX_SIZE_PER_PAGE);
+    }
+}
@@ -0,0 +1,128 @@
+package com.bamdoliro.maru.infrastructure.pdf;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PdfCacheServiceTest {
+
+    @TempDir
+    private Path directory;
+
+    private PdfCacheService pdfCacheService;
+
+    private final AtomicInteger renderCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        pdfCacheService = new PdfCacheService(directory.toString(), DataSize.ofBytes(100), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 같은_키로_다시_요청하면_다시_만들지_않고_저장된_pdf를_보낸다() {
+        // given
+        pdfCacheService.get("form:1", render(new byte[]{1, 2, 3})).writeTo(new ByteArrayOutputStream());
+
+        // when
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        pdfCacheService.get("form:1", render(new byte[]{4, 5, 6})).writeTo(outputStream);
+
+        // then
+        assertEquals(1, renderCount.get());
+        assertArrayEquals(new byte[]{1, 2, 3}, outputStream.toByteArray());
+    }
+
+    @Test
+    void 키가_다르면_ETag도_다르다() {
+        // when
+        CachedPdf before = pdfCacheService.get("form:1:2023-10-01T00:00", render(new byte[0]));
+        CachedPdf after = pdfCacheService.get("form:1:2023-10-02T00:00", render(new byte[0]));
+
+        // then
+        assertNotEquals(before.getETag(), after.getETag());
+        assertEquals(before.getETag(), pdfCacheService.get("form:1:2023-10-01T00:00", render(new byte[0])).getETag());
+        assertEquals(0, renderCount.get());
+    }
+
+    @Test
+    void 최대_크기를_넘으면_가장_오래_사용하지_않은_pdf부터_지운다() {
+        // given
+        CachedPdf first = pdfCacheService.get("form:1", render(new byte[40]));
+        CachedPdf second = pdfCacheService.get("form:2", render(new byte[40]));
+        first.writeTo(new ByteArrayOutputStream());
+        second.writeTo(new ByteArrayOutputStream());
+        first.writeTo(new ByteArrayOutputStream());
+
+        // when
+        pdfCacheService.get("form:3", render(new byte[40])).writeTo(new ByteArrayOutputStream());
+
+        // then
+        assertTrue(Files.exists(directory.resolve("maru-pdf-cache").resolve(first.getETag() + ".pdf")));
+        assertFalse(Files.exists(directory.resolve("maru-pdf-cache").resolve(second.getETag() + ".pdf")));
+        assertEquals(3, renderCount.get());
+    }
+
+    @Test
+    void 시작할_때_캐시_디렉터리에서_캐시가_만든_파일만_지운다() throws IOException {
+        // given
+        Path cacheDirectory = directory.resolve("maru-pdf-cache");
+        Path cachedPdf = Files.createFile(cacheDirectory.resolve("d41d8cd98f00b204e9800998ecf8427e.pdf"));
+        Path tempFile = Files.createFile(cacheDirectory.resolve("d41d8cd98f00b204e9800998ecf8427e123.tmp"));
+        Path otherFile = Files.createFile(cacheDirectory.resolve("report.pdf"));
+        Path outsideFile = Files.createFile(directory.resolve("d41d8cd98f00b204e9800998ecf8427e.pdf"));
+
+        // when
+        new PdfCacheService(directory.toString(), DataSize.ofBytes(100), new SimpleMeterRegistry());
+
+        // then
+        assertFalse(Files.exists(cachedPdf));
+        assertFalse(Files.exists(tempFile));
+        assertTrue(Files.exists(otherFile));
+        assertTrue(Files.exists(outsideFile));
+    }
+
+    @Test
+    void 캐시하지_않고_만들면_ETag가_없고_매번_다시_만든다() {
+        // given
+        CachedPdf pdf = pdfCacheService.render(render(new byte[]{1, 2, 3}));
+
+        // when
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        pdf.writeTo(outputStream);
+        pdf.writeTo(new ByteArrayOutputStream());
+
+        // then
+        assertNull(pdf.getETag());
+        assertArrayEquals(new byte[]{1, 2, 3}, outputStream.toByteArray());
+        assertEquals(2, renderCount.get());
+    }
+
+    private Consumer<OutputStream> render(byte[] content) {
+        return outputStream -> {
+            renderCount.incrementAndGet();
+            try {
+                outputStream.write(content);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package com.bamdoliro.maru.infrastructure.persistence.converter.encryptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.jasypt.encryption.StringEncryptor;
+import org.jasypt.encryption.pbe.PooledPBEStringEncryptor;
+import org.jasypt.salt.StringFixedSaltGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FieldStringEncryptorTest {
+
+    @Test
+    void 풀_크기와_관계없이_같은_암호문을_만든다() {
+        // given
+        StringEncryptor single = new FieldStringEncryptor(createPbeEncryptor(1), 0, new SimpleMeterRegistry());
+        StringEncryptor pooled = new FieldStringEncryptor(createPbeEncryptor(4), 0, new SimpleMeterRegistry());
+
+        // when
+        String encrypted = single.encrypt("01012345678");
+
+        // then
+        assertEquals(encrypted, pooled.encrypt("01012345678"));
+        assertEquals("01012345678", pooled.decrypt(encrypted));
+    }
+
+    @Test
+    void 여러_스레드에서_동시에_복호화한다() {
+        // given
+        StringEncryptor encryptor = new FieldStringEncryptor(createPbeEncryptor(4), 0, new SimpleMeterRegistry());
+        List<String> encryptedList = IntStream.range(0, 200)
+                .mapToObj(i -> encryptor.encrypt("김밤돌" + i))
+                .toList();
+
+        // when
+        List<String> decryptedList = encryptedList.parallelStream()
+                .map(encryptor::decrypt)
+                .toList();
+
+        // then
+        IntStream.range(0, 200)
+                .forEach(i -> assertEquals("김밤돌" + i, decryptedList.get(i)));
+    }
+
+    @Test
+    void 복호화_캐시가_켜져_있으면_같은_암호문은_한_번만_복호화한다() {
+        // given
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StringEncryptor encryptor = new FieldStringEncryptor(createPbeEncryptor(2), 2, meterRegistry);
+        String encrypted = encryptor.encrypt("2005-04-15");
+
+        // when
+        encryptor.decrypt(encrypted);
+        encryptor.decrypt(encrypted);
+        encryptor.decrypt(encrypted);
+
+        // then
+        assertEquals(1L, meterRegistry.get("maru.encryptor").tag("operation", "encrypt").timer().count());
+        assertEquals(1L, meterRegistry.get("maru.encryptor").tag("operation", "decrypt").timer().count());
+        assertEquals(2.0, meterRegistry.get("maru.encryptor.decrypt.cache.hit").counter().count());
+    }
+
+    @Test
+    void 복호화_캐시는_크기를_넘어서_값을_들고_있지_않는다() {
+        // given
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StringEncryptor encryptor = new FieldStringEncryptor(createPbeEncryptor(2), 10, meterRegistry);
+        List<String> encryptedList = IntStream.range(0, 100)
+                .mapToObj(i -> encryptor.encrypt(String.valueOf(1000 + i)))
+                .toList();
+
+        // when
+        encryptedList.forEach(encryptor::decrypt);
+        encryptedList.forEach(encryptor::decrypt);
+
+        // then
+        assertTrue(meterRegistry.get("maru.encryptor.decrypt.cache.hit").counter().count() <= 10.0);
+    }
+
+    private StringEncryptor createPbeEncryptor(int poolSize) {
+        PooledPBEStringEncryptor encryptor = new PooledPBEStringEncryptor();
+        encryptor.setProvider(new BouncyCastleProvider());
+        encryptor.setPassword("password");
+        encryptor.setAlgorithm("PBEWithSHA256And256BitAES-CBC-BC");
+        encryptor.setKeyObtentionIterations(1000);
+        encryptor.setPoolSize(poolSize);
+        encryptor.setSaltGenerator(new StringFixedSaltGenerator("saltsaltsaltsalt"));
+        return encryptor;
+    }
+}
@@ -0,0 +1,38 @@
+package com.bamdoliro.maru.infrastructure.persistence.form;
+
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.shared.config.DatabaseClearExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ActiveProfiles("test")
+@ExtendWith(DatabaseClearExtension.class)
+@SpringBootTest
+class ExaminationNumberSequenceRepositoryTest {
+
+    @Autowired
+    private ExaminationNumberSequenceRepository examinationNumberSequenceRepository;
+
+    @Test
+    void 이미_있는_전형의_시퀀스를_다시_넣으면_무시한다() {
+        // given
+        String category = FormType.Category.REGULAR.name();
+        examinationNumberSequenceRepository.insertIfNotExists(category, 1000L);
+
+        // when
+        examinationNumberSequenceRepository.insertIfNotExists(category, 1010L);
+
+        // then
+        assertEquals(
+                1000L,
+                examinationNumberSequenceRepository.findById(FormType.Category.REGULAR)
+                        .orElseThrow()
+                        .getLastNumber()
+        );
+    }
+}
@@ -0,0 +1,235 @@
+package com.bamdoliro.maru.infrastructure.persistence.form;
+
+import com.bamdoliro.maru.domain.form.domain.Form;
+import com.bamdoliro.maru.domain.form.domain.type.FormSortType;
+import com.bamdoliro.maru.domain.form.domain.type.FormStatus;
+import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.domain.form.exception.InvalidCursorException;
+import com.bamdoliro.maru.domain.form.exception.InvalidPageSizeException;
+import com.bamdoliro.maru.infrastructure.persistence.form.vo.FormSimpleVo;
+import com.bamdoliro.maru.infrastructure.persistence.user.UserRepository;
+import com.bamdoliro.maru.shared.config.DatabaseClearExtension;
+import com.bamdoliro.maru.shared.fixture.FormFixture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ActiveProfiles("test")
+@ExtendWith(DatabaseClearExtension.class)
+@SpringBootTest
+class FormRepositoryImplTest {
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void 접수_번호순으로_커서_다음부터_페이지_크기만큼_조회한다() {
+        // given
+        List<Form> formList = saveFormList(5);
+
+        // when
+        List<FormSimpleVo> firstPage = formRepository.findFormSimpleList(null, null, FormSortType.FORM_ID, null, 2);
+        List<FormSimpleVo> secondPage = formRepository.findFormSimpleList(null, null, FormSortType.FORM_ID, firstPage.get(1).getId(), 2);
+        List<FormSimpleVo> lastPage = formRepository.findFormSimpleList(null, null, FormSortType.FORM_ID, secondPage.get(1).getId(), 2);
+
+        // then
+        assertEquals(
+                formList.stream().map(Form::getId).toList(),
+                concat(firstPage, secondPage, lastPage).stream().map(FormSimpleVo::getId).toList()
+        );
+        assertEquals(1, lastPage.size());
+    }
+
+    @Test
+    void 최종_점수가_높은_순으로_커서를_넘기며_모든_원서를_한_번씩_조회한다() {
+        // given
+        List<Form> formList = new ArrayList<>();
+        double[] scoreList = {30.0, 50.0, 30.0, 10.0};
+        for (double score : scoreList) {
+            Form form = FormFixture.createForm(FormType.REGULAR);
+            form.getScore().updateSecondRoundScore(score, 0.0);
+            formList.add(form);
+        }
+        formList.add(FormFixture.createForm(FormType.REGULAR));
+        save(formList);
+
+        // when
+        List<FormSimpleVo> firstPage = formRepository.findFormSimpleList(null, null, FormSortType.TOTAL_SCORE_DESC, null, 2);
+        List<FormSimpleVo> secondPage = formRepository.findFormSimpleList(null, null, FormSortType.TOTAL_SCORE_DESC, firstPage.get(1).getId(), 2);
+        List<FormSimpleVo> lastPage = formRepository.findFormSimpleList(null, null, FormSortType.TOTAL_SCORE_DESC, secondPage.get(1).getId(), 2);
+
+        // then
+        assertEquals(
+                List.of(formList.get(1).getId(), formList.get(0).getId(), formList.get(2).getId(), formList.get(3).getId(), formList.get(4).getId()),
+                concat(firstPage, secondPage, lastPage).stream().map(FormSimpleVo::getId).toList()
+        );
+    }
+
+    @Test
+    void 최종_점수가_낮은_순으로_커서를_넘기며_점수가_없는_원서는_마지막에_조회한다() {
+        // given
+        List<Form> formList = new ArrayList<>();
+        Double[] scoreList = {30.0, 50.0, null, 10.0, 30.0};
+        for (Double score : scoreList) {
+            Form form = FormFixture.createForm(FormType.REGULAR);
+            if (score != null) {
+                form.getScore().updateSecondRoundScore(score, 0.0);
+            }
+            formList.add(form);
+        }
+        save(formList);
+
+        // when
+        List<FormSimpleVo> firstPage = formRepository.findFormSimpleList(null, null, FormSortType.TOTAL_SCORE_ASC, null, 2);
+        List<FormSimpleVo> secondPage = formRepository.findFormSimpleList(null, null, FormSortType.TOTAL_SCORE_ASC, firstPage.get(1).getId(), 2);
+        List<FormSimpleVo> lastPage = formRepository.findFormSimpleList(null, null, FormSortType.TOTAL_SCORE_ASC, secondPage.get(1).getId(), 2);
+
+        // then
+        assertEquals(
+                List.of(formList.get(3).getId(), formList.get(0).getId(), formList.get(4).getId(), formList.get(1).getId(), formList.get(2).getId()),
+                concat(firstPage, secondPage, lastPage).stream().map(FormSimpleVo::getId).toList()
+        );
+    }
+
+    @Test
+    void 특별전형_원서만_조회한다() {
+        // given
+        List<Form> formList = save(createFormListOfEveryCategory());
+
+        // when
+        List<FormSimpleVo> returnedFormList = formRepository.findFormSimpleList(null, FormType.Category.SPECIAL, FormSortType.FORM_ID, null, null);
+
+        // then
+        assertEquals(
+                List.of(formList.get(2).getId(), formList.get(3).getId()),
+                returnedFormList.stream().map(FormSimpleVo::getId).toList()
+        );
+    }
+
+    @Test
+    void 사회통합전형_원서만_조회한다() {
+        // given
+        List<Form> formList = save(createFormListOfEveryCategory());
+
+        // when
+        List<FormSimpleVo> returnedFormList = formRepository.findFormSimpleList(null, FormType.Category.SOCIAL_INTEGRATION, FormSortType.FORM_ID, null, null);
+
+        // then
+        assertEquals(
+                List.of(formList.get(3).getId()),
+                returnedFormList.stream().map(FormSimpleVo::getId).toList()
+        );
+    }
+
+    @Test
+    void 상태가_같은_원서만_조회한다() {
+        // given
+        List<Form> formList = createFormListOfEveryCategory();
+        formList.get(0).approve();
+        formList.get(3).approve();
+        save(formList);
+
+        // when
+        List<FormSimpleVo> approvedFormList = formRepository.findFormSimpleList(FormStatus.APPROVED, null, FormSortType.FORM_ID, null, null);
+        List<FormSimpleVo> approvedSpecialFormList = formRepository.findFormSimpleList(FormStatus.APPROVED, FormType.Category.SPECIAL, FormSortType.FORM_ID, null, null);
+
+        // then
+        assertEquals(
+                List.of(formList.get(0).getId(), formList.get(3).getId()),
+                approvedFormList.stream().map(FormSimpleVo::getId).toList()
+        );
+        assertEquals(
+                List.of(formList.get(3).getId()),
+                approvedSpecialFormList.stream().map(FormSimpleVo::getId).toList()
+        );
+    }
+
+    @Test
+    void 수험번호순으로_정렬해_커서_다음부터_조회한다() {
+        // given
+        List<Form> formList = new ArrayList<>();
+        long[] examinationNumberList = {1003L, 1001L, 1004L, 1002L};
+        for (long examinationNumber : examinationNumberList) {
+            Form form = FormFixture.createForm(FormType.REGULAR);
+            form.assignExaminationNumber(examinationNumber);
+            formList.add(form);
+        }
+        save(formList);
+
+        // when
+        List<FormSimpleVo> firstPage = formRepository.findFormSimpleList(null, null, FormSortType.EXAMINATION_NUMBER, null, 3);
+        List<FormSimpleVo> lastPage = formRepository.findFormSimpleList(null, null, FormSortType.EXAMINATION_NUMBER, firstPage.get(2).getId(), 3);
+
+        // then
+        assertEquals(
+                List.of(1001L, 1002L, 1003L, 1004L),
+                concat(firstPage, lastPage).stream().map(FormSimpleVo::getExaminationNumber).toList()
+        );
+    }
+
+    @Test
+    void 존재하지_않는_커서로_조회하면_에러가_발생한다() {
+        // given
+        List<Form> formList = saveFormList(2);
+        Long unknownCursor = formList.get(1).getId() + 100;
+
+        // when and then
+        assertThrows(InvalidCursorException.class,
+                () -> formRepository.findFormSimpleList(null, null, FormSortType.EXAMINATION_NUMBER, unknownCursor, 2));
+        assertThrows(InvalidCursorException.class,
+                () -> formRepository.findFormSimpleList(null, null, FormSortType.TOTAL_SCORE_DESC, unknownCursor, 2));
+    }
+
+    @Test
+    void 페이지_크기가_1보다_작으면_에러가_발생한다() {
+        // when and then
+        assertThrows(InvalidPageSizeException.class,
+                () -> formRepository.findFormSimpleList(null, null, FormSortType.FORM_ID, null, -1));
+        assertThrows(InvalidPageSizeException.class,
+                () -> formRepository.findFormSimpleList(null, null, FormSortType.EXAMINATION_NUMBER, null, 0));
+    }
+
+    private List<Form> saveFormList(int size) {
+        List<Form> formList = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            formList.add(FormFixture.createForm(FormType.REGULAR));
+        }
+
+        return save(formList);
+    }
+
+    private List<Form> createFormListOfEveryCategory() {
+        return new ArrayList<>(List.of(
+                FormFixture.createForm(FormType.REGULAR),
+                FormFixture.createForm(FormType.SPECIAL_ADMISSION),
+                FormFixture.createForm(FormType.MEISTER_TALENT),
+                FormFixture.createForm(FormType.MULTI_CHILDREN)
+        ));
+    }
+
+    private List<Form> save(List<Form> formList) {
+        userRepository.saveAll(formList.stream().map(Form::getUser).toList());
+        return formRepository.saveAll(formList);
+    }
+
+    @SafeVarargs
+    private static List<FormSimpleVo> concat(List<FormSimpleVo>... pageList) {
+        List<FormSimpleVo> result = new ArrayList<>();
+        for (List<FormSimpleVo> page : pageList) {
+            result.addAll(page);
+        }
+
+        return result;
+    }
+}
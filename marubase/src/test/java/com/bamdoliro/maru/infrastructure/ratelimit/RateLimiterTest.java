@@ -0,0 +1,96 @@
+package com.bamdoliro.maru.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimiterTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    void 토큰이_남아_있으면_요청을_통과시킨다() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RateLimiter rateLimiter = new RateLimiter(redisTemplate, meterRegistry);
+        given(redisTemplate.execute(ArgumentMatchers.<RedisScript<List<Long>>>any(), eq(List.of("rate-limit:log-in-ip:127.0.0.1")), eq("30"), any()))
+                .willReturn(List.of(0L));
+
+        // when
+        long retryAfter = rateLimiter.tryAcquire(List.of(new RateLimitBucket("log-in-ip", "127.0.0.1", 30, 60)));
+
+        // then
+        assertEquals(0L, retryAfter);
+        assertNull(meterRegistry.find("maru.rate-limit.rejected").counter());
+    }
+
+    @Test
+    void 버킷을_한_번에_확인해서_가장_오래_기다릴_시간을_알려주고_거절한_버킷을_기록한다() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RateLimiter rateLimiter = new RateLimiter(redisTemplate, meterRegistry);
+        given(redisTemplate.execute(
+                ArgumentMatchers.<RedisScript<List<Long>>>any(),
+                eq(List.of("rate-limit:log-in-phone-number:01012345678", "rate-limit:log-in-ip:127.0.0.1")),
+                eq("5"), any(), eq("30"), any()
+        )).willReturn(List.of(1500L, 0L));
+
+        // when
+        long retryAfter = rateLimiter.tryAcquire(List.of(
+                new RateLimitBucket("log-in-phone-number", "01012345678", 5, 60),
+                new RateLimitBucket("log-in-ip", "127.0.0.1", 30, 60)
+        ));
+
+        // then
+        assertEquals(1500L, retryAfter);
+        assertEquals(1.0, meterRegistry.get("maru.rate-limit.rejected").tag("name", "log-in-phone-number").counter().count());
+        assertNull(meterRegistry.find("maru.rate-limit.rejected").tag("name", "log-in-ip").counter());
+    }
+
+    @Test
+    void 확인할_버킷이_없으면_Redis에_요청하지_않는다() {
+        // given
+        RateLimiter rateLimiter = new RateLimiter(redisTemplate, new SimpleMeterRegistry());
+
+        // when
+        long retryAfter = rateLimiter.tryAcquire(List.of());
+
+        // then
+        assertEquals(0L, retryAfter);
+        verify(redisTemplate, never()).execute(ArgumentMatchers.<RedisScript<List<Long>>>any(), anyList(), any());
+    }
+
+    @Test
+    void Redis에_연결할_수_없으면_요청을_통과시킨다() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RateLimiter rateLimiter = new RateLimiter(redisTemplate, meterRegistry);
+        given(redisTemplate.execute(ArgumentMatchers.<RedisScript<List<Long>>>any(), anyList(), any()))
+                .willThrow(new RedisConnectionFailureException("연결 실패"));
+
+        // when
+        long retryAfter = rateLimiter.tryAcquire(List.of(new RateLimitBucket("log-in-ip", "127.0.0.1", 30, 60)));
+
+        // then
+        assertEquals(0L, retryAfter);
+    }
+}
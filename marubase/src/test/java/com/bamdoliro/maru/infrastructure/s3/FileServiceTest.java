@@ -2,6 +2,9 @@ package com.bamdoliro.maru.infrastructure.s3;
 
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.bamdoliro.maru.infrastructure.s3.dto.request.FileMetadata;
 import com.bamdoliro.maru.infrastructure.s3.dto.response.UrlResponse;
 import com.bamdoliro.maru.infrastructure.s3.validator.DefaultFileValidator;
@@ -13,11 +16,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 
 import java.net.URL;
+import java.util.Date;
 import java.util.Set;
 
 import static com.bamdoliro.maru.shared.constants.FileConstant.MB;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -49,4 +55,28 @@ class FileServiceTest {
         // then
         verify(amazonS3Client, times(2)).generatePresignedUrl(any(GeneratePresignedUrlRequest.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void 기준_시각보다_오래된_파일만_지운다() {
+        // given
+        Date threshold = new Date();
+        ListObjectsV2Result result = new ListObjectsV2Result();
+        result.getObjectSummaries().add(createObjectSummary("export/old", new Date(threshold.getTime() - 1000)));
+        result.getObjectSummaries().add(createObjectSummary("export/new", new Date(threshold.getTime() + 1000)));
+        given(amazonS3Client.listObjectsV2(any(ListObjectsV2Request.class))).willReturn(result);
+
+        // when
+        fileService.deleteOlderThan("export", threshold);
+
+        // then
+        verify(amazonS3Client, times(1)).deleteObject(any(), eq("export/old"));
+        verify(amazonS3Client, never()).deleteObject(any(), eq("export/new"));
+    }
+
+    private S3ObjectSummary createObjectSummary(String key, Date lastModified) {
+        S3ObjectSummary summary = new S3ObjectSummary();
+        summary.setKey(key);
+        summary.setLastModified(lastModified);
+        return summary;
+    }
+}
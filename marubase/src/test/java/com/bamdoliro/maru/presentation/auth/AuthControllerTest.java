@@ -3,8 +3,10 @@ package com.bamdoliro.maru.presentation.auth;
 import com.bamdoliro.maru.domain.auth.exception.ExpiredTokenException;
 import com.bamdoliro.maru.domain.auth.exception.InvalidTokenException;
 import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.domain.user.exception.PasswordHashingUnavailableException;
 import com.bamdoliro.maru.domain.user.exception.PasswordMismatchException;
 import com.bamdoliro.maru.domain.user.exception.UserNotFoundException;
+import com.bamdoliro.maru.infrastructure.ratelimit.exception.TooManyRequestsException;
 import com.bamdoliro.maru.presentation.auth.dto.request.LogInRequest;
 import com.bamdoliro.maru.presentation.auth.dto.response.TokenResponse;
 import com.bamdoliro.maru.shared.fixture.AuthFixture;
@@ -31,6 +33,7 @@ import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuild
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class AuthControllerTest extends RestDocsTestSupport {
@@ -97,6 +100,41 @@ class AuthControllerTest extends RestDocsTestSupport {
                 .andDo(restDocs.document());
     }
 
+    @Test
+    void 유저가_로그인을_너무_자주_시도하면_에러가_발생한다() throws Exception {
+        User user = UserFixture.createUser();
+        LogInRequest request = new LogInRequest(user.getPhoneNumber(), "비밀번호");
+        doThrow(new TooManyRequestsException(60)).when(logInUseCase).execute(any(LogInRequest.class));
+
+        mockMvc.perform(post("/auth")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(request))
+                )
+
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "60"))
+
+                .andDo(restDocs.document());
+    }
+
+    @Test
+    void 유저가_로그인할_때_비밀번호_확인_대기열이_가득_차면_에러가_발생한다() throws Exception {
+        User user = UserFixture.createUser();
+        LogInRequest request = new LogInRequest(user.getPhoneNumber(), "비밀번호");
+        doThrow(new PasswordHashingUnavailableException()).when(logInUseCase).execute(any(LogInRequest.class));
+
+        mockMvc.perform(post("/auth")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(request))
+                )
+
+                .andExpect(status().isServiceUnavailable())
+
+                .andDo(restDocs.document());
+    }
+
     @Test
     void 유저가_로그인할_때_잘못된_형식의_요청을_보내면_에러가_발생한다() throws Exception {
         LogInRequest request = new LogInRequest("", "");
@@ -0,0 +1,211 @@
+package com.bamdoliro.maru.presentation.export;
+
+import com.bamdoliro.maru.domain.export.domain.type.ExportJobStatus;
+import com.bamdoliro.maru.domain.export.domain.type.ExportType;
+import com.bamdoliro.maru.domain.export.exception.ExportJobNotCompletedException;
+import com.bamdoliro.maru.domain.export.exception.ExportJobNotFoundException;
+import com.bamdoliro.maru.domain.export.exception.InvalidDownloadTokenException;
+import com.bamdoliro.maru.domain.export.exception.TooManyExportJobsException;
+import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.presentation.export.dto.request.StartExportRequest;
+import com.bamdoliro.maru.shared.fixture.AuthFixture;
+import com.bamdoliro.maru.shared.fixture.ExportFixture;
+import com.bamdoliro.maru.shared.fixture.UserFixture;
+import com.bamdoliro.maru.shared.util.RestDocsTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.JsonFieldType;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ExportControllerTest extends RestDocsTestSupport {
+
+    @Test
+    void 내보내기_작업을_시작한다() throws Exception {
+        User user = UserFixture.createAdminUser();
+        StartExportRequest request = ExportFixture.createStartExportRequest(ExportType.ADMISSION_TICKET);
+
+        given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
+        given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+        given(startExportUseCase.execute(any(StartExportRequest.class))).willReturn(ExportFixture.createExportJobResponse(ExportJobStatus.PENDING));
+
+        mockMvc.perform(post("/exports")
+                        .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(request)))
+
+                .andExpect(status().isAccepted())
+
+                .andDo(restDocs.document(
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION)
+                                        .description("Bearer token")
+                        ),
+                        requestFields(
+                                fieldWithPath("type")
+                                        .type(JsonFieldType.STRING)
+                                        .description("<<export-type,내보내기 유형>>"),
+                                fieldWithPath("fairId")
+                                        .type(JsonFieldType.NUMBER)
+                                        .optional()
+                                        .description("입학설명회 id (입학설명회 참가자 명단을 내보낼 때만 필요)")
+                        )
+                ));
+
+        verify(startExportUseCase, times(1)).execute(any(StartExportRequest.class));
+    }
+
+    @Test
+    void 내보내기_작업을_시작할_때_대기_중인_작업이_너무_많으면_에러가_발생한다() throws Exception {
+        User user = UserFixture.createAdminUser();
+        StartExportRequest request = ExportFixture.createStartExportRequest(ExportType.RESULT);
+
+        given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
+        given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+        given(startExportUseCase.execute(any(StartExportRequest.class))).willThrow(new TooManyExportJobsException());
+
+        mockMvc.perform(post("/exports")
+                        .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(request)))
+
+                .andExpect(status().isServiceUnavailable())
+
+                .andDo(restDocs.document());
+
+        verify(startExportUseCase, times(1)).execute(any(StartExportRequest.class));
+    }
+
+    @Test
+    void 내보내기_작업_진행_상황을_조회한다() throws Exception {
+        User user = UserFixture.createAdminUser();
+        String jobId = ExportFixture.JOB_ID;
+
+        given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
+        given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+        given(queryExportJobUseCase.execute(jobId)).willReturn(ExportFixture.createExportJobResponse(ExportJobStatus.COMPLETED));
+
+        mockMvc.perform(get("/exports/{job-id}", jobId)
+                        .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
+                        .accept(MediaType.APPLICATION_JSON))
+
+                .andExpect(status().isOk())
+
+                .andDo(restDocs.document(
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION)
+                                        .description("Bearer token")
+                        ),
+                        pathParameters(
+                                parameterWithName("job-id")
+                                        .description("내보내기 작업 id")
+                        )
+                ));
+
+        verify(queryExportJobUseCase, times(1)).execute(jobId);
+    }
+
+    @Test
+    void 내보내기_작업을_조회할_때_작업이_없으면_에러가_발생한다() throws Exception {
+        User user = UserFixture.createAdminUser();
+        String jobId = ExportFixture.JOB_ID;
+
+        given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
+        given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+        given(queryExportJobUseCase.execute(jobId)).willThrow(new ExportJobNotFoundException());
+
+        mockMvc.perform(get("/exports/{job-id}", jobId)
+                        .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
+                        .accept(MediaType.APPLICATION_JSON))
+
+                .andExpect(status().isNotFound())
+
+                .andDo(restDocs.document());
+
+        verify(queryExportJobUseCase, times(1)).execute(jobId);
+    }
+
+    @Test
+    void 내보낸_파일을_다운로드한다() throws Exception {
+        String jobId = ExportFixture.JOB_ID;
+        String token = ExportFixture.DOWNLOAD_TOKEN;
+
+        given(downloadExportUseCase.execute(jobId, token)).willReturn(ExportFixture.createExportFileResponse());
+
+        mockMvc.perform(get("/exports/{job-id}/file", jobId)
+                        .param("token", token))
+
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.CONTENT_DISPOSITION))
+
+                .andDo(restDocs.document(
+                        pathParameters(
+                                parameterWithName("job-id")
+                                        .description("내보내기 작업 id")
+                        ),
+                        queryParameters(
+                                parameterWithName("token")
+                                        .description("다운로드 토큰")
+                        ),
+                        responseHeaders(
+                                headerWithName(HttpHeaders.CONTENT_DISPOSITION)
+                                        .description("파일 이름")
+                        )
+                ));
+
+        verify(downloadExportUseCase, times(1)).execute(jobId, token);
+    }
+
+    @Test
+    void 내보낸_파일을_다운로드할_때_작업이_끝나지_않았으면_에러가_발생한다() throws Exception {
+        String jobId = ExportFixture.JOB_ID;
+        String token = ExportFixture.DOWNLOAD_TOKEN;
+
+        given(downloadExportUseCase.execute(jobId, token)).willThrow(new ExportJobNotCompletedException());
+
+        mockMvc.perform(get("/exports/{job-id}/file", jobId)
+                        .param("token", token))
+
+                .andExpect(status().isConflict())
+
+                .andDo(restDocs.document());
+
+        verify(downloadExportUseCase, times(1)).execute(jobId, token);
+    }
+
+    @Test
+    void 내보낸_파일을_다운로드할_때_이미_사용한_링크면_에러가_발생한다() throws Exception {
+        String jobId = ExportFixture.JOB_ID;
+        String token = ExportFixture.DOWNLOAD_TOKEN;
+
+        given(downloadExportUseCase.execute(jobId, token)).willThrow(new InvalidDownloadTokenException());
+
+        mockMvc.perform(get("/exports/{job-id}/file", jobId)
+                        .param("token", token))
+
+                .andExpect(status().isNotFound())
+
+                .andDo(restDocs.document());
+
+        verify(downloadExportUseCase, times(1)).execute(jobId, token);
+    }
+}
@@ -13,12 +13,14 @@ import com.bamdoliro.maru.shared.fixture.UserFixture;
 import com.bamdoliro.maru.shared.util.RestDocsTestSupport;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.MethodParameter;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.restdocs.payload.JsonFieldType;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
@@ -270,7 +272,10 @@ class FairControllerTest extends RestDocsTestSupport {
 
         given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
         given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
-        given(exportAttendeeListUseCase.execute(fairId)).willReturn(new ByteArrayResource(file.getBytes()));
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write(file.getBytes());
+            return null;
+        }).given(exportAttendeeListUseCase).execute(eq(fairId), any(OutputStream.class));
 
         mockMvc.perform(get("/fairs/{fair-id}/export", fairId)
                         .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
@@ -289,7 +294,39 @@ class FairControllerTest extends RestDocsTestSupport {
                         )
                 ));
 
-        verify(exportAttendeeListUseCase, times(1)).execute(fairId);
+        verify(exportAttendeeListUseCase, times(1)).execute(eq(fairId), any(OutputStream.class));
+    }
+
+    @Test
+    void 입학설명회_신청자_명단을_CSV로_다운받는다() throws Exception {
+        Long fairId = 1L;
+        User user = UserFixture.createAdminUser();
+
+        given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
+        given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("이름,전화번호\r\n곰밤돌,01012345678\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(exportAttendeeListUseCase).executeCsv(eq(fairId), any(OutputStream.class));
+
+        mockMvc.perform(get("/fairs/{fair-id}/export/csv", fairId)
+                        .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
+                        .accept("text/csv"))
+
+                .andExpect(status().isOk())
+
+                .andDo(restDocs.document(
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION)
+                                        .description("Bearer token")
+                        ),
+                        pathParameters(
+                                parameterWithName("fair-id")
+                                        .description("입학설명회 id")
+                        )
+                ));
+
+        verify(exportAttendeeListUseCase, times(1)).executeCsv(eq(fairId), any(OutputStream.class));
     }
 
     @Test
@@ -299,7 +336,7 @@ class FairControllerTest extends RestDocsTestSupport {
 
         given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
         given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
-        willThrow(new FairNotFoundException()).given(exportAttendeeListUseCase).execute(fairId);
+        willThrow(new FairNotFoundException()).given(exportAttendeeListUseCase).execute(eq(fairId), any(OutputStream.class));
 
         mockMvc.perform(get("/fairs/{fair-id}/export", fairId)
                         .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader()))
@@ -308,6 +345,6 @@ class FairControllerTest extends RestDocsTestSupport {
 
                 .andDo(restDocs.document());
 
-        verify(exportAttendeeListUseCase, times(1)).execute(fairId);
+        verify(exportAttendeeListUseCase, times(1)).execute(eq(fairId), any(OutputStream.class));
     }
 }
\ No newline at end of file
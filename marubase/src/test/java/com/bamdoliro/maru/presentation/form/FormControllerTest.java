@@ -4,6 +4,7 @@ import com.bamdoliro.maru.domain.auth.exception.AuthorityMismatchException;
 import com.bamdoliro.maru.domain.form.domain.Form;
 import com.bamdoliro.maru.domain.form.domain.type.FormStatus;
 import com.bamdoliro.maru.domain.form.domain.type.FormType;
+import com.bamdoliro.maru.domain.form.domain.type.ReScoringJobStatus;
 import com.bamdoliro.maru.domain.form.exception.*;
 import com.bamdoliro.maru.domain.user.domain.User;
 import com.bamdoliro.maru.infrastructure.pdf.exception.FailedToExportPdfException;
@@ -13,10 +14,13 @@ import com.bamdoliro.maru.infrastructure.s3.exception.FileSizeLimitExceededExcep
 import com.bamdoliro.maru.infrastructure.s3.exception.MediaTypeMismatchException;
 import com.bamdoliro.maru.presentation.form.dto.request.PassOrFailFormListRequest;
 import com.bamdoliro.maru.presentation.form.dto.request.PassOrFailFormRequest;
+import com.bamdoliro.maru.presentation.form.dto.request.SimulateFirstPassRequest;
 import com.bamdoliro.maru.presentation.form.dto.request.SubmitFormRequest;
 import com.bamdoliro.maru.presentation.form.dto.request.UpdateFormRequest;
 import com.bamdoliro.maru.presentation.form.dto.response.FormResultResponse;
 import com.bamdoliro.maru.presentation.form.dto.response.FormSimpleResponse;
+import com.bamdoliro.maru.presentation.form.dto.response.SecondRoundScoreErrorResponse;
+import com.bamdoliro.maru.presentation.form.dto.response.UpdateSecondRoundScoreResponse;
 import com.bamdoliro.maru.shared.fixture.AuthFixture;
 import com.bamdoliro.maru.shared.fixture.FormFixture;
 import com.bamdoliro.maru.shared.fixture.SharedFixture;
@@ -31,16 +35,21 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static com.bamdoliro.maru.shared.constants.FileConstant.MB;
 import static org.mockito.BDDMockito.*;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class FormControllerTest extends RestDocsTestSupport {
@@ -1585,16 +1594,10 @@ class FormControllerTest extends RestDocsTestSupport {
     @Test
     void 원서를_pdf로_다운받는다() throws Exception {
         User user = UserFixture.createUser();
-        MockMultipartFile file = new MockMultipartFile(
-                "file",
-                "file.pdf",
-                MediaType.APPLICATION_PDF_VALUE,
-                "<<file>>".getBytes()
-        );
 
         given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
         given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
-        given(exportFormUseCase.execute(user)).willReturn(new ByteArrayResource(file.getBytes()));
+        given(exportFormUseCase.execute(user)).willReturn(FormFixture.createCachedPdf());
 
         mockMvc.perform(get("/forms/export")
                         .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
@@ -1603,10 +1606,16 @@ class FormControllerTest extends RestDocsTestSupport {
 
                 .andExpect(status().isOk())
 
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5d41402abc4b2a76b9719d911017c592\""))
+
                 .andDo(restDocs.document(
                         requestHeaders(
                                 headerWithName(HttpHeaders.AUTHORIZATION)
                                         .description("Bearer token")
+                        ),
+                        responseHeaders(
+                                headerWithName(HttpHeaders.ETAG)
+                                        .description("pdf 버전. 다음 요청의 If-None-Match 헤더에 담으면 바뀌지 않았을 때 304를 응답합니다.")
                         )
                 ));
 
@@ -1673,6 +1682,43 @@ class FormControllerTest extends RestDocsTestSupport {
         verify(exportFormUseCase, times(1)).execute(user);
     }
 
+    @Test
+    void 전체_원서를_압축_파일로_내려받는다() throws Exception {
+        User user = UserFixture.createAdminUser();
+
+        given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
+        given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(2).write("<<file>>".getBytes());
+            return null;
+        }).given(exportAllFormUseCase).execute(any(), any(), any(OutputStream.class));
+
+        mockMvc.perform(get("/forms/export/all")
+                        .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
+                        .param("status", FormStatus.FINAL_SUBMITTED.name())
+                        .param("type", FormType.Category.REGULAR.name())
+                        .accept("application/zip"))
+
+                .andExpect(status().isOk())
+
+                .andDo(restDocs.document(
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION)
+                                        .description("Bearer token")
+                        ),
+                        queryParameters(
+                                parameterWithName("status")
+                                        .optional()
+                                        .description("<<form-status,원서 상태>> (없으면 전체)"),
+                                parameterWithName("type")
+                                        .optional()
+                                        .description("<<form-category,원서 전형>> (없으면 전체)")
+                        )
+                ));
+
+        verify(exportAllFormUseCase, times(1)).execute(eq(FormStatus.FINAL_SUBMITTED), eq(FormType.Category.REGULAR), any(OutputStream.class));
+    }
+
     @Test
     void 원서를_전체_조회한다() throws Exception {
         User user = UserFixture.createUser();
@@ -1686,11 +1732,13 @@ class FormControllerTest extends RestDocsTestSupport {
 
         given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
         given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
-        given(queryAllFormUseCase.execute(FormStatus.SUBMITTED, FormType.Category.REGULAR, null)).willReturn(responseList);
+        given(queryAllFormUseCase.execute(FormStatus.SUBMITTED, FormType.Category.REGULAR, null, 10L, 5)).willReturn(responseList);
 
         mockMvc.perform(get("/forms")
                         .param("status", FormStatus.SUBMITTED.name())
                         .param("type", FormType.Category.REGULAR.name())
+                        .param("cursor", "10")
+                        .param("size", "5")
                         .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
                         .accept(MediaType.APPLICATION_JSON)
                 )
@@ -1711,11 +1759,17 @@ class FormControllerTest extends RestDocsTestSupport {
                                         .optional(),
                                 parameterWithName("sort")
                                         .description("정렬 기준 (total-score-asc인 경우 최종 점수 오름차순, total-score-desc인 경우 최종 점수 내림차순, form-id인 경우 접수 번호순, null인 경우 수험번호 오름차순 조회)")
+                                        .optional(),
+                                parameterWithName("cursor")
+                                        .description("이전 페이지 응답의 nextCursor (null인 경우 처음부터 조회)")
+                                        .optional(),
+                                parameterWithName("size")
+                                        .description("페이지 크기 (null인 경우 전체 조회)")
                                         .optional()
                         )
                 ));
 
-        verify(queryAllFormUseCase, times(1)).execute(FormStatus.SUBMITTED, FormType.Category.REGULAR, null);
+        verify(queryAllFormUseCase, times(1)).execute(FormStatus.SUBMITTED, FormType.Category.REGULAR, null, 10L, 5);
     }
 
     @Test
@@ -1813,16 +1867,10 @@ class FormControllerTest extends RestDocsTestSupport {
     @Test
     void 수험표를_발급받는다() throws Exception {
         User user = UserFixture.createUser();
-        MockMultipartFile file = new MockMultipartFile(
-                "admission-ticket",
-                "admission-ticket.pdf",
-                MediaType.APPLICATION_PDF_VALUE,
-                "<<file>>".getBytes()
-        );
 
         given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
         given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
-        given(generateAdmissionTicketUseCase.execute(user)).willReturn(new ByteArrayResource(file.getBytes()));
+        given(generateAdmissionTicketUseCase.execute(user)).willReturn(FormFixture.createCachedPdf());
 
         mockMvc.perform(get("/forms/admission-ticket")
                         .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
@@ -1831,10 +1879,16 @@ class FormControllerTest extends RestDocsTestSupport {
 
                 .andExpect(status().isOk())
 
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5d41402abc4b2a76b9719d911017c592\""))
+
                 .andDo(restDocs.document(
                         requestHeaders(
                                 headerWithName(HttpHeaders.AUTHORIZATION)
                                         .description("Bearer token")
+                        ),
+                        responseHeaders(
+                                headerWithName(HttpHeaders.ETAG)
+                                        .description("pdf 버전. 다음 요청의 If-None-Match 헤더에 담으면 바뀌지 않았을 때 304를 응답합니다.")
                         )
                 ));
 
@@ -1897,7 +1951,10 @@ class FormControllerTest extends RestDocsTestSupport {
         );
         given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
         given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
-        given(generateAllAdmissionTicketUseCase.execute()).willReturn(new ByteArrayResource(file.getBytes()));
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write(file.getBytes());
+            return null;
+        }).given(generateAllAdmissionTicketUseCase).execute(any(OutputStream.class));
 
         mockMvc.perform(get("/forms/admission-tickets")
                         .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
@@ -1912,22 +1969,16 @@ class FormControllerTest extends RestDocsTestSupport {
                         )
                 ));
 
-        verify(generateAllAdmissionTicketUseCase, times(1)).execute();
+        verify(generateAllAdmissionTicketUseCase, times(1)).execute(any(OutputStream.class));
     }
 
     @Test
     void 접수증을_발급받는다() throws Exception {
         User user = UserFixture.createUser();
-        MockMultipartFile file = new MockMultipartFile(
-                "proof-of-application",
-                "proof-of-application.pdf",
-                MediaType.APPLICATION_PDF_VALUE,
-                "<<file>>".getBytes()
-        );
 
         given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
         given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
-        given(generateAdmissionTicketUseCase.execute(user)).willReturn(new ByteArrayResource(file.getBytes()));
+        given(generateProofOfApplicationUseCase.execute(user)).willReturn(FormFixture.createCachedPdf());
 
         mockMvc.perform(get("/forms/proof-of-application")
                         .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
@@ -1936,10 +1987,45 @@ class FormControllerTest extends RestDocsTestSupport {
 
                 .andExpect(status().isOk())
 
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5d41402abc4b2a76b9719d911017c592\""))
+
                 .andDo(restDocs.document(
                         requestHeaders(
                                 headerWithName(HttpHeaders.AUTHORIZATION)
                                         .description("Bearer token")
+                        ),
+                        responseHeaders(
+                                headerWithName(HttpHeaders.ETAG)
+                                        .description("pdf 버전. 다음 요청의 If-None-Match 헤더에 담으면 바뀌지 않았을 때 304를 응답합니다.")
+                        )
+                ));
+
+        verify(generateProofOfApplicationUseCase, times(1)).execute(user);
+    }
+
+    @Test
+    void 접수증을_발급받을_때_이전에_받은_접수증과_같다면_304를_응답한다() throws Exception {
+        User user = UserFixture.createUser();
+
+        given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
+        given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+        given(generateProofOfApplicationUseCase.execute(user)).willReturn(FormFixture.createCachedPdf());
+
+        mockMvc.perform(get("/forms/proof-of-application")
+                        .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"5d41402abc4b2a76b9719d911017c592\"")
+                        .accept(MediaType.APPLICATION_PDF)
+                )
+
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]))
+
+                .andDo(restDocs.document(
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION)
+                                        .description("Bearer token"),
+                                headerWithName(HttpHeaders.IF_NONE_MATCH)
+                                        .description("이전에 받은 ETag")
                         )
                 ));
 
@@ -2028,14 +2114,15 @@ class FormControllerTest extends RestDocsTestSupport {
 
         given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
         given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
-        given(downloadSecondRoundScoreFormatUseCase.execute()).willReturn(null);
+        given(updateSecondRoundScoreUseCase.execute(any(MultipartFile.class)))
+                .willReturn(new UpdateSecondRoundScoreResponse(3, 1, List.of()));
 
         mockMvc.perform(multipartPatch("/forms/second-round/score")
                         .file(file)
                         .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
                         .contentType(MediaType.MULTIPART_FORM_DATA))
 
-                .andExpect(status().isNoContent())
+                .andExpect(status().isOk())
 
                 .andDo(restDocs.document(
                         requestHeaders(
@@ -2078,7 +2165,7 @@ class FormControllerTest extends RestDocsTestSupport {
     }
 
     @Test
-    void 입력한_2차_전형_점수의_타입이_잘못되거나_범위를_초과한_경우_에러가_발생한다() throws Exception {
+    void 입력한_2차_전형_점수의_타입이_잘못되거나_범위를_초과한_행은_오류_목록으로_반환한다() throws Exception {
         User user = UserFixture.createAdminUser();
         MockMultipartFile file = new MockMultipartFile(
                 "xlsx",
@@ -2089,14 +2176,21 @@ class FormControllerTest extends RestDocsTestSupport {
 
         given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
         given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
-        given(updateSecondRoundScoreUseCase.execute(file)).willReturn(new ByteArrayResource(file.getBytes()));
+        given(updateSecondRoundScoreUseCase.execute(any(MultipartFile.class))).willReturn(new UpdateSecondRoundScoreResponse(
+                2,
+                0,
+                List.of(
+                        new SecondRoundScoreErrorResponse(3, 1002L, "심층면접", "범위 초과"),
+                        new SecondRoundScoreErrorResponse(4, 2001L, "코딩테스트", "타입 불일치")
+                )
+        ));
 
         mockMvc.perform(multipartPatch("/forms/second-round/score")
                         .file(file)
                         .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
                         .contentType(MediaType.MULTIPART_FORM_DATA))
 
-                .andExpect(status().isBadRequest())
+                .andExpect(status().isOk())
 
                 .andDo(restDocs.document());
 
@@ -2115,7 +2209,10 @@ class FormControllerTest extends RestDocsTestSupport {
 
         given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
         given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
-        given(exportFinalPassedFormUseCase.execute()).willReturn(new ByteArrayResource(file.getBytes()));
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write(file.getBytes());
+            return null;
+        }).given(exportFinalPassedFormUseCase).execute(any(OutputStream.class));
 
         mockMvc.perform(get("/forms/xlsx/final-passed")
                         .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
@@ -2130,7 +2227,7 @@ class FormControllerTest extends RestDocsTestSupport {
                         )
                 ));
 
-        verify(exportFinalPassedFormUseCase, times(1)).execute();
+        verify(exportFinalPassedFormUseCase, times(1)).execute(any(OutputStream.class));
     }
 
     @Test
@@ -2145,7 +2242,10 @@ class FormControllerTest extends RestDocsTestSupport {
 
         given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
         given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
-        given(exportFinalPassedFormUseCase.execute()).willReturn(new ByteArrayResource(file.getBytes()));
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write(file.getBytes());
+            return null;
+        }).given(exportFirstRoundResultUseCase).execute(any(OutputStream.class));
 
         mockMvc.perform(get("/forms/xlsx/first-round")
                         .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
@@ -2160,7 +2260,7 @@ class FormControllerTest extends RestDocsTestSupport {
                         )
                 ));
 
-        verify(exportFirstRoundResultUseCase, times(1)).execute();
+        verify(exportFirstRoundResultUseCase, times(1)).execute(any(OutputStream.class));
     }
 
     @Test
@@ -2175,7 +2275,10 @@ class FormControllerTest extends RestDocsTestSupport {
 
         given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
         given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
-        given(exportFinalPassedFormUseCase.execute()).willReturn(new ByteArrayResource(file.getBytes()));
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write(file.getBytes());
+            return null;
+        }).given(exportSecondRoundResultUseCase).execute(any(OutputStream.class));
 
         mockMvc.perform(get("/forms/xlsx/second-round")
                         .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
@@ -2190,7 +2293,7 @@ class FormControllerTest extends RestDocsTestSupport {
                         )
                 ));
 
-        verify(exportSecondRoundResultUseCase, times(1)).execute();
+        verify(exportSecondRoundResultUseCase, times(1)).execute(any(OutputStream.class));
     }
 
     @Test
@@ -2205,7 +2308,10 @@ class FormControllerTest extends RestDocsTestSupport {
 
         given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
         given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
-        given(exportFinalPassedFormUseCase.execute()).willReturn(new ByteArrayResource(file.getBytes()));
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write(file.getBytes());
+            return null;
+        }).given(exportResultUseCase).execute(any(OutputStream.class));
 
         mockMvc.perform(get("/forms/xlsx/result")
                         .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
@@ -2220,7 +2326,115 @@ class FormControllerTest extends RestDocsTestSupport {
                         )
                 ));
 
-        verify(exportResultUseCase, times(1)).execute();
+        verify(exportResultUseCase, times(1)).execute(any(OutputStream.class));
+    }
+
+    @Test
+    void 정상적으로_최종_합격자를_CSV로_다운로드한다() throws Exception {
+        User user = UserFixture.createAdminUser();
+
+        given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
+        given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write("접수번호,수험번호\r\n1,1001\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(exportFinalPassedFormUseCase).executeCsv(any(OutputStream.class));
+
+        mockMvc.perform(get("/forms/csv/final-passed")
+                        .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
+                        .accept("text/csv"))
+
+                .andExpect(status().isOk())
+
+                .andDo(restDocs.document(
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION)
+                                        .description("Bearer token")
+                        )
+                ));
+
+        verify(exportFinalPassedFormUseCase, times(1)).executeCsv(any(OutputStream.class));
+    }
+
+    @Test
+    void 정상적으로_1차전형_결과를_CSV로_다운로드한다() throws Exception {
+        User user = UserFixture.createAdminUser();
+
+        given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
+        given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write("접수번호,수험번호\r\n1,1001\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(exportFirstRoundResultUseCase).executeCsv(any(OutputStream.class));
+
+        mockMvc.perform(get("/forms/csv/first-round")
+                        .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
+                        .accept("text/csv"))
+
+                .andExpect(status().isOk())
+
+                .andDo(restDocs.document(
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION)
+                                        .description("Bearer token")
+                        )
+                ));
+
+        verify(exportFirstRoundResultUseCase, times(1)).executeCsv(any(OutputStream.class));
+    }
+
+    @Test
+    void 정상적으로_2차전형_결과를_CSV로_다운로드한다() throws Exception {
+        User user = UserFixture.createAdminUser();
+
+        given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
+        given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write("접수번호,수험번호\r\n1,1001\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(exportSecondRoundResultUseCase).executeCsv(any(OutputStream.class));
+
+        mockMvc.perform(get("/forms/csv/second-round")
+                        .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
+                        .accept("text/csv"))
+
+                .andExpect(status().isOk())
+
+                .andDo(restDocs.document(
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION)
+                                        .description("Bearer token")
+                        )
+                ));
+
+        verify(exportSecondRoundResultUseCase, times(1)).executeCsv(any(OutputStream.class));
+    }
+
+    @Test
+    void 정상적으로_입학전형_전체_결과를_CSV로_다운로드한다() throws Exception {
+        User user = UserFixture.createAdminUser();
+
+        given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
+        given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write("접수번호,수험번호\r\n1,1001\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(exportResultUseCase).executeCsv(any(OutputStream.class));
+
+        mockMvc.perform(get("/forms/csv/result")
+                        .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
+                        .accept("text/csv"))
+
+                .andExpect(status().isOk())
+
+                .andDo(restDocs.document(
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION)
+                                        .description("Bearer token")
+                        )
+                ));
+
+        verify(exportResultUseCase, times(1)).executeCsv(any(OutputStream.class));
     }
 
     @Test
@@ -2406,4 +2620,215 @@ class FormControllerTest extends RestDocsTestSupport {
 
         verify(queryAdmissionAndPledgeUseCase, times(1)).execute(idList);
     }
-}
\ No newline at end of file
+
+    @Test
+    void 정원과_배수를_바꿔서_1차_합격자_선발을_시뮬레이션한다() throws Exception {
+        User user = UserFixture.createAdminUser();
+
+        given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
+        given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+        given(simulateFirstPassUseCase.execute(any(SimulateFirstPassRequest.class))).willReturn(FormFixture.createFirstPassSimulationResponse());
+
+        mockMvc.perform(get("/forms/first-round/simulation")
+                        .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
+                        .param("regular", "36")
+                        .param("meisterTalent", "18")
+                        .param("socialIntegration", "10")
+                        .param("nationalVeteransEducation", "1")
+                        .param("specialAdmission", "2")
+                        .param("multiple", "1.3")
+                        .param("otherRegionRate", "0.5")
+                        .param("refresh", "false")
+                        .accept(MediaType.APPLICATION_JSON))
+
+                .andExpect(status().isOk())
+
+                .andDo(restDocs.document(
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION)
+                                        .description("Bearer token")
+                        ),
+                        queryParameters(
+                                parameterWithName("regular")
+                                        .description("일반전형 정원 (선택, 기본값 사용 시 생략)"),
+                                parameterWithName("meisterTalent")
+                                        .description("마이스터인재전형 정원 (선택)"),
+                                parameterWithName("socialIntegration")
+                                        .description("사회통합전형 정원 (선택)"),
+                                parameterWithName("nationalVeteransEducation")
+                                        .description("국가보훈대상자 중 교육지원대상자 정원 (선택)"),
+                                parameterWithName("specialAdmission")
+                                        .description("특례입학대상자 정원 (선택)"),
+                                parameterWithName("multiple")
+                                        .description("1차 합격 배수 (선택, 1 이상)"),
+                                parameterWithName("otherRegionRate")
+                                        .description("타지역 합격자 비율 (선택, 0 이상 1 이하)"),
+                                parameterWithName("refresh")
+                                        .description("true면 캐시된 스냅샷을 버리고 다시 조회 (선택)")
+                        )
+                ));
+
+        verify(simulateFirstPassUseCase, times(1)).execute(any(SimulateFirstPassRequest.class));
+    }
+
+    @Test
+    void 전체_원서_재채점을_시작한다() throws Exception {
+        User user = UserFixture.createAdminUser();
+
+        given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
+        given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+        given(startReScoringUseCase.execute()).willReturn(FormFixture.createReScoringJobResponse(ReScoringJobStatus.RUNNING));
+
+        mockMvc.perform(post("/forms/re-scoring")
+                        .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
+                        .accept(MediaType.APPLICATION_JSON))
+
+                .andExpect(status().isAccepted())
+
+                .andDo(restDocs.document(
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION)
+                                        .description("Bearer token")
+                        )
+                ));
+
+        verify(startReScoringUseCase, times(1)).execute();
+    }
+
+    @Test
+    void 전체_원서_재채점을_시작할_때_진행_중인_작업이_있으면_에러가_발생한다() throws Exception {
+        User user = UserFixture.createAdminUser();
+
+        given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
+        given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+        given(startReScoringUseCase.execute()).willThrow(new ReScoringJobAlreadyRunningException());
+
+        mockMvc.perform(post("/forms/re-scoring")
+                        .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
+                        .accept(MediaType.APPLICATION_JSON))
+
+                .andExpect(status().isConflict())
+
+                .andDo(restDocs.document());
+
+        verify(startReScoringUseCase, times(1)).execute();
+    }
+
+    @Test
+    void 중단된_재채점_작업을_이어서_실행한다() throws Exception {
+        User user = UserFixture.createAdminUser();
+        String jobId = "7d5e8a0c-3f1b-4b8e-9a52-1c2d3e4f5a6b";
+
+        given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
+        given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+        given(resumeReScoringUseCase.execute(jobId)).willReturn(FormFixture.createReScoringJobResponse(ReScoringJobStatus.RUNNING));
+
+        mockMvc.perform(post("/forms/re-scoring/{job-id}/resume", jobId)
+                        .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
+                        .accept(MediaType.APPLICATION_JSON))
+
+                .andExpect(status().isAccepted())
+
+                .andDo(restDocs.document(
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION)
+                                        .description("Bearer token")
+                        ),
+                        pathParameters(
+                                parameterWithName("job-id")
+                                        .description("재채점 작업 id")
+                        )
+                ));
+
+        verify(resumeReScoringUseCase, times(1)).execute(jobId);
+    }
+
+    @Test
+    void 중단된_재채점_작업을_이어서_실행할_때_이미_완료된_작업이면_에러가_발생한다() throws Exception {
+        User user = UserFixture.createAdminUser();
+        String jobId = "7d5e8a0c-3f1b-4b8e-9a52-1c2d3e4f5a6b";
+
+        given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
+        given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+        given(resumeReScoringUseCase.execute(jobId)).willThrow(new ReScoringJobAlreadyCompletedException());
+
+        mockMvc.perform(post("/forms/re-scoring/{job-id}/resume", jobId)
+                        .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
+                        .accept(MediaType.APPLICATION_JSON))
+
+                .andExpect(status().isConflict())
+
+                .andDo(restDocs.document());
+
+        verify(resumeReScoringUseCase, times(1)).execute(jobId);
+    }
+
+    @Test
+    void 중단된_재채점_작업을_이어서_실행할_때_다른_서버에서_실행_중이면_에러가_발생한다() throws Exception {
+        User user = UserFixture.createAdminUser();
+        String jobId = "7d5e8a0c-3f1b-4b8e-9a52-1c2d3e4f5a6b";
+
+        given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
+        given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+        given(resumeReScoringUseCase.execute(jobId)).willThrow(new ReScoringJobAlreadyRunningException());
+
+        mockMvc.perform(post("/forms/re-scoring/{job-id}/resume", jobId)
+                        .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
+                        .accept(MediaType.APPLICATION_JSON))
+
+                .andExpect(status().isConflict())
+
+                .andDo(restDocs.document());
+
+        verify(resumeReScoringUseCase, times(1)).execute(jobId);
+    }
+
+    @Test
+    void 재채점_작업_진행_상황과_점수_변동_내역을_조회한다() throws Exception {
+        User user = UserFixture.createAdminUser();
+        String jobId = "7d5e8a0c-3f1b-4b8e-9a52-1c2d3e4f5a6b";
+
+        given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
+        given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+        given(queryReScoringJobUseCase.execute(jobId)).willReturn(FormFixture.createReScoringJobResponse(ReScoringJobStatus.COMPLETED));
+
+        mockMvc.perform(get("/forms/re-scoring/{job-id}", jobId)
+                        .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
+                        .accept(MediaType.APPLICATION_JSON))
+
+                .andExpect(status().isOk())
+
+                .andDo(restDocs.document(
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION)
+                                        .description("Bearer token")
+                        ),
+                        pathParameters(
+                                parameterWithName("job-id")
+                                        .description("재채점 작업 id")
+                        )
+                ));
+
+        verify(queryReScoringJobUseCase, times(1)).execute(jobId);
+    }
+
+    @Test
+    void 재채점_작업을_조회할_때_작업이_없으면_에러가_발생한다() throws Exception {
+        User user = UserFixture.createAdminUser();
+        String jobId = "7d5e8a0c-3f1b-4b8e-9a52-1c2d3e4f5a6b";
+
+        given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
+        given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+        given(queryReScoringJobUseCase.execute(jobId)).willThrow(new ReScoringJobNotFoundException());
+
+        mockMvc.perform(get("/forms/re-scoring/{job-id}", jobId)
+                        .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
+                        .accept(MediaType.APPLICATION_JSON))
+
+                .andExpect(status().isNotFound())
+
+                .andDo(restDocs.document());
+
+        verify(queryReScoringJobUseCase, times(1)).execute(jobId);
+    }
+}
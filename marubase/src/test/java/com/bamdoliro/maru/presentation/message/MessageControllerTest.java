@@ -7,7 +7,9 @@ import com.bamdoliro.maru.infrastructure.message.exception.FailedToSendException
 import com.bamdoliro.maru.presentation.message.dto.request.SendMessageByStatusRequest;
 import com.bamdoliro.maru.presentation.message.dto.request.SendMessageByTypeRequest;
 import com.bamdoliro.maru.presentation.message.dto.request.SendMessageToAllUserRequest;
+import com.bamdoliro.maru.domain.message.exception.BulkMessageNotFoundException;
 import com.bamdoliro.maru.shared.fixture.AuthFixture;
+import com.bamdoliro.maru.shared.fixture.MessageFixture;
 import com.bamdoliro.maru.shared.fixture.UserFixture;
 import com.bamdoliro.maru.shared.util.RestDocsTestSupport;
 import org.junit.jupiter.api.Test;
@@ -19,8 +21,11 @@ import org.springframework.restdocs.payload.JsonFieldType;
 import static org.mockito.BDDMockito.*;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -33,13 +38,13 @@ public class MessageControllerTest extends RestDocsTestSupport {
         given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
 
         SendMessageByStatusRequest request = new SendMessageByStatusRequest("부산소마고 공지사항", "테스트임니다...", FormStatus.FINAL_SUBMITTED);
-        willDoNothing().given(sendMessageUseCase).execute(request);
+        given(sendMessageUseCase.execute(request)).willReturn(MessageFixture.createBulkMessageResponse(0L, 0L));
 
         mockMvc.perform(post("/messages/status")
                         .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(toJson(request)))
-                .andExpect(status().isNoContent())
+                .andExpect(status().isAccepted())
                 .andDo(restDocs.document(
                         requestHeaders(
                                 headerWithName(HttpHeaders.AUTHORIZATION).description("Bearer token")
@@ -86,13 +91,13 @@ public class MessageControllerTest extends RestDocsTestSupport {
         given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
 
         SendMessageByTypeRequest request = new SendMessageByTypeRequest("부산소마고 공지사항", "추카추카", FormType.REGULAR, false);
-        willDoNothing().given(sendMessageUseCase).execute(request);
+        given(sendMessageUseCase.execute(request)).willReturn(MessageFixture.createBulkMessageResponse(0L, 0L));
 
         mockMvc.perform(post("/messages/type")
                         .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(toJson(request)))
-                .andExpect(status().isNoContent())
+                .andExpect(status().isAccepted())
                 .andDo(restDocs.document(
                         requestHeaders(
                                 headerWithName(HttpHeaders.AUTHORIZATION).description("Bearer token")
@@ -113,13 +118,13 @@ public class MessageControllerTest extends RestDocsTestSupport {
         given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
 
         SendMessageByTypeRequest request = new SendMessageByTypeRequest("부산소마고 공지사항", "추카추카", FormType.MEISTER_TALENT, false);
-        willDoNothing().given(sendMessageUseCase).execute(request);
+        given(sendMessageUseCase.execute(request)).willReturn(MessageFixture.createBulkMessageResponse(0L, 0L));
 
         mockMvc.perform(post("/messages/type")
                         .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(toJson(request)))
-                .andExpect(status().isNoContent())
+                .andExpect(status().isAccepted())
 
                 .andDo(restDocs.document());
     }
@@ -131,13 +136,13 @@ public class MessageControllerTest extends RestDocsTestSupport {
         given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
 
         SendMessageByTypeRequest request = new SendMessageByTypeRequest("부산소마고 공지사항", "추카추카", FormType.REGULAR, true);
-        willDoNothing().given(sendMessageUseCase).execute(request);
+        given(sendMessageUseCase.execute(request)).willReturn(MessageFixture.createBulkMessageResponse(0L, 0L));
 
         mockMvc.perform(post("/messages/type")
                         .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(toJson(request)))
-                .andExpect(status().isNoContent())
+                .andExpect(status().isAccepted())
 
                 .andDo(restDocs.document());
     }
@@ -177,13 +182,13 @@ public class MessageControllerTest extends RestDocsTestSupport {
         given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
 
         SendMessageToAllUserRequest request = new SendMessageToAllUserRequest("부산소마고 공지사항", "테스트임니다..");
-        willDoNothing().given(sendMessageUseCase).execute(request);
+        given(sendMessageUseCase.execute(request)).willReturn(MessageFixture.createBulkMessageResponse(0L, 0L));
 
         mockMvc.perform(post("/messages/all")
                         .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(toJson(request)))
-                .andExpect(status().isNoContent())
+                .andExpect(status().isAccepted())
                 .andDo(restDocs.document(
                         requestHeaders(
                                 headerWithName(HttpHeaders.AUTHORIZATION).description("Bearer token")
@@ -212,4 +217,43 @@ public class MessageControllerTest extends RestDocsTestSupport {
                 .andExpect(status().isInternalServerError())
                 .andDo(restDocs.document());
     }
+
+    @Test
+    void 메시지_발송_진행_상황을_조회한다() throws Exception {
+        User user = UserFixture.createAdminUser();
+        given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
+        given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+        given(queryBulkMessageUseCase.execute(1L)).willReturn(MessageFixture.createBulkMessageResponse(280L, 2L));
+
+        mockMvc.perform(get("/messages/{bulk-message-id}", 1L)
+                        .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andDo(restDocs.document(
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION).description("Bearer token")
+                        ),
+                        pathParameters(
+                                parameterWithName("bulk-message-id").description("메시지 발송 요청 id")
+                        )
+                ));
+
+        verify(queryBulkMessageUseCase, times(1)).execute(1L);
+    }
+
+    @Test
+    void 메시지_발송_요청이_없으면_에러가_발생한다() throws Exception {
+        User user = UserFixture.createAdminUser();
+        given(authenticationArgumentResolver.supportsParameter(any(MethodParameter.class))).willReturn(true);
+        given(authenticationArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+        willThrow(new BulkMessageNotFoundException()).given(queryBulkMessageUseCase).execute(1L);
+
+        mockMvc.perform(get("/messages/{bulk-message-id}", 1L)
+                        .header(HttpHeaders.AUTHORIZATION, AuthFixture.createAuthHeader())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andDo(restDocs.document());
+
+        verify(queryBulkMessageUseCase, times(1)).execute(1L);
+    }
 }
@@ -4,7 +4,8 @@ import com.bamdoliro.maru.domain.user.domain.User;
 import com.bamdoliro.maru.domain.user.domain.type.VerificationType;
 import com.bamdoliro.maru.domain.user.exception.*;
 import com.bamdoliro.maru.domain.user.exception.error.UserErrorProperty;
-import com.bamdoliro.maru.infrastructure.message.exception.FailedToSendException;
+import com.bamdoliro.maru.infrastructure.message.exception.TooManyMessagesException;
+import com.bamdoliro.maru.infrastructure.ratelimit.exception.TooManyRequestsException;
 import com.bamdoliro.maru.presentation.user.dto.request.*;
 import com.bamdoliro.maru.shared.fixture.AuthFixture;
 import com.bamdoliro.maru.shared.fixture.UserFixture;
@@ -20,9 +21,11 @@ import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.*;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class UserControllerTest extends RestDocsTestSupport {
@@ -152,9 +155,9 @@ class UserControllerTest extends RestDocsTestSupport {
     }
 
     @Test
-    void 전화번호_인증을_요청할_때_전화번호_전송이_실패하면_에러가_발생한다() throws Exception {
+    void 전화번호_인증을_요청할_때_발송_대기열이_가득_차면_에러가_발생한다() throws Exception {
         SendVerificationRequest request = new SendVerificationRequest("010아무도안쓰는번호", VerificationType.SIGNUP);
-        doThrow(new FailedToSendException())
+        doThrow(new TooManyMessagesException())
                 .when(sendVerificationUseCase).execute(any(SendVerificationRequest.class));
 
         mockMvc.perform(post("/users/verification")
@@ -163,13 +166,38 @@ class UserControllerTest extends RestDocsTestSupport {
                         .content(toJson(request))
                 )
 
-                .andExpect(status().isInternalServerError())
+                .andExpect(status().isServiceUnavailable())
 
                 .andDo(restDocs.document());
 
         verify(sendVerificationUseCase, times(1)).execute(any(SendVerificationRequest.class));
     }
 
+    @Test
+    void 전화번호_인증을_너무_자주_요청하면_에러가_발생한다() throws Exception {
+        SendVerificationRequest request = new SendVerificationRequest("01012345678", VerificationType.SIGNUP);
+        doThrow(new TooManyRequestsException(60))
+                .when(sendVerificationUseCase).execute(any(SendVerificationRequest.class));
+
+        mockMvc.perform(post("/users/verification")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(request))
+                )
+
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "60"))
+
+                .andDo(restDocs.document(
+                        responseHeaders(
+                                headerWithName(HttpHeaders.RETRY_AFTER)
+                                        .description("다시 요청할 수 있을 때까지 남은 시간(초)")
+                        )
+                ));
+
+        verify(sendVerificationUseCase, times(1)).execute(any(SendVerificationRequest.class));
+    }
+
     @Test
     void 로그인한_유저를_불러온다() throws Exception {
         User user = UserFixture.createUser();
@@ -0,0 +1,51 @@
+package com.bamdoliro.maru.shared.fixture;
+
+import com.bamdoliro.maru.domain.export.domain.ExportJob;
+import com.bamdoliro.maru.domain.export.domain.type.ExportJobStatus;
+import com.bamdoliro.maru.domain.export.domain.type.ExportType;
+import com.bamdoliro.maru.presentation.export.dto.request.StartExportRequest;
+import com.bamdoliro.maru.presentation.export.dto.response.ExportFileResponse;
+import com.bamdoliro.maru.presentation.export.dto.response.ExportJobResponse;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.time.LocalDateTime;
+
+public class ExportFixture {
+
+    public static final String JOB_ID = "3b9f2c1e-8a47-4d6b-b0c5-7e1f2a3d4c5b";
+    public static final String DOWNLOAD_TOKEN = "a1c4e7f0-2b5d-4e8a-9c3f-6d0b1e4a7c2d";
+
+    public static ExportJob createExportJob(ExportType type) {
+        return new ExportJob(type, type.requiresFair() ? 1L : null);
+    }
+
+    public static ExportJob createCompletedExportJob(ExportType type) {
+        ExportJob job = createExportJob(type);
+        job.run();
+        job.complete(1024L);
+        return job;
+    }
+
+    public static StartExportRequest createStartExportRequest(ExportType type) {
+        return new StartExportRequest(type, type.requiresFair() ? 1L : null);
+    }
+
+    public static ExportJobResponse createExportJobResponse(ExportJobStatus status) {
+        boolean completed = status == ExportJobStatus.COMPLETED;
+
+        return new ExportJobResponse(
+                JOB_ID,
+                ExportType.ADMISSION_TICKET,
+                status,
+                completed ? 3_145_728L : null,
+                completed ? String.format("/exports/%s/file?token=%s", JOB_ID, DOWNLOAD_TOKEN) : null,
+                null,
+                LocalDateTime.of(2024, 10, 30, 9, 0),
+                LocalDateTime.of(2024, 10, 30, 9, completed ? 2 : 0)
+        );
+    }
+
+    public static ExportFileResponse createExportFileResponse() {
+        return new ExportFileResponse(ExportType.RESULT, new ByteArrayResource(new byte[]{1, 2, 3}));
+    }
+}
@@ -4,11 +4,17 @@ import com.bamdoliro.maru.domain.form.domain.Form;
 import com.bamdoliro.maru.domain.form.domain.type.*;
 import com.bamdoliro.maru.domain.form.domain.value.*;
 import com.bamdoliro.maru.domain.user.domain.User;
+import com.bamdoliro.maru.infrastructure.pdf.CachedPdf;
+import com.bamdoliro.maru.infrastructure.persistence.form.vo.FormSelectionVo;
+import com.bamdoliro.maru.infrastructure.persistence.form.vo.FormSimpleVo;
 import com.bamdoliro.maru.infrastructure.persistence.form.vo.FormUrlVo;
 import com.bamdoliro.maru.presentation.form.dto.request.*;
 import com.bamdoliro.maru.presentation.form.dto.response.*;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Random;
 import java.util.UUID;
@@ -662,6 +668,21 @@ public class FormFixture {
         );
     }
 
+    public static FormSimpleVo createFormSimpleVo(Long id, FormType type, FormStatus status) {
+        return new FormSimpleVo(
+                id,
+                1000L + id,
+                "김밤돌",
+                LocalDate.of(2005, 4, 15),
+                GraduationType.EXPECTED,
+                "비전중학교",
+                status,
+                type,
+                false,
+                randomDouble(100, 300)
+        );
+    }
+
     public static FormUrlResponse createFormUrlResponse() {
         FormUrlVo formUrlVo = createFormUrlVo();
         return new FormUrlResponse(
@@ -679,4 +700,69 @@ public class FormFixture {
                 "https://maru.bamdoliro.com/admission-and-pledge.pdf"
         );
     }
-}
\ No newline at end of file
+
+    public static FormSelectionVo createFormSelectionVo(Long id, FormType type) {
+        return new FormSelectionVo(
+                id,
+                type,
+                false,
+                "부산광역시",
+                ScaledScore.of(randomDouble(100, 300)),
+                null,
+                randomDouble(100, 200),
+                null,
+                null,
+                randomDouble(0, 10),
+                15,
+                15
+        );
+    }
+
+    public static FirstPassSimulationResponse createFirstPassSimulationResponse() {
+        List<FirstRoundCandidate> candidateList = List.of(
+                new FirstRoundCandidate(1L, FormType.REGULAR, true, ScaledScore.of(250.0), ScaledScore.of(250.0)),
+                new FirstRoundCandidate(2L, FormType.REGULAR, true, ScaledScore.of(240.0), ScaledScore.of(240.0)),
+                new FirstRoundCandidate(3L, FormType.MEISTER_TALENT, true, ScaledScore.of(200.0), ScaledScore.of(230.0))
+        );
+        FirstRoundSelection selection = new FirstRoundSelection(
+                List.of(3L, 1L),
+                List.of(2L),
+                List.of(),
+                List.of(
+                        new CategorySelection(FormType.Category.MEISTER_TALENT, 1, 29, List.of(3L), 200.0, 0),
+                        new CategorySelection(FormType.Category.REGULAR, 2, 55, List.of(1L), 250.0, 0)
+                )
+        );
+
+        return new FirstPassSimulationResponse(new FirstRoundSnapshot(candidateList, LocalDateTime.of(2023, 10, 20, 9, 0)), selection);
+    }
+
+    public static ReScoringJobResponse createReScoringJobResponse(ReScoringJobStatus status) {
+        return new ReScoringJobResponse(
+                "7d5e8a0c-3f1b-4b8e-9a52-1c2d3e4f5a6b",
+                status,
+                1200L,
+                status == ReScoringJobStatus.COMPLETED ? 1200L : 500L,
+                2L,
+                1L,
+                List.of(42L),
+                null,
+                LocalDateTime.of(2023, 10, 20, 9, 0),
+                LocalDateTime.of(2023, 10, 20, 9, 0, 3),
+                List.of(
+                        new ScoreChangeResponse(3L, 1001L, 180.5, 182.9, 2.4),
+                        new ScoreChangeResponse(15L, 2003L, 175.25, 174.0, -1.25)
+                )
+        );
+    }
+
+    public static CachedPdf createCachedPdf() {
+        return new CachedPdf("5d41402abc4b2a76b9719d911017c592", outputStream -> {
+            try {
+                outputStream.write("<<file>>".getBytes());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,25 @@
+package com.bamdoliro.maru.shared.fixture;
+
+import com.bamdoliro.maru.domain.message.domain.BulkMessage;
+import com.bamdoliro.maru.presentation.message.dto.response.BulkMessageResponse;
+
+import java.time.LocalDateTime;
+
+public class MessageFixture {
+
+    public static BulkMessage createBulkMessage(int recipientCount) {
+        return new BulkMessage("부산소마고 공지사항", "테스트입니다", recipientCount);
+    }
+
+    public static BulkMessageResponse createBulkMessageResponse(long sentCount, long failedCount) {
+        return new BulkMessageResponse(
+                1L,
+                "부산소마고 공지사항",
+                300,
+                300 - sentCount - failedCount,
+                sentCount,
+                failedCount,
+                LocalDateTime.of(2024, 10, 30, 9, 0)
+        );
+    }
+}
@@ -95,6 +95,11 @@ public class EnumControllerTest extends RestDocsTestSupport {
                                 beneathPath("verificationType").withSubsectionId("verificationType"),
                                 attributes(key("title").value("VerificationType")),
                                 enumConvertFieldDescriptor((enumDocs.getVerificationType()))
+                        ),
+                        customResponseFields("custom-response",
+                                beneathPath("exportType").withSubsectionId("exportType"),
+                                attributes(key("title").value("ExportType")),
+                                enumConvertFieldDescriptor((enumDocs.getExportType()))
                         )
                 ));
     }
@@ -25,4 +25,5 @@ public class EnumDocs {
     Map<String, String> fairType;
     Map<String, String> questionCategory;
     Map<String, String> verificationType;
+    Map<String, String> exportType;
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.bamdoliro.maru.shared.response;
 
+import com.bamdoliro.maru.domain.export.domain.type.ExportType;
 import com.bamdoliro.maru.domain.fair.domain.type.FairStatus;
 import com.bamdoliro.maru.domain.fair.domain.type.FairType;
 import com.bamdoliro.maru.domain.form.domain.type.AchievementLevel;
@@ -43,6 +44,7 @@ public class SharedController {
                 .fairType(getDocs(FairType.values()))
                 .questionCategory(getDocs(QuestionCategory.values()))
                 .verificationType(getDocs(VerificationType.values()))
+                .exportType(getDocs(ExportType.values()))
                 .build();
     }
 
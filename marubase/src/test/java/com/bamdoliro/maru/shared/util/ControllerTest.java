@@ -1,6 +1,9 @@
 package com.bamdoliro.maru.shared.util;
 
 import com.bamdoliro.maru.application.analysis.QueryGenderRatioUseCase;
+import com.bamdoliro.maru.application.export.DownloadExportUseCase;
+import com.bamdoliro.maru.application.export.QueryExportJobUseCase;
+import com.bamdoliro.maru.application.export.StartExportUseCase;
 import com.bamdoliro.maru.application.analysis.QueryGradeDistributionUseCase;
 import com.bamdoliro.maru.application.analysis.QueryNumberOfApplicantsUseCase;
 import com.bamdoliro.maru.application.analysis.QuerySchoolStatusUseCase;
@@ -9,6 +12,7 @@ import com.bamdoliro.maru.application.auth.LogOutUseCase;
 import com.bamdoliro.maru.application.auth.RefreshTokenUseCase;
 import com.bamdoliro.maru.application.fair.*;
 import com.bamdoliro.maru.application.form.*;
+import com.bamdoliro.maru.application.message.QueryBulkMessageUseCase;
 import com.bamdoliro.maru.application.message.SendMessageUseCase;
 import com.bamdoliro.maru.application.notice.*;
 import com.bamdoliro.maru.application.question.*;
@@ -19,6 +23,7 @@ import com.bamdoliro.maru.infrastructure.message.SendMessageService;
 import com.bamdoliro.maru.infrastructure.neis.SearchSchoolService;
 import com.bamdoliro.maru.presentation.analysis.AnalysisController;
 import com.bamdoliro.maru.presentation.auth.AuthController;
+import com.bamdoliro.maru.presentation.export.ExportController;
 import com.bamdoliro.maru.presentation.fair.FairController;
 import com.bamdoliro.maru.presentation.form.DraftFormController;
 import com.bamdoliro.maru.presentation.form.FormController;
@@ -50,7 +55,8 @@ import org.springframework.test.web.servlet.MockMvc;
             DraftFormController.class,
             FairController.class,
             MessageController.class,
-            AnalysisController.class})
+            AnalysisController.class,
+            ExportController.class})
 public abstract class ControllerTest {
 
     @Autowired
@@ -225,6 +231,9 @@ public abstract class ControllerTest {
     @MockBean
     protected SendMessageUseCase sendMessageUseCase;
 
+    @MockBean
+    protected QueryBulkMessageUseCase queryBulkMessageUseCase;
+
     @MockBean
     protected QueryNumberOfApplicantsUseCase queryNumberOfApplicantsUseCase;
 
@@ -269,6 +278,30 @@ public abstract class ControllerTest {
     @MockBean
     protected QueryAdmissionAndPledgeUseCase queryAdmissionAndPledgeUseCase;
 
+    @MockBean
+    protected SimulateFirstPassUseCase simulateFirstPassUseCase;
+
+    @MockBean
+    protected StartReScoringUseCase startReScoringUseCase;
+
+    @MockBean
+    protected ResumeReScoringUseCase resumeReScoringUseCase;
+
+    @MockBean
+    protected QueryReScoringJobUseCase queryReScoringJobUseCase;
+
+    @MockBean
+    protected ExportAllFormUseCase exportAllFormUseCase;
+
+    @MockBean
+    protected StartExportUseCase startExportUseCase;
+
+    @MockBean
+    protected QueryExportJobUseCase queryExportJobUseCase;
+
+    @MockBean
+    protected DownloadExportUseCase downloadExportUseCase;
+
     protected String toJson(Object object) throws JsonProcessingException {
         return objectMapper.writeValueAsString(object);
     }